@@ -0,0 +1,155 @@
+package me.psikuvit.cashClash.bench;
+
+import me.psikuvit.cashClash.util.CooldownManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cooldown calls made by damage and interact handlers - a check, then setting
+ * the cooldown - on {@link CooldownManager} against the previous string-keyed implementation
+ * ({@link LegacyCooldowns}), which looked the player's liveness up by reflection on every set.
+ * Run with {@code -prof gc} to see the allocation per call as well, e.g.
+ * {@code java -jar target/benchmarks.jar CooldownBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CooldownBenchmark {
+
+    private static final String[] LEGACY_KEYS = {
+            "MEDIC_POUCH", "INVIS_CLOAK", "WIND_BOW_BOOST", "WARDEN_SHOCKWAVE",
+            "BLOODWRENCH_RAPID_RELOAD", "GOBLIN_SPEAR_THROW", "CARLS_BATTLEAXE_SLASH", "BUNNY_SHOES"
+    };
+    private static final int[] KEYS = {
+            CooldownManager.Keys.MEDIC_POUCH, CooldownManager.Keys.INVIS_CLOAK,
+            CooldownManager.Keys.WIND_BOW_BOOST, CooldownManager.Keys.WARDEN_SHOCKWAVE,
+            CooldownManager.Keys.BLOODWRENCH_RAPID_RELOAD, CooldownManager.Keys.GOBLIN_SPEAR_THROW,
+            CooldownManager.Keys.CARLS_BATTLEAXE_SLASH, CooldownManager.Keys.BUNNY_SHOES
+    };
+
+    @Param({"16", "128"})
+    public int players;
+
+    private UUID[] uuids;
+    private CooldownManager cooldowns;
+    private LegacyCooldowns legacy;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new SplittableRandom(42);
+        uuids = new UUID[players];
+        cooldowns = new CooldownManager(uuid -> false);
+        legacy = new LegacyCooldowns();
+        for (int i = 0; i < players; i++) {
+            uuids[i] = new UUID(random.nextLong(), random.nextLong());
+            for (int k = 0; k < KEYS.length; k++) {
+                cooldowns.setCooldownSeconds(uuids[i], KEYS[k], 1);
+                legacy.setCooldownSeconds(uuids[i], LEGACY_KEYS[k], 1);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean checkAndSet() {
+        UUID player = uuids[random.nextInt(players)];
+        int key = KEYS[random.nextInt(KEYS.length)];
+        boolean onCooldown = cooldowns.isOnCooldown(player, key);
+        cooldowns.setCooldownSeconds(player, key, 1);
+        return onCooldown;
+    }
+
+    @Benchmark
+    public boolean checkAndSetLegacy() {
+        UUID player = uuids[random.nextInt(players)];
+        String key = LEGACY_KEYS[random.nextInt(LEGACY_KEYS.length)];
+        boolean onCooldown = legacy.isOnCooldown(player, key);
+        legacy.setCooldownSeconds(player, key, 1);
+        return onCooldown;
+    }
+
+    @Benchmark
+    public long remaining() {
+        return cooldowns.getRemainingCooldownMs(uuids[random.nextInt(players)], KEYS[random.nextInt(KEYS.length)]);
+    }
+
+    @Benchmark
+    public long remainingLegacy() {
+        return legacy.getRemainingCooldownMs(uuids[random.nextInt(players)], LEGACY_KEYS[random.nextInt(LEGACY_KEYS.length)]);
+    }
+
+    /**
+     * The hot paths of CooldownManager before interned keys, kept as they were apart from the
+     * debug log in the reflection fallback. Against the plugin jar the reflective lookup fails
+     * on its first step (GameManager has no getInstance), just as it did on a live server.
+     */
+    static final class LegacyCooldowns {
+
+        private final Map<UUID, Map<String, Long>> playerCooldowns = new ConcurrentHashMap<>();
+
+        void setCooldownSeconds(UUID playerId, String ability, long durationSeconds) {
+            if (playerId == null || ability == null) return;
+            if (isPlayerDead(playerId)) return;
+
+            playerCooldowns.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>())
+                    .put(ability, System.currentTimeMillis() + durationSeconds * 1000L);
+        }
+
+        boolean isOnCooldown(UUID playerId, String ability) {
+            return getRemainingCooldownMs(playerId, ability) > 0;
+        }
+
+        long getRemainingCooldownMs(UUID playerId, String ability) {
+            Map<String, Long> abilities = playerCooldowns.get(playerId);
+            if (abilities == null) return 0;
+
+            Long cooldownEnd = abilities.get(ability);
+            if (cooldownEnd == null) return 0;
+
+            long remaining = cooldownEnd - System.currentTimeMillis();
+            if (remaining <= 0) {
+                abilities.remove(ability);
+                return 0;
+            }
+            return remaining;
+        }
+
+        private boolean isPlayerDead(UUID playerId) {
+            try {
+                Class<?> gmClass = Class.forName("me.psikuvit.cashClash.manager.game.GameManager");
+                Object gmInstance = gmClass.getMethod("getInstance").invoke(null);
+                Object session = gmClass.getMethod("getPlayerSession", UUID.class).invoke(gmInstance, playerId);
+                if (session == null) return false;
+
+                Object state = session.getClass().getMethod("getState").invoke(session);
+                if (!state.toString().equals("COMBAT")) return false;
+
+                Object roundData = session.getClass().getMethod("getCurrentRoundData").invoke(session);
+                if (roundData == null) return false;
+
+                return !(boolean) roundData.getClass().getMethod("isAlive", UUID.class).invoke(roundData, playerId);
+            } catch (Exception e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package me.psikuvit.cashClash.bench;
+
+import me.psikuvit.cashClash.manager.player.RankIndex;
+import me.psikuvit.cashClash.storage.PlayerData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares answering "a player's wins changed - what is the top 10 and their rank now?" with
+ * the old approach (copy + full re-sort of every player, as LeaderboardManager.refresh did)
+ * against an in-place {@link RankIndex} update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeaderboardRankBenchmark {
+
+    private static final int BOARD_SIZE = 10;
+
+    @Param({"10000", "100000", "500000"})
+    public int players;
+
+    private List<PlayerData> all;
+    private RankIndex index;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new SplittableRandom(42);
+        all = new ArrayList<>(players);
+        index = new RankIndex();
+        for (int i = 0; i < players; i++) {
+            PlayerData data = new PlayerData(new UUID(random.nextLong(), random.nextLong()));
+            data.setWins(random.nextInt(500));
+            all.add(data);
+            index.update(data.getUuid(), data.getWins());
+        }
+    }
+
+    @Benchmark
+    public void fullResort(Blackhole bh) {
+        PlayerData changed = all.get(random.nextInt(players));
+        changed.incWins();
+
+        List<PlayerData> sorted = new ArrayList<>(all);
+        sorted.sort(Comparator.comparingInt(PlayerData::getWins).reversed());
+        bh.consume(List.copyOf(sorted.subList(0, BOARD_SIZE)));
+        bh.consume(sorted.indexOf(changed) + 1);
+    }
+
+    @Benchmark
+    public void rankIndexUpdate(Blackhole bh) {
+        PlayerData changed = all.get(random.nextInt(players));
+        changed.incWins();
+
+        index.update(changed.getUuid(), changed.getWins());
+        bh.consume(index.top(BOARD_SIZE));
+        bh.consume(index.rank(changed.getUuid()));
+    }
+}
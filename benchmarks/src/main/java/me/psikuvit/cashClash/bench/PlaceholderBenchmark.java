@@ -0,0 +1,192 @@
+package me.psikuvit.cashClash.bench;
+
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderProvider;
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderRegistry;
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderTemplate;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares filling one viewer's Capture the Flag sidebar (the default config lines) from
+ * compiled {@link PlaceholderTemplate}s against the previous path ({@link LegacyRegistry}):
+ * a registry and its providers built for every line, then a regex scan of the line with a
+ * provider search for each placeholder. Both use the same two stand-in providers, shaped like
+ * the common and CTF ones, so the difference is the lookup and not the values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaceholderBenchmark {
+
+    private static final List<String> LINES = List.of(
+            "",
+            "<red>Team Red</red>",
+            "Captures: {teamRed_captures}/2",
+            "Progress: {teamRed_capture_circles}",
+            "Coins: {teamRed_coins}",
+            "",
+            "<blue>Team Blue</blue>",
+            "Captures: {teamBlue_captures}/2",
+            "Progress: {teamBlue_capture_circles}",
+            "Coins: {teamBlue_coins}",
+            "",
+            "<yellow>Phase</yellow>: {phase}",
+            "Time: {time}",
+            ""
+    );
+
+    private final Player viewer = null;
+    private final int[] state = new int[1];
+    private List<PlaceholderTemplate> templates;
+    private PlaceholderRegistry registry;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        templates = PlaceholderTemplate.compileAll(LINES);
+        registry = new PlaceholderRegistry();
+        registry.registerProvider(new CommonProvider(state));
+        registry.registerProvider(new FlagProvider(state));
+    }
+
+    @Benchmark
+    public void renderCompiled(Blackhole bh) {
+        state[0]++;
+        for (PlaceholderTemplate template : templates) {
+            bh.consume(template.render(registry, viewer));
+        }
+    }
+
+    @Benchmark
+    public void renderLegacy(Blackhole bh) {
+        state[0]++;
+        for (String line : LINES) {
+            // As the game context did: a new registry per filled line
+            LegacyRegistry legacy = new LegacyRegistry();
+            legacy.providers.add(new CommonProvider(state));
+            legacy.providers.add(new FlagProvider(state));
+            bh.consume(legacy.fillPlaceholders(line, viewer));
+        }
+    }
+
+    /** Stand-in for the common game provider: a name set and a string switch. */
+    static final class CommonProvider implements PlaceholderProvider {
+
+        private static final Set<String> SUPPORTED = Set.of(
+                "phase", "state", "round", "time", "teamRed_coins", "teamBlue_coins",
+                "player_coins", "kill_streak", "teamRed_captures", "teamBlue_captures");
+
+        private final int[] state;
+
+        CommonProvider(int[] state) {
+            this.state = state;
+        }
+
+        @Override
+        public String getValue(String placeholder, Player player) {
+            return switch (placeholder) {
+                case "phase", "state" -> "Combat";
+                case "round" -> String.valueOf(state[0] & 3);
+                case "time" -> (state[0] / 60 % 10) + ":" + (state[0] % 60);
+                case "teamRed_coins" -> String.format("%,d", state[0] * 100L);
+                case "teamBlue_coins" -> String.format("%,d", state[0] * 50L);
+                case "player_coins" -> String.format("%,d", state[0] * 10L);
+                case "kill_streak" -> String.valueOf(state[0] & 7);
+                case "teamRed_captures" -> String.valueOf(state[0] & 1);
+                case "teamBlue_captures" -> String.valueOf((state[0] >> 1) & 1);
+                default -> null;
+            };
+        }
+
+        @Override
+        public boolean handles(String placeholder) {
+            return SUPPORTED.contains(placeholder);
+        }
+    }
+
+    /** Stand-in for the CTF provider. */
+    static final class FlagProvider implements PlaceholderProvider {
+
+        private static final Set<String> SUPPORTED = Set.of(
+                "teamRed_captures", "teamBlue_captures", "teamRed_capture_circles", "teamBlue_capture_circles");
+
+        private final int[] state;
+
+        FlagProvider(int[] state) {
+            this.state = state;
+        }
+
+        @Override
+        public String getValue(String placeholder, Player player) {
+            return switch (placeholder) {
+                case "teamRed_captures" -> String.valueOf(state[0] & 1);
+                case "teamBlue_captures" -> String.valueOf((state[0] >> 1) & 1);
+                case "teamRed_capture_circles" -> (state[0] & 1) == 1 ? "<green>●</green> <gray>○</gray>" : "<gray>○</gray> <gray>○</gray>";
+                case "teamBlue_capture_circles" -> (state[0] & 2) == 2 ? "<green>●</green> <gray>○</gray>" : "<gray>○</gray> <gray>○</gray>";
+                default -> null;
+            };
+        }
+
+        @Override
+        public boolean handles(String placeholder) {
+            return SUPPORTED.contains(placeholder);
+        }
+    }
+
+    /** PlaceholderRegistry's fill path before compiled templates, kept as it was. */
+    static final class LegacyRegistry {
+
+        private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([^}]+)}");
+        final List<PlaceholderProvider> providers = new ArrayList<>();
+
+        String fillPlaceholders(String line, Player player) {
+            if (line == null || line.isEmpty()) {
+                return line;
+            }
+
+            Matcher matcher = PLACEHOLDER_PATTERN.matcher(line);
+            StringBuilder sb = new StringBuilder();
+
+            while (matcher.find()) {
+                String placeholderName = matcher.group(1);
+                String replacement = resolvePlaceholder(placeholderName, player);
+                matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+            }
+
+            matcher.appendTail(sb);
+            return sb.toString();
+        }
+
+        private String resolvePlaceholder(String placeholder, Player player) {
+            for (PlaceholderProvider provider : providers) {
+                if (provider.handles(placeholder)) {
+                    String value = provider.getValue(placeholder, player);
+                    if (value != null) {
+                        return value;
+                    }
+                }
+            }
+            return "{" + placeholder + "}";
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package me.psikuvit.cashClash.bench;
+
+import com.google.gson.Gson;
+import me.psikuvit.cashClash.storage.PlayerData;
+import me.psikuvit.cashClash.storage.PlayerDataCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode throughput of {@link PlayerDataCodec} against the reflective Gson JSON path the
+ * providers used before. Encoded sizes for each layout count are printed once per trial.
+ * Run with {@code -prof gc} to compare allocation per operation as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerDataCodecBenchmark {
+
+    private static final String[] ITEMS = {"DIAMOND_SWORD", "BOW", "ARROW", "GOLDEN_APPLE", "IRON_CHESTPLATE",
+            "SHIELD", "ENDER_PEARL", "COOKED_BEEF", "OAK_PLANKS", "WATER_BUCKET"};
+
+    /** Number of kits with a saved layout; 0 is a stats-only player. */
+    @Param({"0", "3", "10"})
+    public int kits;
+
+    private final Gson gson = new Gson();
+    private PlayerData data;
+    private String json;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(7);
+        data = new PlayerData(new UUID(random.nextLong(), random.nextLong()));
+        data.setWins(random.nextInt(500));
+        data.setLosses(random.nextInt(500));
+        data.setKills(random.nextInt(5000));
+        data.setDeaths(random.nextInt(5000));
+        data.setTotalCoinsInvested(random.nextLong(10_000_000L));
+        data.setTotalCoinsEarned(random.nextLong(10_000_000L));
+        data.setPlaytimeMillis(random.nextLong(500L * 3_600_000L));
+        for (int k = 0; k < kits; k++) {
+            Map<Integer, String> layout = new HashMap<>();
+            for (int slot = 0; slot < 9; slot++) {
+                layout.put(slot, ITEMS[random.nextInt(ITEMS.length)]);
+            }
+            data.setKitLayout("KIT_" + k, layout);
+        }
+
+        json = gson.toJson(data);
+        binary = PlayerDataCodec.encode(data);
+        System.out.println("\nEncoded size with " + kits + " kits: json=" + json.getBytes(StandardCharsets.UTF_8).length
+                + " bytes, binary=" + binary.length + " bytes");
+    }
+
+    @Benchmark
+    public String gsonEncode() {
+        return gson.toJson(data);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return PlayerDataCodec.encode(data);
+    }
+
+    @Benchmark
+    public PlayerData gsonDecode() {
+        return gson.fromJson(json, PlayerData.class);
+    }
+
+    @Benchmark
+    public PlayerData codecDecode() {
+        return PlayerDataCodec.decode(binary);
+    }
+}
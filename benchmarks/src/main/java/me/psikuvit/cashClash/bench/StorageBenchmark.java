@@ -0,0 +1,100 @@
+package me.psikuvit.cashClash.bench;
+
+import me.psikuvit.cashClash.storage.DatabaseProvider;
+import me.psikuvit.cashClash.storage.LeaderboardType;
+import me.psikuvit.cashClash.storage.PlayerData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-operation latency of the storage providers against a table of {@code rows} synthetic
+ * players. Sample-time mode reports percentiles; run with {@code -t <n>} for concurrent
+ * callers and {@code -prof gc} for allocation per operation, e.g.
+ * {@code java -jar target/benchmarks.jar StorageBenchmark -t 8 -prof gc}.
+ * For whole scenarios (join storms, save bursts, heap used by loadAllPlayers) see
+ * {@link StorageLoadTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+
+    private static final int MATCH_PLAYERS = 10;
+    private static final int BOARD_SIZE = 10;
+
+    @Param({"sqlite", "file"})
+    public String provider;
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private File dir;
+    private DatabaseProvider db;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        dir = StorageFixtures.scratchDir();
+        db = StorageFixtures.open(provider, dir);
+        StorageFixtures.seed(db, rows, 42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        db.close();
+        StorageFixtures.deleteRecursively(dir);
+    }
+
+    /** A join: point load of one existing player. */
+    @Benchmark
+    public Optional<PlayerData> loadPlayer() throws Exception {
+        return db.loadPlayer(StorageFixtures.uuid(ThreadLocalRandom.current().nextInt(rows)));
+    }
+
+    /** A match ending: one batched save of every player in it. */
+    @Benchmark
+    public void saveMatch() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SplittableRandom stats = new SplittableRandom(random.nextLong());
+        List<PlayerData> match = new ArrayList<>(MATCH_PLAYERS);
+        for (int i = 0; i < MATCH_PLAYERS; i++) {
+            PlayerData data = StorageFixtures.player(random.nextInt(rows), stats);
+            data.markClean();
+            match.add(data);
+        }
+        db.savePlayers(match);
+    }
+
+    /** A leaderboard refresh of one board. */
+    @Benchmark
+    public List<PlayerData> topN() throws Exception {
+        return db.topN(LeaderboardType.WINS, BOARD_SIZE);
+    }
+
+    /** Full materialization of every stored player. */
+    @Benchmark
+    public List<PlayerData> loadAllPlayers() throws Exception {
+        return db.loadAllPlayers();
+    }
+}
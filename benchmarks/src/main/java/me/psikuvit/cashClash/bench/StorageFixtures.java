@@ -0,0 +1,110 @@
+package me.psikuvit.cashClash.bench;
+
+import me.psikuvit.cashClash.storage.ConnectionPool;
+import me.psikuvit.cashClash.storage.DatabaseProvider;
+import me.psikuvit.cashClash.storage.FileProvider;
+import me.psikuvit.cashClash.storage.MySQLProvider;
+import me.psikuvit.cashClash.storage.PlayerData;
+import me.psikuvit.cashClash.storage.SQLiteProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Shared setup for the storage benchmarks: opening a provider by name in a scratch directory
+ * and filling it with synthetic, reproducible players. Player {@code i} always has UUID
+ * {@link #uuid(int)}, so workloads can pick existing players without keeping a list.
+ */
+final class StorageFixtures {
+
+    static final int SEED_BATCH_SIZE = 500;
+    private static final String[] KITS = {"archer", "tank", "scout", "medic"};
+
+    private StorageFixtures() {
+        throw new AssertionError("Nope.");
+    }
+
+    /**
+     * Open and initialize a provider: {@code sqlite} and {@code file} live in {@code dir};
+     * {@code mysql} needs the {@code bench.mysql.url}, {@code .user} and {@code .pass} system
+     * properties and a MySQL driver on the classpath.
+     */
+    static DatabaseProvider open(String provider, File dir) throws SQLException {
+        DatabaseProvider db = switch (provider) {
+            case "sqlite" -> new SQLiteProvider(new File(dir, "players.db"));
+            case "file" -> new FileProvider(new File(dir, "filestore"));
+            case "mysql" -> new MySQLProvider(System.getProperty("bench.mysql.url"),
+                    System.getProperty("bench.mysql.user", "root"), System.getProperty("bench.mysql.pass", ""),
+                    new ConnectionPool.Settings(16, 2, 5000L, 600_000L, 1_800_000L, "SELECT 1"));
+            default -> throw new IllegalArgumentException("Unknown provider " + provider + " (sqlite, file or mysql)");
+        };
+        db.init();
+        return db;
+    }
+
+    static UUID uuid(int i) {
+        return new UUID(0xCC_0000_0000L, i);
+    }
+
+    /** A player with random but seed-determined stats and one or two kit layouts. */
+    static PlayerData player(int i, SplittableRandom random) {
+        PlayerData data = new PlayerData(uuid(i));
+        data.setWins(random.nextInt(500));
+        data.setLosses(random.nextInt(500));
+        data.setKills(random.nextInt(5000));
+        data.setDeaths(random.nextInt(5000));
+        data.setTotalCoinsInvested(random.nextLong(10_000_000L));
+        data.setTotalCoinsEarned(random.nextLong(10_000_000L));
+        data.setPlaytimeMillis(random.nextLong(360_000_000L));
+        Map<String, Map<Integer, String>> layouts = new HashMap<>();
+        for (int k = random.nextInt(1, 3); k > 0; k--) {
+            Map<Integer, String> layout = new HashMap<>();
+            for (int slot = 0; slot < 9; slot++) {
+                layout.put(slot, "ITEM_" + random.nextInt(40));
+            }
+            layouts.put(KITS[random.nextInt(KITS.length)], layout);
+        }
+        data.setKitLayouts(layouts);
+        return data;
+    }
+
+    /** Insert players {@code 0..rows-1} in batches. Returns the elapsed nanoseconds. */
+    static long seed(DatabaseProvider db, int rows, long seed) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed);
+        long start = System.nanoTime();
+        List<PlayerData> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            batch.add(player(i, random));
+            if (batch.size() == SEED_BATCH_SIZE) {
+                db.savePlayers(batch);
+                batch.clear();
+            }
+        }
+        db.savePlayers(batch);
+        return System.nanoTime() - start;
+    }
+
+    static File scratchDir() throws IOException {
+        return Files.createTempDirectory("cashclash-bench").toFile();
+    }
+
+    static void deleteRecursively(File dir) throws IOException {
+        if (dir == null || !dir.exists()) return;
+        try (Stream<Path> paths = Files.walk(dir.toPath())) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package me.psikuvit.cashClash.bench;
+
+import me.psikuvit.cashClash.storage.DatabaseProvider;
+import me.psikuvit.cashClash.storage.LeaderboardType;
+import me.psikuvit.cashClash.storage.PlayerData;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scenario load test for the storage providers, complementing the per-operation
+ * {@link StorageBenchmark}. Seeds {@code rows} synthetic players, then runs:
+ * <ul>
+ *     <li>a join storm - {@code threads} callers loading random players,</li>
+ *     <li>an end-of-match save burst - {@code threads} callers each saving a batch of
+ *     {@code match-size} players,</li>
+ *     <li>leaderboard refreshes - a top-N query per board,</li>
+ *     <li>{@code loadAllPlayers} and the streaming {@code scanPlayers}, with the heap each
+ *     one holds,</li>
+ * </ul>
+ * and prints a Markdown report of throughput and latency percentiles.
+ * <p>
+ * Run from the shaded jar:
+ * {@code java -cp target/benchmarks.jar me.psikuvit.cashClash.bench.StorageLoadTest provider=sqlite rows=100000 threads=8}.
+ * Options ({@code key=value}): {@code provider} (sqlite, file or mysql), {@code rows},
+ * {@code threads}, {@code ops} (operations per scenario), {@code match-size}, {@code dir}
+ * (scratch directory, deleted afterwards unless given) and {@code report} (also write the
+ * report to this file).
+ */
+public final class StorageLoadTest {
+
+    private final String provider;
+    private final int rows;
+    private final int threads;
+    private final int ops;
+    private final int matchSize;
+    private final List<String> report = new ArrayList<>();
+
+    private StorageLoadTest(Map<String, String> options) {
+        this.provider = options.getOrDefault("provider", "sqlite");
+        this.rows = Integer.parseInt(options.getOrDefault("rows", "100000"));
+        this.threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+        this.ops = Integer.parseInt(options.getOrDefault("ops", "20000"));
+        this.matchSize = Integer.parseInt(options.getOrDefault("match-size", "10"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) throw new IllegalArgumentException("Expected key=value, got " + arg);
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+
+        boolean scratch = !options.containsKey("dir");
+        File dir = scratch ? StorageFixtures.scratchDir() : new File(options.get("dir"));
+        StorageLoadTest test = new StorageLoadTest(options);
+        try {
+            test.run(dir);
+        } finally {
+            if (scratch) StorageFixtures.deleteRecursively(dir);
+        }
+
+        String text = String.join(System.lineSeparator(), test.report);
+        System.out.println(text);
+        if (options.containsKey("report")) {
+            Files.writeString(new File(options.get("report")).toPath(), text + System.lineSeparator());
+        }
+    }
+
+    private void run(File dir) throws Exception {
+        report.add("# Storage load test - " + provider);
+        report.add("");
+        report.add(rows + " players, " + threads + " threads, " + ops + " operations per scenario, "
+                + "match size " + matchSize + ", Java " + Runtime.version() + ", " + LocalDateTime.now().withNano(0));
+        report.add("");
+
+        DatabaseProvider db = StorageFixtures.open(provider, dir);
+        try {
+            long seedNanos = StorageFixtures.seed(db, rows, 42);
+            report.add("Seeded in " + millis(seedNanos) + " ms (" + perSecond(rows, seedNanos) + " rows/s)");
+            report.add("");
+            report.add("| Scenario | Ops | Ops/s | p50 us | p90 us | p99 us | p99.9 us | Max us |");
+            report.add("|---|---:|---:|---:|---:|---:|---:|---:|");
+
+            SplittableRandom pick = new SplittableRandom(7);
+            row("Join storm (loadPlayer)", concurrently(ops, threads, random ->
+                    db.loadPlayer(StorageFixtures.uuid(random.nextInt(rows)))));
+
+            row("Match end (savePlayers x" + matchSize + ")", concurrently(Math.max(1, ops / matchSize), threads, random -> {
+                List<PlayerData> match = new ArrayList<>(matchSize);
+                for (int i = 0; i < matchSize; i++) {
+                    PlayerData data = StorageFixtures.player(random.nextInt(rows), random);
+                    data.markClean();
+                    match.add(data);
+                }
+                db.savePlayers(match);
+            }));
+
+            LeaderboardType[] boards = LeaderboardType.values();
+            row("Leaderboard refresh (topN 10)", concurrently(Math.max(boards.length, ops / 100), 1, random ->
+                    db.topN(boards[pick.nextInt(boards.length)], 10)));
+
+            report.add("");
+            report.add("| Full read | Time ms | Retained heap MB |");
+            report.add("|---|---:|---:|");
+            measureHeap("loadAllPlayers", () -> db.loadAllPlayers());
+            AtomicLong scanned = new AtomicLong();
+            measureHeap("scanPlayers (streaming)", () -> {
+                db.scanPlayers(p -> scanned.incrementAndGet());
+                return null;
+            });
+        } finally {
+            db.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(SplittableRandom random) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Read {
+        Object run() throws Exception;
+    }
+
+    /** Latencies in nanoseconds, sorted, plus the wall time of the whole scenario. */
+    private record Result(long[] latencies, long wallNanos) {}
+
+    /** Split {@code total} operations over {@code workers} threads, timing each operation. */
+    private static Result concurrently(int total, int workers, Operation operation) throws Exception {
+        long[] latencies = new long[total];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(workers);
+        for (int w = 0; w < workers; w++) {
+            SplittableRandom random = new SplittableRandom(1000 + w);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    int i;
+                    while ((i = next.getAndIncrement()) < total) {
+                        long t = System.nanoTime();
+                        try {
+                            operation.run(random);
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - t;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "LoadTest-" + w);
+            thread.start();
+        }
+        long wall = System.nanoTime();
+        start.countDown();
+        done.await();
+        wall = System.nanoTime() - wall;
+        if (failures.get() > 0) System.err.println(failures.get() + " operations failed");
+        Arrays.sort(latencies);
+        return new Result(latencies, wall);
+    }
+
+    private void row(String scenario, Result result) {
+        long[] l = result.latencies();
+        report.add("| " + scenario + " | " + l.length + " | " + perSecond(l.length, result.wallNanos())
+                + " | " + micros(percentile(l, 50)) + " | " + micros(percentile(l, 90))
+                + " | " + micros(percentile(l, 99)) + " | " + micros(percentile(l, 99.9))
+                + " | " + micros(l[l.length - 1]) + " |");
+    }
+
+    /**
+     * Time one full read and the heap still reachable through its result, measured as used
+     * heap after a GC with the result alive minus before.
+     */
+    private void measureHeap(String name, Read read) throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long before = usedAfterGc(memory);
+        long t = System.nanoTime();
+        Object result = read.run();
+        long elapsed = System.nanoTime() - t;
+        long after = usedAfterGc(memory);
+        report.add("| " + name + " | " + millis(elapsed) + " | "
+                + String.format("%.1f", Math.max(0, after - before) / (1024.0 * 1024.0)) + " |");
+        Reference.reachabilityFence(result);
+    }
+
+    private static long usedAfterGc(MemoryMXBean memory) throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static String micros(long nanos) {
+        return String.format("%,.1f", nanos / 1000.0);
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000L;
+    }
+
+    private static String perSecond(long count, long nanos) {
+        return String.format("%,d", nanos <= 0 ? count : count * 1_000_000_000L / nanos);
+    }
+}
@@ -0,0 +1,28 @@
+package me.psikuvit.cashClash.util;
+
+/**
+ * Benchmark stand-in for the plugin's {@code Messages}, which reads its config from the running
+ * plugin during class init. Storage classes only call the debug overloads, so that is all this
+ * provides; the shade filter keeps the plugin's own copy out of the benchmark jar. Debug lines
+ * go to stderr when {@code -Dbench.debug=true}.
+ */
+public final class Messages {
+
+    private static final boolean DEBUG = Boolean.getBoolean("bench.debug");
+
+    private Messages() {
+        throw new AssertionError("Nope.");
+    }
+
+    public static boolean isDebugEnabled() {
+        return DEBUG;
+    }
+
+    public static void debug(String category, String message) {
+        if (DEBUG) System.err.println("[DEBUG:" + category + "] " + message);
+    }
+
+    public static void debug(String message) {
+        if (DEBUG) System.err.println("[DEBUG] " + message);
+    }
+}
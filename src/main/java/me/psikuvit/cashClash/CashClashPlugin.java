@@ -9,6 +9,7 @@ import me.psikuvit.cashClash.config.ItemsConfig;
 import me.psikuvit.cashClash.config.MessagesConfig;
 import me.psikuvit.cashClash.config.SequencesConfig;
 import me.psikuvit.cashClash.config.ShopConfig;
+import me.psikuvit.cashClash.game.tick.TickProfiler;
 import me.psikuvit.cashClash.gui.builder.GuiListener;
 import me.psikuvit.cashClash.listener.BlockListener;
 import me.psikuvit.cashClash.listener.ChatListener;
@@ -26,6 +27,7 @@ import me.psikuvit.cashClash.listener.lobby.LobbyListener;
 import me.psikuvit.cashClash.manager.Shutdownable;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.manager.game.GamemodeManager;
+import me.psikuvit.cashClash.manager.game.MatchHistoryManager;
 import me.psikuvit.cashClash.manager.game.RejoinManager;
 import me.psikuvit.cashClash.manager.items.armor.CustomArmorManager;
 import me.psikuvit.cashClash.manager.items.custom.CustomItemManager;
@@ -42,6 +44,7 @@ import me.psikuvit.cashClash.manager.player.TabListManager;
 import me.psikuvit.cashClash.manager.shop.ShopManager;
 import me.psikuvit.cashClash.party.PartyManager;
 import me.psikuvit.cashClash.shop.ShopService;
+import me.psikuvit.cashClash.util.ActionBarQueue;
 import me.psikuvit.cashClash.util.CooldownManager;
 import me.psikuvit.cashClash.util.SchedulerUtils;
 import me.psikuvit.cashClash.util.items.ItemFactory;
@@ -80,6 +83,7 @@ public final class CashClashPlugin extends JavaPlugin {
     private ChatManager chatManager;
     private RejoinManager rejoinManager;
     private LeaderboardManager leaderboardManager;
+    private MatchHistoryManager matchHistoryManager;
     private AfkManager afkManager;
     private MannequinManager mannequinManager;
     private LobbyManager lobbyManager;
@@ -106,6 +110,9 @@ public final class CashClashPlugin extends JavaPlugin {
             shopConfig = new ShopConfig();
             getLogger().info("Configuration files loaded successfully");
 
+            TickProfiler.get().setHistorySeconds(configManager.getProfilerHistorySeconds());
+            TickProfiler.get().setEnabled(configManager.isProfilerEnabled());
+
             playerDataManager = PlayerDataManager.create(this);
             getLogger().info("Player data storage initialized");
 
@@ -114,17 +121,18 @@ public final class CashClashPlugin extends JavaPlugin {
             tabListManager = new TabListManager();
             partyManager = new PartyManager();
             itemFactory = new ItemFactory();
-            cooldownManager = new CooldownManager();
+            cooldownManager = new CooldownManager(gameManager::isOutOfRound);
 
             // Tier 1: depend only on tier 0 managers.
             arenaManager = new ArenaManager(gameManager, configManager);
             chatManager = new ChatManager(partyManager, gameManager);
             rejoinManager = new RejoinManager(configManager, gameManager);
             leaderboardManager = new LeaderboardManager(configManager, playerDataManager);
+            matchHistoryManager = new MatchHistoryManager(playerDataManager.getProvider());
             afkManager = new AfkManager(configManager, gameManager, messagesConfig);
             mannequinManager = new MannequinManager(configManager);
             lobbyManager = new LobbyManager(itemsConfig);
-            scoreboardManager = new ScoreboardManager(gameManager, tabListManager);
+            scoreboardManager = new ScoreboardManager(gameManager, tabListManager, configManager);
             shopService = new ShopService(gameManager, itemFactory);
             transferInputListener = new TransferInputListener(gameManager);
 
@@ -147,11 +155,14 @@ public final class CashClashPlugin extends JavaPlugin {
             registerCommands();
 
             // Step 4.5: Start the periodic AFK lobby kicker
-            afkTask = SchedulerUtils.runTaskTimer(afkManager::checkAndKick, 20L * 30, 20L * 30);
+            afkTask = SchedulerUtils.runTaskTimer("afk.check", afkManager::checkAndKick, 20L * 30, 20L * 30);
 
             // Step 4.6: Start the async leaderboard worker
             leaderboardManager.start();
 
+            // Step 4.7: Start periodic player data checkpoints
+            playerDataManager.start();
+
             // Step 5: Spawn persistent mannequins
             mannequinManager.spawnAll();
             getLogger().info("Mannequin NPCs spawned");
@@ -195,7 +206,6 @@ public final class CashClashPlugin extends JavaPlugin {
         // player data saved last) - a LinkedHashSet keeps that order instead of leaving it
         // to hash iteration.
         Set<Shutdownable> managers = new LinkedHashSet<>();
-        managers.add(leaderboardManager);
         managers.add(gameManager);
         managers.add(rejoinManager);
         managers.add(gamemodeManager);
@@ -204,6 +214,8 @@ public final class CashClashPlugin extends JavaPlugin {
         managers.add(mannequinManager);
         managers.add(partyManager);
         managers.add(chatManager);
+        managers.add(matchHistoryManager);
+        managers.add(leaderboardManager);
         managers.add(playerDataManager);
 
         for (Shutdownable manager : managers) {
@@ -211,6 +223,8 @@ public final class CashClashPlugin extends JavaPlugin {
             shutdownStep("shutting down " + name, name + " shut down", manager::shutdown);
         }
 
+        shutdownStep("stopping action bars", null, () -> ActionBarQueue.get().shutdown());
+
         getLogger().info("Cash Clash has been disabled!");
     }
 
@@ -251,6 +265,7 @@ public final class CashClashPlugin extends JavaPlugin {
     public ChatManager getChatManager() { return chatManager; }
     public RejoinManager getRejoinManager() { return rejoinManager; }
     public LeaderboardManager getLeaderboardManager() { return leaderboardManager; }
+    public MatchHistoryManager getMatchHistoryManager() { return matchHistoryManager; }
     public AfkManager getAfkManager() { return afkManager; }
     public MannequinManager getMannequinManager() { return mannequinManager; }
     public LobbyManager getLobbyManager() { return lobbyManager; }
@@ -282,8 +297,9 @@ public final class CashClashPlugin extends JavaPlugin {
                 transferInputListener
         };
 
+        // Registered through the profiler so /cc profile can time each handler method
         for (Listener listener : listeners) {
-            getServer().getPluginManager().registerEvents(listener, this);
+            TickProfiler.get().registerEvents(listener, this);
         }
         getLogger().info("Registered " + listeners.length + " event listeners");
     }
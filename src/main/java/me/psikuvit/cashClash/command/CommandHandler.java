@@ -6,6 +6,7 @@ import me.psikuvit.cashClash.command.subcommands.BlockDisplayCommand;
 import me.psikuvit.cashClash.command.subcommands.CTFCommand;
 import me.psikuvit.cashClash.command.subcommands.ChatCommand;
 import me.psikuvit.cashClash.command.subcommands.CoinsCommand;
+import me.psikuvit.cashClash.command.subcommands.DataCommand;
 import me.psikuvit.cashClash.command.subcommands.DebugCommand;
 import me.psikuvit.cashClash.command.subcommands.ForceNextRoundCommand;
 import me.psikuvit.cashClash.command.subcommands.ForceStartCommand;
@@ -17,6 +18,7 @@ import me.psikuvit.cashClash.command.subcommands.LeaderboardCommand;
 import me.psikuvit.cashClash.command.subcommands.LeaveCommand;
 import me.psikuvit.cashClash.command.subcommands.MythicsCommand;
 import me.psikuvit.cashClash.command.subcommands.PTPCommand;
+import me.psikuvit.cashClash.command.subcommands.ProfileCommand;
 import me.psikuvit.cashClash.command.subcommands.ReloadCommand;
 import me.psikuvit.cashClash.command.subcommands.SelectKitCommand;
 import me.psikuvit.cashClash.command.subcommands.SetLobbyCommand;
@@ -86,6 +88,8 @@ public class CommandHandler extends Command {
         registerSubcommand(new SetLobbyCommand());
         registerSubcommand(new ReloadCommand());
         registerSubcommand(new DebugCommand());
+        registerSubcommand(new DataCommand());
+        registerSubcommand(new ProfileCommand());
         registerSubcommand(new SpawnNPCCommand());
 
         // Arena/template admin commands
@@ -174,6 +178,8 @@ public class CommandHandler extends Command {
             Messages.send(sender, "command.help-setlobby");
             Messages.send(sender, "command.help-reload");
             Messages.send(sender, "command.help-debug");
+            Messages.send(sender, "command.help-data");
+            Messages.send(sender, "command.help-profile");
         }
         Messages.send(sender, "command.help-shop");
     }
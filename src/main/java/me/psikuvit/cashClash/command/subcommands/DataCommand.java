@@ -0,0 +1,137 @@
+package me.psikuvit.cashClash.command.subcommands;
+
+import me.psikuvit.cashClash.CashClashPlugin;
+import me.psikuvit.cashClash.command.AbstractArgCommand;
+import me.psikuvit.cashClash.manager.player.PlayerDataManager;
+import me.psikuvit.cashClash.storage.PlayerDataTransfer;
+import me.psikuvit.cashClash.util.Messages;
+import me.psikuvit.cashClash.util.SchedulerUtils;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk export and import of stored player data, e.g. to move from SQLite to MySQL.
+ * Usage: /cc data export [file] | /cc data import <file>
+ * <p>
+ * Files live in the plugin's {@code exports} folder. Transfers run off the main thread, one at
+ * a time, and report progress to the sender as they go.
+ */
+public class DataCommand extends AbstractArgCommand {
+
+    private static final String EXTENSION = ".ccdata";
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DataCommand() {
+        super("data", Collections.emptyList(), "cashclash.admin.data");
+    }
+
+    @Override
+    public boolean onCommand(@NotNull CommandSender sender, String @NotNull [] args) {
+        if (args.length < 1) {
+            Messages.send(sender, "data.usage");
+            return false;
+        }
+        String action = args[0].toLowerCase();
+        if (!action.equals("export") && !action.equals("import")) {
+            Messages.send(sender, "data.usage");
+            return false;
+        }
+        if (action.equals("import") && args.length < 2) {
+            Messages.send(sender, "data.usage");
+            return false;
+        }
+
+        String name = args.length > 1 ? args[1] : "players-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        if (!FILE_NAME.matcher(name).matches() || name.startsWith(".")) {
+            Messages.send(sender, "data.invalid-name", "file", name);
+            return false;
+        }
+        if (!name.endsWith(EXTENSION)) name += EXTENSION;
+
+        File file = new File(getExportFolder(), name);
+        if (action.equals("import") && !file.isFile()) {
+            Messages.send(sender, "data.file-not-found", "file", name);
+            return false;
+        }
+        if (!running.compareAndSet(false, true)) {
+            Messages.send(sender, "data.already-running");
+            return false;
+        }
+
+        PlayerDataManager playerData = CashClashPlugin.getInstance().getPlayerDataManager();
+        PlayerDataTransfer.Progress progress = (rows, elapsed) -> SchedulerUtils.runTask(() ->
+                Messages.send(sender, "data.progress", "rows", String.format("%,d", rows),
+                        "rate", String.format("%,d", elapsed <= 0 ? rows : rows * 1000L / elapsed)));
+
+        // Queue every unsaved change first so the export sees it and the import can retire the journal
+        playerData.checkpoint();
+        if (action.equals("export")) {
+            Messages.send(sender, "data.export-started", "file", name);
+        } else {
+            Messages.send(sender, "data.import-started", "file", name);
+        }
+
+        SchedulerUtils.runTaskAsync(() -> {
+            try {
+                PlayerDataTransfer.Result result;
+                if (action.equals("export")) {
+                    getExportFolder().mkdirs();
+                    result = playerData.exportPlayers(file, progress);
+                } else {
+                    result = playerData.importPlayers(file, progress);
+                    CashClashPlugin.getInstance().getLeaderboardManager().reload();
+                }
+                SchedulerUtils.runTask(() -> Messages.send(sender, "data." + action + "-complete",
+                        "file", file.getName(),
+                        "rows", String.format("%,d", result.rows()),
+                        "skipped", String.format("%,d", result.skipped()),
+                        "size", String.format("%,d", result.bytes() / 1024),
+                        "seconds", String.format("%.1f", result.elapsedMillis() / 1000.0),
+                        "rate", String.format("%,d", result.rowsPerSecond())));
+                CashClashPlugin.getInstance().getLogger().info(sender.getName() + " ran data " + action + " of "
+                        + file.getName() + ": " + result);
+            } catch (Exception e) {
+                SchedulerUtils.runTask(() -> Messages.send(sender, "data.failed", "error_msg", String.valueOf(e.getMessage())));
+                CashClashPlugin.getInstance().getLogger().log(Level.WARNING, "Player data " + action + " failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public @NotNull List<String> onTabComplete(@NotNull CommandSender sender, String @NotNull [] args) {
+        List<String> completions = new ArrayList<>();
+        if (args.length == 1) {
+            String input = args[0].toLowerCase();
+            for (String option : List.of("export", "import")) {
+                if (option.startsWith(input)) completions.add(option);
+            }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("import")) {
+            String[] files = getExportFolder().list((dir, n) -> n.endsWith(EXTENSION));
+            if (files != null) {
+                for (String file : files) {
+                    if (file.startsWith(args[1])) completions.add(file);
+                }
+            }
+        }
+        return completions;
+    }
+
+    private static File getExportFolder() {
+        return new File(CashClashPlugin.getInstance().getDataFolder(), "exports");
+    }
+}
@@ -4,20 +4,25 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.command.AbstractArgCommand;
 import me.psikuvit.cashClash.manager.player.LeaderboardManager;
-import me.psikuvit.cashClash.storage.PlayerData;
+import me.psikuvit.cashClash.storage.LeaderboardEntry;
+import me.psikuvit.cashClash.storage.LeaderboardType;
+import me.psikuvit.cashClash.storage.LeaderboardWindow;
 import me.psikuvit.cashClash.util.Messages;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 /**
- * Displays cached leaderboards (wins, playtime, coins earned).
- * Usage: /cc leaderboard [wins|playtime|coins]
+ * Displays leaderboards (wins, playtime, coins earned) and, for players, their own rank.
+ * Boards can be limited to the current day, week or season.
+ * Usage: /cc leaderboard [wins|playtime|coins] [all|daily|weekly|season]
  */
 public class LeaderboardCommand extends AbstractArgCommand {
 
@@ -27,50 +32,79 @@ public class LeaderboardCommand extends AbstractArgCommand {
 
     @Override
     public boolean onCommand(@NotNull CommandSender sender, @NotNull String[] args) {
-        LeaderboardManager.LeaderboardType type = null;
-        if (args.length >= 1) {
-            type = LeaderboardManager.LeaderboardType.fromString(args[0]);
-            if (type == null) {
+        LeaderboardType type = null;
+        LeaderboardWindow window = LeaderboardWindow.ALL_TIME;
+        if (args.length > 2) {
+            Messages.send(sender, "leaderboard.usage");
+            return true;
+        }
+        // Board and window may be given in either order
+        for (String arg : args) {
+            LeaderboardType argType = LeaderboardType.fromString(arg);
+            LeaderboardWindow argWindow = LeaderboardWindow.fromString(arg);
+            if (argType != null && type == null) {
+                type = argType;
+            } else if (argWindow != null) {
+                window = argWindow;
+            } else {
                 Messages.send(sender, "leaderboard.usage");
                 return true;
             }
         }
 
+        LeaderboardManager leaderboardManager = CashClashPlugin.getInstance().getLeaderboardManager();
+        if (window.isRollup() && !leaderboardManager.isWindowsEnabled()) {
+            Messages.send(sender, "leaderboard.windows-disabled");
+            return true;
+        }
+        String period = window.describe(leaderboardManager.currentPeriod(window));
+
         if (type == null) {
-            Messages.send(sender, "leaderboard.header-all");
-            showBoard(sender, LeaderboardManager.LeaderboardType.WINS);
-            showBoard(sender, LeaderboardManager.LeaderboardType.PLAY_TIME);
-            showBoard(sender, LeaderboardManager.LeaderboardType.COINS_EARNED);
+            Messages.send(sender, "leaderboard.header-all", "window", period);
+            showBoard(sender, LeaderboardType.WINS, window);
+            showBoard(sender, LeaderboardType.PLAY_TIME, window);
+            showBoard(sender, LeaderboardType.COINS_EARNED, window);
         } else {
-            Messages.send(sender, "leaderboard.header", "board", type.getConfigKey());
-            showBoard(sender, type);
+            Messages.send(sender, "leaderboard.header", "board", type.getConfigKey(), "window", period);
+            showBoard(sender, type, window);
         }
 
         return true;
     }
 
-    private void showBoard(CommandSender sender, LeaderboardManager.LeaderboardType type) {
-        List<PlayerData> board = CashClashPlugin.getInstance().getLeaderboardManager().getBoard(type);
+    private void showBoard(CommandSender sender, LeaderboardType type, LeaderboardWindow window) {
+        LeaderboardManager leaderboardManager = CashClashPlugin.getInstance().getLeaderboardManager();
+        List<LeaderboardEntry> board = leaderboardManager.getTop(type, window);
         if (board.isEmpty()) {
             Messages.send(sender, "leaderboard.empty", "board", type.getConfigKey());
             return;
         }
 
-        for (int i = 0; i < board.size(); i++) {
-            PlayerData data = board.get(i);
-            String name = resolveName(data);
-            String value = switch (type) {
-                case WINS -> String.valueOf(data.getWins());
-                case PLAY_TIME -> formatPlaytime(data.getPlaytimeMillis());
-                case COINS_EARNED -> String.format("%,d", data.getTotalCoinsEarned());
-            };
+        for (LeaderboardEntry entry : board) {
             Messages.send(sender, "leaderboard.entry",
-                    "rank", String.valueOf(i + 1),
-                    "player_name", name,
-                    "value", value);
+                    "rank", String.valueOf(entry.rank()),
+                    "player_name", resolveName(entry.uuid()),
+                    "value", formatValue(type, entry.score()));
+        }
+
+        if (sender instanceof Player player && !window.isRollup()) {
+            int rank = leaderboardManager.getRank(player.getUniqueId(), type);
+            if (rank > 0) {
+                Messages.send(sender, "leaderboard.your-rank",
+                        "rank", String.format("%,d", rank),
+                        "total", String.format("%,d", leaderboardManager.getRankedCount(type)));
+            }
         }
     }
 
+    private String formatValue(LeaderboardType type, long score) {
+        return switch (type) {
+            case WINS -> String.valueOf(score);
+            case PLAY_TIME -> formatPlaytime(score);
+            case COINS_EARNED -> String.format("%,d", score);
+        };
+    }
+
     private String formatPlaytime(long millis) {
         long totalSeconds = millis / 1000L;
         long hours = totalSeconds / 3600L;
@@ -78,19 +112,25 @@ public class LeaderboardCommand extends AbstractArgCommand {
         return hours + "h " + minutes + "m";
     }
 
-    private String resolveName(PlayerData data) {
-        var online = Bukkit.getPlayer(data.getUuid());
+    private String resolveName(UUID uuid) {
+        var online = Bukkit.getPlayer(uuid);
         if (online != null) return online.getName();
-        var offline = Bukkit.getOfflinePlayer(data.getUuid());
+        var offline = Bukkit.getOfflinePlayer(uuid);
         String name = offline.getName();
-        return name != null ? name : data.getUuid().toString().substring(0, 8);
+        return name != null ? name : uuid.toString().substring(0, 8);
     }
 
     @Override
     public List<String> onTabComplete(@NotNull CommandSender sender, @NotNull String[] args) {
         if (args.length == 1) {
             String token = args[0].toLowerCase(Locale.ROOT);
-            return Stream.of("wins", "playtime", "coins")
+            return Stream.of("wins", "playtime", "coins", "daily", "weekly", "season")
+                    .filter(s -> s.startsWith(token))
+                    .toList();
+        }
+        if (args.length == 2) {
+            String token = args[1].toLowerCase(Locale.ROOT);
+            return Stream.of("all", "daily", "weekly", "season")
                     .filter(s -> s.startsWith(token))
                     .toList();
         }
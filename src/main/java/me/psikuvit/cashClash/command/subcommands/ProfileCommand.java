@@ -0,0 +1,165 @@
+package me.psikuvit.cashClash.command.subcommands;
+
+import me.psikuvit.cashClash.CashClashPlugin;
+import me.psikuvit.cashClash.command.AbstractArgCommand;
+import me.psikuvit.cashClash.game.tick.TickProfiler;
+import me.psikuvit.cashClash.util.Messages;
+import me.psikuvit.cashClash.util.SchedulerUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Tick budget profiler controls. Usage:
+ * /cc profile on | off | reset | top [seconds] [session] | dump [seconds]
+ * <p>
+ * {@code top} ranks listener methods, game tasks and item uses by main-thread time over the
+ * last N seconds; {@code dump} writes the per-second data to the plugin's {@code profiles}
+ * folder as CSV.
+ */
+public class ProfileCommand extends AbstractArgCommand {
+
+    private static final int DEFAULT_SECONDS = 10;
+    private static final int TOP_ENTRIES = 10;
+
+    public ProfileCommand() {
+        super("profile", Collections.emptyList(), "cashclash.admin.profile");
+    }
+
+    @Override
+    public boolean onCommand(@NotNull CommandSender sender, String @NotNull [] args) {
+        if (args.length < 1) {
+            Messages.send(sender, "profile.usage");
+            return false;
+        }
+
+        TickProfiler profiler = TickProfiler.get();
+        switch (args[0].toLowerCase()) {
+            case "on" -> {
+                profiler.setEnabled(true);
+                Messages.send(sender, "profile.enabled", "seconds", String.valueOf(profiler.getHistorySeconds()));
+            }
+            case "off" -> {
+                profiler.setEnabled(false);
+                Messages.send(sender, "profile.disabled");
+            }
+            case "reset" -> {
+                profiler.reset();
+                Messages.send(sender, "profile.reset");
+            }
+            case "top" -> {
+                Integer seconds = parseSeconds(sender, args, profiler);
+                if (seconds == null) return false;
+                showTop(sender, profiler, seconds, args.length > 2 ? args[2] : null);
+            }
+            case "dump" -> {
+                Integer seconds = parseSeconds(sender, args, profiler);
+                if (seconds == null) return false;
+                dump(sender, profiler, seconds);
+            }
+            default -> {
+                Messages.send(sender, "profile.usage");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void showTop(CommandSender sender, TickProfiler profiler, int seconds, String session) {
+        List<TickProfiler.Entry> entries = profiler.top(seconds, session);
+        if (entries.isEmpty()) {
+            Messages.send(sender, profiler.isEnabled() ? "profile.no-data" : "profile.no-data-disabled",
+                    "seconds", String.valueOf(seconds));
+            return;
+        }
+
+        // Item uses run inside PlayerInteractEvent handlers, so they are already part of the
+        // listener total and left out of the sum
+        double profiled = 0;
+        for (TickProfiler.Entry entry : entries) {
+            if (entry.category() != TickProfiler.Category.ITEM) profiled += entry.millisPerTick(seconds);
+        }
+
+        Messages.send(sender, "profile.header", "seconds", String.valueOf(seconds),
+                "session", session != null ? session : "all sessions");
+        Messages.send(sender, "profile.server",
+                "tps", String.format("%.1f", Bukkit.getTPS()[0]),
+                "mspt", String.format("%.1f", Bukkit.getAverageTickTime()),
+                "profiled", String.format("%.2f", profiled));
+
+        for (int i = 0; i < Math.min(TOP_ENTRIES, entries.size()); i++) {
+            TickProfiler.Entry entry = entries.get(i);
+            Messages.send(sender, "profile.line",
+                    "rank", String.valueOf(i + 1),
+                    "name", entry.name(),
+                    "category", entry.category().id(),
+                    "session", entry.session(),
+                    "mspt", String.format("%.3f", entry.millisPerTick(seconds)),
+                    "calls", String.format("%,d", entry.calls()),
+                    "avg", String.format("%.1f", entry.averageMicros()),
+                    "p99", String.format("%.0f", entry.percentileMicros(99)),
+                    "max", String.format("%,d", entry.maxNanos() / 1000));
+        }
+    }
+
+    private void dump(CommandSender sender, TickProfiler profiler, int seconds) {
+        String name = "profile-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".csv";
+        File file = new File(new File(CashClashPlugin.getInstance().getDataFolder(), "profiles"), name);
+
+        // Snapshot here on the main thread, write it off it
+        TickProfiler.Dump dump = profiler.dump(seconds, file);
+        SchedulerUtils.runTaskAsync(() -> {
+            try {
+                dump.write();
+                SchedulerUtils.runTask(() -> Messages.send(sender, "profile.dump-complete",
+                        "rows", String.format("%,d", dump.rows().size()),
+                        "seconds", String.valueOf(seconds),
+                        "file", "profiles/" + name));
+            } catch (Exception e) {
+                SchedulerUtils.runTask(() -> Messages.send(sender, "profile.dump-failed", "error_msg", String.valueOf(e.getMessage())));
+                CashClashPlugin.getInstance().getLogger().log(Level.WARNING, "Profile dump failed", e);
+            }
+        });
+    }
+
+    /** Seconds from {@code args[1]}: defaults to 10 for top and the whole history for dump. */
+    private Integer parseSeconds(CommandSender sender, String[] args, TickProfiler profiler) {
+        int max = profiler.getHistorySeconds();
+        if (args.length < 2) {
+            return args[0].equalsIgnoreCase("dump") ? max : Math.min(DEFAULT_SECONDS, max);
+        }
+        try {
+            int seconds = Integer.parseInt(args[1]);
+            if (seconds >= 1 && seconds <= max) return seconds;
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        Messages.send(sender, "profile.invalid-seconds", "input", args[1], "max", String.valueOf(max));
+        return null;
+    }
+
+    @Override
+    public @NotNull List<String> onTabComplete(@NotNull CommandSender sender, String @NotNull [] args) {
+        List<String> completions = new ArrayList<>();
+        List<String> options = switch (args.length) {
+            case 1 -> List.of("on", "off", "reset", "top", "dump");
+            case 2 -> args[0].equalsIgnoreCase("top") || args[0].equalsIgnoreCase("dump")
+                    ? List.of("10", "30", "60") : List.of();
+            case 3 -> args[0].equalsIgnoreCase("top") ? new ArrayList<>(TickProfiler.get().getSessions()) : List.of();
+            default -> List.of();
+        };
+        String input = args[args.length - 1].toLowerCase();
+        for (String option : options) {
+            if (option.startsWith(input)) completions.add(option);
+        }
+        return completions;
+    }
+}
@@ -7,7 +7,9 @@ import me.psikuvit.cashClash.config.ItemsConfig;
 import me.psikuvit.cashClash.config.MessagesConfig;
 import me.psikuvit.cashClash.config.SequencesConfig;
 import me.psikuvit.cashClash.config.ShopConfig;
+import me.psikuvit.cashClash.game.tick.TickProfiler;
 import me.psikuvit.cashClash.manager.lobby.MannequinManager;
+import me.psikuvit.cashClash.scoreboard.ScoreboardProvider;
 import me.psikuvit.cashClash.util.Messages;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
@@ -40,6 +42,8 @@ public class ReloadCommand extends AbstractArgCommand {
                 case "config" -> {
                     CashClashPlugin.getInstance().reloadConfig();
                     CashClashPlugin.getInstance().getConfigManager().reload();
+                    TickProfiler.get().setHistorySeconds(CashClashPlugin.getInstance().getConfigManager().getProfilerHistorySeconds());
+                    ScoreboardProvider.reload();
                     reloaded = 1;
                     Messages.send(sender, "reload.config-success");
                 }
@@ -71,6 +75,8 @@ public class ReloadCommand extends AbstractArgCommand {
                 case "all" -> {
                     CashClashPlugin.getInstance().reloadConfig();
                     CashClashPlugin.getInstance().getConfigManager().reload();
+                    TickProfiler.get().setHistorySeconds(CashClashPlugin.getInstance().getConfigManager().getProfilerHistorySeconds());
+                    ScoreboardProvider.reload();
                     CashClashPlugin.getInstance().getShopConfig().reload();
                     CashClashPlugin.getInstance().getItemsConfig().reload();
                     CashClashPlugin.getInstance().getSequencesConfig().reload();
@@ -3,10 +3,12 @@ package me.psikuvit.cashClash.command.subcommands;
 import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.command.AbstractArgCommand;
+import me.psikuvit.cashClash.gui.StatsGUI;
 import me.psikuvit.cashClash.manager.player.PlayerDataManager;
 import me.psikuvit.cashClash.storage.PlayerData;
 import me.psikuvit.cashClash.util.Messages;
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -14,7 +16,6 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 
 public class StatsCommand extends AbstractArgCommand {
     public StatsCommand() {
@@ -53,18 +54,31 @@ public class StatsCommand extends AbstractArgCommand {
                 return true;
             }
 
-            UUID tid = target.getUniqueId();
-            PlayerData data = CashClashPlugin.getInstance().getPlayerDataManager().getData(tid);
-            data.setKills(0);
-            data.setDeaths(0);
-            data.setWins(0);
-            data.setTotalCoinsInvested(0L);
+            CashClashPlugin.getInstance().getPlayerDataManager().resetStats(target.getUniqueId());
 
             Messages.send(sender, "stats.reset-success", "player_name", target.getName());
 
             return true;
         }
 
+        // /cc stats <player>: open the stats GUI for any player, online or not
+        if (args.length == 1 && !args[0].equalsIgnoreCase("reset")) {
+            if (!(sender instanceof Player viewer)) {
+                Messages.send(sender, "stats.only-players-no-args");
+                return true;
+            }
+
+            // Only players this server has seen; never blocks on a remote profile lookup
+            OfflinePlayer target = Bukkit.getOfflinePlayerIfCached(args[0]);
+            if (target == null) {
+                Messages.send(sender, "stats.player-not-found", "player", args[0]);
+                return true;
+            }
+
+            StatsGUI.openStatsGUI(viewer, target);
+            return true;
+        }
+
         Messages.send(sender, "stats.invalid-args");
         return true;
     }
@@ -78,6 +92,10 @@ public class StatsCommand extends AbstractArgCommand {
             if ("reset".startsWith(token)) {
                 out.add("reset");
             }
+            Bukkit.getOnlinePlayers().stream()
+                    .map(Player::getName)
+                    .filter(n -> n.toLowerCase().startsWith(token))
+                    .forEach(out::add);
 
             return out;
         }
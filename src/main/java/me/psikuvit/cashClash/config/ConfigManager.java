@@ -7,6 +7,8 @@ import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 /**
@@ -374,6 +376,22 @@ public class ConfigManager {
         return config.getStringList("scoreboard.kill-confirm-sudden-death.lines");
     }
 
+    // ==================== SCOREBOARD UPDATE SETTINGS ====================
+
+    /**
+     * Ticks between full sidebar refreshes of a game session; event-driven updates in between.
+     */
+    public long getScoreboardUpdateIntervalTicks() {
+        return Math.max(1L, config.getLong("scoreboard-updates.interval-ticks", 100L));
+    }
+
+    /**
+     * Main-thread microseconds per tick spent applying formatted sidebars.
+     */
+    public long getScoreboardApplyBudgetMicros() {
+        return Math.max(50L, config.getLong("scoreboard-updates.apply-budget-micros", 500L));
+    }
+
     // ==================== NPC SETTINGS ====================
 
     /**
@@ -391,6 +409,16 @@ public class ConfigManager {
         return config.getString("npc.arena.skin-url", "");
     }
 
+    // ==================== STORAGE SETTINGS ====================
+
+    /**
+     * How long (ms) the async pre-login thread waits for a player's data prefetch before
+     * letting the login continue. A late prefetch is picked up again on join.
+     */
+    public long getPrefetchTimeoutMillis() {
+        return config.getLong("storage.prefetch-timeout-ms", 3000L);
+    }
+
     // ==================== LEADERBOARD SETTINGS ====================
 
     /**
@@ -408,6 +436,66 @@ public class ConfigManager {
         return config.getInt("leaderboard.refresh-minutes", 5);
     }
 
+    /**
+     * Whether every board keeps a live in-memory rank index (updated as stats change) so boards
+     * update instantly and per-player ranks can be looked up.
+     */
+    public boolean isLeaderboardLiveRanksEnabled() {
+        return config.getBoolean("leaderboard.live-ranks", true);
+    }
+
+    /**
+     * Whether daily, weekly and season boards are kept as incremental rollups next to the
+     * all-time boards.
+     */
+    public boolean isLeaderboardWindowsEnabled() {
+        return config.getBoolean("leaderboard.windows.enabled", true);
+    }
+
+    /**
+     * How often (seconds) buffered stat changes are added to the windowed rollups. The buffer
+     * is also flushed whenever a match ends.
+     */
+    public int getLeaderboardRollupFlushSeconds() {
+        return config.getInt("leaderboard.windows.flush-seconds", 60);
+    }
+
+    /**
+     * First day of season 1. Seasons follow each other back to back from this date.
+     */
+    public LocalDate getLeaderboardSeasonStart() {
+        String value = config.getString("leaderboard.windows.season-start", "2026-01-01");
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            CashClashPlugin.getInstance().getLogger().warning("Invalid leaderboard.windows.season-start '" + value + "', using 2026-01-01");
+            return LocalDate.of(2026, 1, 1);
+        }
+    }
+
+    /**
+     * Length of one leaderboard season in days.
+     */
+    public int getLeaderboardSeasonLengthDays() {
+        return Math.max(1, config.getInt("leaderboard.windows.season-length-days", 90));
+    }
+
+    // ==================== PROFILER SETTINGS ====================
+
+    /**
+     * Whether the tick profiler starts enabled.
+     */
+    public boolean isProfilerEnabled() {
+        return config.getBoolean("profiler.enabled", false);
+    }
+
+    /**
+     * Seconds of per-second profiler history kept for /cc profile.
+     */
+    public int getProfilerHistorySeconds() {
+        return Math.max(10, config.getInt("profiler.history-seconds", 120));
+    }
+
     // ==================== AFK SETTINGS ====================
 
     /**
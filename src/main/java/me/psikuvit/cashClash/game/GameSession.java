@@ -7,6 +7,8 @@ import me.psikuvit.cashClash.arena.ArenaManager;
 import me.psikuvit.cashClash.arena.TemplateWorld;
 import me.psikuvit.cashClash.config.ConfigManager;
 import me.psikuvit.cashClash.game.round.RoundData;
+import me.psikuvit.cashClash.game.tick.TickEngine;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.gamemode.Gamemode;
 import me.psikuvit.cashClash.kit.Kit;
 import me.psikuvit.cashClash.kit.KitService;
@@ -14,6 +16,7 @@ import me.psikuvit.cashClash.listener.BlockListener;
 import me.psikuvit.cashClash.manager.game.EconomyManager;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.manager.game.GamemodeManager;
+import me.psikuvit.cashClash.manager.game.MatchHistoryManager;
 import me.psikuvit.cashClash.manager.game.RejoinData;
 import me.psikuvit.cashClash.manager.game.RejoinManager;
 import me.psikuvit.cashClash.manager.game.RoundManager;
@@ -30,6 +33,7 @@ import me.psikuvit.cashClash.manager.shop.ShopManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.sequence.SequenceManager;
 import me.psikuvit.cashClash.sequence.Sequences;
+import me.psikuvit.cashClash.storage.MatchRecord;
 import me.psikuvit.cashClash.storage.PlayerData;
 import me.psikuvit.cashClash.util.LocationUtils;
 import me.psikuvit.cashClash.util.Messages;
@@ -44,10 +48,11 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
@@ -69,6 +74,10 @@ public class GameSession {
     private final Map<UUID, CashClashPlayer> players;
 
     private RoundData currentRoundData;
+    // Finished rounds, archived for the match history when the game ends
+    private final List<MatchRecord.Round> archivedRounds = new ArrayList<>();
+    private RoundData lastArchivedRound;
+    private long startedAt;
 
     private RoundManager roundManager;
     //private CashQuakeManager cashQuakeManager;
@@ -82,8 +91,11 @@ public class GameSession {
     // start (50/50 chance) and fixed for every round - no mid-game swap
     private final boolean shieldsEnabled;
 
+    // Drives every repeating task scoped to this game; shut down when the session is removed
+    private final TickEngine tickEngine;
+
     // Countdown/start preparation
-    private BukkitTask startCountdownTask;
+    private TickTask startCountdownTask;
     private boolean startingCountdown;
     private int countdownSecondsRemaining;
     private Gamemode gamemode;
@@ -94,6 +106,7 @@ public class GameSession {
     private final ScoreboardManager scoreboardManager;
     private final ConfigManager configManager;
     private final PlayerDataManager playerDataManager;
+    private final MatchHistoryManager matchHistoryManager;
     private final MythicItemManager mythicItemManager;
     private final CustomArmorManager customArmorManager;
     private final CustomItemManager customItemManager;
@@ -121,6 +134,7 @@ public class GameSession {
         this.scoreboardManager = plugin.getScoreboardManager();
         this.configManager = plugin.getConfigManager();
         this.playerDataManager = plugin.getPlayerDataManager();
+        this.matchHistoryManager = plugin.getMatchHistoryManager();
         this.mythicItemManager = plugin.getMythicItemManager();
         this.customArmorManager = plugin.getCustomArmorManager();
         this.customItemManager = plugin.getCustomItemManager();
@@ -128,6 +142,7 @@ public class GameSession {
         this.lobbyManager = plugin.getLobbyManager();
         this.gameManager = plugin.getGameManager();
         this.stateMachine = new GameStateMachine(GameState.WAITING);
+        this.tickEngine = new TickEngine("arena-" + arenaNumber);
         this.currentRound = 1;
         this.teamRed = new Team(1);
         this.teamBlue = new Team(2);
@@ -173,6 +188,14 @@ public class GameSession {
         return gameWorld;
     }
 
+    /**
+     * The engine every repeating task of this game should run on, instead of a Bukkit timer of
+     * its own. Whatever is still scheduled on it is cancelled when the session is removed.
+     */
+    public TickEngine getTickEngine() {
+        return tickEngine;
+    }
+
     public GameState getState() {
         return stateMachine.getCurrent();
     }
@@ -337,6 +360,7 @@ public class GameSession {
         SoundUtils.playTo(players.keySet(), Sound.ENTITY_WARDEN_SONIC_BOOM, 1.0f, 1.0f);
 
         stateMachine.transitionTo(GameState.SHOPPING);
+        startedAt = System.currentTimeMillis();
 
         currentRoundData = new RoundData(players.keySet());
         players.values().forEach(CashClashPlayer::initializeRound1);
@@ -376,7 +400,7 @@ public class GameSession {
         Messages.broadcast(players.keySet(), "round.game-countdown-start",
                 "seconds", String.valueOf(seconds));
 
-        startCountdownTask = SchedulerUtils.runTaskTimer(() -> {
+        startCountdownTask = tickEngine.schedule("session.start-countdown", () -> {
             if (getState() != GameState.WAITING) {
                 cancelStartCountdown();
                 return;
@@ -603,6 +627,7 @@ public class GameSession {
     }
 
     public void nextRound() {
+        archiveRound();
         currentRound++;
         // check if the round number exceeds the rounds in the config
         if (currentRound > configManager.getTotalRounds()) {
@@ -671,6 +696,7 @@ public class GameSession {
 
         Team winner = calculateWinner();
         Location finalSpawn = determineFinalSpawn();
+        recordMatch(winner);
 
         // Show the victory sequence (win/loss title, then a lingering pause) before
         // teleporting players away and tearing down the arena. No restrictions except
@@ -685,6 +711,70 @@ public class GameSession {
         });
     }
 
+    /**
+     * Snapshot the current round's results into {@link #archivedRounds}. Safe to call twice for
+     * the same round (the last round is archived by both {@link #nextRound()} and {@link #end()}).
+     */
+    private void archiveRound() {
+        RoundData round = currentRoundData;
+        if (round == null || round == lastArchivedRound) return;
+        lastArchivedRound = round;
+
+        List<MatchRecord.RoundLine> lines = new ArrayList<>(round.getPlayers().size());
+        UUID mvp = null;
+        int mvpKills = 0;
+        double mvpDamage = 0.0;
+        for (UUID uuid : round.getPlayers()) {
+            int kills = round.getKills(uuid);
+            double damage = round.getDamage(uuid);
+            lines.add(new MatchRecord.RoundLine(uuid, kills, round.getDeaths(uuid), damage));
+            // MVP: most kills, damage breaks ties; nobody qualifies in a round without either
+            if (kills > mvpKills || (kills == mvpKills && damage > mvpDamage)) {
+                mvp = uuid;
+                mvpKills = kills;
+                mvpDamage = damage;
+            }
+        }
+        archivedRounds.add(new MatchRecord.Round(currentRound, round.getFirstBloodPlayer(), mvp,
+                round.getTotalRoundKills(), lines));
+    }
+
+    /**
+     * Build the match history record for this game and hand it to the
+     * {@link MatchHistoryManager}. Must run before the players are cleaned up.
+     */
+    private void recordMatch(Team winner) {
+        archiveRound();
+        if (startedAt == 0L || archivedRounds.isEmpty()) return;
+
+        Map<UUID, int[]> counts = new HashMap<>(); // kills, deaths, first bloods, MVPs
+        Map<UUID, Double> damage = new HashMap<>();
+        for (MatchRecord.Round round : archivedRounds) {
+            for (MatchRecord.RoundLine line : round.lines()) {
+                int[] c = counts.computeIfAbsent(line.player(), u -> new int[4]);
+                c[0] += line.kills();
+                c[1] += line.deaths();
+                damage.merge(line.player(), line.damage(), Double::sum);
+            }
+            if (round.firstBlood() != null) counts.computeIfAbsent(round.firstBlood(), u -> new int[4])[2]++;
+            if (round.mvp() != null) counts.computeIfAbsent(round.mvp(), u -> new int[4])[3]++;
+        }
+
+        List<MatchRecord.PlayerLine> lines = new ArrayList<>(counts.size());
+        for (Map.Entry<UUID, int[]> entry : counts.entrySet()) {
+            UUID uuid = entry.getKey();
+            int team = teamRed.hasPlayer(uuid) ? 1 : teamBlue.hasPlayer(uuid) ? 2 : 0;
+            int[] c = entry.getValue();
+            lines.add(new MatchRecord.PlayerLine(uuid, team, team == winner.getTeamNumber(), c[0], c[1],
+                    damage.getOrDefault(uuid, 0.0), c[2], c[3]));
+        }
+
+        String mode = gamemode != null ? gamemode.getType().name() : null;
+        matchHistoryManager.record(new MatchRecord(sessionId, arenaNumber, mode, startedAt, System.currentTimeMillis(),
+                winner.getTeamNumber(), getRoundWins(1), getRoundWins(2), List.copyOf(archivedRounds), lines));
+        archivedRounds.clear();
+    }
+
     /**
      * Clean up all game managers
      */
@@ -723,6 +813,10 @@ public class GameSession {
         }
 
         recordWins();
+        // Checkpoint everyone's match results through the write-behind queue
+        for (UUID u : players.keySet()) playerDataManager.queueSave(u);
+        // Push this match's increments to the daily/weekly/season boards now
+        plugin.getLeaderboardManager().flushRollupsAsync();
         removeAllPlayersFromTeams();
     }
 
@@ -50,7 +50,7 @@ public class RoundData {
     public void removeLife(UUID player) {
         PlayerRoundStats s = getStats(player);
         if (s != null) {
-            s.incrementKills();
+            s.incrementDeaths();
         }
     }
 
@@ -71,9 +71,22 @@ public class RoundData {
         return s == null ? 0.0 : s.getDamageDealt();
     }
 
-    public boolean isAlive(UUID player) {
+    public int getDeaths(UUID player) {
         PlayerRoundStats s = getStats(player);
-        return s != null && s.getDeaths() == 0;
+        return s == null ? 0 : s.getDeaths();
+    }
+
+    /**
+     * Whether the player takes part in this round. Deaths don't end a player's round - lives
+     * are tracked on {@code CashClashPlayer} - so this only checks that the player is in it.
+     */
+    public boolean isAlive(UUID player) {
+        return getStats(player) != null;
+    }
+
+    /** Players in this round, for archiving the round when it ends. */
+    public Collection<UUID> getPlayers() {
+        return stats.keySet();
     }
 
     public long getLastDamageTime(UUID player) {
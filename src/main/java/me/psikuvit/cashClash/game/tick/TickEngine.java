@@ -0,0 +1,263 @@
+package me.psikuvit.cashClash.game.tick;
+
+import me.psikuvit.cashClash.CashClashPlugin;
+import me.psikuvit.cashClash.util.Messages;
+import me.psikuvit.cashClash.util.SchedulerUtils;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Drives the repeating tasks of one game session from a single Bukkit timer.
+ * <p>
+ * Tasks sit in a hierarchical timing wheel: four levels of 64 slots, a slot on each level
+ * spanning 64 times one on the level below (1, 64, 4096 and 262144 ticks). Scheduling and
+ * cancelling are O(1), and a tick only touches the slot that is due - plus, every 64 ticks, one
+ * slot of a coarser level whose tasks cascade down. The cost of a tick follows the number of
+ * tasks due on it, not the number registered, and fifty particle effects are one scheduler
+ * entry instead of fifty.
+ * <p>
+ * The Bukkit timer only runs while something is scheduled. {@link #shutdown()} cancels every
+ * task; the session's engine is shut down when the session is removed, so nothing registered
+ * here outlives its game. While the {@link TickProfiler} is on, each run is recorded under the
+ * task's name and the engine's name.
+ * Main thread only.
+ */
+public final class TickEngine {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    /** Longest delay or period the wheel holds (about 9.7 days); longer ones are clamped. */
+    public static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final String name;
+    // Starts the per-tick timer that calls advance(); tests pass one they step by hand
+    private final Function<Runnable, BukkitTask> startDriver;
+    private final TickTask[][] wheel = new TickTask[LEVELS][SLOTS];
+    // Tasks due this tick, detached from their slot first so runs can schedule and cancel freely
+    private final List<TickTask> firing = new ArrayList<>();
+
+    private long tick;
+    private int size;
+    private BukkitTask driver;
+    private boolean shutdown;
+    private long ticksRun;
+    private long tickNanos;
+
+    public TickEngine(String name) {
+        this(name, advance -> SchedulerUtils.runTaskTimer(advance, 1L, 1L));
+    }
+
+    TickEngine(String name, Function<Runnable, BukkitTask> startDriver) {
+        this.name = name;
+        this.startDriver = startDriver;
+    }
+
+    /**
+     * Run {@code task} after {@code delay} ticks, then every {@code period} ticks until it is
+     * cancelled - the contract of {@code BukkitScheduler#runTaskTimer}. A delay below 1 means the
+     * next tick; a period below 1 runs the task once.
+     *
+     * @param name the profiler aggregates run times under this name, e.g. {@code "invis-cloak.drain"}
+     * @return the handle to cancel the task with
+     */
+    public TickTask schedule(String name, Runnable task, long delay, long period) {
+        return schedule(name, new TickTask.Wrapped(task), delay, period);
+    }
+
+    /**
+     * {@link #schedule(String, Runnable, long, long)} for a {@link TickTask} subclass, which can
+     * cancel itself and keep state across runs.
+     */
+    public TickTask schedule(String name, TickTask task, long delay, long period) {
+        if (task.engine != null) throw new IllegalStateException("Task " + task.getName() + " is already scheduled");
+        task.engine = this;
+        task.name = name;
+        task.period = period > 0 ? Math.min(period, MAX_DELAY) : 0;
+        if (task.isCancelled()) return task;
+        if (shutdown) {
+            task.markDone();
+            return task;
+        }
+
+        task.deadline = tick + Math.max(1, Math.min(delay, MAX_DELAY));
+        insert(task);
+        size++;
+        if (driver == null) driver = startDriver.apply(this::advance);
+        return task;
+    }
+
+    /** Run {@code task} once, {@code delay} ticks from now. */
+    public TickTask runLater(String name, Runnable task, long delay) {
+        return schedule(name, task, delay, 0);
+    }
+
+    /**
+     * Cancel every task and stop the Bukkit timer. Anything scheduled afterwards is cancelled
+     * on arrival, so late callbacks of a finished game are harmless.
+     */
+    public void shutdown() {
+        if (shutdown) return;
+        shutdown = true;
+        for (TickTask[] level : wheel) {
+            for (int i = 0; i < SLOTS; i++) {
+                TickTask task = level[i];
+                level[i] = null;
+                while (task != null) {
+                    TickTask next = task.next;
+                    task.prev = task.next = null;
+                    task.level = TickTask.UNLINKED;
+                    task.markDone();
+                    task = next;
+                }
+            }
+        }
+        for (TickTask task : firing) {
+            if (!task.isCancelled()) task.markDone();
+        }
+        size = 0;
+        stopDriver();
+
+        if (ticksRun > 0) {
+            Messages.debug("GAME", "Tick engine " + name + " shut down after " + ticksRun + " ticks, avg "
+                    + String.format("%.1f", tickNanos / 1000.0 / ticksRun) + "us per tick");
+        }
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /** Number of tasks currently scheduled. */
+    public int size() {
+        return size;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Ticks driven so far and the time spent in them, for the engine's own overhead. */
+    public long getTicksRun() {
+        return ticksRun;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /** One tick of the wheel, run by the driver. */
+    void advance() {
+        long start = System.nanoTime();
+        tick++;
+
+        // Every 64^level ticks, the next slot of that level cascades down to finer levels
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = level * SLOT_BITS;
+            if ((tick & ((1L << shift) - 1)) != 0) break;
+            cascade(level, (int) (tick >>> shift) & SLOT_MASK);
+        }
+
+        int index = (int) tick & SLOT_MASK;
+        TickTask task = wheel[0][index];
+        wheel[0][index] = null;
+        while (task != null) {
+            TickTask next = task.next;
+            task.prev = task.next = null;
+            task.level = TickTask.FIRING;
+            firing.add(task);
+            task = next;
+        }
+        for (int i = 0; i < firing.size(); i++) {
+            fire(firing.get(i));
+        }
+        firing.clear();
+
+        ticksRun++;
+        tickNanos += System.nanoTime() - start;
+        if (size == 0) stopDriver();
+    }
+
+    private void fire(TickTask task) {
+        if (task.isCancelled()) return;
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } catch (Throwable ex) {
+            CashClashPlugin.getInstance().getLogger().log(Level.WARNING,
+                    "Tick task " + task.name + " in " + name + " threw an exception", ex);
+        }
+        TickProfiler.get().record(TickProfiler.Category.TASK, task.name, name, System.nanoTime() - start);
+
+        if (task.isCancelled()) return;
+        if (task.period > 0) {
+            task.deadline = tick + task.period;
+            insert(task);
+        } else {
+            task.level = TickTask.UNLINKED;
+            size--;
+            task.markDone();
+        }
+    }
+
+    /** Called by {@link TickTask#cancel()}. */
+    void remove(TickTask task) {
+        if (task.level >= 0) {
+            unlink(task);
+        } else if (task.level != TickTask.FIRING) {
+            return;
+        }
+        task.level = TickTask.UNLINKED;
+        size--;
+    }
+
+    private void cascade(int level, int index) {
+        TickTask task = wheel[level][index];
+        wheel[level][index] = null;
+        while (task != null) {
+            TickTask next = task.next;
+            task.prev = task.next = null;
+            insert(task);
+            task = next;
+        }
+    }
+
+    /** Put a task in the finest level whose span still covers its remaining delay. */
+    private void insert(TickTask task) {
+        long delta = task.deadline - tick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << ((level + 1) * SLOT_BITS))) level++;
+        int index = (int) (task.deadline >>> (level * SLOT_BITS)) & SLOT_MASK;
+
+        TickTask head = wheel[level][index];
+        task.next = head;
+        task.prev = null;
+        if (head != null) head.prev = task;
+        wheel[level][index] = task;
+        task.level = level;
+        task.slot = index;
+    }
+
+    private void unlink(TickTask task) {
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            wheel[task.level][task.slot] = task.next;
+        }
+        if (task.next != null) task.next.prev = task.prev;
+        task.prev = task.next = null;
+    }
+
+    private void stopDriver() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+}
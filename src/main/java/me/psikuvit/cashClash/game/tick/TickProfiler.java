@@ -0,0 +1,424 @@
+package me.psikuvit.cashClash.game.tick;
+
+import me.psikuvit.cashClash.CashClashPlugin;
+import me.psikuvit.cashClash.game.GameSession;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityEvent;
+import org.bukkit.event.inventory.InventoryEvent;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Wall-time profiler for the work a game puts on the main thread: event listener methods,
+ * tick engine tasks and custom item uses, each tagged with the session it ran for
+ * ({@code arena-N}, {@code lobby} for players outside a game, {@code global} otherwise).
+ * <p>
+ * Every probe keeps, per session, a ring of one-second slots holding the call count, total and
+ * max time and a log2 histogram of durations. That is enough to rank the top offenders over the
+ * last N seconds ({@link #top(int, String)}) and to dump the raw per-second data for offline
+ * analysis ({@link #dump(int, File)}). While disabled, every entry point costs one volatile read.
+ * <p>
+ * Samples are only taken on the main thread; async events and tasks run untimed.
+ */
+public final class TickProfiler {
+
+    private static final TickProfiler INSTANCE = new TickProfiler();
+
+    public static TickProfiler get() {
+        return INSTANCE;
+    }
+
+    /** Histogram buckets: bucket 0 is under 1us, bucket b under 2^b us, the last one the rest. */
+    public static final int BUCKETS = 16;
+
+    public static final String GLOBAL = "global";
+    public static final String LOBBY = "lobby";
+
+    public enum Category {
+        LISTENER, TASK, ITEM;
+
+        public String id() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private volatile boolean enabled;
+    private int historySeconds = 120;
+    private final Map<Category, Map<String, Probe>> probes = new EnumMap<>(Category.class);
+
+    private TickProfiler() {
+        for (Category category : Category.values()) probes.put(category, new HashMap<>());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getHistorySeconds() {
+        return historySeconds;
+    }
+
+    /** Resizes every existing window right away, keeping the seconds that still fit. */
+    public void setHistorySeconds(int historySeconds) {
+        int seconds = Math.max(1, historySeconds);
+        if (seconds == this.historySeconds) return;
+        this.historySeconds = seconds;
+        for (Map<String, Probe> byName : probes.values()) {
+            for (Probe probe : byName.values()) probe.windows.replaceAll((tag, window) -> window.resize(seconds + 1));
+        }
+    }
+
+    /** Drop everything recorded so far. */
+    public void reset() {
+        for (Map<String, Probe> byName : probes.values()) byName.clear();
+    }
+
+    // ==================== RECORDING ====================
+
+    /** @return a start timestamp for {@link #stopItem}, or 0 while disabled */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /** Time a custom item use started with {@link #start()}, keyed by the item, e.g. {@code "ice-fan.use"}. */
+    public void stopItem(long start, Enum<?> item, Player player) {
+        if (start == 0L) return;
+        record(Category.ITEM, item.name().toLowerCase(Locale.ROOT).replace('_', '-') + ".use",
+                sessionOf(player), System.nanoTime() - start);
+    }
+
+    /** Record one sample. Ignored while disabled and off the main thread. */
+    public void record(Category category, String name, String session, long nanos) {
+        if (!enabled || !Bukkit.isPrimaryThread()) return;
+        probes.get(category)
+                .computeIfAbsent(name, n -> new Probe(category, n))
+                .window(session, historySeconds)
+                .add(System.nanoTime() / 1_000_000_000L, nanos);
+    }
+
+    /** Wrap a global repeating task so it is timed under {@code name} while profiling is on. */
+    public Runnable wrap(String name, Runnable task) {
+        return () -> {
+            if (!enabled) {
+                task.run();
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                record(Category.TASK, name, GLOBAL, System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Register every {@link EventHandler} of {@code listener} like
+     * {@code PluginManager#registerEvents}, with each method timed as {@code Class.method}.
+     */
+    @SuppressWarnings("unchecked")
+    public void registerEvents(Listener listener, Plugin plugin) {
+        Set<Method> methods = new LinkedHashSet<>(List.of(listener.getClass().getMethods()));
+        methods.addAll(List.of(listener.getClass().getDeclaredMethods()));
+
+        for (Method method : methods) {
+            EventHandler handler = method.getAnnotation(EventHandler.class);
+            if (handler == null || method.isBridge() || method.isSynthetic()) continue;
+            if (method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                plugin.getLogger().severe(listener.getClass().getSimpleName() + "." + method.getName()
+                        + " is not a valid event handler");
+                continue;
+            }
+
+            Class<? extends Event> eventClass = (Class<? extends Event>) method.getParameterTypes()[0];
+            method.setAccessible(true);
+            EventExecutor delegate = EventExecutor.create(method, eventClass);
+            String name = listener.getClass().getSimpleName() + "." + method.getName();
+
+            EventExecutor timed = (l, event) -> {
+                if (!enabled) {
+                    delegate.execute(l, event);
+                    return;
+                }
+                long start = System.nanoTime();
+                try {
+                    delegate.execute(l, event);
+                } finally {
+                    record(Category.LISTENER, name, sessionOf(event), System.nanoTime() - start);
+                }
+            };
+            plugin.getServer().getPluginManager().registerEvent(eventClass, listener, handler.priority(),
+                    timed, plugin, handler.ignoreCancelled());
+        }
+    }
+
+    /** The session tag for work done on behalf of {@code player}. */
+    public static String sessionOf(Player player) {
+        if (player == null) return GLOBAL;
+        GameSession session = CashClashPlugin.getInstance().getGameManager().getPlayerSession(player);
+        return session != null ? session.getTickEngine().getName() : LOBBY;
+    }
+
+    private static String sessionOf(Event event) {
+        Player player = null;
+        if (event instanceof PlayerEvent e) {
+            player = e.getPlayer();
+        } else if (event instanceof EntityDamageByEntityEvent e) {
+            player = asPlayer(e.getDamager());
+            if (player == null) player = asPlayer(e.getEntity());
+        } else if (event instanceof EntityEvent e) {
+            player = asPlayer(e.getEntity());
+        } else if (event instanceof InventoryEvent e) {
+            player = asPlayer(e.getView().getPlayer());
+        } else if (event instanceof BlockBreakEvent e) {
+            player = e.getPlayer();
+        } else if (event instanceof BlockPlaceEvent e) {
+            player = e.getPlayer();
+        }
+        return sessionOf(player);
+    }
+
+    private static Player asPlayer(Entity entity) {
+        if (entity instanceof Player player) return player;
+        if (entity instanceof Projectile projectile && projectile.getShooter() instanceof Player shooter) return shooter;
+        return null;
+    }
+
+    // ==================== REPORTING ====================
+
+    /**
+     * Totals per probe and session over the last {@code seconds} seconds (the current one
+     * included), the most expensive first.
+     *
+     * @param session only this session, or null for all of them
+     */
+    public List<Entry> top(int seconds, String session) {
+        long now = System.nanoTime() / 1_000_000_000L;
+        List<Entry> entries = new ArrayList<>();
+        for (Map<String, Probe> byName : probes.values()) {
+            for (Probe probe : byName.values()) {
+                probe.windows.forEach((tag, window) -> {
+                    if (session != null && !session.equals(tag)) return;
+                    Entry entry = window.sum(probe, tag, now - seconds + 1, now);
+                    if (entry.calls() > 0) entries.add(entry);
+                });
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::totalNanos).reversed());
+        return entries;
+    }
+
+    /** Every session tag seen so far. */
+    public Set<String> getSessions() {
+        Set<String> sessions = new TreeSet<>();
+        for (Map<String, Probe> byName : probes.values()) {
+            for (Probe probe : byName.values()) sessions.addAll(probe.windows.keySet());
+        }
+        return sessions;
+    }
+
+    /**
+     * Snapshot the last {@code seconds} seconds as one CSV row per probe, session and second,
+     * histogram included. Call on the main thread; the returned dump can be written from any.
+     */
+    public Dump dump(int seconds, File file) {
+        long now = System.nanoTime() / 1_000_000_000L;
+        long epochNow = System.currentTimeMillis() / 1000L;
+        List<String> rows = new ArrayList<>();
+        for (Map<String, Probe> byName : probes.values()) {
+            for (Probe probe : byName.values()) {
+                probe.windows.forEach((tag, window) -> window.rows(probe, tag, now - seconds + 1, now, epochNow - now, rows));
+            }
+        }
+        return new Dump(file, rows);
+    }
+
+    /** Upper bound of histogram bucket {@code b} in microseconds (bucket 0 is under 1us). */
+    public static long bucketMicros(int b) {
+        return 1L << b;
+    }
+
+    private static int bucket(long nanos) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos / 1000));
+    }
+
+    /** One named thing being timed, e.g. {@code DamageListener.onDamage}. */
+    private static final class Probe {
+
+        private final Category category;
+        private final String name;
+        private final Map<String, Window> windows = new HashMap<>();
+
+        Probe(Category category, String name) {
+            this.category = category;
+            this.name = name;
+        }
+
+        Window window(String session, int historySeconds) {
+            return windows.computeIfAbsent(session, s -> new Window(historySeconds + 1));
+        }
+    }
+
+    /** Ring of one-second slots; a slot is cleared when it comes round to a new second. */
+    private static final class Window {
+
+        private final long[] second;
+        private final long[] calls;
+        private final long[] total;
+        private final long[] max;
+        private final int[] histogram;
+
+        Window(int slots) {
+            second = new long[slots];
+            calls = new long[slots];
+            total = new long[slots];
+            max = new long[slots];
+            histogram = new int[slots * BUCKETS];
+            Arrays.fill(second, Long.MIN_VALUE);
+        }
+
+        /** A copy with {@code slots} slots holding the newest seconds of this one that fit. */
+        Window resize(int slots) {
+            Window resized = new Window(slots);
+            for (int slot = 0; slot < second.length; slot++) {
+                long now = second[slot];
+                if (now == Long.MIN_VALUE) continue;
+                int to = (int) Math.floorMod(now, (long) slots);
+                if (resized.second[to] >= now) continue;
+                resized.second[to] = now;
+                resized.calls[to] = calls[slot];
+                resized.total[to] = total[slot];
+                resized.max[to] = max[slot];
+                System.arraycopy(histogram, slot * BUCKETS, resized.histogram, to * BUCKETS, BUCKETS);
+            }
+            return resized;
+        }
+
+        void add(long now, long nanos) {
+            int slot = (int) Math.floorMod(now, (long) second.length);
+            if (second[slot] != now) {
+                second[slot] = now;
+                calls[slot] = 0;
+                total[slot] = 0;
+                max[slot] = 0;
+                Arrays.fill(histogram, slot * BUCKETS, (slot + 1) * BUCKETS, 0);
+            }
+            calls[slot]++;
+            total[slot] += nanos;
+            if (nanos > max[slot]) max[slot] = nanos;
+            histogram[slot * BUCKETS + bucket(nanos)]++;
+        }
+
+        Entry sum(Probe probe, String session, long from, long to) {
+            long c = 0, t = 0, m = 0;
+            long[] h = new long[BUCKETS];
+            for (int slot = 0; slot < second.length; slot++) {
+                if (second[slot] < from || second[slot] > to) continue;
+                c += calls[slot];
+                t += total[slot];
+                m = Math.max(m, max[slot]);
+                for (int b = 0; b < BUCKETS; b++) h[b] += histogram[slot * BUCKETS + b];
+            }
+            return new Entry(probe.category, probe.name, session, c, t, m, h);
+        }
+
+        void rows(Probe probe, String session, long from, long to, long epochOffset, List<String> rows) {
+            for (int slot = 0; slot < second.length; slot++) {
+                if (second[slot] < from || second[slot] > to || calls[slot] == 0) continue;
+                StringBuilder row = new StringBuilder()
+                        .append(second[slot] + epochOffset).append(',')
+                        .append(session).append(',')
+                        .append(probe.category.id()).append(',')
+                        .append(probe.name).append(',')
+                        .append(calls[slot]).append(',')
+                        .append(total[slot] / 1000).append(',')
+                        .append(max[slot] / 1000);
+                for (int b = 0; b < BUCKETS; b++) row.append(',').append(histogram[slot * BUCKETS + b]);
+                rows.add(row.toString());
+            }
+        }
+    }
+
+    /**
+     * Totals of one probe in one session.
+     *
+     * @param histogram call counts per bucket, see {@link #bucketMicros(int)}
+     */
+    public record Entry(Category category, String name, String session, long calls, long totalNanos,
+                        long maxNanos, long[] histogram) {
+
+        public double averageMicros() {
+            return calls == 0 ? 0 : totalNanos / 1000.0 / calls;
+        }
+
+        /**
+         * Upper bound of the bucket holding the {@code p}th percentile, capped at the max.
+         */
+        public double percentileMicros(double p) {
+            long rank = (long) Math.ceil(p / 100.0 * calls);
+            long seen = 0;
+            for (int b = 0; b < BUCKETS - 1; b++) {
+                seen += histogram[b];
+                if (seen >= rank) return Math.min(bucketMicros(b), maxNanos / 1000.0);
+            }
+            return maxNanos / 1000.0;
+        }
+
+        /** Average main-thread time per tick this entry cost over {@code seconds} seconds. */
+        public double millisPerTick(int seconds) {
+            return totalNanos / 1_000_000.0 / (seconds * 20.0);
+        }
+    }
+
+    /** CSV snapshot taken by {@link #dump(int, File)}, ready to be written off the main thread. */
+    public record Dump(File file, List<String> rows) {
+
+        public void write() throws IOException {
+            File parent = file.getParentFile();
+            if (parent != null) parent.mkdirs();
+            try (BufferedWriter out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+                StringBuilder header = new StringBuilder("epoch_second,session,category,name,calls,total_us,max_us");
+                for (int b = 0; b < BUCKETS - 1; b++) header.append(",lt_").append(bucketMicros(b)).append("us");
+                header.append(",ge_").append(bucketMicros(BUCKETS - 2)).append("us");
+                out.write(header.toString());
+                out.newLine();
+                for (String row : rows) {
+                    out.write(row);
+                    out.newLine();
+                }
+            }
+        }
+    }
+}
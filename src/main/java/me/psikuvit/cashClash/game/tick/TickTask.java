@@ -0,0 +1,72 @@
+package me.psikuvit.cashClash.game.tick;
+
+/**
+ * A unit of work driven by a {@link TickEngine}, and the handle used to cancel it.
+ * <p>
+ * Mirrors {@link org.bukkit.scheduler.BukkitRunnable}: subclass it and call {@link #cancel()}
+ * from inside {@link #run()} to stop a repeating task, or keep the instance returned by
+ * {@link TickEngine#schedule} and cancel it from outside. A task can be scheduled once.
+ * Everything here runs on the main thread.
+ */
+public abstract class TickTask {
+
+    // Wheel bookkeeping, owned by TickEngine
+    TickEngine engine;
+    TickTask prev;
+    TickTask next;
+    int level = UNLINKED;
+    int slot;
+    long deadline;
+    long period;
+    String name;
+
+    static final int UNLINKED = -1;
+    static final int FIRING = -2;
+
+    private boolean cancelled;
+
+    public abstract void run();
+
+    /**
+     * Stop this task. Safe to call more than once, from inside {@link #run()}, or before the
+     * task was ever scheduled (it then never runs).
+     */
+    public final void cancel() {
+        if (cancelled) return;
+        cancelled = true;
+        if (engine != null) engine.remove(this);
+    }
+
+    /**
+     * @return true once the task was cancelled, its session's engine shut down, or - for a
+     *         one-shot task - after it ran
+     */
+    public final boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Marks the task finished without going through the engine, which already unlinked it. */
+    final void markDone() {
+        cancelled = true;
+    }
+
+    /** The name the task was scheduled under, or null before it is scheduled. */
+    public final String getName() {
+        return name;
+    }
+
+    /** Adapter for the lambda overloads of {@link TickEngine#schedule}. */
+    static final class Wrapped extends TickTask {
+
+        private final Runnable runnable;
+
+        Wrapped(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            runnable.run();
+        }
+    }
+}
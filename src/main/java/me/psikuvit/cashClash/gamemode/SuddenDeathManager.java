@@ -1,13 +1,12 @@
 package me.psikuvit.cashClash.gamemode;
 
 import me.psikuvit.cashClash.game.GameSession;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.util.Messages;
-import me.psikuvit.cashClash.util.SchedulerUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -39,8 +38,8 @@ public class SuddenDeathManager {
     private int cycleNumber;
     private long cycleDurationMs;
     private long cycleEndsAtMs;
-    private BukkitTask cycleTask;
-    private final BukkitTask heartExpiryTask;
+    private TickTask cycleTask;
+    private final TickTask heartExpiryTask;
     public SuddenDeathManager(GameSession session, Gamemode gamemode) {
         this(session, gamemode, DEFAULT_INITIAL_CYCLE_MS, DEFAULT_REPEAT_CYCLE_MS);
     }
@@ -57,7 +56,7 @@ public class SuddenDeathManager {
         this.cycleDurationMs = 0L;
         this.cycleEndsAtMs = 0L;
         this.extraHeartExpiry = new HashMap<>();
-        this.heartExpiryTask = SchedulerUtils.runTaskTimer(this::removeExpiredHearts, 20L, 20L);
+        this.heartExpiryTask = session.getTickEngine().schedule("sudden-death.heart-expiry", this::removeExpiredHearts, 20L, 20L);
         this.cycleTask = null;
     }
 
@@ -73,7 +72,7 @@ public class SuddenDeathManager {
         Messages.debug("[SuddenDeathManager] Entering sudden death mode");
         // Schedule periodic tick to advance sudden-death cycles automatically every second
         if (cycleTask == null) {
-            cycleTask = SchedulerUtils.runTaskTimer(() -> {
+            cycleTask = session.getTickEngine().schedule("sudden-death.cycle", () -> {
                 try {
                     CycleTickResult res = tickSuddenDeathCycle();
                     if (res == CycleTickResult.RESOLVED || res == CycleTickResult.INACTIVE) {
@@ -273,7 +272,7 @@ public class SuddenDeathManager {
     /**
      * Cancel a task if it exists
      */
-    private void cancelTask(BukkitTask task) {
+    private void cancelTask(TickTask task) {
         if (task != null && !task.isCancelled()) {
             task.cancel();
         }
@@ -5,7 +5,9 @@ import me.psikuvit.cashClash.CashClashPlugin;
 import me.psikuvit.cashClash.arena.TemplateWorld;
 import me.psikuvit.cashClash.config.ConfigManager;
 import me.psikuvit.cashClash.game.GameSession;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.player.ScoreboardManager;
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderEvent;
 import me.psikuvit.cashClash.gamemode.FinalStandManager;
 import me.psikuvit.cashClash.gamemode.Gamemode;
 import me.psikuvit.cashClash.gamemode.GamemodeType;
@@ -64,9 +66,9 @@ public class CaptureTheFlagGamemode extends Gamemode {
 
       private final SuddenDeathManager suddenDeathManager;
       private final FinalStandManager finalStandManager;
-      private BukkitTask carrierGlowTask;
-      private BukkitTask bannerRotationTask;
-      private BukkitTask flagPickupTask;
+      private TickTask carrierGlowTask;
+      private TickTask bannerRotationTask;
+      private TickTask flagPickupTask;
       private int suddenDeathWinningTeam;
 
     public CaptureTheFlagGamemode(GameSession session) {
@@ -340,6 +342,7 @@ public class CaptureTheFlagGamemode extends Gamemode {
              SchedulerUtils.runTaskLater(() -> updateSilencedItemDisplay(player), 1);
          }
          moveBannerToPlayer(updatedFlag.bannerDisplay(), player);
+         flagsChanged();
 
          if (pickedUpFromBase) {
              TimerDisplayUtils.startBonusTimer(player, updatedFlag);
@@ -362,6 +365,7 @@ public class CaptureTheFlagGamemode extends Gamemode {
         }
         int captures = flagCaptures.get(teamColor);
         int targetCaptures = WIN_CONDITION;
+        flagsChanged();
 
         // Investor's Set: reward the capturing player's team on objective completion
         session.getRewardManager().grantKillOrObjective(player, RewardType.OBJECTIVE_CTF_CAPTURE, 0);
@@ -532,11 +536,17 @@ public class CaptureTheFlagGamemode extends Gamemode {
         }
     }
 
+    private void cancelTask(TickTask task) {
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
     /**
      * Start task to show glowing effect on flag carriers every 5 seconds
      */
     private void startCarrierGlowEffect() {
-        carrierGlowTask = FlagEffectsUtils.startCarrierGlowEffectTask(() -> flagStates);
+        carrierGlowTask = FlagEffectsUtils.startCarrierGlowEffectTask(session.getTickEngine(), () -> flagStates);
     }
 
     /**
@@ -617,7 +627,7 @@ public class CaptureTheFlagGamemode extends Gamemode {
      * Players must stand in the circle for 3 seconds to pick up the flag
      */
     private void startFlagPickupTask() {
-        flagPickupTask = SchedulerUtils.runTaskTimer(this::checkFlagPickupProgress, 0, 5); // Check every 5 ticks
+        flagPickupTask = session.getTickEngine().schedule("ctf.flag-pickup", this::checkFlagPickupProgress, 0, 5); // Check every 5 ticks
     }
 
     /**
@@ -719,8 +729,16 @@ public class CaptureTheFlagGamemode extends Gamemode {
          if (returnedFlag != null) {
              moveBannerBack(returnedFlag.bannerDisplay(), returnedFlag.getFlagLoc());
          }
+         flagsChanged();
      }
 
+    /**
+     * Flag holders or captures changed - refresh the flag lines of the scoreboards.
+     */
+    private void flagsChanged() {
+        CashClashPlugin.getInstance().getScoreboardManager().invalidate(session, PlaceholderEvent.FLAG);
+    }
+
     private void cancelFlagReturnTask(int teamNumber) {
         TeamColor color = TeamColor.fromTeamNumber(teamNumber);
         BukkitTask task = flagReturnTasks.remove(color);
@@ -954,6 +972,7 @@ public class CaptureTheFlagGamemode extends Gamemode {
 
          moveBannerBack(flag.bannerDisplay(), droppedFlag.getFlagLoc());
          scheduleFlagReturnTimer(teamNumber);
+         flagsChanged();
      }
 
     @Override
@@ -1050,7 +1069,7 @@ public class CaptureTheFlagGamemode extends Gamemode {
         final TeamColor finalTeamColor = teamColor;
 
         // Create carrying task and store it
-        BukkitTask task = FlagBannerUtils.createCarryingTask(banner, player, () -> {
+        TickTask task = FlagBannerUtils.createCarryingTask(session.getTickEngine(), banner, player, () -> {
             FlagState current = flagStates.get(finalTeamColor);
             if (current != null && current.carryingTask() != null) {
                 flagStates.put(finalTeamColor, current.withCarryingTask(null));
@@ -1086,7 +1105,7 @@ public class CaptureTheFlagGamemode extends Gamemode {
       * Start task to rotate banners
       */
      private void startBannerRotationTask() {
-         bannerRotationTask = SchedulerUtils.runTaskTimer(this::updateBannerRotations, 0, 1);
+         bannerRotationTask = session.getTickEngine().schedule("ctf.banner-rotation", this::updateBannerRotations, 0, 1);
      }
 
       /**
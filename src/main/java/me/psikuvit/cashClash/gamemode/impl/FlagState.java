@@ -1,8 +1,8 @@
 package me.psikuvit.cashClash.gamemode.impl;
 
+import me.psikuvit.cashClash.game.tick.TickTask;
 import org.bukkit.Location;
 import org.bukkit.entity.BlockDisplay;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.UUID;
 
@@ -17,7 +17,7 @@ public record FlagState(
         Location flagLoc,
         BlockDisplay bannerDisplay,
         double bannerAngle,
-        BukkitTask carryingTask,
+        TickTask carryingTask,
         double carryingAngle,
         long dropTime,
         int pickupDurationSeconds
@@ -67,7 +67,7 @@ public record FlagState(
     /**
      * Create a flag state with carrying task
      */
-    public FlagState withCarryingTask(BukkitTask task) {
+    public FlagState withCarryingTask(TickTask task) {
         return new FlagState(this.holder, this.captureTime, this.flagLoc, this.bannerDisplay, this.bannerAngle, task, this.carryingAngle, this.dropTime, this.pickupDurationSeconds);
     }
 
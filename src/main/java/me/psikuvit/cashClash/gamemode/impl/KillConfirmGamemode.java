@@ -5,15 +5,16 @@ import me.psikuvit.cashClash.CashClashPlugin;
 import me.psikuvit.cashClash.config.ConfigManager;
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.gamemode.FinalStandManager;
 import me.psikuvit.cashClash.gamemode.Gamemode;
 import me.psikuvit.cashClash.gamemode.GamemodeType;
 import me.psikuvit.cashClash.gamemode.SuddenDeathManager;
 import me.psikuvit.cashClash.manager.player.ScoreboardManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderEvent;
 import me.psikuvit.cashClash.util.ActionBarQueue;
 import me.psikuvit.cashClash.util.Messages;
-import me.psikuvit.cashClash.util.SchedulerUtils;
 import me.psikuvit.cashClash.util.effects.SoundUtils;
 import me.psikuvit.cashClash.util.enums.RewardType;
 import me.psikuvit.cashClash.util.enums.TeamColor;
@@ -23,7 +24,6 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
@@ -59,7 +59,7 @@ public class KillConfirmGamemode extends Gamemode {
 
     private final SuddenDeathManager suddenDeathManager;
     private final FinalStandManager finalStandManager;
-    private BukkitTask zoneTickTask;
+    private TickTask zoneTickTask;
     private int suddenDeathWinningTeam;
 
     public KillConfirmGamemode(GameSession session) {
@@ -109,7 +109,7 @@ public class KillConfirmGamemode extends Gamemode {
             Messages.debug("[KC] Sudden death cycle started - score counters reset");
         }
 
-        zoneTickTask = SchedulerUtils.runTaskTimer(this::tickCaptureZones, 0, 5);
+        zoneTickTask = session.getTickEngine().schedule("kc.zone-tick", this::tickCaptureZones, 0, 5);
     }
 
     @Override
@@ -125,6 +125,7 @@ public class KillConfirmGamemode extends Gamemode {
         suddenDeathCycleScore.put(TeamColor.RED, 0);
         suddenDeathCycleScore.put(TeamColor.BLUE, 0);
         suddenDeathWinningTeam = 0;
+        scoresChanged();
     }
 
     @Override
@@ -312,7 +313,14 @@ public class KillConfirmGamemode extends Gamemode {
 
     // ========= PRIVATE HELPERS =========
 
-    private void cancelTask(BukkitTask task) {
+    /**
+     * Team scores changed - refresh the score lines of the scoreboards.
+     */
+    private void scoresChanged() {
+        CashClashPlugin.getInstance().getScoreboardManager().invalidate(session, PlaceholderEvent.KC_SCORE);
+    }
+
+    private void cancelTask(TickTask task) {
         if (task != null) {
             task.cancel();
         }
@@ -321,6 +329,7 @@ public class KillConfirmGamemode extends Gamemode {
     private void awardKillPoint(int team) {
         TeamColor color = TeamColor.fromTeamNumber(team);
         teamScore.merge(color, 1, Integer::sum);
+        scoresChanged();
         if (suddenDeathManager.isInSuddenDeath()) {
             suddenDeathCycleScore.merge(color, 1, Integer::sum);
         }
@@ -498,6 +507,7 @@ public class KillConfirmGamemode extends Gamemode {
 
         if (zone.getKind() == KCZone.ZoneKind.NAMETAG) {
             teamScore.merge(color, 1, Integer::sum);
+            scoresChanged();
             if (suddenDeathManager.isInSuddenDeath()) {
                 suddenDeathCycleScore.merge(color, 1, Integer::sum);
             }
@@ -5,6 +5,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 import me.psikuvit.cashClash.config.ConfigManager;
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.gamemode.FinalStandManager;
 import me.psikuvit.cashClash.gamemode.Gamemode;
 import me.psikuvit.cashClash.gamemode.GamemodeType;
@@ -56,7 +57,7 @@ public class ProtectThePresidentGamemode extends Gamemode {
     private final FinalStandManager finalStandManager;
     private boolean selectionPhaseActive;
     private boolean buffSelectionFinalized;
-    private BukkitTask selectionTask;
+    private TickTask selectionTask;
     private int selectionTimeRemaining;
     private int suddenDeathWinningTeam;
     private PTPFinalStandUtils.BorderSnapshot preFinalStandBorderSnapshot;
@@ -343,6 +344,12 @@ public class ProtectThePresidentGamemode extends Gamemode {
         }
     }
 
+    private void cancelTask(TickTask task) {
+        if (task != null && !task.isCancelled()) {
+            task.cancel();
+        }
+    }
+
     private void schedulePresidentGlow(int team, Player player) {
         TeamColor color = TeamColor.fromTeamNumber(team);
         // Cancel existing task for this team if any
@@ -470,7 +477,7 @@ public class ProtectThePresidentGamemode extends Gamemode {
             Messages.debug("[PTP] ERROR: One or both presidents are null!");
         }
 
-        selectionTask = SchedulerUtils.runTaskTimer(this::updateSelectionCountdown, 0, 20);
+        selectionTask = session.getTickEngine().schedule("ptp.selection-countdown", this::updateSelectionCountdown, 0, 20);
     }
     
     private void updateSelectionCountdown() {
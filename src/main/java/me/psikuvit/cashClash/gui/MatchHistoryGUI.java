@@ -0,0 +1,120 @@
+package me.psikuvit.cashClash.gui;
+
+import me.psikuvit.cashClash.CashClashPlugin;
+import me.psikuvit.cashClash.gui.builder.AbstractGui;
+import me.psikuvit.cashClash.gui.builder.GuiButton;
+import me.psikuvit.cashClash.storage.MatchSummary;
+import me.psikuvit.cashClash.util.Messages;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * GUI listing a player's most recent matches, newest first.
+ * Each page is one keyset query for exactly the rows shown, loaded off the main thread; the
+ * GUI opens once it arrives.
+ */
+public class MatchHistoryGUI extends AbstractGui {
+
+    private static final String GUI_ID = "match_history";
+    private static final int PAGE_SIZE = 20;
+    private static final int[] MATCH_SLOTS = {
+            11, 12, 13, 14, 15,
+            20, 21, 22, 23, 24,
+            29, 30, 31, 32, 33,
+            38, 39, 40, 41, 42
+    };
+
+    private final UUID target;
+    private final String targetName;
+    private final List<MatchSummary.Cursor> previous;
+    private final MatchSummary.Cursor cursor;
+    private final List<MatchSummary> page;
+
+    private MatchHistoryGUI(Player viewer, UUID target, String targetName, List<MatchSummary.Cursor> previous,
+                            MatchSummary.Cursor cursor, List<MatchSummary> rows) {
+        super(GUI_ID, viewer);
+        this.target = target;
+        this.targetName = targetName;
+        this.previous = previous;
+        this.cursor = cursor;
+        this.page = rows;
+        setTitle("<gold><bold>" + targetName + "'s Matches</bold></gold>");
+        setRows(6);
+        setFillMaterial(Material.GRAY_STAINED_GLASS_PANE);
+    }
+
+    /**
+     * Load the first page of {@code target}'s history and open it for {@code viewer}.
+     */
+    public static void openMatchHistory(Player viewer, UUID target, String targetName, AbstractGui parent) {
+        openPage(viewer, target, targetName, new ArrayList<>(), MatchSummary.Cursor.FIRST, parent);
+    }
+
+    private static void openPage(Player viewer, UUID target, String targetName, List<MatchSummary.Cursor> previous,
+                                 MatchSummary.Cursor cursor, AbstractGui parent) {
+        CashClashPlugin.getInstance().getMatchHistoryManager().loadRecentMatches(target, cursor, PAGE_SIZE, rows -> {
+            if (!viewer.isOnline()) return;
+            MatchHistoryGUI gui = new MatchHistoryGUI(viewer, target, targetName, previous, cursor, rows);
+            gui.setParentGui(parent);
+            gui.open();
+        });
+    }
+
+    @Override
+    protected void build() {
+        if (page.isEmpty()) {
+            String text = previous.isEmpty() ? "No matches recorded yet" : "No older matches";
+            setButton(22, GuiButton.of(Material.PAPER, Messages.parse("<gray>" + text + "</gray>")));
+        }
+        for (int i = 0; i < page.size(); i++) {
+            setButton(MATCH_SLOTS[i], createMatchButton(page.get(i)));
+        }
+
+        if (!previous.isEmpty()) {
+            setButton(48, GuiButton.of(Material.ARROW, Messages.parse("<yellow>Previous Page</yellow>")).onClick(p -> {
+                List<MatchSummary.Cursor> back = new ArrayList<>(previous);
+                MatchSummary.Cursor before = back.removeLast();
+                openPage(p, target, targetName, back, before, parentGui);
+            }));
+        }
+        // A full page may have more after it; a page that comes back empty says so
+        if (page.size() == PAGE_SIZE) {
+            setButton(50, GuiButton.of(Material.ARROW, Messages.parse("<yellow>Next Page</yellow>")).onClick(p -> {
+                List<MatchSummary.Cursor> back = new ArrayList<>(previous);
+                back.add(cursor);
+                openPage(p, target, targetName, back, page.getLast().cursor(), parentGui);
+            }));
+        }
+
+        setBackButton(45);
+        setCloseButton(49);
+    }
+
+    private GuiButton createMatchButton(MatchSummary match) {
+        String result = match.won() ? "<green><bold>Victory</bold></green>" : "<red><bold>Defeat</bold></red>";
+        String mode = match.gamemode() == null ? "Unknown" : match.gamemode();
+
+        List<Component> lore = new ArrayList<>();
+        lore.add(Messages.parse("<gray>" + new SimpleDateFormat("yyyy-MM-dd HH:mm").format(new Date(match.endedAt())) + "</gray>"));
+        lore.add(Component.empty());
+        lore.add(Messages.parse("<gray>Mode: <white>" + mode + "</white></gray>"));
+        lore.add(Messages.parse("<gray>Arena: <white>" + match.arena() + "</white></gray>"));
+        lore.add(Messages.parse("<gray>Rounds: <white>" + match.teamRounds() + " - " + match.enemyRounds() + "</white></gray>"));
+        lore.add(Component.empty());
+        lore.add(Messages.parse("<gray>Kills: <white>" + match.kills() + "</white></gray>"));
+        lore.add(Messages.parse("<gray>Deaths: <white>" + match.deaths() + "</white></gray>"));
+        lore.add(Messages.parse("<gray>Damage: <white>" + String.format("%.1f", match.damage()) + "</white></gray>"));
+        lore.add(Messages.parse("<gray>First Bloods: <white>" + match.firstBloods() + "</white></gray>"));
+        lore.add(Messages.parse("<gray>Round MVPs: <white>" + match.mvps() + "</white></gray>"));
+
+        Material icon = match.won() ? Material.LIME_CONCRETE : Material.RED_CONCRETE;
+        return GuiButton.of(icon, Messages.parse(result), lore);
+    }
+}
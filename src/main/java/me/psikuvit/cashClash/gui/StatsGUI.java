@@ -7,9 +7,11 @@ import me.psikuvit.cashClash.gui.builder.GuiButton;
 import me.psikuvit.cashClash.manager.player.PlayerDataManager;
 import me.psikuvit.cashClash.storage.PlayerData;
 import me.psikuvit.cashClash.util.Messages;
+import me.psikuvit.cashClash.util.SchedulerUtils;
 import me.psikuvit.cashClash.util.items.ItemFactory;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
@@ -20,17 +22,28 @@ import java.util.List;
  * GUI for displaying player statistics.
  * Fetches data from the database via PlayerDataManager.
  * Extends AbstractGui for consistent GUI implementation.
+ * <p>
+ * Online players' stats are shown straight away. An offline player's profile is loaded
+ * asynchronously into the offline profile cache; until it arrives the stat slots show a
+ * loading placeholder, which is swapped for the real buttons in place.
  */
 public class StatsGUI extends AbstractGui {
 
     private static final String GUI_ID = "player_stats";
-    private final Player target;
-    private final PlayerData data;
+    private static final int[] STAT_SLOTS = {19, 20, 21, 23, 24, 25, 30, 31, 32};
 
-    public StatsGUI(Player viewer, Player target) {
+    private final OfflinePlayer target;
+    private final String targetName;
+    private PlayerData data;
+
+    public StatsGUI(Player viewer, OfflinePlayer target) {
         super(GUI_ID, viewer);
         this.target = target;
-        this.data = CashClashPlugin.getInstance().getPlayerDataManager().getData(target.getUniqueId());
+        this.targetName = target.getName() != null ? target.getName() : target.getUniqueId().toString();
+        PlayerDataManager playerData = CashClashPlugin.getInstance().getPlayerDataManager();
+        this.data = target.isOnline()
+                ? playerData.getData(target.getUniqueId())
+                : playerData.getProfile(target.getUniqueId()).orElse(null);
         setTitle("<gold><bold>Player Statistics</bold></gold>");
         setRows(5);
         setFillMaterial(Material.GRAY_STAINED_GLASS_PANE);
@@ -46,12 +59,27 @@ public class StatsGUI extends AbstractGui {
     /**
      * Open the stats GUI showing another player's statistics.
      */
-    public static void openStatsGUI(Player viewer, Player target) {
-        new StatsGUI(viewer, target).open();
+    public static void openStatsGUI(Player viewer, OfflinePlayer target) {
+        StatsGUI gui = new StatsGUI(viewer, target);
+        gui.open();
+        if (gui.data == null) gui.loadProfile();
+    }
+
+    private void loadProfile() {
+        CashClashPlugin.getInstance().getPlayerDataManager().loadProfileAsync(target.getUniqueId())
+                .thenAccept(loaded -> SchedulerUtils.runTask(() -> {
+                    data = loaded;
+                    refresh();
+                }));
     }
 
     @Override
     protected void build() {
+        if (data == null) {
+            buildLoading();
+            return;
+        }
+
         // Player head with overview
         setButton(4, createOverviewButton());
 
@@ -60,6 +88,9 @@ public class StatsGUI extends AbstractGui {
         setButton(20, createDeathsButton());
         setButton(21, createKDRButton());
 
+        // Match history
+        setButton(22, createMatchHistoryButton());
+
         // Game stats section
         setButton(23, createWinsButton());
         setButton(24, createLossesButton());
@@ -74,9 +105,23 @@ public class StatsGUI extends AbstractGui {
         setCloseButton(40);
     }
 
+    private void buildLoading() {
+        ItemStack skull = CashClashPlugin.getInstance().getItemFactory().getGuiFactory().createPlayerHead(target,
+                "<gold><bold>" + targetName + "'s Stats</bold></gold>",
+                List.of("<gray>Loading stats...</gray>"));
+        setButton(4, GuiButton.of(skull));
+
+        GuiButton loading = GuiButton.of(Material.CLOCK, Messages.parse("<gray>Loading...</gray>"));
+        for (int slot : STAT_SLOTS) {
+            setButton(slot, loading);
+        }
+        setButton(22, createMatchHistoryButton());
+        setCloseButton(40);
+    }
+
     private GuiButton createOverviewButton() {
         ItemStack skull = CashClashPlugin.getInstance().getItemFactory().getGuiFactory().createPlayerHead(target,
-                "<gold><bold>" + target.getName() + "'s Stats</bold></gold>",
+                "<gold><bold>" + targetName + "'s Stats</bold></gold>",
                 List.of(
                         "<gray>Total Games: <white>" + (data.getWins() + data.getLosses()) + "</white></gray>",
                         "<gray>Win Rate: <white>" + calculateWinRate() + "%</white></gray>",
@@ -179,6 +224,18 @@ public class StatsGUI extends AbstractGui {
                 lore);
     }
 
+    private GuiButton createMatchHistoryButton() {
+        List<Component> lore = new ArrayList<>();
+        lore.add(Component.empty());
+        lore.add(Messages.parse("<gray>Results of your most</gray>"));
+        lore.add(Messages.parse("<gray>recent matches.</gray>"));
+        lore.add(Component.empty());
+        lore.add(Messages.parse("<yellow>Click to view!</yellow>"));
+
+        return GuiButton.of(Material.BOOK, Messages.parse("<aqua><bold>Recent Matches</bold></aqua>"), lore)
+                .onClick(p -> MatchHistoryGUI.openMatchHistory(p, target.getUniqueId(), targetName, this));
+    }
+
     // ==================== UTILITY METHODS ====================
 
     private String calculateKDR() {
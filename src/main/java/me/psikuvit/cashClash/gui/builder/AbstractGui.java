@@ -27,6 +27,7 @@ public abstract class AbstractGui {
     protected Material borderMaterial;
     protected boolean allowPlayerInventoryClick;
     protected AbstractGui parentGui;
+    private BuiltGui built;
 
     /**
      * Create a new GUI for a specific player.
@@ -204,7 +205,23 @@ public abstract class AbstractGui {
             builder.button(entry.getKey(), entry.getValue());
         }
 
-        builder.open(viewer);
+        built = builder.build();
+        built.open(viewer);
+    }
+
+    /**
+     * Rebuild this GUI's buttons and swap them into the inventory the viewer already has open,
+     * e.g. once data that was loading arrives. Unlike {@link #open()} this doesn't reopen the
+     * inventory, so the cursor stays put. Does nothing if the viewer has closed this GUI.
+     */
+    protected void refresh() {
+        if (built == null || viewer.getOpenInventory().getTopInventory() != built.inventory()) return;
+        buttons.clear();
+        build();
+        for (Map.Entry<Integer, GuiButton> entry : buttons.entrySet()) {
+            built.updateItem(entry.getKey(), entry.getValue());
+        }
+        built.refresh();
     }
 
     /**
@@ -419,7 +419,7 @@ public class DamageListener implements Listener {
         // Wind Charge Fall Damage Fix
         if (event.getCause() == EntityDamageEvent.DamageCause.FALL) {
             // Check if player recently used or was hit by a wind charge
-            if (plugin.getCooldownManager().getRemainingCooldownMs(player.getUniqueId(), "WIND_CHARGE_PROTECTION") > 0) {
+            if (plugin.getCooldownManager().getRemainingCooldownMs(player.getUniqueId(), CooldownManager.Keys.WIND_CHARGE_PROTECTION) > 0) {
                 event.setCancelled(true);
                 return;
             }
@@ -38,6 +38,7 @@ import me.psikuvit.cashClash.manager.player.BonusManager;
 import me.psikuvit.cashClash.manager.player.PlayerDataManager;
 import me.psikuvit.cashClash.manager.shop.ShopManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderEvent;
 import me.psikuvit.cashClash.shop.items.CustomItem;
 import me.psikuvit.cashClash.shop.items.FoodItem;
 import me.psikuvit.cashClash.shop.items.MythicItem;
@@ -164,6 +165,8 @@ public class GameListener implements Listener {
             if (gamemode != null) {
                 gamemode.onPlayerDeath(player, killer);
             }
+
+            plugin.getScoreboardManager().invalidate(session, PlaceholderEvent.KILL);
         }
 
         Location spectatorLocation = getSpectatorLocation(session);
@@ -928,6 +931,8 @@ public class GameListener implements Listener {
             session.getGamemode().onPlayerSpawn(player);
             // Apply team outlines when player respawns (Feature #7-8)
             applyTeamOutlines(player, session);
+            // Alive counts
+            plugin.getScoreboardManager().invalidate(session, PlaceholderEvent.KILL);
         }
     }
 
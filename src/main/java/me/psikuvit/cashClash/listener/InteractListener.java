@@ -6,6 +6,7 @@ import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.GameState;
 import me.psikuvit.cashClash.game.Team;
 import me.psikuvit.cashClash.game.round.RoundData;
+import me.psikuvit.cashClash.game.tick.TickProfiler;
 import me.psikuvit.cashClash.gamemode.impl.CaptureTheFlagGamemode;
 import me.psikuvit.cashClash.gamemode.impl.ProtectThePresidentGamemode;
 import me.psikuvit.cashClash.manager.game.GameManager;
@@ -78,6 +79,7 @@ public class InteractListener implements Listener {
     private final MythicItemManager mythicManager;
     private final CustomArmorManager armorManager;
     private final WeaponItemManager weaponItemManager;
+    private final TickProfiler profiler = TickProfiler.get();
 
     public InteractListener(CashClashPlugin plugin) {
         this.plugin = plugin;
@@ -371,6 +373,15 @@ public class InteractListener implements Listener {
         CustomItem type = PDCDetection.getCustomItem(item);
         if (type == null) return false;
 
+        long start = profiler.start();
+        try {
+            return useCustomItem(event, player, item, action, type);
+        } finally {
+            profiler.stopItem(start, type, player);
+        }
+    }
+
+    private boolean useCustomItem(PlayerInteractEvent event, Player player, ItemStack item, Action action, CustomItem type) {
         // Tablet of Hacking is ONLY usable in shopping phase
         if (type == CustomItem.TABLET_OF_HACKING) {
             if (action.isRightClick()) {
@@ -529,6 +540,15 @@ public class InteractListener implements Listener {
         WeaponItem weapon = PDCDetection.getWeapon(item);
         if (weapon == null) return false;
 
+        long start = profiler.start();
+        try {
+            return useWeaponItem(event, player, item, action, weapon);
+        } finally {
+            profiler.stopItem(start, weapon, player);
+        }
+    }
+
+    private boolean useWeaponItem(PlayerInteractEvent event, Player player, ItemStack item, Action action, WeaponItem weapon) {
         // Special weapon abilities cannot be used during shopping
         if (isInShoppingPhase(player)) return false;
 
@@ -574,6 +594,15 @@ public class InteractListener implements Listener {
         MythicItem mythic = PDCDetection.getMythic(item);
         if (mythic == null) return false;
 
+        long start = profiler.start();
+        try {
+            return useMythicItem(event, player, item, action, mythic);
+        } finally {
+            profiler.stopItem(start, mythic, player);
+        }
+    }
+
+    private boolean useMythicItem(PlayerInteractEvent event, Player player, ItemStack item, Action action, MythicItem mythic) {
         if (!action.isRightClick()) return false;
 
         if (isInShoppingPhase(player)) {
@@ -19,9 +19,16 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Handles player connection events
  */
@@ -33,11 +40,48 @@ public class PlayerConnectionListener implements Listener {
         this.plugin = plugin;
     }
 
+    /**
+     * Prefetch player data on the async login thread so the join handler below is a cache
+     * hit. Waiting here only delays this player's login, never the main thread; if the load
+     * is slower than the timeout, getOrLoadData picks up the in-flight load on join.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        PlayerDataManager dataManager = plugin.getPlayerDataManager();
+        UUID uuid = event.getUniqueId();
+
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            dataManager.discardPrefetch(uuid);
+            return;
+        }
+
+        try {
+            dataManager.loadAsync(uuid).get(plugin.getConfigManager().getPrefetchTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            Messages.debug("STORAGE", "Prefetch for " + event.getName() + " still running at join time");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Messages.debug("STORAGE", "Prefetch for " + event.getName() + " failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A login allowed at pre-login can still be refused here (whitelist, full server, bans);
+     * drop its prefetched data then, since no quit will ever evict it.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            plugin.getPlayerDataManager().discardPrefetch(event.getPlayer().getUniqueId());
+        }
+    }
+
     @EventHandler(priority = EventPriority.HIGH)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
 
-        // Load player data first
+        // Load player data first (normally already prefetched during async pre-login)
         plugin.getPlayerDataManager().getOrLoadData(player.getUniqueId());
         plugin.getPlayerDataManager().markJoined(player.getUniqueId(), System.currentTimeMillis());
         Messages.debug(player, "SYSTEM", "Player joined and data loaded");
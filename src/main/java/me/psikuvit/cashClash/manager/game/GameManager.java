@@ -2,6 +2,9 @@ package me.psikuvit.cashClash.manager.game;
 
 import me.psikuvit.cashClash.CashClashPlugin;
 import me.psikuvit.cashClash.game.GameSession;
+import me.psikuvit.cashClash.game.GameState;
+import me.psikuvit.cashClash.game.round.RoundData;
+import me.psikuvit.cashClash.game.tick.TickEngine;
 import me.psikuvit.cashClash.manager.Shutdownable;
 import me.psikuvit.cashClash.util.Messages;
 import org.bukkit.entity.Player;
@@ -20,6 +23,8 @@ public class GameManager implements Shutdownable {
     private final Map<UUID, GameSession> activeSessions;
     private final Map<UUID, GameSession> playerToSession;
     private final Map<Integer, GameSession> arenaToSession;
+    // Runs tasks of players outside any session (admin-given items, tests), see getTickEngine
+    private final TickEngine lobbyTickEngine;
 
     /**
      * Constructed once by {@link CashClashPlugin} at startup (it has no dependencies on other
@@ -31,6 +36,7 @@ public class GameManager implements Shutdownable {
         this.activeSessions = new ConcurrentHashMap<>();
         this.playerToSession = new ConcurrentHashMap<>();
         this.arenaToSession = new ConcurrentHashMap<>();
+        this.lobbyTickEngine = new TickEngine("lobby");
     }
 
     public GameSession createSession(int arenaNumber) {
@@ -48,6 +54,7 @@ public class GameManager implements Shutdownable {
     public void removeSession(UUID sessionId) {
         GameSession session = activeSessions.remove(sessionId);
         if (session != null) {
+            session.getTickEngine().shutdown();
             session.getPlayers().forEach(playerToSession::remove);
             playerToSession.entrySet().removeIf(e ->
                     e.getValue() != null && e.getValue().getSessionId().equals(sessionId));
@@ -60,6 +67,27 @@ public class GameManager implements Shutdownable {
         return playerToSession.get(player.getUniqueId());
     }
 
+    /**
+     * The tick engine for tasks owned by this player: their session's, or a shared lobby engine
+     * when they aren't in one (or are null, e.g. an owner who already logged off).
+     */
+    public TickEngine getTickEngine(Player player) {
+        GameSession session = player != null ? getPlayerSession(player) : null;
+        return session != null ? session.getTickEngine() : lobbyTickEngine;
+    }
+
+    /**
+     * Whether the player is in a session's combat phase without taking part in the current
+     * round, e.g. spectating it. Cooldowns and timestamps aren't recorded for such players.
+     */
+    public boolean isOutOfRound(UUID playerId) {
+        GameSession session = playerToSession.get(playerId);
+        if (session == null || session.getState() != GameState.COMBAT) return false;
+
+        RoundData roundData = session.getCurrentRoundData();
+        return roundData != null && !roundData.isAlive(playerId);
+    }
+
     public void addPlayerToSession(Player player, GameSession session) {
         playerToSession.put(player.getUniqueId(), session);
         Messages.debug(player, "GAME", "Added to session " + session.getSessionId());
@@ -86,7 +114,10 @@ public class GameManager implements Shutdownable {
             } catch (Exception e) {
                 Messages.debug(Messages.DebugCategory.GAME, "Error ending session " + session.getSessionId() + ": " + e.getMessage());
             }
+            // The victory sequence won't finish on a disabling server, so tear the engine down here
+            session.getTickEngine().shutdown();
         }
+        lobbyTickEngine.shutdown();
 
         try {
             Thread.sleep(100);
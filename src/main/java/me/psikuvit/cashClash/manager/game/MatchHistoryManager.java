@@ -0,0 +1,221 @@
+package me.psikuvit.cashClash.manager.game;
+
+import me.psikuvit.cashClash.manager.Shutdownable;
+import me.psikuvit.cashClash.storage.DatabaseProvider;
+import me.psikuvit.cashClash.storage.MatchRecord;
+import me.psikuvit.cashClash.storage.MatchSummary;
+import me.psikuvit.cashClash.util.Messages;
+import me.psikuvit.cashClash.util.SchedulerUtils;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Persists finished matches to the match history tables and serves paged history reads.
+ * <p>
+ * {@link #record(MatchRecord)} only offers the match to a bounded queue, so ending a session
+ * never touches JDBC on the main thread. A writer thread drains up to {@link #BATCH_SIZE}
+ * queued matches at a time and inserts them in one transaction; a failed batch is retried
+ * after a delay, which is safe because history inserts ignore rows that already exist. When
+ * the queue is full (the database has been down for a long time) new matches are dropped and
+ * counted rather than blocking the game.
+ * <p>
+ * A batch that fails while the connection is fine is retried one match at a time, so a single
+ * bad row cannot hold back the rest; a match that keeps failing on its own is given up after
+ * {@value #MAX_ROW_ATTEMPTS} attempts and counted.
+ */
+public class MatchHistoryManager implements Shutdownable {
+
+    private static final int QUEUE_CAPACITY = 256;
+    private static final int BATCH_SIZE = 32;
+    private static final long RETRY_DELAY_MS = 2000L;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000L;
+    private static final int MAX_ROW_ATTEMPTS = 5;
+
+    private final DatabaseProvider provider;
+    private final BlockingQueue<MatchRecord> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread writer;
+    private volatile boolean running = true;
+    // Batch the writer held when it stopped, written by shutdown() after joining it
+    private List<MatchRecord> unwritten = List.of();
+    // Failed single-row attempts per match, writer thread only
+    private final Map<UUID, Integer> attempts = new HashMap<>();
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public MatchHistoryManager(DatabaseProvider provider) {
+        this.provider = provider;
+        this.writer = new Thread(this::runWriter, "CashClash-MatchHistory");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /** Queue a finished match for insertion. Never blocks. */
+    public void record(MatchRecord match) {
+        if (!running) {
+            write(List.of(match));
+            return;
+        }
+        if (!queue.offer(match)) {
+            dropped.incrementAndGet();
+            Messages.debug("STORAGE", "Match history queue full, dropped match " + match.matchId());
+        }
+    }
+
+    /**
+     * Load one page of a player's history off the main thread and hand it to {@code callback}
+     * on the main thread. The page is empty on error or when there are no older matches.
+     */
+    public void loadRecentMatches(UUID player, MatchSummary.Cursor after, int limit, Consumer<List<MatchSummary>> callback) {
+        SchedulerUtils.runTaskAsync(() -> {
+            List<MatchSummary> page;
+            try {
+                page = provider.recentMatches(player, after, limit);
+            } catch (SQLException e) {
+                Messages.debug("STORAGE", "Failed to load match history for " + player + ": " + e.getMessage());
+                page = List.of();
+            }
+            List<MatchSummary> result = page;
+            SchedulerUtils.runTask(() -> callback.accept(result));
+        });
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /** Matches given up after failing {@value #MAX_ROW_ATTEMPTS} times on their own. */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    private void runWriter() {
+        List<MatchRecord> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            if (batch.isEmpty()) {
+                MatchRecord first;
+                try {
+                    first = queue.poll(250, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+            }
+
+            SQLException error = save(batch);
+            if (error == null) {
+                batch.clear();
+                continue;
+            }
+            if (!isConnectionError(error) && retryRows(batch)) continue;
+            // Keep the batch and back off so a dead connection doesn't spin the thread.
+            try {
+                Thread.sleep(RETRY_DELAY_MS);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        unwritten = batch;
+    }
+
+    /**
+     * Insert the matches of a failed batch one at a time, removing written ones and ones given
+     * up on from {@code batch}. If every match fails the database is treated as down and
+     * nothing is counted against them. Returns true if any match was written.
+     */
+    private boolean retryRows(List<MatchRecord> batch) {
+        List<MatchRecord> failedRows = new ArrayList<>();
+        boolean connectionLost = false;
+        for (MatchRecord match : batch) {
+            // Stopping - leave the rest to shutdown()
+            if (!running) {
+                failedRows.add(match);
+                continue;
+            }
+            SQLException error = save(List.of(match));
+            if (error == null) {
+                attempts.remove(match.matchId());
+            } else {
+                failedRows.add(match);
+                connectionLost |= isConnectionError(error);
+            }
+        }
+
+        boolean anyWritten = failedRows.size() < batch.size();
+        boolean outage = !running || connectionLost || (!anyWritten && batch.size() > 1);
+        batch.clear();
+        for (MatchRecord match : failedRows) {
+            if (!outage && attempts.merge(match.matchId(), 1, Integer::sum) >= MAX_ROW_ATTEMPTS) {
+                attempts.remove(match.matchId());
+                failed.incrementAndGet();
+                Messages.debug("STORAGE", "Gave up on match " + match.matchId() + " after " + MAX_ROW_ATTEMPTS + " failed attempts");
+            } else {
+                batch.add(match);
+            }
+        }
+        return anyWritten;
+    }
+
+    private boolean write(List<MatchRecord> batch) {
+        return save(batch) == null;
+    }
+
+    /** Insert {@code batch} in one transaction. Returns the error, or null if it was written. */
+    private SQLException save(List<MatchRecord> batch) {
+        try {
+            provider.saveMatches(batch);
+            written.addAndGet(batch.size());
+            return null;
+        } catch (SQLException e) {
+            Messages.debug("STORAGE", "Match history batch of " + batch.size() + " failed: " + e.getMessage());
+            return e;
+        }
+    }
+
+    /** SQLState class 08 is a connection exception: the database is unreachable, not the row bad. */
+    private static boolean isConnectionError(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && state.startsWith("08");
+    }
+
+    /** Stop the writer and give every queued match one final insert attempt. */
+    @Override
+    public void shutdown() {
+        running = false;
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) writer.interrupt();
+
+        List<MatchRecord> rest = new ArrayList<>(unwritten);
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            SQLException error = save(rest);
+            // A bad row must not cost the others their last chance
+            if (error != null && !isConnectionError(error) && rest.size() > 1) {
+                rest.forEach(match -> write(List.of(match)));
+            }
+        }
+        Messages.debug("STORAGE", "Match history stopped: " + written.get() + " written, " + dropped.get()
+                + " dropped, " + failed.get() + " failed");
+    }
+}
@@ -9,6 +9,7 @@ import me.psikuvit.cashClash.config.ConfigManager;
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.GameState;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.gamemode.impl.CaptureTheFlagGamemode;
 import me.psikuvit.cashClash.gamemode.impl.ProtectThePresidentGamemode;
 import me.psikuvit.cashClash.listener.BlockListener;
@@ -33,7 +34,6 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.scoreboard.Scoreboard;
 
 import java.util.UUID;
@@ -46,7 +46,7 @@ public class RoundManager {
     private static final int SUDDEN_DEATH_PHASE_SECONDS = 180; // 3 minutes
 
     private final GameSession session;
-    private BukkitTask phaseTask;
+    private TickTask phaseTask;
     private int timeRemaining;
 
     public RoundManager(GameSession session) {
@@ -220,7 +220,7 @@ public class RoundManager {
      * Timer logic for buff selection phase
      */
     private void startBuffSelectionTimer(int roundNumber) {
-        phaseTask = SchedulerUtils.runTaskTimer(() -> {
+        phaseTask = session.getTickEngine().schedule("round.buff-selection-timer", () -> {
             timeRemaining--;
 
             if (timeRemaining <= 3 && timeRemaining > 0) {
@@ -240,7 +240,7 @@ public class RoundManager {
      * Timer logic for shopping phase
      */
     private void startShoppingTimer(Team teamRed, Team teamBlue) {
-        phaseTask = SchedulerUtils.runTaskTimer(() -> {
+        phaseTask = session.getTickEngine().schedule("round.shopping-timer", () -> {
             if (teamRed.isTeamReady() && teamBlue.isTeamReady()) {
                 Messages.broadcast(session.getPlayers(), "round.both-teams-ready");
                 endShoppingPhase();
@@ -319,7 +319,7 @@ public class RoundManager {
         applyTeamOutlinesToAllPlayers();
 
         // Start countdown
-        phaseTask = SchedulerUtils.runTaskTimer(() -> {
+        phaseTask = session.getTickEngine().schedule("round.combat-timer", () -> {
             boolean finalStandActive = session.getGamemode() != null && session.getGamemode().isFinalStandActive();
             if (!finalStandActive) {
                 timeRemaining--;
@@ -1,5 +1,6 @@
 package me.psikuvit.cashClash.manager.items;
 
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.shop.EnchantEntry;
 import me.psikuvit.cashClash.util.CooldownManager;
 import me.psikuvit.cashClash.util.Keys;
@@ -23,10 +24,11 @@ import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.Damageable;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Transformation;
 import org.bukkit.util.Vector;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -57,6 +59,9 @@ public class RuneManager {
     // How high above the player the activation book spawns and hovers
     private static final double BOOK_HOVER_HEIGHT = 2.75;
 
+    // Toggle cooldown deadlines per player and rune item UUID; main thread only
+    private static final Map<UUID, Map<String, Long>> TOGGLE_DEADLINES = new HashMap<>();
+
     private RuneManager() {
         throw new AssertionError("Nope.");
     }
@@ -280,12 +285,11 @@ public class RuneManager {
         if (runeUUID == null) return false;
 
         UUID playerUUID = player.getUniqueId();
-        String cooldownKey = toggleCooldownKey(runeUUID);
-        CooldownManager cooldowns = CooldownManager.getInstance();
+        long now = System.currentTimeMillis();
+        long remainingMs = toggleCooldownRemainingMs(playerUUID, runeUUID, now);
 
-        if (cooldowns.isOnCooldown(playerUUID, cooldownKey)) {
-            long remaining = cooldowns.getRemainingCooldownSeconds(playerUUID, cooldownKey);
-            Messages.send(player, "rune.toggle-cooldown", "seconds", String.valueOf(remaining));
+        if (remainingMs > 0) {
+            Messages.send(player, "rune.toggle-cooldown", "seconds", String.valueOf(remainingMs / 1000L));
             SoundUtils.play(player, Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
             return false;
         }
@@ -295,13 +299,29 @@ public class RuneManager {
                 : activateRune(player, rune, enchantEntry);
 
         if (toggledOn) {
-            cooldowns.setCooldownSeconds(playerUUID, cooldownKey, TOGGLE_COOLDOWN_SECONDS);
+            startToggleCooldown(playerUUID, runeUUID, now);
         }
         return toggledOn;
     }
 
-    private static String toggleCooldownKey(String runeUUID) {
-        return CooldownManager.Keys.RUNE_TOGGLE + "_" + runeUUID;
+    private static long toggleCooldownRemainingMs(UUID playerUUID, String runeUUID, long now) {
+        Map<String, Long> deadlines = TOGGLE_DEADLINES.get(playerUUID);
+        Long deadline = deadlines == null ? null : deadlines.get(runeUUID);
+        return deadline == null ? 0 : Math.max(0, deadline - now);
+    }
+
+    /**
+     * Deadlines are kept here rather than in the {@link CooldownManager}, whose interned keys
+     * would grow by one per rune item ever bought. Expired ones are dropped on every start, so
+     * the map only holds runes toggled within the last cooldown.
+     */
+    private static void startToggleCooldown(UUID playerUUID, String runeUUID, long now) {
+        TOGGLE_DEADLINES.values().removeIf(deadlines -> {
+            deadlines.values().removeIf(deadline -> deadline <= now);
+            return deadlines.isEmpty();
+        });
+        TOGGLE_DEADLINES.computeIfAbsent(playerUUID, u -> new HashMap<>())
+                .put(runeUUID, now + TOGGLE_COOLDOWN_SECONDS * 1000L);
     }
 
     /**
@@ -710,7 +730,7 @@ public class RuneManager {
      * once, the first time a rune reaches full charge after recharging.
      */
     public static void startRuneRechargeTask() {
-        SchedulerUtils.runTaskTimer(() -> {
+        SchedulerUtils.runTaskTimer("rune.recharge", () -> {
             for (Player player : Bukkit.getOnlinePlayers()) {
                 ItemStack[] contents = player.getInventory().getContents();
                 boolean changed = false;
@@ -763,7 +783,7 @@ public class RuneManager {
 
         final int duration = 60;
 
-        SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        SchedulerUtils.tickEngine(player).schedule("rune.book-activation", new TickTask() {
             int tick = 0;
 
             @Override
@@ -815,7 +835,7 @@ public class RuneManager {
         ItemDisplay book = spawnRuneBook(player, animationY, spawnHeight);
         final int duration = 32; // 1.6 seconds
 
-        SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        SchedulerUtils.tickEngine(player).schedule("rune.book-deactivation", new TickTask() {
             int tick = 0;
 
             @Override
@@ -2,6 +2,7 @@ package me.psikuvit.cashClash.manager.items.armor;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.shop.items.CustomArmorItem;
 import me.psikuvit.cashClash.util.CooldownManager;
@@ -14,7 +15,6 @@ import org.bukkit.Sound;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Set;
 import java.util.UUID;
@@ -92,7 +92,7 @@ public class DeathmaulerSetHandler extends ArmorSetHandler {
         Location center = attacker.getLocation();
         Set<UUID> hitPlayers = ConcurrentHashMap.newKeySet();
 
-        SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        SchedulerUtils.tickEngine(attacker).schedule("deathmauler.soul-burst", new TickTask() {
             private double radius = 0.5;
 
             @Override
@@ -4,6 +4,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.shop.items.CustomArmorItem;
@@ -21,7 +22,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import java.util.Map;
@@ -362,7 +362,7 @@ public class DragonSetHandler extends ArmorSetHandler {
         Color purple = Color.fromRGB(140, 60, 220);
         Color black = Color.fromRGB(20, 0, 30);
 
-        BukkitTask explosionTask = SchedulerUtils.runTaskTimer(() -> {
+        TickTask explosionTask = SchedulerUtils.tickEngine(player).schedule("dragon.outrage-explosion", () -> {
             // Expanding purple/black sphere
             for (int i = 0; i < 40; i++) {
                 double x = (Math.random() - 0.5) * 8;
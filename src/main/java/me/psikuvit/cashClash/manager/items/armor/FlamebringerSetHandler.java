@@ -4,6 +4,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.shop.items.CustomArmorItem;
@@ -18,7 +19,6 @@ import org.bukkit.Sound;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
@@ -34,10 +34,10 @@ import java.util.concurrent.ConcurrentHashMap;
 public class FlamebringerSetHandler extends ArmorSetHandler {
 
     private final Map<UUID, Integer> flamebringerKills; // Player -> kill count this round
-    private final Map<UUID, BukkitTask> flamebringerFireTask; // Player -> fire effect task
+    private final Map<UUID, TickTask> flamebringerFireTask; // Player -> fire effect task
     private final Map<UUID, Integer> flamebringerLavaUses; // Player -> lava speed procs this game
     private final Map<UUID, Long> flamebringerSpeedEndTime; // Player -> time when speed effect should end
-    private final Map<UUID, BukkitTask> flamebringerTrailTasks; // Player -> fire trail task
+    private final Map<UUID, TickTask> flamebringerTrailTasks; // Player -> fire trail task
     private final Map<UUID, Long> flamebringerTrailEndTime; // Player -> time when fire trail should end
     private final Map<UUID, List<Location>> flamebringerTrailLocations; // Player -> recent positions for trail
 
@@ -123,7 +123,7 @@ public class FlamebringerSetHandler extends ArmorSetHandler {
         UUID id = p.getUniqueId();
         if (flamebringerTrailTasks.containsKey(id)) return;
 
-        BukkitTask task = SchedulerUtils.runTaskTimer(() -> {
+        TickTask task = SchedulerUtils.tickEngine(p).schedule("flamebringer.trail", () -> {
             if (!p.isOnline() || p.isDead()) {
                 stopFlamebringerTrail(p);
                 return;
@@ -166,7 +166,7 @@ public class FlamebringerSetHandler extends ArmorSetHandler {
 
     private void stopFlamebringerTrail(Player p) {
         UUID id = p.getUniqueId();
-        BukkitTask task = flamebringerTrailTasks.remove(id);
+        TickTask task = flamebringerTrailTasks.remove(id);
         if (task != null) {
             task.cancel();
         }
@@ -209,7 +209,7 @@ public class FlamebringerSetHandler extends ArmorSetHandler {
             Location killerLoc = killer.getLocation();
 
             int durationTicks = (int) (duration * 20);
-            BukkitTask pullTask = SchedulerUtils.runTaskTimer(() -> {
+            TickTask pullTask = SchedulerUtils.tickEngine(killer).schedule("flamebringer.pull", () -> {
                 if (!killer.isOnline()) return;
 
                 ParticleUtils.flamebringerPull(killerLoc, radius);
@@ -242,12 +242,12 @@ public class FlamebringerSetHandler extends ArmorSetHandler {
     @Override
     public void cleanup() {
         // Cancel all flamebringer tasks
-        flamebringerFireTask.values().forEach(BukkitTask::cancel);
+        flamebringerFireTask.values().forEach(TickTask::cancel);
         flamebringerFireTask.clear();
         flamebringerKills.clear();
         flamebringerLavaUses.clear();
         flamebringerSpeedEndTime.clear();
-        flamebringerTrailTasks.values().forEach(BukkitTask::cancel);
+        flamebringerTrailTasks.values().forEach(TickTask::cancel);
         flamebringerTrailTasks.clear();
         flamebringerTrailEndTime.clear();
         flamebringerTrailLocations.clear();
@@ -258,7 +258,7 @@ public class FlamebringerSetHandler extends ArmorSetHandler {
         // Reset flamebringer kill counters
         flamebringerKills.clear();
         flamebringerSpeedEndTime.clear();
-        flamebringerTrailTasks.values().forEach(BukkitTask::cancel);
+        flamebringerTrailTasks.values().forEach(TickTask::cancel);
         flamebringerTrailTasks.clear();
         flamebringerTrailEndTime.clear();
         flamebringerTrailLocations.clear();
@@ -1,5 +1,6 @@
 package me.psikuvit.cashClash.manager.items.armor;
 
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.shop.items.CustomArmorItem;
 import me.psikuvit.cashClash.util.SchedulerUtils;
@@ -14,7 +15,6 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.Map;
@@ -102,7 +102,7 @@ public class TectonicCapHandler extends ArmorSetHandler {
         event.setCancelled(true);
         double radius = cfg.getTectonicCapRadius() + (fallDamage * 0.3);
 
-        SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        SchedulerUtils.tickEngine(player).schedule("tectonic-cap.shockwave", new TickTask() {
             int ticks = 0;
             @Override
             public void run() {
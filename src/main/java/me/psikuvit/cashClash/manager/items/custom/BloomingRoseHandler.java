@@ -4,6 +4,8 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickEngine;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.shop.items.CustomItem;
@@ -25,7 +27,6 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
@@ -57,7 +58,7 @@ public class BloomingRoseHandler extends CustomItemHandler {
      *                      own, so it must be cancelled here rather than left to stop itself
      */
     private record BloomingRoseZone(GameSession session, int teamNumber, Location center, long expiresAt,
-                                    Map<Block, BlockData> originalBlocks, BukkitTask task, BukkitTask ringTask) {}
+                                    Map<Block, BlockData> originalBlocks, TickTask task, TickTask ringTask) {}
 
     public BloomingRoseHandler(CustomItemManager manager) {
         super(manager);
@@ -77,8 +78,8 @@ public class BloomingRoseHandler extends CustomItemHandler {
 
         Location center = origin.getLocation();
         long expiresAt = System.currentTimeMillis() + cfg.getBloomingRoseZoneDurationSeconds() * 1000L;
-        BukkitTask upkeepTask = startRoseZoneTask(center, originalBlocks, expiresAt, session, team.getTeamNumber());
-        BukkitTask ringTask = spawnRoseFormationVisual(center);
+        TickTask upkeepTask = startRoseZoneTask(center, originalBlocks, expiresAt, session, team.getTeamNumber());
+        TickTask ringTask = spawnRoseFormationVisual(session.getTickEngine(), center);
         bloomingRoseZones.put(center, new BloomingRoseZone(session, team.getTeamNumber(), center, expiresAt, originalBlocks, upkeepTask, ringTask));
 
         Messages.send(player, "customitem.blooming-rose-placed");
@@ -131,9 +132,9 @@ public class BloomingRoseHandler extends CustomItemHandler {
      * zone's healing radius, heals same-team members below the health floor back up to it,
      * and tears the structure down once it expires.
      */
-    private BukkitTask startRoseZoneTask(Location center, Map<Block, BlockData> originalBlocks, long expiresAt,
-                                         GameSession session, int teamNumber) {
-        return SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+    private TickTask startRoseZoneTask(Location center, Map<Block, BlockData> originalBlocks, long expiresAt,
+                                       GameSession session, int teamNumber) {
+        return session.getTickEngine().schedule("blooming-rose.zone", new TickTask() {
 
             private int tick;
 
@@ -279,11 +280,11 @@ public class BloomingRoseHandler extends CustomItemHandler {
      * continuous redraw loop, which - unlike the two animations above - never stops on its own,
      * so its task is returned for the caller to track and cancel when the zone is destroyed.
      */
-    private BukkitTask spawnRoseFormationVisual(Location center) {
+    private TickTask spawnRoseFormationVisual(TickEngine engine, Location center) {
         double radius = cfg.getBloomingRoseZoneRadius();
         Color pink = Color.fromRGB(255, 150, 190);
 
-        SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        engine.schedule("blooming-rose.forming-ring", new TickTask() {
             private int formed;
 
             @Override
@@ -298,7 +299,7 @@ public class BloomingRoseHandler extends CustomItemHandler {
             }
         }, 0L, 1L);
         Location figureEightCenter = center.clone().add(0.5, 1, 0.5); // +0.5 X/Z: block-center, not corner
-        SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        engine.schedule("blooming-rose.figure-eight", new TickTask() {
             // Reveal progress is time-based (tick / FIGURE_EIGHT_DURATION_TICKS) rather than a
             // fixed points-per-call increment, so the whole draw-in reliably takes 5s regardless
             // of the point count below.
@@ -319,7 +320,7 @@ public class BloomingRoseHandler extends CustomItemHandler {
                 ParticleUtils.figureEight(figureEightCenter, radius * 0.5, pink, 60, formed, true);
             }
         }, 0L, 1L);
-        return SchedulerUtils.runTaskTimer(() -> spawnRoseRadiusRing(center, Color.fromRGB(220, 20, 20)), 0L, 1);
+        return engine.schedule("blooming-rose.ring", () -> spawnRoseRadiusRing(center, Color.fromRGB(220, 20, 20)), 0L, 1);
     }
 
     /**
@@ -329,7 +330,7 @@ public class BloomingRoseHandler extends CustomItemHandler {
     private void startBloomingRoseHpRevealLoop() {
         if (hpRevealTask != null) return;
 
-        hpRevealTask = SchedulerUtils.runTaskTimer(() -> {
+        hpRevealTask = SchedulerUtils.runTaskTimer("blooming-rose.hp-reveal", () -> {
             for (Player holder : Bukkit.getOnlinePlayers()) {
                 if (PDCDetection.getCustomItem(holder.getInventory().getItemInMainHand()) != CustomItem.BLOOMING_ROSE) continue;
                 GameSession session = CashClashPlugin.getInstance().getGameManager().getPlayerSession(holder);
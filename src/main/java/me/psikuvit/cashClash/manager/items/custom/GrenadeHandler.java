@@ -1,5 +1,6 @@
 package me.psikuvit.cashClash.manager.items.custom;
 
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.util.SchedulerUtils;
 import me.psikuvit.cashClash.util.effects.ParticleUtils;
@@ -13,7 +14,6 @@ import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -54,7 +54,7 @@ public class GrenadeHandler extends CustomItemHandler {
             thrownItem.remove();
 
             if (isSmoke) {
-                explodeSmokeGrenade(loc);
+                explodeSmokeGrenade(player, loc);
             } else {
                 explodeGrenade(loc);
             }
@@ -87,13 +87,13 @@ public class GrenadeHandler extends CustomItemHandler {
         }
     }
 
-    private void explodeSmokeGrenade(Location loc) {
+    private void explodeSmokeGrenade(Player thrower, Location loc) {
         World world = loc.getWorld();
         if (world == null) return;
 
         SoundUtils.playAt(loc, Sound.BLOCK_FIRE_EXTINGUISH, 1.0f, 0.5f);
 
-        BukkitTask cloudTask = SchedulerUtils.runTaskTimer(() -> {
+        TickTask cloudTask = SchedulerUtils.tickEngine(thrower).schedule("grenade.smoke-cloud", () -> {
             ParticleUtils.campfireSmoke(loc, 20, 2.5, 1, 2.5);
 
             for (Entity entity : world.getNearbyEntities(loc, 5, 5, 5)) {
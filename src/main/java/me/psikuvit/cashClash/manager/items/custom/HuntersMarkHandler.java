@@ -4,6 +4,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.util.Messages;
 import me.psikuvit.cashClash.util.SchedulerUtils;
@@ -18,7 +19,6 @@ import org.bukkit.entity.ItemDisplay;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.TextDisplay;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Transformation;
 import org.joml.Vector3f;
 
@@ -43,7 +43,7 @@ public class HuntersMarkHandler extends CustomItemHandler {
      * Active mark on a target: the tracking/rotation task plus its two display entities
      * (a rotating coal block on the head and a floating vulnerability % above it).
      */
-    private record HunterMarkInfo(BukkitTask task, UUID targetUuid, ItemDisplay coalDisplay, TextDisplay textDisplay, long expiresAt) {
+    private record HunterMarkInfo(TickTask task, UUID targetUuid, ItemDisplay coalDisplay, TextDisplay textDisplay, long expiresAt) {
     }
 
     public HuntersMarkHandler(CustomItemManager manager) {
@@ -128,7 +128,7 @@ public class HuntersMarkHandler extends CustomItemHandler {
         });
 
         UUID targetUuid = target.getUniqueId();
-        BukkitTask task = SchedulerUtils.runTaskTimer(() -> {
+        TickTask task = SchedulerUtils.tickEngine(target).schedule("hunters-mark.display", () -> {
             if (!target.isOnline() || target.isDead() || System.currentTimeMillis() >= expiresAt) {
                 clearHunterMark(targetUuid);
                 return;
@@ -4,6 +4,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.shop.items.CustomItem;
 import me.psikuvit.cashClash.util.CooldownManager;
@@ -21,7 +22,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.Damageable;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
@@ -58,10 +58,10 @@ public class IceFanHandler extends CustomItemHandler {
     // DamageListener's vanilla-melee cancellation for its own hits
     private final Set<UUID> iceFanAbilityDamageActive;
     private final Map<UUID, Long> gustLastSwingTime;
-    private final Map<UUID, BukkitTask> activeGustTasks;
+    private final Map<UUID, TickTask> activeGustTasks;
     // Independent freeze-stack timer per target, and the task pumping it into freezeTicks
     private final Map<UUID, Long> iceFanFreezeExpiresAt;
-    private final Map<UUID, BukkitTask> iceFanFreezePumpTasks;
+    private final Map<UUID, TickTask> iceFanFreezePumpTasks;
 
     public IceFanHandler(CustomItemManager manager) {
         super(manager);
@@ -100,7 +100,7 @@ public class IceFanHandler extends CustomItemHandler {
             return;
         }
 
-        BukkitTask task = SchedulerUtils.runTaskTimer(() -> tickGust(player), 0L, GUST_TICK_INTERVAL);
+        TickTask task = SchedulerUtils.tickEngine(player).schedule("ice-fan.gust", () -> tickGust(player), 0L, GUST_TICK_INTERVAL);
         activeGustTasks.put(uuid, task);
     }
 
@@ -151,7 +151,7 @@ public class IceFanHandler extends CustomItemHandler {
     }
 
     private void stopGust(UUID uuid) {
-        BukkitTask task = activeGustTasks.remove(uuid);
+        TickTask task = activeGustTasks.remove(uuid);
         if (task != null) task.cancel();
         gustLastSwingTime.remove(uuid);
     }
@@ -171,7 +171,7 @@ public class IceFanHandler extends CustomItemHandler {
         iceFanFreezeExpiresAt.put(uuid, now + newRemaining);
 
         if (!iceFanFreezePumpTasks.containsKey(uuid)) {
-            BukkitTask task = SchedulerUtils.runTaskTimer(() -> pumpIceFanFreeze(target), 0L, 1L);
+            TickTask task = SchedulerUtils.tickEngine(target).schedule("ice-fan.freeze-pump", () -> pumpIceFanFreeze(target), 0L, 1L);
             iceFanFreezePumpTasks.put(uuid, task);
         }
     }
@@ -189,7 +189,7 @@ public class IceFanHandler extends CustomItemHandler {
 
         if (expiresAt == null || now >= expiresAt || !target.isOnline()) {
             iceFanFreezeExpiresAt.remove(uuid);
-            BukkitTask task = iceFanFreezePumpTasks.remove(uuid);
+            TickTask task = iceFanFreezePumpTasks.remove(uuid);
             if (task != null) task.cancel();
             return;
         }
@@ -353,12 +353,12 @@ public class IceFanHandler extends CustomItemHandler {
 
     @Override
     public void cleanup() {
-        activeGustTasks.values().forEach(BukkitTask::cancel);
+        activeGustTasks.values().forEach(TickTask::cancel);
         activeGustTasks.clear();
         gustLastSwingTime.clear();
         iceFanAbilityDamageActive.clear();
 
-        iceFanFreezePumpTasks.values().forEach(BukkitTask::cancel);
+        iceFanFreezePumpTasks.values().forEach(TickTask::cancel);
         iceFanFreezePumpTasks.clear();
         iceFanFreezeExpiresAt.clear();
     }
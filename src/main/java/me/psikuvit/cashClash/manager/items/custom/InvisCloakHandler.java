@@ -3,6 +3,7 @@ package me.psikuvit.cashClash.manager.items.custom;
 import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.util.CooldownManager;
@@ -16,7 +17,6 @@ import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -36,7 +36,7 @@ public class InvisCloakHandler extends CustomItemHandler {
 
     private final Map<UUID, Integer> invisCloakUsesRemaining;
     private final Set<UUID> invisCloakActive;
-    private final Map<UUID, BukkitTask> invisCloakTasks;
+    private final Map<UUID, TickTask> invisCloakTasks;
 
     public InvisCloakHandler(CustomItemManager manager) {
         super(manager);
@@ -83,7 +83,7 @@ public class InvisCloakHandler extends CustomItemHandler {
             SoundUtils.play(player, Sound.ENTITY_ILLUSIONER_CAST_SPELL, 1.0f, 1.0f);
             playInvisToggleEffect(player);
 
-            BukkitTask drainTask = SchedulerUtils.runTaskTimer(() -> {
+            TickTask drainTask = SchedulerUtils.tickEngine(player).schedule("invis-cloak.drain", () -> {
                 if (!invisCloakActive.contains(uuid)) return;
 
                 if (ccp != null && ccp.getCoins() >= costPerSecond) {
@@ -101,7 +101,7 @@ public class InvisCloakHandler extends CustomItemHandler {
             CashClashPlayer.removeEffect(player, PotionEffectType.INVISIBILITY);
             CashClashPlayer.restoreInventory(player);
 
-            BukkitTask task = invisCloakTasks.remove(uuid);
+            TickTask task = invisCloakTasks.remove(uuid);
             if (task != null) task.cancel();
 
             cooldownManager.setCooldownSeconds(uuid, CooldownManager.Keys.INVIS_CLOAK, cfg.getInvisCloakCooldown());
@@ -154,7 +154,7 @@ public class InvisCloakHandler extends CustomItemHandler {
         CashClashPlayer.restoreInventory(player);
 
         // Cancel the drain task
-        BukkitTask task = invisCloakTasks.remove(uuid);
+        TickTask task = invisCloakTasks.remove(uuid);
         if (task != null) task.cancel();
 
         // Reset cooldown
@@ -184,7 +184,7 @@ public class InvisCloakHandler extends CustomItemHandler {
 
     @Override
     public void cleanup() {
-        invisCloakTasks.values().forEach(BukkitTask::cancel);
+        invisCloakTasks.values().forEach(TickTask::cancel);
         invisCloakTasks.clear();
 
         // Restore any still-hidden equipment before the session (and its CashClashPlayer
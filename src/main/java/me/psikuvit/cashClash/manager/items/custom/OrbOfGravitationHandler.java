@@ -4,6 +4,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.shop.items.CustomItem;
@@ -29,8 +30,6 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Transformation;
 import org.bukkit.util.Vector;
 import org.joml.Vector3f;
@@ -56,7 +55,7 @@ public class OrbOfGravitationHandler extends CustomItemHandler {
     // together when the orb resolves)
     private final Map<UUID, Integer> orbHitsRemaining;
     private final Map<UUID, UUID> orbOwners;
-    private final Map<UUID, BukkitTask> orbTrailTasks;
+    private final Map<UUID, TickTask> orbTrailTasks;
     private final Map<UUID, ItemDisplay> orbDisplays;
 
     public OrbOfGravitationHandler(CustomItemManager manager) {
@@ -138,7 +137,7 @@ public class OrbOfGravitationHandler extends CustomItemHandler {
         });
         orbDisplays.put(orbUuid, orbDisplay);
 
-        BukkitTask trailTask = SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        TickTask trailTask = SchedulerUtils.tickEngine(player).schedule("orb.trail", new TickTask() {
             private float spin;
 
             @Override
@@ -207,7 +206,7 @@ public class OrbOfGravitationHandler extends CustomItemHandler {
         }
 
         Color pullYellow = Color.fromRGB(255, 220, 60);
-        SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        SchedulerUtils.tickEngine(owner).schedule("orb.pull", new TickTask() {
             private int tick;
 
             @Override
@@ -275,7 +274,7 @@ public class OrbOfGravitationHandler extends CustomItemHandler {
     private void cleanupOrbTracking(UUID orbUuid) {
         orbHitsRemaining.remove(orbUuid);
         orbOwners.remove(orbUuid);
-        BukkitTask trail = orbTrailTasks.remove(orbUuid);
+        TickTask trail = orbTrailTasks.remove(orbUuid);
         if (trail != null) trail.cancel();
         ItemDisplay display = orbDisplays.remove(orbUuid);
         if (display != null && !display.isDead()) display.remove();
@@ -301,7 +300,7 @@ public class OrbOfGravitationHandler extends CustomItemHandler {
 
     @Override
     public void cleanup() {
-        orbTrailTasks.values().forEach(BukkitTask::cancel);
+        orbTrailTasks.values().forEach(TickTask::cancel);
         orbTrailTasks.clear();
         orbDisplays.values().forEach(d -> {
             if (!d.isDead()) d.remove();
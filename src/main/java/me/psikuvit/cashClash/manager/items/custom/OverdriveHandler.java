@@ -1,6 +1,7 @@
 package me.psikuvit.cashClash.manager.items.custom;
 
 import me.psikuvit.cashClash.CashClashPlugin;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.util.Messages;
 import me.psikuvit.cashClash.util.SchedulerUtils;
 import me.psikuvit.cashClash.util.effects.ParticleUtils;
@@ -15,7 +16,6 @@ import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.attribute.AttributeModifier;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,7 +35,7 @@ public class OverdriveHandler extends CustomItemHandler {
     // Overdrive Potion - invincibility window + pulsing aura task (speed modifier has its own
     // duration; cancelling early only drops the invincibility, not the speed boost)
     private final Set<UUID> overdriveInvincible;
-    private final Map<UUID, BukkitTask> overdrivePulseTasks;
+    private final Map<UUID, TickTask> overdrivePulseTasks;
     private static final NamespacedKey OVERDRIVE_SPEED_KEY = new NamespacedKey(CashClashPlugin.getInstance(), "overdrive_speed");
 
     public OverdriveHandler(CustomItemManager manager) {
@@ -69,7 +69,7 @@ public class OverdriveHandler extends CustomItemHandler {
         // Purple engulf on activation + pulsing aura while active
         ParticleUtils.spawnDust(player.getLocation().add(0, 1, 0), Color.fromRGB(150, 40, 220), 1.6f, 40, 0.6);
 
-        BukkitTask pulseTask = SchedulerUtils.runTaskTimer(() -> {
+        TickTask pulseTask = SchedulerUtils.tickEngine(player).schedule("overdrive.pulse", () -> {
             if (!player.isOnline() || !overdriveInvincible.contains(uuid)) return;
             ParticleUtils.spawnDust(player.getLocation().add(0, 1, 0), Color.fromRGB(165, 70, 230), 1.2f, 12, 0.4);
         }, 5L, 5L);
@@ -86,7 +86,7 @@ public class OverdriveHandler extends CustomItemHandler {
         UUID uuid = player.getUniqueId();
         if (!overdriveInvincible.remove(uuid)) return;
 
-        BukkitTask task = overdrivePulseTasks.remove(uuid);
+        TickTask task = overdrivePulseTasks.remove(uuid);
         if (task != null) task.cancel();
 
         ParticleUtils.spawnDust(player.getLocation().add(0, 1, 0), Color.fromRGB(150, 40, 220), 1.2f, 20, 0.4);
@@ -98,7 +98,7 @@ public class OverdriveHandler extends CustomItemHandler {
         UUID uuid = player.getUniqueId();
         overdriveInvincible.remove(uuid);
 
-        BukkitTask task = overdrivePulseTasks.remove(uuid);
+        TickTask task = overdrivePulseTasks.remove(uuid);
         if (task != null) task.cancel();
 
         removeOverdriveSpeed(player);
@@ -3,9 +3,11 @@ package me.psikuvit.cashClash.manager.items.custom;
 import me.psikuvit.cashClash.CashClashPlugin;
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.shop.items.CustomItem;
+import me.psikuvit.cashClash.util.CooldownManager;
 import me.psikuvit.cashClash.util.Messages;
 import me.psikuvit.cashClash.util.SchedulerUtils;
 import me.psikuvit.cashClash.util.effects.ParticleUtils;
@@ -23,8 +25,6 @@ import org.bukkit.attribute.AttributeModifier;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import java.util.HashMap;
@@ -41,7 +41,7 @@ public class RadiatingLotusHandler extends CustomItemHandler {
 
     // Radiating Lotus - charge-hold state
     private final Map<UUID, Integer> lotusChargeTicks;
-    private final Map<UUID, BukkitTask> lotusChargeTasks;
+    private final Map<UUID, TickTask> lotusChargeTasks;
     private static final NamespacedKey LOTUS_SLOW_KEY = new NamespacedKey(CashClashPlugin.getInstance(), "radiating_lotus_slow");
 
     public RadiatingLotusHandler(CustomItemManager manager) {
@@ -65,7 +65,7 @@ public class RadiatingLotusHandler extends CustomItemHandler {
         int maxTicks = cfg.getLotusMaxChargeSeconds() * 20;
         int hardCapTicks = maxTicks + cfg.getLotusGraceSeconds() * 20;
 
-        BukkitTask task = SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        TickTask task = SchedulerUtils.tickEngine(player).schedule("radiating-lotus.charge", new TickTask() {
             @Override
             public void run() {
                 Integer ticks = lotusChargeTicks.get(uuid);
@@ -110,7 +110,7 @@ public class RadiatingLotusHandler extends CustomItemHandler {
         Vector back = player.getLocation().getDirection().clone().setY(0).normalize().multiply(-knockbackDistance * 0.45);
         back.setY(0.1);
         player.setVelocity(back);
-        cooldownManager.setCooldownSeconds(uuid, "WIND_CHARGE_PROTECTION", 2);
+        cooldownManager.setCooldownSeconds(uuid, CooldownManager.Keys.WIND_CHARGE_PROTECTION, 2);
 
         Messages.send(player, "customitem.lotus-detonated");
         SoundUtils.playAt(player.getLocation(), Sound.ITEM_TRIDENT_RETURN, 1.0f, 1.4f);
@@ -121,7 +121,7 @@ public class RadiatingLotusHandler extends CustomItemHandler {
         double healAmount = cfg.getLotusHealAmount();
 
         ParticleUtils.spawnDust(loc.clone().add(0, 1, 0), Color.fromRGB(60, 200, 60), 2.0f, 40, 0.5);
-        spawnHealRadiusDiamond(loc, healRadius);
+        spawnHealRadiusDiamond(player, loc, healRadius);
 
         World world = loc.getWorld();
         GameSession session = CashClashPlugin.getInstance().getGameManager().getPlayerSession(player);
@@ -142,8 +142,8 @@ public class RadiatingLotusHandler extends CustomItemHandler {
      * Draws the pink diamond marking the heal radius for a few ticks so it's actually
      * visible rather than a single-frame flash.
      */
-    private void spawnHealRadiusDiamond(Location loc, double healRadius) {
-        SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+    private void spawnHealRadiusDiamond(Player player, Location loc, double healRadius) {
+        SchedulerUtils.tickEngine(player).schedule("radiating-lotus.heal-diamond", new TickTask() {
             private int tick;
 
             @Override
@@ -4,6 +4,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.util.Messages;
@@ -17,7 +18,6 @@ import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -36,7 +36,7 @@ public class RespawnAnchorHandler extends CustomItemHandler {
 
     // Respawn anchor tracking - stores reviver UUID -> target UUID and task
     private final Map<UUID, UUID> respawnAnchorTargets;
-    private final Map<UUID, BukkitTask> respawnAnchorTasks;
+    private final Map<UUID, TickTask> respawnAnchorTasks;
     private final Map<UUID, Integer> respawnAnchorsUsedThisRound;
     private final Set<UUID> playersRevivedThisRound;
 
@@ -107,7 +107,7 @@ public class RespawnAnchorHandler extends CustomItemHandler {
         final Location startLoc = reviver.getLocation();
 
         // Progress task - check distance every second
-        BukkitTask progressTask = SchedulerUtils.runTaskTimer(() -> {
+        TickTask progressTask = SchedulerUtils.tickEngine(reviver).schedule("respawn-anchor.progress", () -> {
             // Check if reviver moved too far
             if (reviver.getLocation().distance(startLoc) > 3) {
                 cancelRevive(reviverUuid, "Revive cancelled - you moved too far!");
@@ -128,7 +128,7 @@ public class RespawnAnchorHandler extends CustomItemHandler {
         SchedulerUtils.runTaskLater(() -> {
             if (!respawnAnchorTargets.containsKey(reviverUuid)) return; // Was cancelled
 
-            BukkitTask task = respawnAnchorTasks.remove(reviverUuid);
+            TickTask task = respawnAnchorTasks.remove(reviverUuid);
             if (task != null) task.cancel();
             respawnAnchorTargets.remove(reviverUuid);
 
@@ -146,7 +146,7 @@ public class RespawnAnchorHandler extends CustomItemHandler {
 
     private void cancelRevive(UUID reviverUuid, String message) {
         respawnAnchorTargets.remove(reviverUuid);
-        BukkitTask task = respawnAnchorTasks.remove(reviverUuid);
+        TickTask task = respawnAnchorTasks.remove(reviverUuid);
         if (task != null) task.cancel();
 
         Player reviver = Bukkit.getPlayer(reviverUuid);
@@ -217,7 +217,7 @@ public class RespawnAnchorHandler extends CustomItemHandler {
 
     @Override
     public void cleanup() {
-        respawnAnchorTasks.values().forEach(BukkitTask::cancel);
+        respawnAnchorTasks.values().forEach(TickTask::cancel);
         respawnAnchorTasks.clear();
         respawnAnchorTargets.clear();
         respawnAnchorsUsedThisRound.clear();
@@ -3,6 +3,8 @@ package me.psikuvit.cashClash.manager.items.mythic;
 import me.psikuvit.cashClash.CashClashPlugin;
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickEngine;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.util.CooldownManager;
@@ -25,7 +27,6 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.PotionMeta;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.RayTraceResult;
 import org.bukkit.util.Vector;
@@ -71,7 +72,7 @@ public class AlchemistWandHandler extends MythicItemHandler {
     // Alchemist Wand Tidy Up tracking
     private final Map<UUID, Long> alchemistTidyUpExpiry;
     private final Map<UUID, BukkitTask> alchemistTidyUpTimeoutTasks;
-    private final Map<UUID, BukkitTask> alchemistTidyUpDisplayTasks;
+    private final Map<UUID, TickTask> alchemistTidyUpDisplayTasks;
     // wielder -> target -> effect -> bottle display (only visible to the wielder)
     private final Map<UUID, Map<UUID, Map<PotionEffectType, ItemDisplay>>> alchemistTidyUpBottles;
 
@@ -149,8 +150,8 @@ public class AlchemistWandHandler extends MythicItemHandler {
         Location playerLocation = player.getLocation().clone();
         Location targetLocation = target.getLocation().clone();
 
-        playAlchemistBlinkVisual(playerLocation);
-        playAlchemistBlinkVisual(targetLocation);
+        playAlchemistBlinkVisual(session.getTickEngine(), playerLocation);
+        playAlchemistBlinkVisual(session.getTickEngine(), targetLocation);
 
         long protectionExpiry = System.currentTimeMillis() + 5000;
 
@@ -177,12 +178,12 @@ public class AlchemistWandHandler extends MythicItemHandler {
     /**
      * Creates a yellow spiral effect for Alchemist Wand Blink Swap.
      */
-    private void playAlchemistBlinkVisual(Location location) {
+    private void playAlchemistBlinkVisual(TickEngine engine, Location location) {
         if (location == null || location.getWorld() == null) return;
 
         Location center = location.clone();
 
-        BukkitRunnable blinkRunnable = new BukkitRunnable() {
+        TickTask blinkRunnable = new TickTask() {
             int ticks = 0;
 
             @Override
@@ -217,7 +218,7 @@ public class AlchemistWandHandler extends MythicItemHandler {
                 ticks++;
             }
         };
-        SchedulerUtils.runTaskTimer(blinkRunnable, 0L, 1L);
+        engine.schedule("alchemist-wand.blink", blinkRunnable, 0L, 1L);
     }
 
     /**
@@ -284,7 +285,7 @@ public class AlchemistWandHandler extends MythicItemHandler {
         alchemistTidyUpExpiry.put(uuid, System.currentTimeMillis() + durationTicks * 50L);
         alchemistTidyUpBottles.put(uuid, new ConcurrentHashMap<>());
 
-        BukkitTask displayTask = startAlchemistTidyUpDisplayTask(wielder, session, uuid);
+        TickTask displayTask = startAlchemistTidyUpDisplayTask(wielder, session, uuid);
         alchemistTidyUpDisplayTasks.put(uuid, displayTask);
 
         BukkitTask timeoutTask = SchedulerUtils.runTaskLater(() -> endAlchemistTidyUp(wielder, true), durationTicks);
@@ -308,8 +309,8 @@ public class AlchemistWandHandler extends MythicItemHandler {
      * active - throttled rather than every tick, matching the codebase's other redraw-throttle
      * conventions (e.g. Tectonic Cap's fall-warning ring).
      */
-    private BukkitTask startAlchemistTidyUpDisplayTask(Player wielder, GameSession session, UUID wielderId) {
-        return SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+    private TickTask startAlchemistTidyUpDisplayTask(Player wielder, GameSession session, UUID wielderId) {
+        return session.getTickEngine().schedule("alchemist-wand.tidy-up-display", new TickTask() {
             @Override
             public void run() {
                 if (!wielder.isOnline() || !alchemistTidyUpExpiry.containsKey(wielderId)) {
@@ -484,7 +485,7 @@ public class AlchemistWandHandler extends MythicItemHandler {
         BukkitTask timeoutTask = alchemistTidyUpTimeoutTasks.remove(uuid);
         if (timeoutTask != null) timeoutTask.cancel();
 
-        BukkitTask displayTask = alchemistTidyUpDisplayTasks.remove(uuid);
+        TickTask displayTask = alchemistTidyUpDisplayTasks.remove(uuid);
         if (displayTask != null) displayTask.cancel();
 
         Map<UUID, Map<PotionEffectType, ItemDisplay>> perTarget = alchemistTidyUpBottles.remove(uuid);
@@ -518,7 +519,7 @@ public class AlchemistWandHandler extends MythicItemHandler {
      * (contents change every tick as edges break) even though the record itself is immutable.
      */
     private record TauntSession(UUID wielder, Set<UUID> chainedPlayers, List<TauntEdge> edges,
-                                 long expiresAt, BukkitTask tickTask) {}
+                                 long expiresAt, TickTask tickTask) {}
 
     /**
      * Shift+right-click activation: chains the wielder to nearby teammates (or, while
@@ -567,7 +568,7 @@ public class AlchemistWandHandler extends MythicItemHandler {
         int durationTicks = cfg.getAlchemistTauntDuration() * 20;
         long expiresAt = System.currentTimeMillis() + durationTicks * 50L;
 
-        BukkitTask tickTask = startAlchemistTauntTick(wielder, uuid);
+        TickTask tickTask = startAlchemistTauntTick(wielder, uuid);
         alchemistTaunts.put(uuid, new TauntSession(uuid, chained, liveEdges, expiresAt, tickTask));
 
         cooldownManager.setCooldownSeconds(uuid, CooldownManager.Keys.ALCHEMIST_TAUNT, cfg.getAlchemistTauntCooldown());
@@ -659,8 +660,8 @@ public class AlchemistWandHandler extends MythicItemHandler {
         return anchor;
     }
 
-    private BukkitTask startAlchemistTauntTick(Player wielder, UUID wielderId) {
-        return SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+    private TickTask startAlchemistTauntTick(Player wielder, UUID wielderId) {
+        return SchedulerUtils.tickEngine(wielder).schedule("alchemist-wand.taunt", new TickTask() {
             @Override
             public void run() {
                 TauntSession taunt = alchemistTaunts.get(wielderId);
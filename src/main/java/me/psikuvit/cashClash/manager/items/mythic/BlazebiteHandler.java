@@ -4,6 +4,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.util.CooldownManager;
@@ -20,7 +21,6 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,7 +41,7 @@ public class BlazebiteHandler extends MythicItemHandler {
     private final Map<UUID, Long> glacierFrozenPlayers;
 
     // Glacier frostbite particle tasks (UUID -> particle task)
-    private final Map<UUID, BukkitTask> glacierFrostbiteParticleTasks;
+    private final Map<UUID, TickTask> glacierFrostbiteParticleTasks;
 
     public BlazebiteHandler(MythicItemManager manager) {
         super(manager);
@@ -121,15 +121,15 @@ public class BlazebiteHandler extends MythicItemHandler {
 
                     // Continuous freeze particles above head
                     final UUID victimUUID = victimId;
-                    BukkitTask particleTask = SchedulerUtils.runTaskTimer(() -> {
+                    TickTask particleTask = SchedulerUtils.tickEngine(victim).schedule("blazebite.freeze-particles", () -> {
                         Player frozenPlayer = Bukkit.getPlayer(victimUUID);
                         if (frozenPlayer == null || !frozenPlayer.isOnline()) return;
                         ParticleUtils.freezeParticles(frozenPlayer.getLocation());
                     }, 0L, 5L);
 
                     // Cancel particle task after freeze duration
-                    final BukkitTask taskToCancel = particleTask;
-                    SchedulerUtils.runTaskLater(() -> {
+                    final TickTask taskToCancel = particleTask;
+                    SchedulerUtils.tickEngine(victim).runLater("blazebite.freeze-particles-end", () -> {
                         if (taskToCancel != null && !taskToCancel.isCancelled()) {
                             taskToCancel.cancel();
                         }
@@ -150,14 +150,14 @@ public class BlazebiteHandler extends MythicItemHandler {
                     victim.setFreezeTicks(freezeTicks);
 
                     // Cancel any existing frostbite particle task
-                    BukkitTask existingTask = glacierFrostbiteParticleTasks.remove(victimId);
+                    TickTask existingTask = glacierFrostbiteParticleTasks.remove(victimId);
                     if (existingTask != null && !existingTask.isCancelled()) {
                         existingTask.cancel();
                     }
 
                     // Frostbite particles during initial freeze
                     final UUID victimUUID = victimId;
-                    BukkitTask frostbiteParticleTask = SchedulerUtils.runTaskTimer(() -> {
+                    TickTask frostbiteParticleTask = SchedulerUtils.tickEngine(victim).schedule("blazebite.frostbite-particles", () -> {
                         Player frostbittenPlayer = Bukkit.getPlayer(victimUUID);
                         if (frostbittenPlayer == null || !frostbittenPlayer.isOnline()) return;
                         ParticleUtils.frostbiteParticles(frostbittenPlayer.getLocation());
@@ -165,8 +165,8 @@ public class BlazebiteHandler extends MythicItemHandler {
 
                     glacierFrostbiteParticleTasks.put(victimId, frostbiteParticleTask);
 
-                    final BukkitTask taskToCancel = frostbiteParticleTask;
-                    SchedulerUtils.runTaskLater(() -> {
+                    final TickTask taskToCancel = frostbiteParticleTask;
+                    SchedulerUtils.tickEngine(victim).runLater("blazebite.frostbite-particles-end", () -> {
                         if (taskToCancel != null && !taskToCancel.isCancelled()) {
                             taskToCancel.cancel();
                         }
@@ -230,7 +230,7 @@ public class BlazebiteHandler extends MythicItemHandler {
         blazebiteShotsRemaining.remove(uuid);
         glacierFrozenPlayers.remove(uuid);
 
-        BukkitTask task = glacierFrostbiteParticleTasks.remove(uuid);
+        TickTask task = glacierFrostbiteParticleTasks.remove(uuid);
         if (task != null && !task.isCancelled()) task.cancel();
     }
 }
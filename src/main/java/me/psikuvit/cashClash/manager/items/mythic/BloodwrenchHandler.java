@@ -4,6 +4,8 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickEngine;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.manager.items.custom.CustomItemManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
@@ -18,8 +20,6 @@ import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -207,7 +207,8 @@ public class BloodwrenchHandler extends MythicItemHandler {
         // Lingering sphere effect
         final double sphereRadius = radius;
         int healNegationDuration = cfg.getBloodwrenchHealNegationDuration();
-        BukkitTask sphereTask = SchedulerUtils.runTaskTimer(() -> {
+        TickEngine engine = SchedulerUtils.tickEngine(shooter);
+        TickTask sphereTask = engine.schedule("bloodwrench.sphere", () -> {
             // Particle effect
             ParticleUtils.bloodSphereLingering(hitLocation, sphereRadius);
 
@@ -234,7 +235,7 @@ public class BloodwrenchHandler extends MythicItemHandler {
         }, 0L, 10L);
 
         // Cancel after duration
-        SchedulerUtils.runTaskLater(() -> {
+        engine.runLater("bloodwrench.sphere-expiry", () -> {
             Objects.requireNonNull(sphereTask).cancel();
             Messages.debug(shooter, "BLOODWRENCH: Blood sphere expired");
         }, durationTicks);
@@ -266,7 +267,8 @@ public class BloodwrenchHandler extends MythicItemHandler {
         double selfHealPercent = cfg.getBloodwrenchVortexSelfHealPercent() / 100.0;
 
         // Vortex effect with spiraling particles
-        BukkitTask vortexTask = SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        TickEngine engine = SchedulerUtils.tickEngine(shooter);
+        TickTask vortexTask = engine.schedule("bloodwrench.vortex", new TickTask() {
             private int tick;
 
             @Override
@@ -314,7 +316,7 @@ public class BloodwrenchHandler extends MythicItemHandler {
         }, 0L, 2L);
 
         // Cancel after duration
-        SchedulerUtils.runTaskLater(() -> {
+        engine.runLater("bloodwrench.vortex-expiry", () -> {
             Objects.requireNonNull(vortexTask).cancel();
             Messages.debug(shooter, "BLOODWRENCH: Blood vortex expired");
             // Final burst effect
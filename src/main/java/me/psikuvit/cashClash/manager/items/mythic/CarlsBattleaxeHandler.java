@@ -4,6 +4,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.shop.items.MythicItem;
@@ -24,8 +25,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.Snowball;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Transformation;
 import org.bukkit.util.Vector;
 import org.joml.Quaternionf;
@@ -104,7 +103,7 @@ public class CarlsBattleaxeHandler extends MythicItemHandler {
         final int hitInterval = cfg.getCarlsSpinHitInterval();
         final Set<UUID> recentlyHit = new HashSet<>();
 
-        BukkitRunnable spinRunnable = new BukkitRunnable() {
+        TickTask spinRunnable = new TickTask() {
             int ticks = 0;
             double angle = 0;
             double heightOffset = 0;
@@ -196,7 +195,7 @@ public class CarlsBattleaxeHandler extends MythicItemHandler {
                 cancel();
             }
         };
-        SchedulerUtils.runTaskTimer(spinRunnable, 0L, 1L);
+        SchedulerUtils.tickEngine(attacker).schedule("carls-battleaxe.spin", spinRunnable, 0L, 1L);
 
         Messages.debug(attacker, "CARLS_BATTLEAXE: Spin attack started! Duration: " + (duration / 20) + "s, Damage: " + damage + ", Radius: " + radius);
     }
@@ -289,7 +288,7 @@ public class CarlsBattleaxeHandler extends MythicItemHandler {
         GameSession session = CashClashPlugin.getInstance().getGameManager().getPlayerSession(player);
         Team playerTeam = session != null ? session.getPlayerTeam(player) : null;
 
-        BukkitRunnable throwRunnable = new BukkitRunnable() {
+        TickTask throwRunnable = new TickTask() {
             Vector direction = startLoc.getDirection().normalize();
             double traveled = 0;
             boolean returning = false;
@@ -387,7 +386,7 @@ public class CarlsBattleaxeHandler extends MythicItemHandler {
             }
         };
 
-        BukkitTask task = SchedulerUtils.runTaskTimer(throwRunnable, 0L, 1L);
+        TickTask task = SchedulerUtils.tickEngine(player).schedule("carls-battleaxe.throw", throwRunnable, 0L, 1L);
         manager.trackTask(uuid, task);
     }
 
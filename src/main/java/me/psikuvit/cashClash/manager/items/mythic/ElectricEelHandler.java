@@ -3,6 +3,7 @@ package me.psikuvit.cashClash.manager.items.mythic;
 import me.psikuvit.cashClash.CashClashPlugin;
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.util.CooldownManager;
 import me.psikuvit.cashClash.util.Messages;
@@ -21,7 +22,6 @@ import org.bukkit.attribute.AttributeModifier;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.RayTraceResult;
 import org.bukkit.util.Vector;
@@ -158,7 +158,7 @@ public class ElectricEelHandler extends MythicItemHandler {
         double hitRadius = cfg.getEelDashHitRadius();
         Set<UUID> alreadyHit = ConcurrentHashMap.newKeySet();
 
-        BukkitTask scanTask = SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        TickTask scanTask = SchedulerUtils.tickEngine(player).schedule("electric-eel.dash-scan", new TickTask() {
             private int ticks = 0;
 
             @Override
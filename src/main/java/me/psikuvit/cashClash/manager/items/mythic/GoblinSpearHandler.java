@@ -4,6 +4,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.util.CooldownManager;
@@ -19,8 +20,6 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
@@ -153,7 +152,7 @@ public class GoblinSpearHandler extends MythicItemHandler {
         int maxDuration = cfg.getGoblinChargeMaxDuration();
 
         // Start charge runnable
-        BukkitRunnable chargeRunnable = new BukkitRunnable() {
+        TickTask chargeRunnable = new TickTask() {
             int ticks = 0;
 
             @Override
@@ -212,7 +211,7 @@ public class GoblinSpearHandler extends MythicItemHandler {
                 ticks++;
             }
         };
-        BukkitTask chargeTask = SchedulerUtils.runTaskTimer(chargeRunnable, 0L, 1L);
+        TickTask chargeTask = SchedulerUtils.tickEngine(player).schedule("goblin-spear.charge", chargeRunnable, 0L, 1L);
 
         // Track the task
         manager.trackTask(uuid, chargeTask);
@@ -3,6 +3,7 @@ package me.psikuvit.cashClash.manager.items.mythic;
 import me.psikuvit.cashClash.CashClashPlugin;
 import me.psikuvit.cashClash.config.ItemsConfig;
 import me.psikuvit.cashClash.game.GameSession;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.shop.items.MythicItem;
 import me.psikuvit.cashClash.util.CooldownManager;
 import me.psikuvit.cashClash.util.Keys;
@@ -54,8 +55,8 @@ public class MythicItemManager {
     private final Map<UUID, Set<MythicItem>> sessionPurchasedMythics;
     private final Map<UUID, List<MythicItem>> sessionAvailableMythics;
 
-    // Active tasks across all handlers, cancelled on per-player and global cleanup
-    private final Map<UUID, List<BukkitTask>> activeTasks;
+    // Cancel handles of active tasks across all handlers, run on per-player and global cleanup
+    private final Map<UUID, List<Runnable>> activeTasks;
 
     // Handler registry - one handler per mythic item
     private final Map<MythicItem, MythicItemHandler> handlers;
@@ -138,10 +139,20 @@ public class MythicItemManager {
 
     /**
      * Registers a scheduled task to be cancelled when the owning player quits
-     * or dies, or when the plugin shuts down.
+     * or dies, or when the plugin shuts down. A null task (scheduling refused) is ignored.
+     */
+    void trackTask(UUID uuid, TickTask task) {
+        if (task == null) return;
+        activeTasks.computeIfAbsent(uuid, k -> new ArrayList<>()).add(task::cancel);
+    }
+
+    /**
+     * {@link #trackTask(UUID, TickTask)} for plain Bukkit tasks - the one-shot timeouts that
+     * restore player state, which must still run after the session's tick engine is gone.
      */
     void trackTask(UUID uuid, BukkitTask task) {
-        activeTasks.computeIfAbsent(uuid, k -> new ArrayList<>()).add(task);
+        if (task == null) return;
+        activeTasks.computeIfAbsent(uuid, k -> new ArrayList<>()).add(task::cancel);
     }
 
     // ==================== PURCHASE & OWNERSHIP ====================
@@ -372,12 +383,8 @@ public class MythicItemManager {
         }
 
         // Cancel player tasks
-        List<BukkitTask> tasks = activeTasks.remove(uuid);
-        if (tasks != null) {
-            tasks.forEach(task -> {
-                if (task != null && !task.isCancelled()) task.cancel();
-            });
-        }
+        List<Runnable> tasks = activeTasks.remove(uuid);
+        if (tasks != null) tasks.forEach(Runnable::run);
     }
 
     /**
@@ -397,9 +404,7 @@ public class MythicItemManager {
         }
 
         // Cancel all active tasks
-        activeTasks.values().forEach(tasks -> tasks.forEach(task -> {
-            if (task != null && !task.isCancelled()) task.cancel();
-        }));
+        activeTasks.values().forEach(tasks -> tasks.forEach(Runnable::run));
         activeTasks.clear();
 
         CashClashPlugin.getInstance().getLogger().info("[MythicItemManager] Cleanup complete");
@@ -4,6 +4,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.shop.items.WeaponItem;
@@ -31,8 +32,6 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -109,7 +108,7 @@ public class CashBlasterHandler extends WeaponItemHandler {
         if (!cashBlasterSupercharged.getOrDefault(player.getUniqueId(), false)) {
             arrow.setDamage(arrow.getDamage() * 1.10);
             arrow.setCritical(false);
-            startCashBlasterTrail(arrow, false, false);
+            startCashBlasterTrail(player, arrow, false, false);
             return;
         }
 
@@ -142,7 +141,7 @@ public class CashBlasterHandler extends WeaponItemHandler {
                 .set(Keys.PROFIT_VORTEX_GLOW_SECONDS, PersistentDataType.INTEGER, spectralArrowsConsumed * 2)
                 .apply();
 
-        startCashBlasterTrail(vortexArrow, true, spectralArrowsConsumed > 0);
+        startCashBlasterTrail(player, vortexArrow, true, spectralArrowsConsumed > 0);
         cooldownManager.setCooldownSeconds(player.getUniqueId(), CooldownManager.Keys.CASH_BLASTER_VORTEX, cfg.getCashBlasterVortexCooldown());
     }
 
@@ -172,7 +171,7 @@ public class CashBlasterHandler extends WeaponItemHandler {
         double radius = cfg.getCashBlasterVortexRadius();
         int durationTicks = cfg.getCashBlasterVortexDurationTicks();
 
-        BukkitTask vortexTask = SchedulerUtils.runTaskTimer(() -> {
+        TickTask vortexTask = SchedulerUtils.tickEngine(shooter).schedule("cash-blaster.vortex", () -> {
             for (double angle = 0; angle < Math.PI * 2; angle += Math.PI / 24) {
                 double x = Math.cos(angle) * radius;
                 double z = Math.sin(angle) * radius;
@@ -335,8 +334,8 @@ public class CashBlasterHandler extends WeaponItemHandler {
      * Trails a Cash Blaster arrow: light-green dust in normal mode, a rotating dark-green pair
      * (plus white/yellow sparkle when spectral) in Profit Vortex mode. Self-cancelling.
      */
-    private void startCashBlasterTrail(AbstractArrow arrow, boolean vortex, boolean spectral) {
-        SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+    private void startCashBlasterTrail(Player shooter, AbstractArrow arrow, boolean vortex, boolean spectral) {
+        SchedulerUtils.tickEngine(shooter).schedule("cash-blaster.trail", new TickTask() {
             double rotation = 0;
 
             @Override
@@ -4,6 +4,7 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.game.GameSession;
 import me.psikuvit.cashClash.game.Team;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.manager.items.armor.DeathmaulerSetHandler;
 import me.psikuvit.cashClash.manager.items.armor.DragonSetHandler;
@@ -18,8 +19,6 @@ import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import java.util.HashMap;
@@ -46,8 +45,8 @@ public class SoulKatanaHandler extends WeaponItemHandler {
     private final Map<UUID, Boolean> soulKatanaDashing;
     private final Map<UUID, Boolean> soulKatanaLeftGround;
     private final Map<UUID, Location> soulKatanaLastLocations;
-    private final Map<UUID, BukkitTask> soulKatanaTrailTasks;
-    private final Map<UUID, BukkitTask> soulKatanaMarkTasks;
+    private final Map<UUID, TickTask> soulKatanaTrailTasks;
+    private final Map<UUID, TickTask> soulKatanaMarkTasks;
 
     public SoulKatanaHandler(WeaponItemManager manager) {
         super(manager);
@@ -164,7 +163,7 @@ public class SoulKatanaHandler extends WeaponItemHandler {
     private void startSoulKatanaDashTrail(Player player) {
         UUID id = player.getUniqueId();
         soulKatanaLastLocations.put(id, player.getLocation().clone());
-        BukkitTask task = SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        TickTask task = SchedulerUtils.tickEngine(player).schedule("soul-katana.dash-trail", new TickTask() {
             @Override
             public void run() {
                 if (!player.isOnline() || !soulKatanaDashing.containsKey(id)) {
@@ -199,7 +198,7 @@ public class SoulKatanaHandler extends WeaponItemHandler {
         if (soulKatanaMarkTasks.containsKey(id)) return; // already marked
 
         Messages.send(target, "customitem.soul-katana-healing-reduced", "percent", String.valueOf(cfg.getSoulKatanaHealingReductionPercent()));
-        BukkitTask task = SchedulerUtils.runTaskTimer(new BukkitRunnable() {
+        TickTask task = SchedulerUtils.tickEngine(target).schedule("soul-katana.healing-mark", new TickTask() {
             int soundTick = 0;
 
             @Override
@@ -235,7 +234,7 @@ public class SoulKatanaHandler extends WeaponItemHandler {
         UUID id = player.getUniqueId();
         soulKatanaDashing.remove(id);
         soulKatanaLeftGround.remove(id);
-        BukkitTask task = soulKatanaTrailTasks.remove(id);
+        TickTask task = soulKatanaTrailTasks.remove(id);
         if (task != null) task.cancel();
         soulKatanaLastLocations.remove(id);
     }
@@ -249,9 +248,9 @@ public class SoulKatanaHandler extends WeaponItemHandler {
 
     @Override
     public void cleanup() {
-        soulKatanaTrailTasks.values().forEach(BukkitTask::cancel);
+        soulKatanaTrailTasks.values().forEach(TickTask::cancel);
         soulKatanaTrailTasks.clear();
-        soulKatanaMarkTasks.values().forEach(BukkitTask::cancel);
+        soulKatanaMarkTasks.values().forEach(TickTask::cancel);
         soulKatanaMarkTasks.clear();
         soulKatanaDashing.clear();
         soulKatanaLeftGround.clear();
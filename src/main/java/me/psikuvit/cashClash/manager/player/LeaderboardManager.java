@@ -2,48 +2,56 @@ package me.psikuvit.cashClash.manager.player;
 
 import me.psikuvit.cashClash.config.ConfigManager;
 import me.psikuvit.cashClash.manager.Shutdownable;
+import me.psikuvit.cashClash.storage.LeaderboardEntry;
+import me.psikuvit.cashClash.storage.LeaderboardType;
+import me.psikuvit.cashClash.storage.LeaderboardWindow;
 import me.psikuvit.cashClash.storage.PlayerData;
+import me.psikuvit.cashClash.storage.RollupDelta;
+import me.psikuvit.cashClash.storage.StatJournal;
+import me.psikuvit.cashClash.util.Messages;
 import me.psikuvit.cashClash.util.SchedulerUtils;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Computes leaderboards on an async worker so game logic is never slowed down.
  * The cached rankings are refreshed periodically and read synchronously on demand.
+ * <p>
+ * With {@code leaderboard.live-ranks} enabled, each board also keeps a {@link RankIndex} over
+ * every stored player. It is seeded once in the background and then updated in place whenever
+ * {@link PlayerDataManager} changes a ranked stat, so boards reflect a match the moment it ends
+ * and {@link #getRank(UUID, LeaderboardType)} answers without sorting anything.
+ * <p>
+ * With {@code leaderboard.windows.enabled}, daily, weekly and season boards are kept as
+ * incremental rollups: every ranked stat increment is summed in a {@link RollupAccumulator} and
+ * added to the rollup rows of the periods it falls in, in one batch per flush (periodically and
+ * at the end of every match). Windowed boards are then read back with one indexed top-N query
+ * per window and board, so no ranking is ever recomputed from raw history. Rollups of periods
+ * that are over are moved to the archive table the first time a flush sees a new period.
  */
 public class LeaderboardManager implements Shutdownable {
 
     private final Map<LeaderboardType, List<PlayerData>> cached = new ConcurrentHashMap<>();
+    private final Map<LeaderboardType, RankIndex> indexes = new EnumMap<>(LeaderboardType.class);
+    private volatile boolean indexReady;
     private BukkitTask task;
 
-    public enum LeaderboardType {
-        WINS("wins"),
-        PLAY_TIME("playtime"),
-        COINS_EARNED("coins");
-
-        private final String configKey;
-
-        LeaderboardType(String configKey) {
-            this.configKey = configKey;
-        }
-
-        public String getConfigKey() {
-            return configKey;
-        }
-
-        public static LeaderboardType fromString(String value) {
-            if (value == null) return null;
-            for (LeaderboardType type : values()) {
-                if (type.configKey.equalsIgnoreCase(value)) return type;
-            }
-            return null;
-        }
-    }
+    private final RollupAccumulator rollups = new RollupAccumulator();
+    private final Map<LeaderboardWindow, Map<LeaderboardType, List<LeaderboardEntry>>> windowBoards = new ConcurrentHashMap<>();
+    private final Map<LeaderboardWindow, Long> archivedBefore = new EnumMap<>(LeaderboardWindow.class);
+    private final Object flushLock = new Object();
+    private final ZoneId zone = ZoneId.systemDefault();
+    private boolean windowsEnabled;
+    private BukkitTask rollupTask;
 
     private final ConfigManager configManager;
     private final PlayerDataManager playerDataManager;
@@ -51,14 +59,32 @@ public class LeaderboardManager implements Shutdownable {
     public LeaderboardManager(ConfigManager configManager, PlayerDataManager playerDataManager) {
         this.configManager = configManager;
         this.playerDataManager = playerDataManager;
+        for (LeaderboardType type : LeaderboardType.values()) {
+            indexes.put(type, new RankIndex());
+        }
     }
 
     public void start() {
         refresh();
+        if (configManager.isLeaderboardLiveRanksEnabled()) {
+            playerDataManager.setStatListener(this::onStatChange);
+            SchedulerUtils.runTaskAsync(this::seedIndexes);
+        }
         int minutes = configManager.getLeaderboardRefreshMinutes();
         if (minutes > 0) {
             task = SchedulerUtils.runTaskTimerAsync(this::refresh, 20L * 60 * minutes, 20L * 60 * minutes);
         }
+
+        windowsEnabled = configManager.isLeaderboardWindowsEnabled();
+        if (windowsEnabled) {
+            playerDataManager.setStatDeltaListener(this::onStatDelta);
+            playerDataManager.setStatResetListener(this::onStatsReset);
+            // The final flush waits for the games and online players' playtime to be counted
+            playerDataManager.setShutdownFlush(this::flushRollups);
+            SchedulerUtils.runTaskAsync(this::flushRollups);
+            long period = 20L * Math.max(1, configManager.getLeaderboardRollupFlushSeconds());
+            rollupTask = SchedulerUtils.runTaskTimerAsync(this::flushRollups, period, period);
+        }
     }
 
     @Override
@@ -67,21 +93,172 @@ public class LeaderboardManager implements Shutdownable {
             task.cancel();
             task = null;
         }
+        if (rollupTask != null) {
+            rollupTask.cancel();
+            rollupTask = null;
+        }
+        // The final rollup flush is run by PlayerDataManager.shutdown, see start()
     }
 
+    /**
+     * Re-read the boards after storage changed behind this manager's back (a bulk import).
+     * Blocks on storage, so call it off the main thread. Cached players keep their live scores.
+     */
+    public void reload() {
+        refresh();
+        if (!configManager.isLeaderboardLiveRanksEnabled()) return;
+        playerDataManager.scanStoredPlayers(data -> {
+            if (playerDataManager.getCached(data.getUuid()).isPresent()) return;
+            onStatChange(data);
+        });
+    }
+
+    /**
+     * Pulls only the top {@code leaderboard.size} rows per board from storage (merged with the
+     * live values of online players), so the cost follows the board size rather than the
+     * number of stored players.
+     */
     private void refresh() {
-        List<PlayerData> all = playerDataManager.loadAllPlayers();
         int limit = configManager.getLeaderboardSize();
-        cached.put(LeaderboardType.WINS, sorted(all, Comparator.comparingInt(PlayerData::getWins).reversed(), limit));
-        cached.put(LeaderboardType.PLAY_TIME, sorted(all, Comparator.comparingLong(PlayerData::getPlaytimeMillis).reversed(), limit));
-        cached.put(LeaderboardType.COINS_EARNED, sorted(all, Comparator.comparingLong(PlayerData::getTotalCoinsEarned).reversed(), limit));
+        for (LeaderboardType type : LeaderboardType.values()) {
+            cached.put(type, List.copyOf(playerDataManager.topN(type, limit)));
+        }
     }
 
-    private List<PlayerData> sorted(List<PlayerData> all, Comparator<PlayerData> comparator, int limit) {
-        List<PlayerData> result = new ArrayList<>(all);
-        result.sort(comparator);
-        if (result.size() > limit) result = result.subList(0, limit);
-        return List.copyOf(result);
+    /**
+     * Streams every stored player into the rank indexes once. Live updates that land while
+     * this runs win over the stored values (see {@link RankIndex#seed}).
+     */
+    private void seedIndexes() {
+        long start = System.currentTimeMillis();
+        playerDataManager.scanStoredPlayers(this::seed);
+        indexReady = true;
+        Messages.debug("LEADERBOARD", "Rank indexes seeded with " + indexes.get(LeaderboardType.WINS).size()
+                + " players in " + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    private void seed(PlayerData data) {
+        for (LeaderboardType type : LeaderboardType.values()) {
+            indexes.get(type).seed(data.getUuid(), type.score(data));
+        }
+    }
+
+    /**
+     * Called by {@link PlayerDataManager} after a ranked stat changed.
+     */
+    private void onStatChange(PlayerData data) {
+        for (LeaderboardType type : LeaderboardType.values()) {
+            indexes.get(type).update(data.getUuid(), type.score(data));
+        }
+    }
+
+    /**
+     * Called by {@link PlayerDataManager} with the size of every stat increment.
+     */
+    private void onStatDelta(UUID uuid, StatJournal.Stat stat, long delta) {
+        LeaderboardType type = switch (stat) {
+            case WINS -> LeaderboardType.WINS;
+            case PLAYTIME -> LeaderboardType.PLAY_TIME;
+            case COINS_EARNED -> LeaderboardType.COINS_EARNED;
+            default -> null;
+        };
+        if (type != null) rollups.add(LocalDate.now(zone).toEpochDay(), uuid, type, delta);
+    }
+
+    /**
+     * Called by {@link PlayerDataManager} after a player's stats were reset. Their buffered and
+     * stored wins are zeroed in every live period; the reset waits for a running flush so wins
+     * it is still writing are cleared too.
+     */
+    private void onStatsReset(UUID uuid) {
+        rollups.clear(uuid, LeaderboardType.WINS);
+        SchedulerUtils.runTaskAsync(() -> {
+            synchronized (flushLock) {
+                try {
+                    playerDataManager.getProvider().resetRollups(uuid, LeaderboardType.WINS);
+                } catch (SQLException e) {
+                    Messages.debug("LEADERBOARD", "Failed to reset rollups of " + uuid + ": " + e.getMessage());
+                    return;
+                }
+            }
+            flushRollups();
+        });
+    }
+
+    /**
+     * Flush the buffered increments off the main thread, e.g. right after a match so its
+     * results show on the windowed boards without waiting for the next periodic flush.
+     */
+    public void flushRollupsAsync() {
+        if (windowsEnabled) SchedulerUtils.runTaskAsync(this::flushRollups);
+    }
+
+    /**
+     * Add everything buffered to the rollups in one batch, archive periods that are over and
+     * re-read the windowed boards. A failed batch is put back into the buffer for the next flush.
+     */
+    private void flushRollups() {
+        synchronized (flushLock) {
+            LocalDate seasonStart = configManager.getLeaderboardSeasonStart();
+            int seasonDays = configManager.getLeaderboardSeasonLengthDays();
+            Map<Long, Map<UUID, long[]>> drained = rollups.drain();
+
+            List<RollupDelta> deltas = new ArrayList<>();
+            for (Map.Entry<Long, Map<UUID, long[]>> day : drained.entrySet()) {
+                LocalDate date = LocalDate.ofEpochDay(day.getKey());
+                for (Map.Entry<UUID, long[]> player : day.getValue().entrySet()) {
+                    long[] sums = player.getValue();
+                    for (LeaderboardWindow window : LeaderboardWindow.values()) {
+                        if (!window.isRollup()) continue;
+                        deltas.add(new RollupDelta(window, window.period(date, seasonStart, seasonDays), player.getKey(),
+                                sums[LeaderboardType.WINS.ordinal()], sums[LeaderboardType.PLAY_TIME.ordinal()],
+                                sums[LeaderboardType.COINS_EARNED.ordinal()]));
+                    }
+                }
+            }
+
+            try {
+                playerDataManager.getProvider().applyRollups(deltas);
+            } catch (SQLException e) {
+                rollups.restore(drained);
+                Messages.debug("LEADERBOARD", "Rollup flush of " + deltas.size() + " rows failed: " + e.getMessage());
+                return;
+            }
+
+            LocalDate today = LocalDate.now(zone);
+            int limit = configManager.getLeaderboardSize();
+            for (LeaderboardWindow window : LeaderboardWindow.values()) {
+                if (!window.isRollup()) continue;
+                long current = window.period(today, seasonStart, seasonDays);
+                try {
+                    archiveBefore(window, current);
+                    Map<LeaderboardType, List<LeaderboardEntry>> boards = new EnumMap<>(LeaderboardType.class);
+                    for (LeaderboardType type : LeaderboardType.values()) {
+                        boards.put(type, List.copyOf(playerDataManager.getProvider().topRollup(window, current, type, limit)));
+                    }
+                    windowBoards.put(window, boards);
+                } catch (SQLException e) {
+                    Messages.debug("LEADERBOARD", "Failed to refresh " + window.getConfigKey() + " boards: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** Archive the rollups of every period of {@code window} before {@code current}, once per period. */
+    private void archiveBefore(LeaderboardWindow window, long current) throws SQLException {
+        Long done = archivedBefore.get(window);
+        if (done != null && done == current) return;
+        int moved = playerDataManager.getProvider().archiveRollups(window, current);
+        archivedBefore.put(window, current);
+        if (moved > 0) {
+            Messages.debug("LEADERBOARD", "Archived " + moved + " " + window.getConfigKey() + " rollup rows");
+        }
+    }
+
+    /** Id of the period of {@code window} that is running now. */
+    public long currentPeriod(LeaderboardWindow window) {
+        return window.period(LocalDate.now(zone), configManager.getLeaderboardSeasonStart(),
+                configManager.getLeaderboardSeasonLengthDays());
     }
 
     /**
@@ -90,4 +267,60 @@ public class LeaderboardManager implements Shutdownable {
     public List<PlayerData> getBoard(LeaderboardType type) {
         return cached.getOrDefault(type, List.of());
     }
+
+    /**
+     * The top {@code leaderboard.size} entries of a board. Served live from the rank index once
+     * it is seeded, otherwise from the last periodic refresh.
+     */
+    public List<LeaderboardEntry> getTop(LeaderboardType type) {
+        int limit = configManager.getLeaderboardSize();
+        if (indexReady) return indexes.get(type).top(limit);
+
+        List<PlayerData> board = getBoard(type);
+        List<LeaderboardEntry> entries = new ArrayList<>(board.size());
+        for (int i = 0; i < board.size(); i++) {
+            PlayerData data = board.get(i);
+            entries.add(new LeaderboardEntry(i + 1, data.getUuid(), type.score(data)));
+        }
+        return entries;
+    }
+
+    /**
+     * The top entries of a board within a window. Windowed boards come from the last rollup
+     * flush; {@link LeaderboardWindow#ALL_TIME} is {@link #getTop(LeaderboardType)}.
+     */
+    public List<LeaderboardEntry> getTop(LeaderboardType type, LeaderboardWindow window) {
+        if (!window.isRollup()) return getTop(type);
+        Map<LeaderboardType, List<LeaderboardEntry>> boards = windowBoards.get(window);
+        return boards == null ? List.of() : boards.getOrDefault(type, List.of());
+    }
+
+    /**
+     * 1-based rank of a player on a windowed board, or -1 if they are not in its top
+     * {@code leaderboard.size}. {@link LeaderboardWindow#ALL_TIME} is {@link #getRank(UUID, LeaderboardType)}.
+     */
+    public int getRank(UUID uuid, LeaderboardType type, LeaderboardWindow window) {
+        if (!window.isRollup()) return getRank(uuid, type);
+        for (LeaderboardEntry entry : getTop(type, window)) {
+            if (entry.uuid().equals(uuid)) return entry.rank();
+        }
+        return -1;
+    }
+
+    public boolean isWindowsEnabled() {
+        return windowsEnabled;
+    }
+
+    /**
+     * 1-based rank of a player on a board in O(log n), or -1 if live ranks are disabled,
+     * still seeding, or the player has no stats yet.
+     */
+    public int getRank(UUID uuid, LeaderboardType type) {
+        return indexReady ? indexes.get(type).rank(uuid) : -1;
+    }
+
+    /** Number of ranked players on a board (0 until the index is seeded). */
+    public int getRankedCount(LeaderboardType type) {
+        return indexReady ? indexes.get(type).size() : 0;
+    }
 }
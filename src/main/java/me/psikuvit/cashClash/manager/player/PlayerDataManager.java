@@ -2,34 +2,84 @@ package me.psikuvit.cashClash.manager.player;
 
 import me.psikuvit.cashClash.CashClashPlugin;
 import me.psikuvit.cashClash.manager.Shutdownable;
+import me.psikuvit.cashClash.storage.ConnectionPool;
 import me.psikuvit.cashClash.storage.DatabaseProvider;
+import me.psikuvit.cashClash.storage.FileProvider;
+import me.psikuvit.cashClash.storage.LeaderboardType;
 import me.psikuvit.cashClash.storage.MySQLProvider;
 import me.psikuvit.cashClash.storage.PlayerData;
+import me.psikuvit.cashClash.storage.PlayerDataTransfer;
 import me.psikuvit.cashClash.storage.SQLiteProvider;
+import me.psikuvit.cashClash.storage.StatJournal;
+import me.psikuvit.cashClash.storage.WriteBehindQueue;
 import me.psikuvit.cashClash.util.Messages;
+import me.psikuvit.cashClash.util.SchedulerUtils;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * Singleton manager responsible for caching player data and delegating persistence
- * to a configured DatabaseProvider.
+ * to a configured DatabaseProvider. Saves go through a {@link WriteBehindQueue} so the
+ * main thread never waits on JDBC. Only players whose data changed since their last save
+ * ({@link PlayerData#isDirty()}) are written - on quit, at shutdown and by the periodic
+ * checkpoint, which bounds what a crash can lose to {@code storage.checkpoint-seconds}.
+ * <p>
+ * Between checkpoints every stat change is also appended to a {@link StatJournal}, so a crash
+ * loses at most one journal commit interval; the journal is replayed on the next start.
  */
 public class PlayerDataManager implements Shutdownable {
 
+    private static final long SHUTDOWN_DRAIN_TIMEOUT_MS = 10_000L;
+    private static final long EXPORT_FLUSH_TIMEOUT_MS = 30_000L;
+    private static final int IMPORT_BATCH_SIZE = 500;
+    private static final StatJournal.Stat[] RESET_STATS = {StatJournal.Stat.WINS, StatJournal.Stat.KILLS,
+            StatJournal.Stat.DEATHS, StatJournal.Stat.COINS_INVESTED};
+
     private final Map<UUID, PlayerData> cache;
+    private final Map<UUID, CompletableFuture<PlayerData>> inflight = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<PlayerData>> profileLoads = new ConcurrentHashMap<>();
+    private ProfileCache profiles;
+    private final AtomicLong lateJoins = new AtomicLong();
     private final DatabaseProvider provider;
+    private final ExecutorService loader;
+    private WriteBehindQueue writeQueue;
+    private StatJournal journal;
+    private volatile Consumer<PlayerData> statListener = d -> {};
+    private volatile StatDeltaListener deltaListener = (uuid, stat, delta) -> {};
+    private volatile Consumer<UUID> resetListener = uuid -> {};
+    private volatile Runnable shutdownFlush = () -> {};
+    private int checkpointSeconds;
+    private BukkitTask checkpointTask;
 
-    private PlayerDataManager(DatabaseProvider provider) {
+    private PlayerDataManager(DatabaseProvider provider, int loaderThreads) {
         this.provider = provider;
         this.cache = new ConcurrentHashMap<>();
+        AtomicInteger threadIds = new AtomicInteger();
+        this.loader = Executors.newFixedThreadPool(Math.max(1, loaderThreads), r -> {
+            Thread t = new Thread(r, "CashClash-Loader-" + threadIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
     }
 
     /**
@@ -40,49 +90,328 @@ public class PlayerDataManager implements Shutdownable {
         var cfg = plugin.getConfig();
         String type = cfg.getString("storage.type", "sqlite").toLowerCase();
         PlayerDataManager manager;
+        int loaderThreads = cfg.getInt("storage.loader-threads", 2);
         if (type.equals("mysql")) {
             String url = cfg.getString("storage.mysql.url");
             String user = cfg.getString("storage.mysql.user");
             String pass = cfg.getString("storage.mysql.pass");
-            manager = new PlayerDataManager(new MySQLProvider(url, user, pass));
+            ConnectionPool.Settings pool = new ConnectionPool.Settings(
+                    cfg.getInt("storage.mysql.pool.max-size", 8),
+                    cfg.getInt("storage.mysql.pool.min-idle", 2),
+                    cfg.getLong("storage.mysql.pool.connection-timeout-ms", 5000L),
+                    cfg.getLong("storage.mysql.pool.idle-timeout-ms", 600_000L),
+                    cfg.getLong("storage.mysql.pool.max-lifetime-ms", 1_800_000L),
+                    cfg.getString("storage.mysql.pool.validation-query", "SELECT 1"));
+            manager = new PlayerDataManager(new MySQLProvider(url, user, pass, pool), loaderThreads);
+        } else if (type.equals("file")) {
+            FileProvider.Settings file = new FileProvider.Settings(
+                    cfg.getBoolean("storage.file.fsync", true),
+                    1024L * cfg.getInt("storage.file.compact-min-log-kb", 4096));
+            manager = new PlayerDataManager(new FileProvider(new File(plugin.getDataFolder(), "filestore"), file), loaderThreads);
         } else {
             File dbFile = new File(plugin.getDataFolder(), "players.db");
-            manager = new PlayerDataManager(new SQLiteProvider(dbFile));
+            SQLiteProvider.Settings sqlite = new SQLiteProvider.Settings(
+                    cfg.getString("storage.sqlite.journal-mode", "WAL"),
+                    cfg.getString("storage.sqlite.synchronous", "NORMAL"),
+                    cfg.getInt("storage.sqlite.cache-size-kb", 16_384),
+                    cfg.getInt("storage.sqlite.mmap-size-mb", 64),
+                    cfg.getInt("storage.sqlite.busy-timeout-ms", 5000));
+            manager = new PlayerDataManager(new SQLiteProvider(dbFile, sqlite), loaderThreads);
         }
 
         manager.provider.init();
+        manager.writeQueue = new WriteBehindQueue(manager.provider,
+                cfg.getInt("storage.write-behind.capacity", 1024),
+                cfg.getInt("storage.write-behind.batch-size", 100));
+        manager.checkpointSeconds = cfg.getInt("storage.checkpoint-seconds", 60);
+        manager.profiles = new ProfileCache(cfg.getInt("storage.profile-cache.max-size", 500),
+                1000L * cfg.getInt("storage.profile-cache.ttl-seconds", 300));
+        if (cfg.getBoolean("storage.journal.enabled", true)) {
+            manager.openJournal(new StatJournal(new File(plugin.getDataFolder(), "journal"),
+                    cfg.getLong("storage.journal.commit-interval-ms", 50L), manager.writeQueue::isFlushed));
+        }
         return manager;
     }
 
+    /**
+     * Replay what an unclean shutdown left in the journal, then start journaling. Recovered
+     * values are raised (or, after a reset, set) into the stored rows through the write-behind queue, so they reach the
+     * database in the background while loads already see them via {@link WriteBehindQueue#getPending}.
+     */
+    private void openJournal(StatJournal journal) {
+        try {
+            Map<UUID, StatJournal.Recovered> recovered = journal.recover();
+            int repaired = 0;
+            for (Map.Entry<UUID, StatJournal.Recovered> entry : recovered.entrySet()) {
+                PlayerData d = loadFromStorage(entry.getKey());
+                if (entry.getValue().applyTo(d)) {
+                    writeQueue.enqueue(d);
+                    repaired++;
+                }
+            }
+            journal.open();
+            if (!recovered.isEmpty()) {
+                journal.markRetirable(journal.getRecoveredThrough());
+                Messages.debug("STORAGE", "Journal replay restored unsaved stats for " + repaired + " of "
+                        + recovered.size() + " players");
+            }
+            this.journal = journal;
+        } catch (IOException e) {
+            Messages.debug("STORAGE", "Stat journal unavailable, continuing without it: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Start the periodic checkpoint. It runs on the main thread because snapshotting must not
+     * race the game logic that mutates PlayerData; the writes themselves happen on the
+     * write-behind thread.
+     */
+    public void start() {
+        if (checkpointSeconds > 0) {
+            long period = 20L * checkpointSeconds;
+            checkpointTask = SchedulerUtils.runTaskTimer(this::checkpoint, period, period);
+        }
+    }
+
+    /**
+     * Queue a save for every cached player with unsaved changes. Returns how many were queued.
+     */
+    public int checkpoint() {
+        int queued = 0;
+        for (PlayerData d : cache.values()) {
+            if (!d.isDirty()) continue;
+            writeQueue.enqueue(snapshot(d));
+            queued++;
+        }
+        // Every change journaled so far is now queued for saving; the sealed segment is
+        // deleted once the queue has written it.
+        if (journal != null) journal.markRetirable(journal.rotate());
+        if (queued > 0) Messages.debug("STORAGE", "Checkpoint queued " + queued + " dirty players");
+        return queued;
+    }
+
     public Optional<PlayerData> getCached(UUID uuid) {
         return Optional.ofNullable(cache.get(uuid));
     }
 
     /**
      * Load PlayerData from cache or storage. If not present, create a new default PlayerData.
+     * <p>
+     * Normally the data was already prefetched by {@link #loadAsync(UUID)} during async
+     * pre-login and this is a plain cache hit. If that prefetch is still running, this waits
+     * for it instead of issuing a second query; if no prefetch exists at all (plugin reload),
+     * it falls back to a synchronous load on the calling thread. The result stays cached until
+     * {@link #markLeft}, so this is for online players only - look up offline players with
+     * {@link #loadProfileAsync(UUID)}.
      */
     public PlayerData getOrLoadData(UUID uuid) {
-        return cache.computeIfAbsent(uuid, id -> {
+        PlayerData cached = cache.get(uuid);
+        if (cached != null) return cached;
+
+        // Never wait inside computeIfAbsent: the prefetch completes into the same map.
+        CompletableFuture<PlayerData> prefetch = inflight.get(uuid);
+        if (prefetch != null) {
+            lateJoins.incrementAndGet();
             try {
-                Optional<PlayerData> opt = provider.loadPlayer(id);
-                if (opt.isPresent()) return opt.get();
-            } catch (SQLException e) {
-                Messages.debug("Failed to load player from DB: " + e.getMessage());
+                PlayerData loaded = prefetch.join();
+                if (loaded != null) return loaded;
+            } catch (CompletionException | CancellationException e) {
+                Messages.debug("STORAGE", "Prefetch for " + uuid + " failed, loading inline: " + e.getMessage());
             }
-            return new PlayerData(uuid);
+        }
+        return cache.computeIfAbsent(uuid, id -> {
+            profiles.invalidate(id);
+            return loadFromStorage(id);
         });
     }
 
-    public void shutdown() {
-        long now = System.currentTimeMillis();
-        cache.values().forEach(d -> {
-            accumulatePlaytime(d, now);
+    /**
+     * Start loading a player's data off the main thread. Completes with the cached instance
+     * (the same one {@link #getOrLoadData(UUID)} returns); concurrent calls for the same UUID
+     * share one load.
+     */
+    public CompletableFuture<PlayerData> loadAsync(UUID uuid) {
+        PlayerData cached = cache.get(uuid);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        boolean[] started = {false};
+        CompletableFuture<PlayerData> future = inflight.computeIfAbsent(uuid, id -> {
+            started[0] = true;
+            return CompletableFuture
+                    .supplyAsync(() -> loadFromStorage(id), loader)
+                    .thenApply(loaded -> {
+                        profiles.invalidate(id);
+                        PlayerData existing = cache.putIfAbsent(id, loaded);
+                        return existing != null ? existing : loaded;
+                    });
+        });
+        // Outside computeIfAbsent: an already completed future runs this inline, and removing
+        // from inflight inside its own mapping function is a recursive update.
+        if (started[0]) future.whenComplete((d, ex) -> inflight.remove(uuid, future));
+        return future;
+    }
+
+    /**
+     * A player's profile if it is already in memory: the live data of a cached (online) player,
+     * or an unexpired entry of the offline profile cache. Never touches storage.
+     */
+    public Optional<PlayerData> getProfile(UUID uuid) {
+        PlayerData online = cache.get(uuid);
+        if (online != null) return Optional.of(online);
+        return profiles.get(uuid);
+    }
+
+    /**
+     * Load any player's profile off the main thread, for read-only lookups such as the stats
+     * GUI. Online players complete immediately with their live data. Offline players are
+     * loaded into the bounded offline profile cache instead of the online cache, so browsing
+     * profiles can't grow memory without limit; concurrent calls for the same UUID share one
+     * load. The returned data of an offline player must not be modified.
+     */
+    public CompletableFuture<PlayerData> loadProfileAsync(UUID uuid) {
+        Optional<PlayerData> known = getProfile(uuid);
+        if (known.isPresent()) return CompletableFuture.completedFuture(known.get());
+
+        boolean[] started = {false};
+        CompletableFuture<PlayerData> future = profileLoads.computeIfAbsent(uuid, id -> {
+            started[0] = true;
+            return CompletableFuture
+                    .supplyAsync(() -> loadFromStorage(id), loader)
+                    .thenApply(loaded -> {
+                        // The player may have joined while this was loading; their live data wins
+                        PlayerData online = cache.get(id);
+                        if (online != null) return online;
+                        profiles.put(id, loaded);
+                        return loaded;
+                    });
+        });
+        // Attached outside computeIfAbsent for the same reason as in loadAsync
+        if (started[0]) future.whenComplete((d, ex) -> profileLoads.remove(uuid, future));
+        return future;
+    }
+
+    public ProfileCache.Stats getProfileCacheStats() {
+        return profiles.getStats();
+    }
+
+    /**
+     * Drop data prefetched for a login that was denied, so it doesn't linger in the cache.
+     * Does nothing if the player made it online.
+     */
+    public void discardPrefetch(UUID uuid) {
+        if (Bukkit.getPlayer(uuid) != null) return;
+        CompletableFuture<PlayerData> prefetch = inflight.get(uuid);
+        if (prefetch != null) {
+            prefetch.thenRun(() -> cache.remove(uuid));
+        } else {
+            cache.remove(uuid);
+        }
+    }
+
+    /**
+     * Number of joins that reached {@link #getOrLoadData(UUID)} before their prefetch finished.
+     */
+    public long getLatePrefetchCount() {
+        return lateJoins.get();
+    }
+
+    private PlayerData loadFromStorage(UUID uuid) {
+        // A quit-save may still be queued; it is newer than the stored row.
+        Optional<PlayerData> queued = writeQueue.getPending(uuid);
+        if (queued.isPresent()) return queued.get();
+        try {
+            Optional<PlayerData> opt = provider.loadPlayer(uuid);
+            if (opt.isPresent()) return opt.get();
+        } catch (SQLException e) {
+            Messages.debug("STORAGE", "Failed to load player from DB: " + e.getMessage());
+        }
+        return new PlayerData(uuid);
+    }
+
+    /**
+     * Queue an asynchronous save of the player's current cached data. No-op if the player
+     * isn't cached or nothing changed since their last save. Safe to call from the main thread at any time (e.g. match end).
+     */
+    public void queueSave(UUID uuid) {
+        PlayerData d = cache.get(uuid);
+        if (d != null && d.isDirty()) writeQueue.enqueue(snapshot(d));
+    }
+
+    /**
+     * Stream every stored player to {@code file}. Blocks, so call it off the main thread, after
+     * a {@link #checkpoint()} on the main thread: it first waits for the queued saves to reach
+     * the database so the export includes them.
+     */
+    public PlayerDataTransfer.Result exportPlayers(File file, PlayerDataTransfer.Progress progress)
+            throws IOException, SQLException {
+        if (!awaitFlushed()) Messages.debug("STORAGE", "Exporting with saves still pending: " + writeQueue.getStats());
+        return PlayerDataTransfer.export(provider, file, progress);
+    }
+
+    /**
+     * Load an export made by {@link #exportPlayers} into storage. Blocks, so call it off the
+     * main thread, after a {@link #checkpoint()} on the main thread. Cached players and players
+     * with a queued save are skipped: their in-memory data would be saved over the imported row
+     * anyway. Offline profiles cached for imported players are dropped batch by batch, so
+     * lookups read the imported rows.
+     * <p>
+     * The journal segments sealed by that checkpoint are retired before anything is imported:
+     * replaying them after a crash would raise imported rows back to the stats they replaced.
+     * The import is refused if the queued saves do not reach the database in time, as the
+     * segments cannot be retired before they do.
+     */
+    public PlayerDataTransfer.Result importPlayers(File file, PlayerDataTransfer.Progress progress)
+            throws IOException, SQLException {
+        if (!awaitFlushed() || (journal != null && !journal.retireNow())) {
+            throw new IOException("Pending saves did not reach the database, import aborted: " + writeQueue.getStats());
+        }
+        return PlayerDataTransfer.importFile(provider, file, IMPORT_BATCH_SIZE,
+                uuid -> cache.containsKey(uuid) || writeQueue.getPending(uuid).isPresent(),
+                batch -> batch.forEach(d -> profiles.invalidate(d.getUuid())), progress);
+    }
+
+    /** Wait up to {@link #EXPORT_FLUSH_TIMEOUT_MS} for every queued save to be written. */
+    private boolean awaitFlushed() throws IOException {
+        long deadline = System.currentTimeMillis() + EXPORT_FLUSH_TIMEOUT_MS;
+        while (!writeQueue.isFlushed() && System.currentTimeMillis() < deadline) {
             try {
-                provider.savePlayer(d);
-            } catch (SQLException e) {
-                Messages.debug("Failed to save player during shutdown: " + e.getMessage());
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted waiting for pending saves", e);
             }
-        });
+        }
+        return writeQueue.isFlushed();
+    }
+
+    /** The storage provider behind this manager, for stores that share its connections. */
+    public DatabaseProvider getProvider() {
+        return provider;
+    }
+
+    public WriteBehindQueue.Stats getWriteQueueStats() {
+        return writeQueue.getStats();
+    }
+
+    public void shutdown() {
+        if (checkpointTask != null) {
+            checkpointTask.cancel();
+            checkpointTask = null;
+        }
+        loader.shutdownNow();
+        long now = System.currentTimeMillis();
+        cache.values().forEach(d -> accumulatePlaytime(d, now));
+        checkpoint();
+        // Everything online players earned is reported now and the provider is still open
+        shutdownFlush.run();
+        boolean saved = writeQueue.drainAndStop(SHUTDOWN_DRAIN_TIMEOUT_MS);
+        Messages.debug("STORAGE", "Write-behind queue drained: " + writeQueue.getStats());
+        Messages.debug("STORAGE", "Offline profile cache: " + profiles.getStats());
+        if (journal != null) {
+            // Keep the journal for replay unless every save made it to the database.
+            journal.close(saved);
+            Messages.debug("STORAGE", "Stat journal closed (" + (saved ? "clean" : "kept for replay") + "): " + journal.getStats());
+        }
 
         try {
             provider.close();
@@ -100,21 +429,30 @@ public class PlayerDataManager implements Shutdownable {
     }
 
     /**
-     * Accumulates playtime since the player joined, persists the data and drops it
-     * from the cache. Returns the amount of playtime accumulated in milliseconds.
+     * Accumulates playtime since the player joined, queues the data for persistence and
+     * drops it from the cache. Returns the amount of playtime accumulated in milliseconds.
      */
     public long markLeft(UUID uuid, long now) {
         PlayerData d = getOrLoadData(uuid);
         long played = accumulatePlaytime(d, now);
-        try {
-            provider.savePlayer(d);
-        } catch (SQLException e) {
-            Messages.debug("Failed to save player on quit: " + e.getMessage());
-        }
+        if (d.isDirty()) writeQueue.enqueue(snapshot(d));
         cache.remove(uuid);
+        // A profile cached before this session is out of date now
+        profiles.invalidate(uuid);
         return played;
     }
 
+    /**
+     * Detached copy for the write queue. The copy carries the pending changes (including a
+     * layout change), and the live object is marked clean so it is skipped until it changes
+     * again. Delivery of the copy is the write queue's job from here on.
+     */
+    private PlayerData snapshot(PlayerData d) {
+        PlayerData copy = d.copy();
+        d.markClean();
+        return copy;
+    }
+
     /**
      * Adds the online duration since the last markJoined call to the player's total
      * playtime and resets the session marker.
@@ -125,13 +463,15 @@ public class PlayerDataManager implements Shutdownable {
         if (last > 0 && now > last) {
             played = now - last;
             d.addPlaytimeMillis(played);
+            recordChange(d, StatJournal.Stat.PLAYTIME, played);
+            statListener.accept(d);
         }
         d.setLastSeen(0L);
         return played;
     }
 
     /**
-     * Loads all stored players (used by the leaderboard worker). Online players are
+     * Loads all stored players. Online players are
      * read from the cache so their latest values are included. Cache entries take
      * precedence over the stored copies for the same UUID.
      */
@@ -149,32 +489,135 @@ public class PlayerDataManager implements Shutdownable {
         return new ArrayList<>(merged.values());
     }
 
+    /**
+     * Top {@code limit} players for a board. The stored ranking comes from the provider's ranked
+     * query; online players are then merged in with their live cached values, which replace
+     * their stored rows. Only {@code limit + online} entries are ever sorted.
+     */
+    public List<PlayerData> topN(LeaderboardType type, int limit) {
+        Map<UUID, PlayerData> merged = new HashMap<>();
+        try {
+            for (PlayerData data : provider.topN(type, limit)) {
+                if (data != null && data.getUuid() != null) merged.put(data.getUuid(), data);
+            }
+        } catch (SQLException e) {
+            Messages.debug("Failed to load " + type.getConfigKey() + " leaderboard from DB: " + e.getMessage());
+        }
+        merged.putAll(cache);
+
+        List<PlayerData> ranked = new ArrayList<>(merged.values());
+        ranked.sort(Comparator.comparingLong(type::score).reversed());
+        return ranked.size() > limit ? ranked.subList(0, limit) : ranked;
+    }
+
+    /**
+     * Stream every stored player (stats only, no kit layouts) to {@code consumer} without
+     * materializing the table. Runs on the calling thread; call it from an async task.
+     */
+    public void scanStoredPlayers(Consumer<PlayerData> consumer) {
+        try {
+            provider.scanPlayers(consumer);
+        } catch (SQLException e) {
+            Messages.debug("Failed to scan players from DB: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Register the callback run after a ranked stat (wins, coins earned, playtime) changes,
+     * used to keep the leaderboard rank indexes current. Runs on the thread that made the change.
+     */
+    public void setStatListener(Consumer<PlayerData> statListener) {
+        this.statListener = statListener;
+    }
+
+    /**
+     * Register the callback run once during {@link #shutdown()}, after the playtime of every
+     * online player has been accumulated and before the provider closes - the last point at
+     * which buffered stat increments can still be written.
+     */
+    public void setShutdownFlush(Runnable shutdownFlush) {
+        this.shutdownFlush = shutdownFlush;
+    }
+
+    /**
+     * Register the callback run with the size of every stat increment, used to feed the
+     * time-windowed leaderboard rollups. Runs on the thread that made the change.
+     */
+    public void setStatDeltaListener(StatDeltaListener deltaListener) {
+        this.deltaListener = deltaListener;
+    }
+
+    /**
+     * Register the callback run after a player's stats were reset, used to drop the reset
+     * wins from the time-windowed leaderboard rollups. Runs on the thread that reset them.
+     */
+    public void setStatResetListener(Consumer<UUID> resetListener) {
+        this.resetListener = resetListener;
+    }
+
     public PlayerData getData(UUID uuid) {
         return getOrLoadData(uuid);
     }
 
+    /**
+     * Zero a player's wins, kills, deaths and invested coins (the admin stats reset). The reset
+     * is journaled and reported to the stat and reset listeners, so the rank indexes and rollups
+     * drop the old wins. Not passed to the delta listener: a negative increment would push the
+     * current periods below zero.
+     */
+    public void resetStats(UUID uuid) {
+        PlayerData d = getOrLoadData(uuid);
+        for (StatJournal.Stat stat : RESET_STATS) {
+            long old = stat.get(d);
+            if (old == 0) continue;
+            stat.set(d, 0);
+            if (journal != null) journal.append(uuid, stat, -old, 0);
+        }
+        statListener.accept(d);
+        resetListener.accept(uuid);
+    }
+
     public void incWins(UUID uuid) {
         PlayerData d = getOrLoadData(uuid);
         d.incWins();
+        recordChange(d, StatJournal.Stat.WINS, 1);
+        statListener.accept(d);
     }
 
     public void incDeaths(UUID uuid) {
         PlayerData d = getOrLoadData(uuid);
         d.incDeaths();
+        recordChange(d, StatJournal.Stat.DEATHS, 1);
     }
 
     public void incKills(UUID uuid) {
         PlayerData d = getOrLoadData(uuid);
         d.incKills();
+        recordChange(d, StatJournal.Stat.KILLS, 1);
     }
 
     public void addInvestedCoins(UUID uuid, long amount) {
         PlayerData d = getOrLoadData(uuid);
         d.addInvestedCoins(amount);
+        recordChange(d, StatJournal.Stat.COINS_INVESTED, amount);
     }
 
     public void addEarnedCoins(UUID uuid, long amount) {
         PlayerData d = getOrLoadData(uuid);
         d.addEarnedCoins(amount);
+        recordChange(d, StatJournal.Stat.COINS_EARNED, amount);
+        statListener.accept(d);
+    }
+
+    /** Journal a stat change and pass its delta on to the delta listener. */
+    private void recordChange(PlayerData d, StatJournal.Stat stat, long delta) {
+        if (journal != null) journal.append(d.getUuid(), stat, delta, stat.get(d));
+        deltaListener.onDelta(d.getUuid(), stat, delta);
+    }
+
+    /** Receives every stat increment as it happens. */
+    @FunctionalInterface
+    public interface StatDeltaListener {
+        void onDelta(UUID uuid, StatJournal.Stat stat, long delta);
     }
 }
@@ -0,0 +1,105 @@
+package me.psikuvit.cashClash.manager.player;
+
+import me.psikuvit.cashClash.storage.PlayerData;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded cache of offline players' profiles, for stats lookups of players who aren't online.
+ * <p>
+ * Entries are kept in access order and evicted least-recently-used once {@code maxSize} is
+ * reached, and expire {@code ttlMillis} after they were loaded so a profile doesn't stay stale
+ * forever. Online players never live here - they stay in {@link PlayerDataManager}'s own cache
+ * for as long as they are connected. Methods are synchronized: reads come from the main thread,
+ * puts from loader threads.
+ */
+public final class ProfileCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public ProfileCache(int maxSize, long ttlMillis) {
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlMillis = ttlMillis;
+    }
+
+    /** The cached profile, if present and not expired. Counts a hit or a miss. */
+    public synchronized Optional<PlayerData> get(UUID uuid) {
+        Entry entry = entries.get(uuid);
+        if (entry != null && isExpired(entry, System.currentTimeMillis())) {
+            entries.remove(uuid);
+            expirations++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(entry.data);
+    }
+
+    public synchronized void put(UUID uuid, PlayerData data) {
+        long now = System.currentTimeMillis();
+        entries.put(uuid, new Entry(data, now));
+        if (entries.size() <= maxSize) return;
+
+        // Expired entries go first; only then the least recently used ones
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext() && entries.size() > maxSize) {
+            if (isExpired(it.next(), now)) {
+                it.remove();
+                expirations++;
+            }
+        }
+        it = entries.values().iterator();
+        while (it.hasNext() && entries.size() > maxSize) {
+            it.next();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    /** Drop a profile, e.g. because the player came online and is now cached elsewhere. */
+    public synchronized void invalidate(UUID uuid) {
+        entries.remove(uuid);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(entries.size(), maxSize, hits, misses, evictions, expirations);
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return ttlMillis > 0 && now - entry.loadedAt >= ttlMillis;
+    }
+
+    private record Entry(PlayerData data, long loadedAt) {}
+
+    /** Snapshot of the cache's size and counters. */
+    public record Stats(int size, int maxSize, long hits, long misses, long evictions, long expirations) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("size=%d/%d hits=%d misses=%d hitRate=%.2f evictions=%d expirations=%d",
+                    size, maxSize, hits, misses, hitRate(), evictions, expirations);
+        }
+    }
+}
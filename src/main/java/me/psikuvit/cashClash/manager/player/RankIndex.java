@@ -0,0 +1,172 @@
+package me.psikuvit.cashClash.manager.player;
+
+import me.psikuvit.cashClash.storage.LeaderboardEntry;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Order-statistic index of every known player's score for one leaderboard.
+ * <p>
+ * Backed by a treap whose nodes carry their subtree size, ordered by score (highest first) with
+ * the UUID as tie-breaker so the order is total. Changing a score, looking up a player's rank and
+ * reading the top {@code k} are all O(log n) (plus {@code k} for the top list) - nothing is ever
+ * re-sorted. Methods are synchronized: updates come from the main thread, seeding and reads may
+ * come from async workers.
+ */
+public final class RankIndex {
+
+    private static final class Node {
+        final UUID uuid;
+        final long score;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(UUID uuid, long score, int priority) {
+            this.uuid = uuid;
+            this.score = score;
+            this.priority = priority;
+        }
+    }
+
+    private final Map<UUID, Node> nodes = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    /**
+     * Set a player's score, inserting them if unknown. Cheap no-op if the score is unchanged.
+     */
+    public synchronized void update(UUID uuid, long score) {
+        Node old = nodes.get(uuid);
+        if (old != null) {
+            if (old.score == score) return;
+            root = remove(root, old);
+        }
+        insert(uuid, score);
+    }
+
+    /**
+     * Insert a stored score only if the player isn't indexed yet, so a bulk seed running
+     * in the background never overwrites a newer live update. Returns true if inserted.
+     */
+    public synchronized boolean seed(UUID uuid, long score) {
+        if (nodes.containsKey(uuid)) return false;
+        insert(uuid, score);
+        return true;
+    }
+
+    /** 1-based rank of the player, or -1 if they aren't indexed. */
+    public synchronized int rank(UUID uuid) {
+        Node target = nodes.get(uuid);
+        if (target == null) return -1;
+
+        int before = 0;
+        Node t = root;
+        while (t != null) {
+            int c = compare(target, t);
+            if (c < 0) {
+                t = t.left;
+            } else if (c > 0) {
+                before += size(t.left) + 1;
+                t = t.right;
+            } else {
+                before += size(t.left);
+                break;
+            }
+        }
+        return before + 1;
+    }
+
+    /** The best {@code limit} entries, best first. */
+    public synchronized List<LeaderboardEntry> top(int limit) {
+        List<LeaderboardEntry> result = new ArrayList<>(Math.min(limit, nodes.size()));
+        Deque<Node> stack = new ArrayDeque<>();
+        Node t = root;
+        while ((t != null || !stack.isEmpty()) && result.size() < limit) {
+            while (t != null) {
+                stack.push(t);
+                t = t.left;
+            }
+            t = stack.pop();
+            result.add(new LeaderboardEntry(result.size() + 1, t.uuid, t.score));
+            t = t.right;
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    private void insert(UUID uuid, long score) {
+        Node n = new Node(uuid, score, random.nextInt());
+        Node[] parts = split(root, n);
+        root = merge(merge(parts[0], n), parts[1]);
+        nodes.put(uuid, n);
+    }
+
+    private Node remove(Node t, Node target) {
+        if (t == null) return null;
+        if (t == target) {
+            nodes.remove(target.uuid);
+            return merge(t.left, t.right);
+        }
+        if (compare(target, t) < 0) {
+            t.left = remove(t.left, target);
+        } else {
+            t.right = remove(t.right, target);
+        }
+        resize(t);
+        return t;
+    }
+
+    /** Split into (nodes ranked before {@code key}, the rest). */
+    private static Node[] split(Node t, Node key) {
+        if (t == null) return new Node[]{null, null};
+        if (compare(t, key) < 0) {
+            Node[] parts = split(t.right, key);
+            t.right = parts[0];
+            resize(t);
+            return new Node[]{t, parts[1]};
+        }
+        Node[] parts = split(t.left, key);
+        t.left = parts[1];
+        resize(t);
+        return new Node[]{parts[0], t};
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            resize(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        resize(b);
+        return b;
+    }
+
+    /** Negative if {@code a} ranks above {@code b}. */
+    private static int compare(Node a, Node b) {
+        int c = Long.compare(b.score, a.score);
+        return c != 0 ? c : a.uuid.compareTo(b.uuid);
+    }
+
+    private static int size(Node n) {
+        return n == null ? 0 : n.size;
+    }
+
+    private static void resize(Node n) {
+        n.size = 1 + size(n.left) + size(n.right);
+    }
+}
@@ -0,0 +1,62 @@
+package me.psikuvit.cashClash.manager.player;
+
+import me.psikuvit.cashClash.storage.LeaderboardType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory sums of ranked stat increments waiting to be added to the leaderboard rollups,
+ * grouped by the day they happened (epoch day in the leaderboard zone) and then by player.
+ * Keeping the day means a flush that runs after midnight still credits the right daily, weekly
+ * and season periods. Methods are synchronized: increments come from the main thread, drains
+ * from the async flush.
+ */
+public final class RollupAccumulator {
+
+    private Map<Long, Map<UUID, long[]>> days = new HashMap<>();
+    private int pending;
+
+    public synchronized void add(long epochDay, UUID uuid, LeaderboardType type, long delta) {
+        if (delta == 0) return;
+        long[] sums = days.computeIfAbsent(epochDay, d -> new HashMap<>()).computeIfAbsent(uuid, u -> {
+            pending++;
+            return new long[LeaderboardType.values().length];
+        });
+        sums[type.ordinal()] += delta;
+    }
+
+    /** Drop the buffered sums of one board of {@code uuid}, e.g. after their stats were reset. */
+    public synchronized void clear(UUID uuid, LeaderboardType type) {
+        for (Map<UUID, long[]> players : days.values()) {
+            long[] sums = players.get(uuid);
+            if (sums != null) sums[type.ordinal()] = 0;
+        }
+    }
+
+    /** Take everything accumulated so far, leaving the accumulator empty. */
+    public synchronized Map<Long, Map<UUID, long[]>> drain() {
+        Map<Long, Map<UUID, long[]>> drained = days;
+        days = new HashMap<>();
+        pending = 0;
+        return drained;
+    }
+
+    /** Put back sums from a {@link #drain()} whose flush failed, merging with anything added since. */
+    public synchronized void restore(Map<Long, Map<UUID, long[]>> drained) {
+        for (Map.Entry<Long, Map<UUID, long[]>> day : drained.entrySet()) {
+            for (Map.Entry<UUID, long[]> player : day.getValue().entrySet()) {
+                long[] back = player.getValue();
+                for (LeaderboardType type : LeaderboardType.values()) {
+                    add(day.getKey(), player.getKey(), type, back[type.ordinal()]);
+                }
+            }
+        }
+    }
+
+    /** Number of (day, player) rows waiting to be flushed. */
+    public synchronized int size() {
+        return pending;
+    }
+}
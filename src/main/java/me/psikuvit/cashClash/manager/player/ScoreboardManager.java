@@ -1,56 +1,88 @@
 package me.psikuvit.cashClash.manager.player;
 
+import me.psikuvit.cashClash.config.ConfigManager;
 import me.psikuvit.cashClash.game.GameSession;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.manager.Shutdownable;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.scoreboard.ScoreboardProvider;
+import me.psikuvit.cashClash.scoreboard.SidebarFrame;
+import me.psikuvit.cashClash.scoreboard.SidebarPipeline;
+import me.psikuvit.cashClash.scoreboard.SidebarRenderer;
 import me.psikuvit.cashClash.scoreboard.context.ContextType;
 import me.psikuvit.cashClash.scoreboard.context.ScoreboardContext;
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderEvent;
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderRegistry;
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderTemplate;
 import me.psikuvit.cashClash.util.Messages;
-import me.psikuvit.cashClash.util.SchedulerUtils;
 import me.psikuvit.cashClash.util.effects.TeamColorUtils;
-import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
-import org.bukkit.scoreboard.Criteria;
-import org.bukkit.scoreboard.DisplaySlot;
 import org.bukkit.scoreboard.Objective;
-import org.bukkit.scoreboard.Score;
 import org.bukkit.scoreboard.Scoreboard;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unified scoreboard manager for both lobby and game scoreboards.
  * Automatically switches between contexts based on player state (lobby or game).
  * Uses ScoreboardProvider to auto-detect gamemode and context.
+ * <p>
+ * Periodic session updates go through the {@link SidebarPipeline}: placeholders are filled on
+ * the main thread, formatting happens async and the result is applied back on the main thread.
+ * Lines are rendered from the context's compiled templates against one placeholder registry
+ * per session, so placeholders are bound to their providers once per session, not per update,
+ * and session- and team-wide values are computed once per update rather than once per viewer.
+ * <p>
+ * Session sidebars are updated by event: game code calls {@link #invalidate} when kills, coins,
+ * flags or Kill Confirm scores change, and on the session's next tick only the lines using
+ * placeholders that event invalidates are rendered again - each viewer's other lines keep
+ * their last text. Countdowns are refreshed once a second, and a full refresh every
+ * {@code scoreboard-updates.interval-ticks} catches anything no event covers.
+ * Every map here is only touched from the main thread, bar the dirty events of a session.
  */
 public class ScoreboardManager implements Shutdownable {
 
-    // Map of playerUUID -> (sessionId -> Scoreboard) for game scoreboards
-    private final Map<UUID, Map<UUID, Scoreboard>> gamePlayerBoards;
-    // Map of playerUUID -> Scoreboard for lobby scoreboards
-    private final Map<UUID, Scoreboard> lobbyPlayerBoards;
-    // Map of sessionId -> update task
-    private final Map<UUID, BukkitTask> sessionUpdateTasks;
+    private static final long CLOCK_TICKS = 20L;
+
+    // Map of playerUUID -> (sessionId -> sidebar) for game scoreboards
+    private final Map<UUID, Map<UUID, SidebarRenderer>> gamePlayerBoards;
+    // Map of playerUUID -> sidebar for lobby scoreboards
+    private final Map<UUID, SidebarRenderer> lobbyPlayerBoards;
+    // Map of sessionId -> update schedule, ticked on the session's tick engine
+    private final Map<UUID, SessionUpdates> sessionUpdates;
+    // Map of sessionId -> sidebar render counters, plus one for the lobby
+    private final Map<UUID, SidebarRenderer.Stats> sessionStats;
+    private final SidebarRenderer.Stats lobbyStats;
+    // Map of sessionId -> placeholder registry of that session
+    private final Map<UUID, PlaceholderRegistry> sessionRegistries;
     // Map of playerUUID -> current context type (for detecting changes)
     private final Map<UUID, ContextType> playerContexts;
 
     private final GameManager gameManager;
     private final TabListManager tabListManager;
+    private final SidebarPipeline pipeline;
+    private final long fullRefreshTicks;
 
-    public ScoreboardManager(GameManager gameManager, TabListManager tabListManager) {
+    public ScoreboardManager(GameManager gameManager, TabListManager tabListManager, ConfigManager configManager) {
         this.gameManager = gameManager;
         this.tabListManager = tabListManager;
+        this.pipeline = new SidebarPipeline(configManager.getScoreboardApplyBudgetMicros());
+        this.fullRefreshTicks = configManager.getScoreboardUpdateIntervalTicks();
         this.gamePlayerBoards = new HashMap<>();
         this.lobbyPlayerBoards = new HashMap<>();
-        this.sessionUpdateTasks = new HashMap<>();
+        this.sessionUpdates = new ConcurrentHashMap<>();
         this.playerContexts = new HashMap<>();
+        this.sessionStats = new ConcurrentHashMap<>();
+        this.lobbyStats = new SidebarRenderer.Stats();
+        this.sessionRegistries = new HashMap<>();
     }
 
     /**
@@ -94,7 +126,7 @@ public class ScoreboardManager implements Shutdownable {
         }
 
         Scoreboard board = Objects.requireNonNull(Bukkit.getScoreboardManager()).getNewScoreboard();
-        lobbyPlayerBoards.put(player.getUniqueId(), board);
+        lobbyPlayerBoards.put(player.getUniqueId(), new SidebarRenderer(board, objectiveName(player), lobbyStats));
         player.setScoreboard(board);
 
         updatePlayerScoreboard(player);
@@ -119,7 +151,9 @@ public class ScoreboardManager implements Shutdownable {
 
         // Store in game boards
         UUID sessionId = session.getSessionId();
-        gamePlayerBoards.computeIfAbsent(player.getUniqueId(), k -> new HashMap<>()).put(sessionId, board);
+        SidebarRenderer.Stats stats = sessionStats.computeIfAbsent(sessionId, k -> new SidebarRenderer.Stats());
+        gamePlayerBoards.computeIfAbsent(player.getUniqueId(), k -> new HashMap<>())
+                .put(sessionId, new SidebarRenderer(board, objectiveName(player), stats));
 
         player.setScoreboard(board);
 
@@ -130,9 +164,11 @@ public class ScoreboardManager implements Shutdownable {
         updatePlayerScoreboard(player);
 
         // Start update task if not already running for this session
-        if (!sessionUpdateTasks.containsKey(sessionId)) {
-            BukkitTask task = SchedulerUtils.runTaskTimerAsync(() -> updateSessionScoreboards(sessionId), 0L, 20L);
-            sessionUpdateTasks.put(sessionId, task);
+        if (!sessionUpdates.containsKey(sessionId)) {
+            SessionUpdates updates = new SessionUpdates();
+            updates.task = session.getTickEngine().schedule("scoreboard.flush",
+                    () -> flushSession(session, updates), 1L, 1L);
+            sessionUpdates.put(sessionId, updates);
         }
     }
 
@@ -147,15 +183,19 @@ public class ScoreboardManager implements Shutdownable {
         UUID playerUuid = player.getUniqueId();
 
         // Remove lobby scoreboard
-        Scoreboard lobbyBoard = lobbyPlayerBoards.remove(playerUuid);
+        SidebarRenderer lobbyBoard = lobbyPlayerBoards.remove(playerUuid);
         if (lobbyBoard != null) {
-            lobbyBoard.getObjectives().forEach(Objective::unregister);
+            lobbyBoard.close();
+            lobbyBoard.getBoard().getObjectives().forEach(Objective::unregister);
         }
 
         // Remove game scoreboards
-        Map<UUID, Scoreboard> gameBoards = gamePlayerBoards.remove(playerUuid);
+        Map<UUID, SidebarRenderer> gameBoards = gamePlayerBoards.remove(playerUuid);
         if (gameBoards != null) {
-            gameBoards.values().forEach(board -> board.getObjectives().forEach(Objective::unregister));
+            gameBoards.values().forEach(sidebar -> {
+                sidebar.close();
+                sidebar.getBoard().getObjectives().forEach(Objective::unregister);
+            });
         }
 
         // Remove context
@@ -168,7 +208,7 @@ public class ScoreboardManager implements Shutdownable {
     }
 
     /**
-     * Update scoreboard for a specific player
+     * Update scoreboard for a specific player right away, bypassing the pipeline
      */
     public void updatePlayerScoreboard(Player player) {
         if (player == null || !player.isOnline()) {
@@ -176,96 +216,153 @@ public class ScoreboardManager implements Shutdownable {
         }
 
         GameSession session = gameManager.getPlayerSession(player);
-        ScoreboardContext context = ScoreboardProvider.getContext(player);
-
-        Scoreboard board = null;
-        if (session != null) {
-            Map<UUID, Scoreboard> playerBoards = gamePlayerBoards.get(player.getUniqueId());
-            if (playerBoards != null) {
-                board = playerBoards.get(session.getSessionId());
-            }
-        } else {
-            board = lobbyPlayerBoards.get(player.getUniqueId());
-        }
-
-        if (board == null) {
+        SidebarRenderer sidebar = getSidebar(player, session);
+        if (sidebar == null) {
             return;
         }
 
-        updateScoreboard(player, board, context, session);
+        ScoreboardContext context = ScoreboardProvider.getContext(player);
+        PlaceholderRegistry registry = getRegistry(session);
+        registry.beginCycle();
+        sidebar.render(player, context, context.getTitleTemplate().render(registry, player),
+                fillLines(player, context, registry, PlaceholderEvent.ALL, null));
     }
 
     /**
-     * Update all scoreboards for a session
+     * Mark the sidebar lines that depend on {@code event} dirty for every viewer in
+     * {@code session}; they are re-rendered on the session's next tick. Safe to call from any
+     * thread, and a no-op for sessions without boards.
      */
-    private void updateSessionScoreboards(UUID sessionId) {
-        GameSession session = gameManager.getActiveSessions().stream()
-                .filter(s -> s.getSessionId().equals(sessionId))
-                .findFirst()
-                .orElse(null);
+    public void invalidate(GameSession session, PlaceholderEvent event) {
+        if (session == null) {
+            return;
+        }
+        SessionUpdates updates = sessionUpdates.get(session.getSessionId());
+        if (updates != null) {
+            updates.dirty.getAndAccumulate(event.bit(), (a, b) -> a | b);
+        }
+    }
 
+    private SidebarRenderer getSidebar(Player player, GameSession session) {
         if (session == null) {
-            cancelUpdateTask(sessionId);
+            return lobbyPlayerBoards.get(player.getUniqueId());
+        }
+        Map<UUID, SidebarRenderer> playerBoards = gamePlayerBoards.get(player.getUniqueId());
+        return playerBoards != null ? playerBoards.get(session.getSessionId()) : null;
+    }
+
+    /**
+     * Runs every tick of a session: collects the events invalidated since the last tick, adds
+     * the clock and the full refresh when due, and updates the sidebars if anything is dirty.
+     */
+    private void flushSession(GameSession session, SessionUpdates updates) {
+        long tick = ++updates.ticks;
+        int events = updates.dirty.getAndSet(0);
+        if (tick % fullRefreshTicks == 0) {
+            events = PlaceholderEvent.ALL;
+        } else if (tick % CLOCK_TICKS == 0) {
+            events |= PlaceholderEvent.CLOCK.bit();
+        }
+        if (events == 0) {
             return;
         }
 
-        // A round-end Sequence is holding the result on screen - freeze the scoreboard too.
+        // A round-end Sequence is holding the result on screen - freeze the scoreboard too,
+        // and flush what changed meanwhile once it is released.
         if (session.isActionsRestricted()) {
+            updates.dirty.getAndAccumulate(events, (a, b) -> a | b);
             return;
         }
 
+        captureSessionScoreboards(session, events);
+    }
+
+    /**
+     * Capture stage for a session's update: fill every viewer's placeholders invalidated by
+     * {@code events} here on the main thread and hand the frames to the pipeline for formatting.
+     * Viewers with nothing invalidated get no frame.
+     */
+    private void captureSessionScoreboards(GameSession session, int events) {
+        // Session and team values are computed once here and shared by every viewer
+        PlaceholderRegistry registry = getRegistry(session);
+        registry.beginCycle();
+        // Viewers of a session nearly always share a context
+        ScoreboardContext lastContext = null;
+        int lastContextEvents = 0;
+
+        List<SidebarFrame> frames = new ArrayList<>();
         for (UUID playerUuid : session.getPlayers()) {
             Player player = Bukkit.getPlayer(playerUuid);
             if (player == null || !player.isOnline()) {
                 continue;
             }
 
-            updatePlayerScoreboard(player);
-        }
-    }
-
-    /**
-     * Internal: Update a specific scoreboard
-     */
-    private void updateScoreboard(Player player, Scoreboard board, ScoreboardContext context, GameSession session) {
-        Component title = context.getTitle(player, session);
-        List<String> lines = context.getLines(player, session);
+            SidebarRenderer sidebar = getSidebar(player, session);
+            if (sidebar == null) {
+                continue;
+            }
 
-        String objName = "scoreboard_" + player.getUniqueId().toString().substring(0, 8);
+            ScoreboardContext context = ScoreboardProvider.getContext(player);
+            if (context != lastContext) {
+                lastContext = context;
+                lastContextEvents = invalidatingEvents(context, registry);
+            }
 
-        Objective oldObj = board.getObjective(objName);
-        if (oldObj != null) {
-            oldObj.unregister();
+            String title;
+            List<String> lines;
+            if (events != PlaceholderEvent.ALL && sidebar.isCapturedFrom(context)) {
+                if ((lastContextEvents & events) == 0) {
+                    continue;
+                }
+                PlaceholderTemplate titleTemplate = context.getTitleTemplate();
+                title = (registry.getInvalidatingEvents(titleTemplate) & events) != 0
+                        ? titleTemplate.render(registry, player) : sidebar.getCapturedTitle();
+                lines = fillLines(player, context, registry, events, sidebar.getCapturedLines());
+            } else {
+                title = context.getTitleTemplate().render(registry, player);
+                lines = fillLines(player, context, registry, PlaceholderEvent.ALL, null);
+            }
+            frames.add(sidebar.capture(player, context, title, lines));
         }
+        pipeline.submit(frames);
+    }
 
-        Objective objective = board.registerNewObjective(objName, Criteria.DUMMY, title);
-        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+    private static int invalidatingEvents(ScoreboardContext context, PlaceholderRegistry registry) {
+        int events = registry.getInvalidatingEvents(context.getTitleTemplate());
+        for (PlaceholderTemplate line : context.getLineTemplates()) {
+            events |= registry.getInvalidatingEvents(line);
+        }
+        return events;
+    }
 
-        int score = lines.size();
-        int lineIndex = 0;
-        for (String line : lines) {
-            String filled = context.fillPlaceholders(line, player, session);
+    private PlaceholderRegistry getRegistry(GameSession session) {
+        if (session == null) {
+            return PlaceholderRegistry.forLobby();
+        }
+        return sessionRegistries.computeIfAbsent(session.getSessionId(), k -> PlaceholderRegistry.forGameSession(session));
+    }
 
-            if (filled.length() > 40) {
-                filled = filled.substring(0, 40);
-                // Remove incomplete color tags at the end
-                filled = filled.replaceAll("</?[a-z]*$", "");
+    /**
+     * Fill a viewer's lines. Lines not invalidated by {@code events} keep their text from
+     * {@code previous}, when given.
+     */
+    private static List<String> fillLines(Player player, ScoreboardContext context, PlaceholderRegistry registry,
+                                          int events, List<String> previous) {
+        List<PlaceholderTemplate> lines = context.getLineTemplates();
+        List<String> filled = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            PlaceholderTemplate line = lines.get(i);
+            if (previous != null && i < previous.size() && (registry.getInvalidatingEvents(line) & events) == 0) {
+                filled.add(previous.get(i));
+            } else {
+                filled.add(line.render(registry, player));
             }
-
-            // Create unique entry name using line index to prevent duplicates
-            String entryName = filled.isEmpty() ? "§" + Integer.toHexString(lineIndex % 16) : filled;
-            // Append line index to ensure uniqueness
-            String uniqueEntry = entryName + "§r" + lineIndex;
-
-            Score scoreObj = objective.getScore(uniqueEntry);
-            scoreObj.customName(Messages.parse(filled.isEmpty() ? entryName : filled));
-            scoreObj.setScore(score--);
-            lineIndex++;
         }
+        return filled;
+    }
 
-        if (player.getScoreboard() != board) {
-            player.setScoreboard(board);
-        }
+    private static String objectiveName(Player player) {
+        return "scoreboard_" + player.getUniqueId().toString().substring(0, 8);
     }
 
     /**
@@ -274,21 +371,42 @@ public class ScoreboardManager implements Shutdownable {
     public void removeBoard(UUID sessionId) {
         cancelUpdateTask(sessionId);
 
-        for (Map<UUID, Scoreboard> playerBoards : gamePlayerBoards.values()) {
-            Scoreboard board = playerBoards.remove(sessionId);
-            if (board != null) {
-                board.getObjectives().forEach(Objective::unregister);
+        for (Map<UUID, SidebarRenderer> playerBoards : gamePlayerBoards.values()) {
+            SidebarRenderer sidebar = playerBoards.remove(sessionId);
+            if (sidebar != null) {
+                sidebar.close();
+                sidebar.getBoard().getObjectives().forEach(Objective::unregister);
             }
         }
+
+        sessionRegistries.remove(sessionId);
+
+        SidebarRenderer.Stats stats = sessionStats.remove(sessionId);
+        if (stats != null) {
+            Messages.debug("SCOREBOARD", "Sidebars of session " + sessionId + ": " + stats);
+        }
+    }
+
+    /**
+     * Sidebar render counters of a session - line updates and packets sent and saved by only
+     * pushing changed lines - or null if it has no boards.
+     */
+    public SidebarRenderer.Stats getSidebarStats(UUID sessionId) {
+        return sessionStats.get(sessionId);
+    }
+
+    /** Sidebar render counters of every lobby board since startup. */
+    public SidebarRenderer.Stats getLobbySidebarStats() {
+        return lobbyStats;
     }
 
     /**
      * Cancel update task for a session
      */
     private void cancelUpdateTask(UUID sessionId) {
-        BukkitTask task = sessionUpdateTasks.remove(sessionId);
-        if (task != null) {
-            task.cancel();
+        SessionUpdates updates = sessionUpdates.remove(sessionId);
+        if (updates != null) {
+            updates.task.cancel();
         }
     }
 
@@ -296,16 +414,19 @@ public class ScoreboardManager implements Shutdownable {
      * Shutdown all scoreboards
      */
     public void shutdown() {
-        sessionUpdateTasks.values().forEach(BukkitTask::cancel);
-        sessionUpdateTasks.clear();
+        sessionUpdates.values().forEach(updates -> updates.task.cancel());
+        sessionUpdates.clear();
+        pipeline.shutdown();
 
         gamePlayerBoards.forEach((playerUuid, boards) ->
-                boards.values().forEach(board -> board.getObjectives().forEach(Objective::unregister))
+                boards.values().forEach(sidebar -> sidebar.getBoard().getObjectives().forEach(Objective::unregister))
         );
         gamePlayerBoards.clear();
 
-        lobbyPlayerBoards.values().forEach(board -> board.getObjectives().forEach(Objective::unregister));
+        lobbyPlayerBoards.values().forEach(sidebar -> sidebar.getBoard().getObjectives().forEach(Objective::unregister));
         lobbyPlayerBoards.clear();
+        sessionStats.clear();
+        sessionRegistries.clear();
 
         playerContexts.clear();
     }
@@ -333,5 +454,12 @@ public class ScoreboardManager implements Shutdownable {
             }
         }
     }
-}
 
+    /** A session's update schedule: events invalidated since its last tick, and the tick count. */
+    private static final class SessionUpdates {
+
+        final AtomicInteger dirty = new AtomicInteger();
+        TickTask task;
+        long ticks;
+    }
+}
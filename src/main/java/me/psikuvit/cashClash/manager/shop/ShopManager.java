@@ -162,7 +162,7 @@ public class ShopManager {
      * Start a repeating task that makes all shop villagers look at the nearest player.
      */
     private void startLookAtPlayerTask() {
-        lookAtPlayerTask = SchedulerUtils.runTaskTimer(() -> {
+        lookAtPlayerTask = SchedulerUtils.runTaskTimer("shop.look-at-player", () -> {
             // Iterate through all tracked shop entities
             for (UUID entityId : entityToSession.keySet()) {
                 Entity entity = Bukkit.getEntity(entityId);
@@ -7,6 +7,8 @@ import me.psikuvit.cashClash.kit.Kit;
 import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.manager.items.custom.CustomItemManager;
 import me.psikuvit.cashClash.manager.player.PlayerDataManager;
+import me.psikuvit.cashClash.manager.player.ScoreboardManager;
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderEvent;
 import me.psikuvit.cashClash.shop.EnchantEntry;
 import me.psikuvit.cashClash.shop.ShopCategory;
 import me.psikuvit.cashClash.util.Messages;
@@ -87,6 +89,7 @@ public class CashClashPlayer {
         this.coins = 10000;
         this.lives = 99999; // Infinite lives
         this.deathsThisRound = 0;
+        coinsChanged();
     }
 
     public void initializeRound(int roundNumber) {
@@ -98,6 +101,7 @@ public class CashClashPlayer {
                 }
             }
         }
+        coinsChanged();
 
         // Reset round-specific stats
         this.lives = 99999; // Infinite lives
@@ -118,11 +122,13 @@ public class CashClashPlayer {
 
     public void deductCoins(long amount) {
         this.coins -= amount;
+        coinsChanged();
         Messages.debug(player, "ECONOMY", "Deducted $" + amount + " (Total: $" + this.coins + ")");
     }
 
     public void addCoins(long amount) {
         coins += amount;
+        coinsChanged();
         // Track lifetime coins earned for the leaderboard (excludes refunds/admin grants)
         PlayerDataManager manager = CashClashPlugin.getInstance().getPlayerDataManager();
         if (manager != null) manager.addEarnedCoins(uuid, amount);
@@ -135,6 +141,7 @@ public class CashClashPlayer {
      */
     public void addCoinsSilently(long amount) {
         coins += amount;
+        coinsChanged();
         Messages.debug(player, "ECONOMY", "Added $" + amount + " silently (Total: $" + this.coins + ")");
     }
 
@@ -660,6 +667,16 @@ public class CashClashPlayer {
 
     public void setCoins(long coins) {
         this.coins = coins;
+        coinsChanged();
+    }
+
+    /** Coin lines on the session's scoreboards are stale now. */
+    private void coinsChanged() {
+        CashClashPlugin plugin = CashClashPlugin.getInstance();
+        ScoreboardManager scoreboardManager = plugin.getScoreboardManager();
+        if (scoreboardManager != null) {
+            scoreboardManager.invalidate(plugin.getGameManager().getPlayerSession(player), PlaceholderEvent.COINS);
+        }
     }
 
     public long getInvestedCoins() {
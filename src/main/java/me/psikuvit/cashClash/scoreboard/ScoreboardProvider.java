@@ -4,123 +4,88 @@ import me.psikuvit.cashClash.CashClashPlugin;
 
 import me.psikuvit.cashClash.config.ConfigManager;
 import me.psikuvit.cashClash.game.GameSession;
-import me.psikuvit.cashClash.manager.game.GameManager;
 import me.psikuvit.cashClash.scoreboard.context.ContextType;
 import me.psikuvit.cashClash.scoreboard.context.ScoreboardContext;
 import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderRegistry;
-import me.psikuvit.cashClash.util.Messages;
-import net.kyori.adventure.text.Component;
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderTemplate;
 import org.bukkit.entity.Player;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Factory class for selecting and providing appropriate scoreboard contexts
  * Auto-detects player state (lobby or game) and creates appropriate context
+ * <p>
+ * Contexts are loaded from the config once, with their title and lines compiled into
+ * {@link PlaceholderTemplate}s, and shared by every player in that state until {@link #reload()}.
  */
 public class ScoreboardProvider {
 
-    private static final ScoreboardContext LOBBY_CONTEXT = new ScoreboardContext() {
-        @Override
-        public Component getTitle(Player player, GameSession session) {
-            String titleRaw = CashClashPlugin.getInstance().getConfigManager().getLobbyScoreboardTitle();
-            return Messages.parse(fillPlaceholders(titleRaw, player, session));
-        }
-
-        @Override
-        public List<String> getLines(Player player, GameSession session) {
-            return CashClashPlugin.getInstance().getConfigManager().getLobbyScoreboardLines();
-        }
-
-        @Override
-        public String fillPlaceholders(String line, Player player, GameSession session) {
-            PlaceholderRegistry registry = PlaceholderRegistry.forLobby();
-            return registry.fillPlaceholders(line, player);
-        }
-
-        @Override
-        public ContextType getContextType() {
-            return ContextType.LOBBY;
-        }
-    };
+    private static volatile Map<ContextType, ScoreboardContext> contexts;
 
     /**
      * Get the appropriate scoreboard context for a player
      */
     public static ScoreboardContext getContext(Player player) {
         GameSession session = CashClashPlugin.getInstance().getGameManager().getPlayerSession(player);
+        return loaded().get(getContextType(session));
+    }
 
+    private static ContextType getContextType(GameSession session) {
         if (session == null) {
-            return LOBBY_CONTEXT;
+            return ContextType.LOBBY;
         }
 
         // Check if in sudden death
-        boolean inSuddenDeath = session.getGamemode().getSuddenDeathManager().isInSuddenDeath();
-
-        return new ScoreboardContext() {
-            @Override
-            public Component getTitle(Player player, GameSession session) {
-                String configTitle;
-                if (inSuddenDeath) {
-                    configTitle = switch (session.getGamemode().getType()) {
-                        case CAPTURE_THE_FLAG -> CashClashPlugin.getInstance().getConfigManager().getCTFSuddenDeathScoreboardTitle();
-                        case PROTECT_THE_PRESIDENT -> CashClashPlugin.getInstance().getConfigManager().getPTPSuddenDeathScoreboardTitle();
-                        case KILL_CONFIRM -> CashClashPlugin.getInstance().getConfigManager().getKCSuddenDeathScoreboardTitle();
-                    };
-                } else {
-                    configTitle = switch (session.getGamemode().getType()) {
-                        case CAPTURE_THE_FLAG -> CashClashPlugin.getInstance().getConfigManager().getCTFScoreboardTitle();
-                        case PROTECT_THE_PRESIDENT -> CashClashPlugin.getInstance().getConfigManager().getPTPScoreboardTitle();
-                        case KILL_CONFIRM -> CashClashPlugin.getInstance().getConfigManager().getKCScoreboardTitle();
-                    };
-                }
-                String filled = fillPlaceholders(configTitle, player, session);
-                return Messages.parse(filled);
-            }
+        if (session.getGamemode().getSuddenDeathManager().isInSuddenDeath()) {
+            return switch (session.getGamemode().getType()) {
+                case CAPTURE_THE_FLAG -> ContextType.CTF_SUDDEN_DEATH;
+                case PROTECT_THE_PRESIDENT -> ContextType.PTP_SUDDEN_DEATH;
+                case KILL_CONFIRM -> ContextType.KILL_CONFIRM_SUDDEN_DEATH;
+            };
+        }
+        return switch (session.getGamemode().getType()) {
+            case CAPTURE_THE_FLAG -> ContextType.CTF;
+            case PROTECT_THE_PRESIDENT -> ContextType.PTP;
+            case KILL_CONFIRM -> ContextType.KILL_CONFIRM;
+        };
+    }
 
-            @Override
-            public List<String> getLines(Player player, GameSession session) {
-                if (inSuddenDeath) {
-                    return switch (session.getGamemode().getType()) {
-                        case CAPTURE_THE_FLAG -> CashClashPlugin.getInstance().getConfigManager().getCTFSuddenDeathScoreboardLines();
-                        case PROTECT_THE_PRESIDENT -> CashClashPlugin.getInstance().getConfigManager().getPTPSuddenDeathScoreboardLines();
-                        case KILL_CONFIRM -> CashClashPlugin.getInstance().getConfigManager().getKCSuddenDeathScoreboardLines();
-                    };
-                } else {
-                    return switch (session.getGamemode().getType()) {
-                        case CAPTURE_THE_FLAG -> CashClashPlugin.getInstance().getConfigManager().getCTFScoreboardLines();
-                        case PROTECT_THE_PRESIDENT -> CashClashPlugin.getInstance().getConfigManager().getPTPScoreboardLines();
-                        case KILL_CONFIRM -> CashClashPlugin.getInstance().getConfigManager().getKCScoreboardLines();
-                    };
-                }
-            }
+    /**
+     * Recompile every context from the config, e.g. after a config reload
+     */
+    public static void reload() {
+        contexts = load(CashClashPlugin.getInstance().getConfigManager());
+    }
 
-            @Override
-            public String fillPlaceholders(String line, Player player, GameSession session) {
-                if (session == null || player == null) {
-                    return line;
-                }
-                PlaceholderRegistry registry = PlaceholderRegistry.forGameSession(session, player);
-                return registry.fillPlaceholders(line, player);
-            }
+    private static Map<ContextType, ScoreboardContext> loaded() {
+        Map<ContextType, ScoreboardContext> loaded = contexts;
+        if (loaded == null) {
+            loaded = load(CashClashPlugin.getInstance().getConfigManager());
+            contexts = loaded;
+        }
+        return loaded;
+    }
 
-            @Override
-            public ContextType getContextType() {
-                if (inSuddenDeath) {
-                    return switch (session.getGamemode().getType()) {
-                        case CAPTURE_THE_FLAG -> ContextType.CTF_SUDDEN_DEATH;
-                        case PROTECT_THE_PRESIDENT -> ContextType.PTP_SUDDEN_DEATH;
-                        case KILL_CONFIRM -> ContextType.KILL_CONFIRM_SUDDEN_DEATH;
-                    };
-                } else {
-                    return switch (session.getGamemode().getType()) {
-                        case CAPTURE_THE_FLAG -> ContextType.CTF;
-                        case PROTECT_THE_PRESIDENT -> ContextType.PTP;
-                        case KILL_CONFIRM -> ContextType.KILL_CONFIRM;
-                    };
-                }
-            }
-        };
+    private static Map<ContextType, ScoreboardContext> load(ConfigManager config) {
+        Map<ContextType, ScoreboardContext> loaded = new EnumMap<>(ContextType.class);
+        loaded.put(ContextType.LOBBY, new CompiledContext(ContextType.LOBBY,
+                config.getLobbyScoreboardTitle(), config.getLobbyScoreboardLines()));
+        loaded.put(ContextType.CTF, new CompiledContext(ContextType.CTF,
+                config.getCTFScoreboardTitle(), config.getCTFScoreboardLines()));
+        loaded.put(ContextType.PTP, new CompiledContext(ContextType.PTP,
+                config.getPTPScoreboardTitle(), config.getPTPScoreboardLines()));
+        loaded.put(ContextType.KILL_CONFIRM, new CompiledContext(ContextType.KILL_CONFIRM,
+                config.getKCScoreboardTitle(), config.getKCScoreboardLines()));
+        loaded.put(ContextType.CTF_SUDDEN_DEATH, new CompiledContext(ContextType.CTF_SUDDEN_DEATH,
+                config.getCTFSuddenDeathScoreboardTitle(), config.getCTFSuddenDeathScoreboardLines()));
+        loaded.put(ContextType.PTP_SUDDEN_DEATH, new CompiledContext(ContextType.PTP_SUDDEN_DEATH,
+                config.getPTPSuddenDeathScoreboardTitle(), config.getPTPSuddenDeathScoreboardLines()));
+        loaded.put(ContextType.KILL_CONFIRM_SUDDEN_DEATH, new CompiledContext(ContextType.KILL_CONFIRM_SUDDEN_DEATH,
+                config.getKCSuddenDeathScoreboardTitle(), config.getKCSuddenDeathScoreboardLines()));
+        return loaded;
     }
 
     /**
@@ -135,5 +100,70 @@ public class ScoreboardProvider {
 
         return previousContext != currentContext.getContextType();
     }
-}
 
+    /**
+     * A context whose title and lines were compiled when it was loaded. Rendering through
+     * these methods binds a fresh registry per call; hot paths keep a registry per session and
+     * render the templates against it.
+     */
+    private static final class CompiledContext implements ScoreboardContext {
+
+        private final ContextType type;
+        private final PlaceholderTemplate title;
+        private final List<PlaceholderTemplate> lines;
+        private final List<String> rawLines;
+
+        CompiledContext(ContextType type, String title, List<String> lines) {
+            this.type = type;
+            this.title = PlaceholderTemplate.compile(title);
+            this.lines = PlaceholderTemplate.compileAll(lines);
+            this.rawLines = List.copyOf(lines);
+        }
+
+        @Override
+        public String getRawTitle(Player player, GameSession session) {
+            PlaceholderRegistry registry = registry(session);
+            if (registry == null) {
+                return title.getSource();
+            }
+            registry.beginCycle();
+            return title.render(registry, player);
+        }
+
+        @Override
+        public List<String> getLines(Player player, GameSession session) {
+            return rawLines;
+        }
+
+        @Override
+        public PlaceholderTemplate getTitleTemplate() {
+            return title;
+        }
+
+        @Override
+        public List<PlaceholderTemplate> getLineTemplates() {
+            return lines;
+        }
+
+        @Override
+        public String fillPlaceholders(String line, Player player, GameSession session) {
+            PlaceholderRegistry registry = registry(session);
+            if (registry == null || player == null && type.isGameContext()) {
+                return line;
+            }
+            return registry.fillPlaceholders(line, player);
+        }
+
+        private PlaceholderRegistry registry(GameSession session) {
+            if (type.isLobbyContext()) {
+                return PlaceholderRegistry.forLobby();
+            }
+            return session != null ? PlaceholderRegistry.forGameSession(session) : null;
+        }
+
+        @Override
+        public ContextType getContextType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package me.psikuvit.cashClash.scoreboard;
+
+import me.psikuvit.cashClash.util.Messages;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+
+/**
+ * One sidebar update on its way through the {@link SidebarPipeline}: the title and lines
+ * captured for a viewer on the main thread, and the components formatted from them off it.
+ * <p>
+ * Everything read by {@link #format()} is an immutable copy taken at capture, so it can run on
+ * any thread; the viewer and sidebar are only touched again when the frame is applied on the
+ * main thread.
+ */
+public final class SidebarFrame {
+
+    final Player viewer;
+    final SidebarRenderer sidebar;
+    final long sequence;
+
+    final String title;
+    final List<String> lines;
+    // What the sidebar showed at capture; only differing text is formatted
+    private final String previousTitle;
+    private final List<String> previousLines;
+
+    Component titleComponent;
+    Component[] lineComponents;
+
+    SidebarFrame(Player viewer, SidebarRenderer sidebar, long sequence, String title, List<String> lines,
+                 String previousTitle, List<String> previousLines) {
+        this.viewer = viewer;
+        this.sidebar = sidebar;
+        this.sequence = sequence;
+        this.title = title;
+        this.lines = lines;
+        this.previousTitle = previousTitle;
+        this.previousLines = previousLines;
+    }
+
+    /** Parse the MiniMessage of every title and line that changed. Safe off the main thread. */
+    void format() {
+        if (!title.equals(previousTitle)) {
+            titleComponent = Messages.parse(title);
+        }
+        lineComponents = new Component[lines.size()];
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (i < previousLines.size() && line.equals(previousLines.get(i))) continue;
+            lineComponents[i] = Messages.parse(line);
+        }
+    }
+
+    /** Push this frame to its sidebar. Main thread only. */
+    void apply() {
+        if (sidebar.apply(this) && viewer.isOnline() && viewer.getScoreboard() != sidebar.getBoard()) {
+            viewer.setScoreboard(sidebar.getBoard());
+        }
+    }
+
+    Component titleComponent() {
+        return titleComponent != null ? titleComponent : Messages.parse(title);
+    }
+
+    Component lineComponent(int index) {
+        Component component = lineComponents != null ? lineComponents[index] : null;
+        return component != null ? component : Messages.parse(lines.get(index));
+    }
+}
@@ -0,0 +1,91 @@
+package me.psikuvit.cashClash.scoreboard;
+
+import me.psikuvit.cashClash.CashClashPlugin;
+import me.psikuvit.cashClash.util.SchedulerUtils;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Moves periodic sidebar updates through three stages, so MiniMessage formatting happens off
+ * the main thread without the async side ever reading game state or touching Bukkit:
+ * <ol>
+ *     <li>capture - main thread: the caller fills each viewer's placeholders and takes an
+ *     immutable {@link SidebarFrame} ({@link SidebarRenderer#capture}),</li>
+ *     <li>format - async: each submitted batch parses its changed lines on the scheduler's
+ *     async pool, batches of different sessions in parallel,</li>
+ *     <li>apply - main thread: formatted frames are pushed to their sidebars once per tick,
+ *     within a time budget; frames left over wait for the next tick.</li>
+ * </ol>
+ * The apply timer only runs while frames are being formatted or waiting to be applied; it
+ * stops once both are done and the next {@link #submit} starts it again.
+ */
+public class SidebarPipeline {
+
+    private final Queue<SidebarFrame> formatted = new ConcurrentLinkedQueue<>();
+    // Batches submitted whose formatting hasn't finished yet
+    private final AtomicInteger formatting = new AtomicInteger();
+    private final long budgetNanos;
+    private BukkitTask applyTask;
+
+    /**
+     * @param budgetMicros main-thread time per tick spent applying frames; at least one frame
+     *                     is applied per tick regardless
+     */
+    public SidebarPipeline(long budgetMicros) {
+        this.budgetNanos = budgetMicros * 1000L;
+    }
+
+    /** Format {@code frames} off the main thread and queue them to be applied. */
+    public void submit(List<SidebarFrame> frames) {
+        if (frames.isEmpty()) return;
+        if (applyTask == null) {
+            applyTask = SchedulerUtils.runTaskTimer("scoreboard.apply", this::applyFormatted, 1L, 1L);
+        }
+
+        formatting.incrementAndGet();
+        BukkitTask task = SchedulerUtils.runTaskAsync(() -> {
+            try {
+                for (SidebarFrame frame : frames) {
+                    try {
+                        frame.format();
+                        formatted.add(frame);
+                    } catch (Exception e) {
+                        CashClashPlugin.getInstance().getLogger().log(Level.WARNING, "Failed to format a sidebar line", e);
+                    }
+                }
+            } finally {
+                formatting.decrementAndGet();
+            }
+        });
+        if (task == null) formatting.decrementAndGet();
+    }
+
+    private void applyFormatted() {
+        long deadline = System.nanoTime() + budgetNanos;
+        SidebarFrame frame;
+        while ((frame = formatted.poll()) != null) {
+            frame.apply();
+            if (System.nanoTime() >= deadline) break;
+        }
+
+        // Read the counter first: a batch adds all its frames before it counts down
+        if (formatting.get() == 0 && formatted.isEmpty()) stopApplying();
+    }
+
+    private void stopApplying() {
+        if (applyTask != null) {
+            applyTask.cancel();
+            applyTask = null;
+        }
+    }
+
+    public void shutdown() {
+        stopApplying();
+        formatted.clear();
+    }
+}
@@ -0,0 +1,238 @@
+package me.psikuvit.cashClash.scoreboard;
+
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Score;
+import org.bukkit.scoreboard.Scoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps one player's sidebar in step with the lines rendered for it.
+ * <p>
+ * The objective and one score entry per line slot are created once. Slot entries are fixed
+ * invisible color-code names, the visible text is the score's custom name. Each render compares
+ * the title and every line with what was last sent and only pushes the ones that changed, so an
+ * unchanged sidebar costs no packets, where the old path unregistered and rebuilt the whole
+ * objective every second.
+ * <p>
+ * Updates are {@link SidebarFrame}s: {@link #capture} one, format it, and {@link #apply} it,
+ * either inline ({@link #render}) or through the {@link SidebarPipeline}. Frames are numbered,
+ * so one overtaken by a newer frame is dropped instead of rolling the sidebar back.
+ * Capture and apply run on the main thread.
+ */
+public class SidebarRenderer {
+
+    private static final int MAX_LINE_LENGTH = 40;
+    private static final String HEX = "0123456789abcdef";
+
+    private final Scoreboard board;
+    private final String objectiveName;
+    private final Stats stats;
+
+    private Objective objective;
+    private String title;
+    // Text last sent for each slot, in display order
+    private final List<String> sent = new ArrayList<>();
+
+    // What the last frame was captured from, with its title and lines as filled
+    private Object capturedSource;
+    private String capturedTitle;
+    private List<String> capturedLines = List.of();
+
+    private long captured;
+    private long applied;
+    private boolean closed;
+
+    public SidebarRenderer(Scoreboard board, String objectiveName, Stats stats) {
+        this.board = board;
+        this.objectiveName = objectiveName;
+        this.stats = stats;
+    }
+
+    public Scoreboard getBoard() {
+        return board;
+    }
+
+    /**
+     * Snapshot {@code title} and {@code lines} (placeholders already filled) for {@code viewer},
+     * together with what the sidebar currently shows.
+     *
+     * @param source what the lines were filled from, e.g. the scoreboard context; a later
+     *               capture from the same source may reuse lines of this one
+     */
+    public SidebarFrame capture(Player viewer, Object source, String title, List<String> lines) {
+        List<String> truncated = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            truncated.add(truncate(line));
+        }
+        capturedSource = source;
+        capturedTitle = title;
+        capturedLines = List.copyOf(lines);
+        return new SidebarFrame(viewer, this, ++captured, title, List.copyOf(truncated),
+                this.title != null ? this.title : "", List.copyOf(sent));
+    }
+
+    /** Capture, format and apply in one go, for updates that should show immediately. */
+    public void render(Player viewer, Object source, String title, List<String> lines) {
+        SidebarFrame frame = capture(viewer, source, title, lines);
+        frame.format();
+        frame.apply();
+    }
+
+    /** Whether the last frame was captured from {@code source}. */
+    public boolean isCapturedFrom(Object source) {
+        return source != null && source == capturedSource;
+    }
+
+    /** The title of the last captured frame, as filled. */
+    public String getCapturedTitle() {
+        return capturedTitle;
+    }
+
+    /** The lines of the last captured frame, as filled and before truncation. */
+    public List<String> getCapturedLines() {
+        return capturedLines;
+    }
+
+    /** Stop accepting frames; called when the board is taken down. */
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Show a formatted frame, sending only what differs from the last one applied.
+     *
+     * @return false if the frame was dropped: the sidebar is closed or a newer frame was applied
+     */
+    boolean apply(SidebarFrame frame) {
+        if (closed || frame.sequence <= applied) {
+            stats.framesDropped.increment();
+            return false;
+        }
+        applied = frame.sequence;
+        int packets = 0;
+
+        if (objective == null || board.getObjective(objectiveName) != objective) {
+            Objective stale = board.getObjective(objectiveName);
+            if (stale != null) stale.unregister();
+            objective = board.registerNewObjective(objectiveName, Criteria.DUMMY, frame.titleComponent());
+            objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+            title = frame.title;
+            sent.clear();
+            packets += 2;
+        } else if (!frame.title.equals(title)) {
+            objective.displayName(frame.titleComponent());
+            title = frame.title;
+            packets++;
+        }
+
+        List<String> lines = frame.lines;
+        int count = lines.size();
+        boolean resized = count != sent.size();
+
+        // Slots no longer shown
+        for (int i = sent.size() - 1; i >= count; i--) {
+            board.resetScores(entry(i));
+            sent.remove(i);
+            packets++;
+        }
+
+        int changed = 0;
+        for (int i = 0; i < count; i++) {
+            String text = lines.get(i);
+            boolean added = i >= sent.size();
+            if (added) {
+                sent.add(text);
+            } else if (text.equals(sent.get(i))) {
+                // Scores are the slot's position from the bottom, so they shift when the count changes
+                if (resized) {
+                    objective.getScore(entry(i)).setScore(count - i);
+                    packets++;
+                }
+                continue;
+            } else {
+                sent.set(i, text);
+            }
+
+            Score score = objective.getScore(entry(i));
+            score.customName(frame.lineComponent(i));
+            score.setScore(count - i);
+            changed++;
+            packets++;
+        }
+
+        // The old path: unregister, register and display the objective, then one score per line
+        stats.record(count, changed, packets, 3L + count);
+        return true;
+    }
+
+    /** Trims a line to what the old entry-name based sidebar showed, without a dangling tag. */
+    private static String truncate(String line) {
+        if (line.length() <= MAX_LINE_LENGTH) return line;
+        return line.substring(0, MAX_LINE_LENGTH).replaceAll("</?[a-z]*$", "");
+    }
+
+    /** Unique, invisible entry name for line slot {@code index}. */
+    private static String entry(int index) {
+        return "§" + HEX.charAt((index >> 4) & 0xF) + "§" + HEX.charAt(index & 0xF);
+    }
+
+    /**
+     * Render counters for a group of sidebars, e.g. every board of one session. Packet counts
+     * are estimates: one per objective, score or display-name change.
+     */
+    public static final class Stats {
+
+        private final LongAdder renders = new LongAdder();
+        private final LongAdder linesSent = new LongAdder();
+        private final LongAdder linesUnchanged = new LongAdder();
+        private final LongAdder packetsSent = new LongAdder();
+        private final LongAdder packetsSaved = new LongAdder();
+        final LongAdder framesDropped = new LongAdder();
+
+        void record(int lines, int changed, long packets, long fullRebuildPackets) {
+            renders.increment();
+            linesSent.add(changed);
+            linesUnchanged.add(lines - changed);
+            packetsSent.add(packets);
+            packetsSaved.add(Math.max(0, fullRebuildPackets - packets));
+        }
+
+        public long getRenders() {
+            return renders.sum();
+        }
+
+        public long getLinesSent() {
+            return linesSent.sum();
+        }
+
+        public long getLinesUnchanged() {
+            return linesUnchanged.sum();
+        }
+
+        public long getPacketsSent() {
+            return packetsSent.sum();
+        }
+
+        public long getPacketsSaved() {
+            return packetsSaved.sum();
+        }
+
+        /** Frames overtaken by a newer one, or arriving after their board was taken down. */
+        public long getFramesDropped() {
+            return framesDropped.sum();
+        }
+
+        @Override
+        public String toString() {
+            return getRenders() + " renders, " + getLinesSent() + " line updates sent, "
+                    + getLinesUnchanged() + " skipped as unchanged, ~" + getPacketsSent()
+                    + " packets sent, ~" + getPacketsSaved() + " saved, " + getFramesDropped() + " stale frames dropped";
+        }
+    }
+}
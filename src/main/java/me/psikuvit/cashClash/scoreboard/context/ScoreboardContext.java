@@ -1,6 +1,8 @@
 package me.psikuvit.cashClash.scoreboard.context;
 
 import me.psikuvit.cashClash.game.GameSession;
+import me.psikuvit.cashClash.scoreboard.placeholder.PlaceholderTemplate;
+import me.psikuvit.cashClash.util.Messages;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 
@@ -12,16 +14,33 @@ import java.util.List;
  */
 public interface ScoreboardContext {
 
+    /**
+     * Get the scoreboard title as MiniMessage, placeholders filled
+     */
+    String getRawTitle(Player player, GameSession session);
+
     /**
      * Get the scoreboard title
      */
-    Component getTitle(Player player, GameSession session);
+    default Component getTitle(Player player, GameSession session) {
+        return Messages.parse(getRawTitle(player, session));
+    }
 
     /**
      * Get scoreboard lines for this context
      */
     List<String> getLines(Player player, GameSession session);
 
+    /**
+     * The title, compiled once when the context was loaded
+     */
+    PlaceholderTemplate getTitleTemplate();
+
+    /**
+     * The lines, compiled once when the context was loaded
+     */
+    List<PlaceholderTemplate> getLineTemplates();
+
     /**
      * Fill all placeholders in a line with actual data
      */
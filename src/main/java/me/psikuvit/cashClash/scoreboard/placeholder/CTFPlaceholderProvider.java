@@ -5,6 +5,7 @@ import me.psikuvit.cashClash.util.FormatUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -63,6 +64,17 @@ public class CTFPlaceholderProvider implements PlaceholderProvider {
         return SUPPORTED_PLACEHOLDERS.contains(placeholder);
     }
 
+    @Override
+    public Set<PlaceholderEvent> getInvalidatingEvents(String placeholder) {
+        return placeholder.equals("money_bonus_timer") ? EnumSet.of(PlaceholderEvent.CLOCK) : EnumSet.of(PlaceholderEvent.FLAG);
+    }
+
+    @Override
+    public PlaceholderScope getScope(String placeholder) {
+        // Everything but the viewer's own money bonus describes the flags
+        return placeholder.equals("money_bonus_timer") ? PlaceholderScope.VIEWER : PlaceholderScope.SESSION;
+    }
+
     private String getCaptureCircles(int captures) {
         StringBuilder sb = new StringBuilder();
         int maxCaptures = 2;
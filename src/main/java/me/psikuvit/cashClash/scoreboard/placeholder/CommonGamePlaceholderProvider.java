@@ -8,6 +8,7 @@ import me.psikuvit.cashClash.player.CashClashPlayer;
 import me.psikuvit.cashClash.util.FormatUtils;
 import org.bukkit.entity.Player;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -160,6 +161,33 @@ public class CommonGamePlaceholderProvider implements PlaceholderProvider {
         return SUPPORTED_PLACEHOLDERS.contains(placeholder);
     }
 
+    @Override
+    public Set<PlaceholderEvent> getInvalidatingEvents(String placeholder) {
+        return switch (placeholder) {
+            case "teamRed_coins", "teamBlue_coins", "your_team_coins", "enemy_team_coins", "player_coins" ->
+                    EnumSet.of(PlaceholderEvent.COINS);
+            case "player_kills", "player_lives", "player_deaths", "kill_streak", "round_kills",
+                 "teamRed_alive", "teamBlue_alive", "your_team_alive", "enemy_team_alive" ->
+                    EnumSet.of(PlaceholderEvent.KILL);
+            // Time, phase, round wins and timers
+            default -> EnumSet.of(PlaceholderEvent.CLOCK);
+        };
+    }
+
+    @Override
+    public PlaceholderScope getScope(String placeholder) {
+        return switch (placeholder) {
+            case "phase", "state", "phase_number", "round", "time", "time_seconds",
+                 "teamRed_coins", "teamBlue_coins", "teamRed_alive", "teamBlue_alive", "players",
+                 "round_won", "teamRed_captures", "teamBlue_captures",
+                 "sudden_death_timer", "final_stand_timer" -> PlaceholderScope.SESSION;
+            case "your_team", "your_team_coins", "your_team_ready",
+                 "enemy_team", "enemy_team_coins", "enemy_team_ready",
+                 "your_team_alive", "enemy_team_alive", "your_team_wins", "enemy_team_wins" -> PlaceholderScope.TEAM;
+            default -> PlaceholderScope.VIEWER;
+        };
+    }
+
     private String getPhase(GameState state) {
         if (state == null) return "Unknown";
         String name = state.name();
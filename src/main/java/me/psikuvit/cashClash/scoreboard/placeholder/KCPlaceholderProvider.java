@@ -3,6 +3,7 @@ package me.psikuvit.cashClash.scoreboard.placeholder;
 import me.psikuvit.cashClash.gamemode.impl.KillConfirmGamemode;
 import org.bukkit.entity.Player;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -47,6 +48,16 @@ public class KCPlaceholderProvider implements PlaceholderProvider {
         return SUPPORTED_PLACEHOLDERS.contains(placeholder);
     }
 
+    @Override
+    public Set<PlaceholderEvent> getInvalidatingEvents(String placeholder) {
+        return EnumSet.of(PlaceholderEvent.KC_SCORE);
+    }
+
+    @Override
+    public PlaceholderScope getScope(String placeholder) {
+        return PlaceholderScope.SESSION;
+    }
+
     private String getDefaultValue(String placeholder) {
         return switch (placeholder) {
             case "teamRed_kc_score", "teamBlue_kc_score" -> "0";
@@ -2,21 +2,34 @@ package me.psikuvit.cashClash.scoreboard.placeholder;
 
 import me.psikuvit.cashClash.CashClashPlugin;
 
+import me.psikuvit.cashClash.manager.player.LeaderboardManager;
 import me.psikuvit.cashClash.manager.player.PlayerDataManager;
+import me.psikuvit.cashClash.storage.LeaderboardEntry;
+import me.psikuvit.cashClash.storage.LeaderboardType;
+import me.psikuvit.cashClash.storage.LeaderboardWindow;
 import me.psikuvit.cashClash.storage.PlayerData;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Provides lobby-specific placeholders
  * Handles: player stats, online players, win rate, K/D ratio, etc.
+ * Leaderboards: {@code {<window>_<board>_rank}} (the player's rank, "-" if unranked) and
+ * {@code {<window>_<board>_top}} (the leader's name), e.g. {@code {weekly_wins_rank}} or
+ * {@code {season_coins_top}}. Both read the cached boards, never the database.
  */
 public class LobbyPlaceholderProvider implements PlaceholderProvider {
 
     private static final Set<String> SUPPORTED_PLACEHOLDERS = new HashSet<>();
+    private static final Map<String, LeaderboardPlaceholder> LEADERBOARD_PLACEHOLDERS = new HashMap<>();
+
+    private record LeaderboardPlaceholder(LeaderboardWindow window, LeaderboardType type, boolean rank) {}
 
     static {
         SUPPORTED_PLACEHOLDERS.add("player");
@@ -29,10 +42,24 @@ public class LobbyPlaceholderProvider implements PlaceholderProvider {
         SUPPORTED_PLACEHOLDERS.add("total_coins_earned");
         SUPPORTED_PLACEHOLDERS.add("kd_ratio");
         SUPPORTED_PLACEHOLDERS.add("win_rate");
+
+        for (LeaderboardWindow window : LeaderboardWindow.values()) {
+            for (LeaderboardType type : LeaderboardType.values()) {
+                String prefix = window.getConfigKey() + "_" + type.getConfigKey();
+                LEADERBOARD_PLACEHOLDERS.put(prefix + "_rank", new LeaderboardPlaceholder(window, type, true));
+                LEADERBOARD_PLACEHOLDERS.put(prefix + "_top", new LeaderboardPlaceholder(window, type, false));
+            }
+        }
+        SUPPORTED_PLACEHOLDERS.addAll(LEADERBOARD_PLACEHOLDERS.keySet());
     }
 
     @Override
     public String getValue(String placeholder, Player player) {
+        LeaderboardPlaceholder board = LEADERBOARD_PLACEHOLDERS.get(placeholder);
+        if (board != null) {
+            return getLeaderboardValue(board, player);
+        }
+
         if (player == null) {
             return getDefaultValue(placeholder);
         }
@@ -51,6 +78,37 @@ public class LobbyPlaceholderProvider implements PlaceholderProvider {
         return SUPPORTED_PLACEHOLDERS.contains(placeholder);
     }
 
+    @Override
+    public PlaceholderScope getScope(String placeholder) {
+        if (placeholder.equals("online") || placeholder.equals("max_online")) {
+            return PlaceholderScope.SESSION;
+        }
+        LeaderboardPlaceholder board = LEADERBOARD_PLACEHOLDERS.get(placeholder);
+        return board != null && !board.rank() ? PlaceholderScope.SESSION : PlaceholderScope.VIEWER;
+    }
+
+    @Override
+    public PlaceholderResolver bind(String placeholder) {
+        LeaderboardPlaceholder board = LEADERBOARD_PLACEHOLDERS.get(placeholder);
+        if (board != null) {
+            return player -> getLeaderboardValue(board, player);
+        }
+        return PlaceholderProvider.super.bind(placeholder);
+    }
+
+    private String getLeaderboardValue(LeaderboardPlaceholder board, Player player) {
+        LeaderboardManager leaderboardManager = CashClashPlugin.getInstance().getLeaderboardManager();
+        if (board.rank()) {
+            int rank = player == null ? -1 : leaderboardManager.getRank(player.getUniqueId(), board.type(), board.window());
+            return rank > 0 ? String.valueOf(rank) : "-";
+        }
+
+        List<LeaderboardEntry> top = leaderboardManager.getTop(board.type(), board.window());
+        if (top.isEmpty()) return "-";
+        String name = Bukkit.getOfflinePlayer(top.getFirst().uuid()).getName();
+        return name != null ? name : "-";
+    }
+
     private String getPlayerStatsValue(String placeholder, Player player) {
         PlayerData data = CashClashPlugin.getInstance().getPlayerDataManager().getOrLoadData(player.getUniqueId());
 
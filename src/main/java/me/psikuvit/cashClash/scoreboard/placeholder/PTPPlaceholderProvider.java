@@ -62,6 +62,11 @@ public class PTPPlaceholderProvider implements PlaceholderProvider {
         return SUPPORTED_PLACEHOLDERS.contains(placeholder);
     }
 
+    @Override
+    public PlaceholderScope getScope(String placeholder) {
+        return PlaceholderScope.SESSION;
+    }
+
     private String getPresidentName(UUID presidentUuid) {
         if (presidentUuid == null) {
             return "None";
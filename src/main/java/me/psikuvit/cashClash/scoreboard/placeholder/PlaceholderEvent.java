@@ -0,0 +1,36 @@
+package me.psikuvit.cashClash.scoreboard.placeholder;
+
+import java.util.Set;
+
+/**
+ * Game events that can change placeholder values. Providers declare which ones invalidate each
+ * placeholder; when one fires, the lines using those placeholders are re-rendered on the next
+ * tick and every other line keeps its last value.
+ */
+public enum PlaceholderEvent {
+    /** A player died or got a kill: kills, streaks, lives and alive counts. */
+    KILL,
+    /** A player's coins changed, and with them their team's total. */
+    COINS,
+    /** A flag was picked up, dropped, returned or captured. */
+    FLAG,
+    /** A Kill Confirm team scored, by a zone capture or a confirmed kill. */
+    KC_SCORE,
+    /** A second passed: countdowns, and values no event covers. */
+    CLOCK;
+
+    /** Every event at once, for a full refresh. */
+    public static final int ALL = (1 << values().length) - 1;
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static int mask(Set<PlaceholderEvent> events) {
+        int mask = 0;
+        for (PlaceholderEvent event : events) {
+            mask |= event.bit();
+        }
+        return mask;
+    }
+}
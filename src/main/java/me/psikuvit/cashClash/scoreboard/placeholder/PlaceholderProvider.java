@@ -2,6 +2,9 @@ package me.psikuvit.cashClash.scoreboard.placeholder;
 
 import org.bukkit.entity.Player;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Interface for providing placeholder values dynamically
  * Allows for flexible, gamemode-specific placeholders
@@ -24,5 +27,38 @@ public interface PlaceholderProvider {
      * @return true if this provider can handle the placeholder
      */
     boolean handles(String placeholder);
-}
 
+    /**
+     * Bind a placeholder to the resolver that produces its value. Called once per placeholder
+     * and registry, so providers can look up whatever the name selects here instead of on
+     * every render.
+     *
+     * @param placeholder The placeholder name (without braces)
+     * @return The resolver, or null if this provider does not handle the placeholder
+     */
+    default PlaceholderResolver bind(String placeholder) {
+        return handles(placeholder) ? player -> getValue(placeholder, player) : null;
+    }
+
+    /**
+     * Who the value of a placeholder depends on. Only declare a broader scope than
+     * {@link PlaceholderScope#VIEWER} when the value really ignores the viewer (or everything
+     * but their team), since it is then computed once per update cycle and shared.
+     *
+     * @param placeholder The placeholder name (without braces)
+     */
+    default PlaceholderScope getScope(String placeholder) {
+        return PlaceholderScope.VIEWER;
+    }
+
+    /**
+     * The events after which a placeholder may show a different value. Lines using it are
+     * re-rendered when one of them fires and otherwise only on the periodic full refresh.
+     * Placeholders that are not declared are re-rendered after every event and every second.
+     *
+     * @param placeholder The placeholder name (without braces)
+     */
+    default Set<PlaceholderEvent> getInvalidatingEvents(String placeholder) {
+        return EnumSet.allOf(PlaceholderEvent.class);
+    }
+}
@@ -1,30 +1,61 @@
 package me.psikuvit.cashClash.scoreboard.placeholder;
 
 import me.psikuvit.cashClash.game.GameSession;
+import me.psikuvit.cashClash.game.Team;
 import me.psikuvit.cashClash.gamemode.impl.CaptureTheFlagGamemode;
 import me.psikuvit.cashClash.gamemode.impl.KillConfirmGamemode;
 import me.psikuvit.cashClash.gamemode.impl.ProtectThePresidentGamemode;
 import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.ToIntFunction;
 
 /**
  * Central registry for managing all placeholder providers
  * Handles placeholder parsing and replacement
+ * <p>
+ * Each placeholder is bound to a resolver the first time a {@link PlaceholderTemplate} using it
+ * renders: the providers are asked once, in registration order, and the result is kept in a
+ * table indexed by the template's placeholder id. A registry is meant to live as long as what
+ * its providers read - the lobby, or one game session - and is used from the main thread.
+ * <p>
+ * Values are memoized by {@link PlaceholderScope}: a session-scoped value is computed once per
+ * update cycle and shared by every viewer, a team-scoped one once per team, and only viewer
+ * values are resolved for each player. A cycle lasts until the next {@link #beginCycle()},
+ * which the caller makes before each batch of renders.
  */
 public class PlaceholderRegistry {
 
-    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([^}]+)}");
+    private static final PlaceholderRegistry LOBBY = new PlaceholderRegistry();
+
+    static {
+        LOBBY.registerProvider(new LobbyPlaceholderProvider());
+    }
+
     private final List<PlaceholderProvider> providers = new ArrayList<>();
+    // Placeholder id -> bound resolver, and the PlaceholderEvent bits that invalidate it
+    private PlaceholderResolver[] resolvers = new PlaceholderResolver[0];
+    private int[] eventMasks = new int[0];
+    // Viewer -> team number, 0 for none; team-scoped values are memoized per team number
+    private ToIntFunction<Player> teamNumberOf = player -> 0;
+    private long cycle;
+
+    // The last viewer's team, as lines are rendered a viewer at a time
+    private Player teamViewer;
+    private long teamViewerCycle;
+    private int teamViewerTeam;
 
     /**
      * Create and initialize a registry for a game session
      */
-    public static PlaceholderRegistry forGameSession(GameSession session, Player player) {
+    public static PlaceholderRegistry forGameSession(GameSession session) {
         PlaceholderRegistry registry = new PlaceholderRegistry();
+        registry.teamNumberOf = player -> {
+            Team team = player != null ? session.getPlayerTeam(player) : null;
+            return team != null ? team.getTeamNumber() : 0;
+        };
         registry.registerProvider(new CommonGamePlaceholderProvider(session));
 
         if (session.getGamemode() instanceof CaptureTheFlagGamemode ctf) {
@@ -39,12 +70,10 @@ public class PlaceholderRegistry {
     }
 
     /**
-     * Create and initialize a registry for the lobby
+     * The registry for the lobby, shared by every lobby scoreboard
      */
     public static PlaceholderRegistry forLobby() {
-        PlaceholderRegistry registry = new PlaceholderRegistry();
-        registry.registerProvider(new LobbyPlaceholderProvider());
-        return registry;
+        return LOBBY;
     }
 
     /**
@@ -53,51 +82,192 @@ public class PlaceholderRegistry {
     public void registerProvider(PlaceholderProvider provider) {
         if (provider != null) {
             providers.add(provider);
+            // Bindings made without it may now resolve differently
+            Arrays.fill(resolvers, null);
         }
     }
 
+    /**
+     * Start a new update cycle: session and team values memoized so far are recomputed the
+     * next time they are rendered.
+     */
+    public void beginCycle() {
+        cycle++;
+    }
+
     /**
      * Fill all placeholders in a line
-     * Uses all registered providers to find and replace placeholders
-     * If a placeholder is not found, it gets a default value to prevent literal display
+     * Compiles the line on every call; lines rendered repeatedly should be compiled once with
+     * {@link PlaceholderTemplate#compile} and rendered against this registry instead.
      */
     public String fillPlaceholders(String line, Player player) {
         if (line == null || line.isEmpty()) {
             return line;
         }
+        beginCycle();
+        return PlaceholderTemplate.compile(line).render(this, player);
+    }
 
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(line);
-        StringBuilder sb = new StringBuilder();
-
-        while (matcher.find()) {
-            String placeholderName = matcher.group(1);
-            String replacement = resolvePlaceholder(placeholderName, player);
+    /**
+     * Resolve the placeholder interned as {@code id} for {@code player}
+     */
+    String resolve(int id, Player player) {
+        PlaceholderResolver resolver = id < resolvers.length ? resolvers[id] : null;
+        if (resolver == null) {
+            resolver = bind(id);
+        }
+        return resolver.resolve(player);
+    }
 
-            // Escape special regex characters in the replacement
-            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+    /**
+     * The {@link PlaceholderEvent} bits after which {@code template} may render differently;
+     * 0 if it has no placeholders this registry resolves.
+     */
+    public int getInvalidatingEvents(PlaceholderTemplate template) {
+        int mask = 0;
+        for (int id : template.placeholderIds()) {
+            if (id >= resolvers.length || resolvers[id] == null) {
+                bind(id);
+            }
+            mask |= eventMasks[id];
         }
+        return mask;
+    }
 
-        matcher.appendTail(sb);
-        return sb.toString();
+    private PlaceholderResolver bind(int id) {
+        if (id >= resolvers.length) {
+            int length = Math.max(id + 1, PlaceholderTemplate.count());
+            resolvers = Arrays.copyOf(resolvers, length);
+            eventMasks = Arrays.copyOf(eventMasks, length);
+        }
+        String placeholder = PlaceholderTemplate.name(id);
+        int mask = 0;
+        for (PlaceholderProvider provider : providers) {
+            if (provider.handles(placeholder)) {
+                mask |= PlaceholderEvent.mask(provider.getInvalidatingEvents(placeholder));
+            }
+        }
+        PlaceholderResolver resolver = bind(placeholder);
+        resolvers[id] = resolver;
+        eventMasks[id] = mask;
+        return resolver;
     }
 
     /**
-     * Resolve a single placeholder value
+     * Bind a placeholder to the providers that handle it, memoized at the narrowest scope any
+     * of them declares for it.
      */
-    private String resolvePlaceholder(String placeholder, Player player) {
-        // Try each provider in order
+    private PlaceholderResolver bind(String placeholder) {
+        PlaceholderScope scope = PlaceholderScope.SESSION;
+        List<PlaceholderResolver> bound = new ArrayList<>(1);
         for (PlaceholderProvider provider : providers) {
-            if (provider.handles(placeholder)) {
-                String value = provider.getValue(placeholder, player);
+            PlaceholderResolver resolver = provider.bind(placeholder);
+            if (resolver != null) {
+                bound.add(resolver);
+                PlaceholderScope declared = provider.getScope(placeholder);
+                if (declared.compareTo(scope) > 0) {
+                    scope = declared;
+                }
+            }
+        }
+
+        PlaceholderResolver resolver = chain(placeholder, bound);
+        if (bound.isEmpty()) {
+            return resolver;
+        }
+        return switch (scope) {
+            case SESSION -> new SessionValue(resolver);
+            case TEAM -> new TeamValue(resolver);
+            case VIEWER -> resolver;
+        };
+    }
+
+    /**
+     * The first non-null value of {@code bound} wins; if there is none the placeholder is
+     * shown surrounded by brackets, which makes it easier to spot unhandled placeholders.
+     */
+    private static PlaceholderResolver chain(String placeholder, List<PlaceholderResolver> bound) {
+        String unresolved = "{" + placeholder + "}";
+        if (bound.isEmpty()) {
+            return player -> unresolved;
+        }
+        if (bound.size() == 1) {
+            PlaceholderResolver resolver = bound.getFirst();
+            return player -> {
+                String value = resolver.resolve(player);
+                return value != null ? value : unresolved;
+            };
+        }
+
+        PlaceholderResolver[] chain = bound.toArray(PlaceholderResolver[]::new);
+        return player -> {
+            for (PlaceholderResolver resolver : chain) {
+                String value = resolver.resolve(player);
                 if (value != null) {
                     return value;
                 }
             }
+            return unresolved;
+        };
+    }
+
+    private int teamOf(Player player) {
+        if (player != teamViewer || teamViewerCycle != cycle) {
+            teamViewer = player;
+            teamViewerCycle = cycle;
+            teamViewerTeam = teamNumberOf.applyAsInt(player);
+        }
+        return teamViewerTeam;
+    }
+
+    /** A value shared by every viewer for the rest of the cycle. */
+    private final class SessionValue implements PlaceholderResolver {
+
+        private final PlaceholderResolver resolver;
+        private long resolvedCycle = -1;
+        private String value;
+
+        SessionValue(PlaceholderResolver resolver) {
+            this.resolver = resolver;
+        }
+
+        @Override
+        public String resolve(Player player) {
+            if (resolvedCycle != cycle) {
+                value = resolver.resolve(player);
+                resolvedCycle = cycle;
+            }
+            return value;
+        }
+    }
+
+    /** A value shared by every viewer on the same team for the rest of the cycle. */
+    private final class TeamValue implements PlaceholderResolver {
+
+        private final PlaceholderResolver resolver;
+        private long[] resolvedCycles = new long[0];
+        private String[] values = new String[0];
+
+        TeamValue(PlaceholderResolver resolver) {
+            this.resolver = resolver;
         }
 
-        // If no provider handled it, return the placeholder surrounded by brackets
-        // This makes it easier to spot unhandled placeholders
-        return "{" + placeholder + "}";
+        @Override
+        public String resolve(Player player) {
+            int team = teamOf(player);
+            if (team >= values.length) {
+                int length = team + 1;
+                int from = values.length;
+                values = Arrays.copyOf(values, length);
+                resolvedCycles = Arrays.copyOf(resolvedCycles, length);
+                Arrays.fill(resolvedCycles, from, length, -1);
+            }
+            if (resolvedCycles[team] != cycle) {
+                values[team] = resolver.resolve(player);
+                resolvedCycles[team] = cycle;
+            }
+            return values[team];
+        }
     }
 
     /**
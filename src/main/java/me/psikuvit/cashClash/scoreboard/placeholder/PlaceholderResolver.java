@@ -0,0 +1,17 @@
+package me.psikuvit.cashClash.scoreboard.placeholder;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Produces the value of one placeholder, already chosen by name when a
+ * {@link PlaceholderTemplate} is bound to a {@link PlaceholderRegistry}.
+ */
+@FunctionalInterface
+public interface PlaceholderResolver {
+
+    /**
+     * @param player The player viewing the scoreboard
+     * @return The value to show, or null if there is none
+     */
+    String resolve(Player player);
+}
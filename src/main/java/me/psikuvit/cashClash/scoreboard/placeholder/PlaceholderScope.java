@@ -0,0 +1,15 @@
+package me.psikuvit.cashClash.scoreboard.placeholder;
+
+/**
+ * Who a placeholder's value depends on. A {@link PlaceholderRegistry} memoizes session and
+ * team values for one update cycle, so they are computed once for every viewer instead of
+ * once per viewer and line.
+ */
+public enum PlaceholderScope {
+    /** The same for every viewer of the scoreboard, e.g. the time or a team's coins. */
+    SESSION,
+    /** The same for every viewer on one team, e.g. {@code {your_team_coins}}. */
+    TEAM,
+    /** Depends on the viewer themselves, e.g. {@code {player_coins}}. Never memoized. */
+    VIEWER
+}
@@ -0,0 +1,142 @@
+package me.psikuvit.cashClash.scoreboard.placeholder;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A scoreboard line split once into literal text and placeholders, so rendering it is a walk
+ * over two arrays instead of a regex scan of the line on every update.
+ * <p>
+ * Placeholder names are interned to ids at compile time; a {@link PlaceholderRegistry} keeps
+ * the resolver bound to each id, so a render looks each one up by index. A placeholder is
+ * {@code {name}} with a non-empty name, the same syntax the regex matched.
+ */
+public final class PlaceholderTemplate {
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final List<String> NAMES = new ArrayList<>();
+
+    private final String source;
+    // literals[i] comes before placeholder i; the last literal ends the line
+    private final String[] literals;
+    private final int[] placeholders;
+    private final int literalLength;
+
+    private PlaceholderTemplate(String source, String[] literals, int[] placeholders) {
+        this.source = source;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Split {@code line} into literals and placeholders.
+     */
+    public static PlaceholderTemplate compile(String line) {
+        if (line == null) line = "";
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int open = line.indexOf('{');
+        while (open >= 0) {
+            int close = line.indexOf('}', open + 1);
+            if (close < 0) break;
+            if (close == open + 1) {
+                // "{}" is literal text, as it was for the regex
+                open = line.indexOf('{', close + 1);
+                continue;
+            }
+            literals.add(line.substring(literalStart, open));
+            placeholders.add(intern(line.substring(open + 1, close)));
+            literalStart = close + 1;
+            open = line.indexOf('{', literalStart);
+        }
+        literals.add(line.substring(literalStart));
+
+        int[] ids = new int[placeholders.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = placeholders.get(i);
+        }
+        return new PlaceholderTemplate(line, literals.toArray(String[]::new), ids);
+    }
+
+    /**
+     * Compile every line of {@code lines}, in order.
+     */
+    public static List<PlaceholderTemplate> compileAll(List<String> lines) {
+        List<PlaceholderTemplate> templates = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            templates.add(compile(line));
+        }
+        return List.copyOf(templates);
+    }
+
+    /**
+     * Fill the placeholders for {@code player} with the resolvers bound in {@code registry}.
+     */
+    public String render(PlaceholderRegistry registry, Player player) {
+        if (placeholders.length == 0) return source;
+
+        StringBuilder sb = new StringBuilder(literalLength + placeholders.length * 8);
+        for (int i = 0; i < placeholders.length; i++) {
+            sb.append(literals[i]).append(registry.resolve(placeholders[i], player));
+        }
+        return sb.append(literals[placeholders.length]).toString();
+    }
+
+    /** The line as written in the config. */
+    public String getSource() {
+        return source;
+    }
+
+    /** Placeholder names in this line, in order of appearance. */
+    public List<String> getPlaceholders() {
+        List<String> names = new ArrayList<>(placeholders.length);
+        for (int id : placeholders) {
+            names.add(name(id));
+        }
+        return names;
+    }
+
+    int[] placeholderIds() {
+        return placeholders;
+    }
+
+    static int intern(String name) {
+        Integer id = IDS.get(name);
+        if (id != null) return id;
+        synchronized (NAMES) {
+            id = IDS.get(name);
+            if (id == null) {
+                id = NAMES.size();
+                NAMES.add(name);
+                IDS.put(name, id);
+            }
+            return id;
+        }
+    }
+
+    static String name(int id) {
+        synchronized (NAMES) {
+            return NAMES.get(id);
+        }
+    }
+
+    static int count() {
+        return IDS.size();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
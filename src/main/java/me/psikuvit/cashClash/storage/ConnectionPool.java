@@ -0,0 +1,300 @@
+package me.psikuvit.cashClash.storage;
+
+import me.psikuvit.cashClash.util.Messages;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Small JDBC connection pool for {@link MySQLProvider}, so loads, saves and the leaderboard scan
+ * each get their own connection instead of serializing on one socket.
+ * <ul>
+ *     <li>At most {@link Settings#maxSize()} connections exist; callers wait up to
+ *     {@link Settings#connectionTimeoutMs()} for one (wait times are recorded).</li>
+ *     <li>An idle connection is checked with the validation query before it is handed out, and
+ *     connections older than {@link Settings#maxLifetimeMs()} are recycled.</li>
+ *     <li>A background sweep closes connections idle longer than {@link Settings#idleTimeoutMs()},
+ *     keeping {@link Settings#minIdle()}. Whenever the idle count drops below it - at start,
+ *     after a sweep, or after a connection failed validation or broke - the sweeper thread
+ *     opens new ones until it is met again, never past {@link Settings#maxSize()}.</li>
+ *     <li>{@link #query(Work)} retries once on a fresh connection when the failure is a
+ *     connection error (SQLState class 08), so a dropped link heals itself.</li>
+ * </ul>
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private static final long SWEEP_INTERVAL_MS = 30_000L;
+    /** Idle connections used more recently than this skip the validation query. */
+    private static final long VALIDATION_GRACE_MS = 500L;
+
+    /** A unit of JDBC work run against a pooled connection. */
+    @FunctionalInterface
+    public interface Work<T> {
+        T run(Connection conn) throws SQLException;
+    }
+
+    public record Settings(int maxSize, int minIdle, long connectionTimeoutMs, long idleTimeoutMs,
+                           long maxLifetimeMs, String validationQuery) {}
+
+    /**
+     * Counters since the pool was created. Wait times cover how long callers waited for a
+     * connection permit, not query time.
+     */
+    public record Stats(int idle, int inUse, long borrows, long timeouts, long created, long closed,
+                        long validationFailures, double avgWaitMs, double maxWaitMs) {}
+
+    private static final class Entry {
+        final Connection conn;
+        final long createdAt;
+        long lastUsed;
+
+        Entry(Connection conn, long now) {
+            this.conn = conn;
+            this.createdAt = now;
+            this.lastUsed = now;
+        }
+    }
+
+    private final String jdbcUrl;
+    private final String user;
+    private final String pass;
+    private final Settings settings;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<Entry> idle = new LinkedBlockingDeque<>();
+    private final ScheduledExecutorService sweeper;
+    private final AtomicBoolean topUpQueued = new AtomicBoolean();
+    private volatile boolean closed;
+
+    private final AtomicLong borrows = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong closedCount = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public ConnectionPool(String jdbcUrl, String user, String pass, Settings settings) {
+        this.jdbcUrl = jdbcUrl;
+        this.user = user;
+        this.pass = pass;
+        this.settings = settings;
+        this.permits = new Semaphore(Math.max(1, settings.maxSize()), true);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "CashClash-PoolSweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        this.sweeper.scheduleWithFixedDelay(this::sweep, SWEEP_INTERVAL_MS, SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        requestTopUp();
+    }
+
+    /**
+     * Run {@code work} on a pooled connection, retrying once on a new connection if it failed
+     * with a connection error. Only use for work that is safe to repeat.
+     */
+    public <T> T query(Work<T> work) throws SQLException {
+        try {
+            return run(work);
+        } catch (SQLException e) {
+            if (!isConnectionError(e)) throw e;
+            Messages.debug("STORAGE", "Connection error, retrying on a fresh connection: " + e.getMessage());
+            return run(work);
+        }
+    }
+
+    /**
+     * Run {@code work} on a pooled connection without retrying, for work with side effects
+     * outside the database (e.g. streaming rows to a consumer).
+     */
+    public <T> T run(Work<T> work) throws SQLException {
+        Entry entry = borrow();
+        boolean broken = false;
+        try {
+            return work.run(entry.conn);
+        } catch (SQLException e) {
+            broken = isConnectionError(e);
+            throw e;
+        } finally {
+            release(entry, broken);
+        }
+    }
+
+    private Entry borrow() throws SQLException {
+        if (closed) throw new SQLException("Connection pool is closed");
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(settings.connectionTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                timeouts.incrementAndGet();
+                throw new SQLException("Timed out after " + settings.connectionTimeoutMs()
+                        + "ms waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted waiting for a database connection", e);
+        }
+        long waited = System.nanoTime() - start;
+        borrows.incrementAndGet();
+        waitNanos.addAndGet(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+        try {
+            long now = System.currentTimeMillis();
+            Entry entry;
+            while ((entry = idle.pollFirst()) != null) {
+                if (isUsable(entry, now)) return entry;
+                discard(entry);
+                requestTopUp();
+            }
+            return new Entry(open(), now);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(Entry entry, boolean broken) {
+        try {
+            long now = System.currentTimeMillis();
+            if (closed || broken || expired(entry, now) || entry.conn.isClosed()) {
+                discard(entry);
+                requestTopUp();
+                return;
+            }
+            if (!entry.conn.getAutoCommit()) {
+                entry.conn.rollback();
+                entry.conn.setAutoCommit(true);
+            }
+            entry.lastUsed = now;
+            idle.offerFirst(entry);
+        } catch (SQLException e) {
+            discard(entry);
+            requestTopUp();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean isUsable(Entry entry, long now) {
+        if (expired(entry, now)) return false;
+        if (now - entry.lastUsed < VALIDATION_GRACE_MS) return true;
+        try (Statement st = entry.conn.createStatement()) {
+            st.setQueryTimeout(5);
+            st.execute(settings.validationQuery());
+            return true;
+        } catch (SQLException e) {
+            validationFailures.incrementAndGet();
+            return false;
+        }
+    }
+
+    private boolean expired(Entry entry, long now) {
+        return settings.maxLifetimeMs() > 0 && now - entry.createdAt >= settings.maxLifetimeMs();
+    }
+
+    private Connection open() throws SQLException {
+        Connection conn = DriverManager.getConnection(jdbcUrl, user, pass);
+        created.incrementAndGet();
+        return conn;
+    }
+
+    private void discard(Entry entry) {
+        closedCount.incrementAndGet();
+        try {
+            entry.conn.close();
+        } catch (SQLException ignored) {
+            // Already broken; nothing left to release.
+        }
+    }
+
+    /**
+     * Close connections idle past the idle timeout or max lifetime, keeping {@code minIdle}
+     * of the rest, then top the pool back up. Entries are taken out of the deque before closing
+     * so a concurrent borrow never receives one.
+     */
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        int keep = idle.size();
+        Iterator<Entry> it = idle.descendingIterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            boolean idleTooLong = settings.idleTimeoutMs() > 0 && now - entry.lastUsed >= settings.idleTimeoutMs()
+                    && keep > settings.minIdle();
+            if ((idleTooLong || expired(entry, now)) && idle.remove(entry)) {
+                keep--;
+                discard(entry);
+            }
+        }
+        topUp();
+    }
+
+    /** Queue a {@link #topUp()} on the sweeper thread if the pool is below {@code minIdle}. */
+    private void requestTopUp() {
+        if (closed || idle.size() >= settings.minIdle() || !topUpQueued.compareAndSet(false, true)) return;
+        try {
+            sweeper.execute(this::topUp);
+        } catch (RejectedExecutionException e) {
+            topUpQueued.set(false);
+        }
+    }
+
+    /**
+     * Open connections until {@code minIdle} are idle. Each is opened under a permit, like a
+     * borrow, so idle plus in-use connections stay within {@code maxSize}.
+     */
+    private void topUp() {
+        topUpQueued.set(false);
+        while (!closed && idle.size() < settings.minIdle() && permits.tryAcquire()) {
+            try {
+                int inUse = settings.maxSize() - permits.availablePermits();
+                if (idle.size() + inUse > settings.maxSize()) return;
+                idle.offerLast(new Entry(open(), System.currentTimeMillis()));
+            } catch (SQLException e) {
+                Messages.debug("STORAGE", "Could not refill the connection pool to min-idle: " + e.getMessage());
+                return;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    public Stats getStats() {
+        long b = borrows.get();
+        return new Stats(idle.size(), settings.maxSize() - permits.availablePermits(), b, timeouts.get(),
+                created.get(), closedCount.get(), validationFailures.get(),
+                b == 0 ? 0 : waitNanos.get() / (double) b / 1_000_000.0, maxWaitNanos.get() / 1_000_000.0);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        sweeper.shutdownNow();
+        try {
+            // A top-up opening a connection right now would otherwise add it after the drain
+            sweeper.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Entry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            discard(entry);
+        }
+    }
+
+    /** SQLState class 08 is "connection exception" in both ANSI SQL and MySQL. */
+    private static boolean isConnectionError(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && state.startsWith("08");
+    }
+}
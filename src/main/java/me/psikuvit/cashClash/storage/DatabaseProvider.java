@@ -3,9 +3,13 @@ package me.psikuvit.cashClash.storage;
 import java.io.Closeable;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Abstraction for a player persistence provider. Implementations should
@@ -22,9 +26,93 @@ public interface DatabaseProvider extends Closeable {
     /** Save or update a player into the database. */
     void savePlayer(PlayerData player) throws SQLException;
 
-    /** Load all stored players, used by the leaderboard worker. */
+    /**
+     * Save many players at once. SQL providers write them as one batched transaction;
+     * the default saves them one by one.
+     */
+    default void savePlayers(Collection<PlayerData> players) throws SQLException {
+        for (PlayerData player : players) {
+            savePlayer(player);
+        }
+    }
+
+    /** Load all stored players. Prefer {@link #topN} for rankings. */
     List<PlayerData> loadAllPlayers() throws SQLException;
 
+    /**
+     * The {@code limit} highest-ranked stored players for a board, best first. SQL providers
+     * answer this with ORDER BY/LIMIT on an indexed column; the default falls back to a full
+     * scan for providers without one.
+     */
+    default List<PlayerData> topN(LeaderboardType type, int limit) throws SQLException {
+        return loadAllPlayers().stream()
+                .sorted(Comparator.comparingLong(type::score).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Visit every stored player (stats only) in bounded memory. SQL providers stream the
+     * result set; the default materializes {@link #loadAllPlayers()}.
+     */
+    default void scanPlayers(Consumer<PlayerData> consumer) throws SQLException {
+        loadAllPlayers().forEach(consumer);
+    }
+
+    /**
+     * Visit every stored player with stats and kit layouts in bounded memory, for bulk export.
+     * SQL providers stream one joined cursor; the default collects the UUIDs from a
+     * {@link #scanPlayers} pass and then loads the players one by one.
+     */
+    default void exportPlayers(Consumer<PlayerData> consumer) throws SQLException {
+        List<UUID> ids = new ArrayList<>();
+        scanPlayers(p -> ids.add(p.getUuid()));
+        for (UUID id : ids) {
+            loadPlayer(id).ifPresent(consumer);
+        }
+    }
+
+    /**
+     * Append finished matches to the match history. Providers without history tables ignore
+     * them. Implementations must tolerate the same match being saved twice.
+     */
+    default void saveMatches(Collection<MatchRecord> matches) throws SQLException {
+    }
+
+    /**
+     * Up to {@code limit} of a player's matches that ended before {@code after}, newest first.
+     * Pass {@link MatchSummary.Cursor#FIRST} for the first page and the last summary's
+     * {@link MatchSummary#cursor()} for the next one.
+     */
+    default List<MatchSummary> recentMatches(UUID player, MatchSummary.Cursor after, int limit) throws SQLException {
+        return List.of();
+    }
+
+    /**
+     * Add stat deltas to the time-windowed leaderboard rollups. Providers without rollup
+     * tables ignore them.
+     */
+    default void applyRollups(Collection<RollupDelta> deltas) throws SQLException {
+    }
+
+    /** The {@code limit} best players of a board within one period of a window, best first. */
+    default List<LeaderboardEntry> topRollup(LeaderboardWindow window, long period, LeaderboardType type, int limit)
+            throws SQLException {
+        return List.of();
+    }
+
+    /**
+     * Zero one board of a player in every live rollup period, after an admin reset of their
+     * stats. Archived periods are history and keep their values.
+     */
+    default void resetRollups(UUID uuid, LeaderboardType type) throws SQLException {
+    }
+
+    /** Move the rollups of every period of {@code window} before {@code currentPeriod} to the archive. */
+    default int archiveRollups(LeaderboardWindow window, long currentPeriod) throws SQLException {
+        return 0;
+    }
+
     @Override
     void close() throws IOException;
 
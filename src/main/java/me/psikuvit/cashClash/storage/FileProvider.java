@@ -0,0 +1,526 @@
+package me.psikuvit.cashClash.storage;
+
+import me.psikuvit.cashClash.util.Messages;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Embedded, dependency-free provider for test servers and tiny deployments, and a
+ * deterministic backend for benchmarks. Needs no JDBC driver.
+ * <p>
+ * Players are stored as {@link PlayerDataCodec} records ({@code int length, int crc32,
+ * payload}) in two files: a compacted, memory-mapped data file {@code players.<gen>.dat} and
+ * an append log {@code players.log}. An in-memory index maps each UUID to the newest copy of
+ * its record, so a load is one hash lookup plus a decode, and an upsert is one log append
+ * (fsynced per batch unless {@code fsync} is off).
+ * <p>
+ * Once the log outgrows both {@code compactMinLogBytes} and the data file, a background thread
+ * rewrites the live records into the next data file generation, which ends with a trailer
+ * marking it complete; saves carry on meanwhile. The log is then swapped for one holding only
+ * the records appended during the rewrite. On open the newest complete generation is mapped and
+ * the log is replayed on top of it, dropping a torn record a crash left at its end. A crash at
+ * any point of a compaction therefore loses nothing: replaying a log over a generation that
+ * already contains it just rewrites the same values.
+ * <p>
+ * Match history and leaderboard rollups are not stored; those features stay empty on this
+ * provider.
+ */
+public class FileProvider implements DatabaseProvider {
+
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+    private static final String LOG_NAME = "players.log";
+    private static final long CLOSE_COMPACTION_WAIT_SECONDS = 30L;
+    private static final Pattern DATA_NAME = Pattern.compile("players\\.(\\d+)\\.dat");
+
+    /**
+     * {@code fsync} forces every batch to disk before the save returns; without it a power
+     * loss can drop the last writes, but a process crash still can't.
+     */
+    public record Settings(boolean fsync, long compactMinLogBytes) {
+
+        public static final Settings DEFAULT = new Settings(true, 4L * 1024 * 1024);
+    }
+
+    /** Where the newest copy of a player's record lives. */
+    private record Slot(boolean inLog, long offset, int length) {}
+
+    private final File directory;
+    private final Settings settings;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<UUID, Slot> index = new HashMap<>();
+    private long generation;
+    private MappedByteBuffer data;
+    private long dataSize;
+    private FileChannel log;
+    private long logSize;
+    // A background compaction is queued or running; guarded by the write lock
+    private boolean compacting;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "CashClash-FileCompactor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public FileProvider(File directory) {
+        this(directory, Settings.DEFAULT);
+    }
+
+    public FileProvider(File directory, Settings settings) {
+        this.directory = directory;
+        this.settings = settings;
+    }
+
+    @Override
+    public void init() throws SQLException {
+        lock.writeLock().lock();
+        try {
+            Files.createDirectories(directory.toPath());
+            openData();
+            log = FileChannel.open(new File(directory, LOG_NAME).toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = log.size();
+            logSize = size == 0 ? 0 : scan(readLog(size), true);
+            if (logSize < size) {
+                // A crash cut the last append short; it was never acknowledged
+                log.truncate(logSize);
+                Messages.debug("STORAGE", "File store dropped " + (size - logSize) + " torn bytes at the end of the log");
+            }
+            Messages.debug("STORAGE", "File store opened: " + index.size() + " players, generation " + generation
+                    + ", " + dataSize + " data bytes, " + logSize + " log bytes");
+        } catch (IOException e) {
+            throw new SQLException("Unable to open file store in " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Map the newest complete data file, deleting incomplete and superseded generations. */
+    private void openData() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Matcher m = DATA_NAME.matcher(file.getName());
+                if (m.matches()) generations.add(Long.parseLong(m.group(1)));
+            }
+        }
+        generations.sort(Comparator.reverseOrder());
+
+        for (long gen : generations) {
+            File file = dataFile(gen);
+            if (data == null) {
+                try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                    MappedByteBuffer mapped = map(channel, channel.size());
+                    long end = scan(mapped, false);
+                    if (end >= 0) {
+                        data = mapped;
+                        dataSize = end;
+                        generation = gen;
+                        continue;
+                    }
+                }
+                // Interrupted compaction; the previous generation plus the log still hold everything
+                Messages.debug("STORAGE", "File store ignoring incomplete " + file.getName());
+                index.clear();
+            }
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    /**
+     * Index every valid record of {@code buf}. Returns the offset after the last valid record;
+     * for a data file, which must end with a trailer, returns -1 if it doesn't.
+     */
+    private long scan(ByteBuffer buf, boolean inLog) {
+        int pos = 0;
+        int limit = buf.limit();
+        CRC32 crc = new CRC32();
+        while (pos + HEADER_BYTES <= limit) {
+            int length = buf.getInt(pos);
+            int checksum = buf.getInt(pos + 4);
+            if (length == 0 && !inLog) return checksum == index.size() ? pos : -1;
+            if (length <= 0 || length > MAX_RECORD_BYTES || pos + HEADER_BYTES + length > limit) break;
+
+            byte[] record = new byte[length];
+            buf.get(pos + HEADER_BYTES, record);
+            crc.reset();
+            crc.update(record);
+            if ((int) crc.getValue() != checksum) break;
+            UUID uuid;
+            try {
+                uuid = PlayerDataCodec.decode(record).getUuid();
+            } catch (IllegalArgumentException e) {
+                break;
+            }
+            index.put(uuid, new Slot(inLog, pos, length));
+            pos += HEADER_BYTES + length;
+        }
+        return inLog ? pos : -1;
+    }
+
+    @Override
+    public Optional<PlayerData> loadPlayer(UUID uuid) throws SQLException {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            Slot slot = index.get(uuid);
+            return slot == null ? Optional.empty() : Optional.of(PlayerDataCodec.decode(read(slot)));
+        } catch (IOException e) {
+            throw new SQLException("Unable to read player " + uuid, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void savePlayer(PlayerData player) throws SQLException {
+        savePlayers(List.of(player));
+    }
+
+    /**
+     * Append the whole batch with one write (and one fsync). A log that is due for compaction
+     * gets it on the background thread, never inside the save.
+     */
+    @Override
+    public void savePlayers(Collection<PlayerData> players) throws SQLException {
+        if (players.isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            List<UUID> ids = new ArrayList<>(players.size());
+            List<byte[]> records = new ArrayList<>(players.size());
+            int total = 0;
+            for (PlayerData player : players) {
+                byte[] record = encode(player);
+                ids.add(player.getUuid());
+                records.add(record);
+                total += HEADER_BYTES + record.length;
+            }
+
+            ByteBuffer buf = ByteBuffer.allocate(total);
+            CRC32 crc = new CRC32();
+            for (byte[] record : records) {
+                crc.reset();
+                crc.update(record);
+                buf.putInt(record.length).putInt((int) crc.getValue()).put(record);
+            }
+            buf.flip();
+            long pos = logSize;
+            while (buf.hasRemaining()) {
+                pos += log.write(buf, pos);
+            }
+            if (settings.fsync()) log.force(false);
+
+            long offset = logSize;
+            for (int i = 0; i < records.size(); i++) {
+                index.put(ids.get(i), new Slot(true, offset, records.get(i).length));
+                offset += HEADER_BYTES + records.get(i).length;
+            }
+            logSize = offset;
+
+            if (!compacting && logSize >= Math.max(settings.compactMinLogBytes(), dataSize)) {
+                compacting = true;
+                compactor.execute(this::compactInBackground);
+            }
+        } catch (IOException e) {
+            throw new SQLException("Unable to append to the file store log", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Late calls after {@link #close()} fail like any other storage error. Call under the lock. */
+    private void ensureOpen() throws SQLException {
+        if (log == null) throw new SQLException("File store is closed");
+    }
+
+    /**
+     * SQL providers leave a player's stored layouts alone unless they changed; records here
+     * hold both, so a player whose layouts are clean keeps the stored layout bytes as they are.
+     */
+    private byte[] encode(PlayerData player) throws IOException {
+        if (!player.isLayoutsDirty()) {
+            Slot slot = index.get(player.getUuid());
+            if (slot != null) return PlayerDataCodec.encodeWithLayoutsOf(player, read(slot));
+        }
+        return PlayerDataCodec.encode(player);
+    }
+
+    @Override
+    public List<PlayerData> loadAllPlayers() throws SQLException {
+        List<PlayerData> players = new ArrayList<>();
+        scanPlayers(players::add);
+        return players;
+    }
+
+    /** Streams the index under the read lock, decoding one record at a time. */
+    @Override
+    public void scanPlayers(Consumer<PlayerData> consumer) throws SQLException {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            for (Slot slot : index.values()) {
+                consumer.accept(PlayerDataCodec.decode(read(slot)));
+            }
+        } catch (IOException e) {
+            throw new SQLException("Unable to scan the file store", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Records carry layouts, so the plain scan already is a full export. */
+    @Override
+    public void exportPlayers(Consumer<PlayerData> consumer) throws SQLException {
+        scanPlayers(consumer);
+    }
+
+    /** One scan keeping only the best {@code limit} players in a small heap. */
+    @Override
+    public List<PlayerData> topN(LeaderboardType type, int limit) throws SQLException {
+        if (limit <= 0) return List.of();
+        Comparator<PlayerData> byScore = Comparator.comparingLong(type::score);
+        PriorityQueue<PlayerData> best = new PriorityQueue<>(limit + 1, byScore);
+        scanPlayers(player -> {
+            best.add(player);
+            if (best.size() > limit) best.poll();
+        });
+        List<PlayerData> top = new ArrayList<>(best);
+        top.sort(byScore.reversed());
+        return top;
+    }
+
+    private byte[] read(Slot slot) throws IOException {
+        return read(slot, data, log);
+    }
+
+    private static byte[] read(Slot slot, MappedByteBuffer data, FileChannel log) throws IOException {
+        byte[] record = new byte[slot.length()];
+        if (!slot.inLog()) {
+            data.get((int) slot.offset() + HEADER_BYTES, record);
+            return record;
+        }
+        ByteBuffer buf = ByteBuffer.wrap(record);
+        long pos = slot.offset() + HEADER_BYTES;
+        while (buf.hasRemaining()) {
+            int n = log.read(buf, pos);
+            if (n < 0) throw new IOException("File store log ends inside a record");
+            pos += n;
+        }
+        return record;
+    }
+
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (IOException e) {
+            // The log still holds everything; compaction is retried on a later save
+            Messages.debug("STORAGE", "File store compaction failed: " + e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            compacting = false;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Write every live record into the next data file generation and switch to it. Records are
+     * copied from a snapshot of the index without holding the lock, so saves continue; the ones
+     * appended meanwhile are carried over into a fresh log when the new generation is installed
+     * under the write lock. Only one compaction runs at a time.
+     */
+    private void compact() throws IOException {
+        long start = System.currentTimeMillis();
+        Map<UUID, Slot> live;
+        long liveLogSize;
+        long next;
+        MappedByteBuffer source;
+        FileChannel sourceLog;
+        lock.readLock().lock();
+        try {
+            if (log == null) return;
+            live = new HashMap<>(index);
+            liveLogSize = logSize;
+            next = generation + 1;
+            source = data;
+            sourceLog = log;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        File file = dataFile(next);
+        Map<UUID, Slot> compacted = new HashMap<>(live.size() * 2);
+        CRC32 crc = new CRC32();
+        MappedByteBuffer mapped;
+        long pos = 0;
+        try (FileChannel out = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+            for (Map.Entry<UUID, Slot> entry : live.entrySet()) {
+                byte[] record = read(entry.getValue(), source, sourceLog);
+                crc.reset();
+                crc.update(record);
+                if (buf.remaining() < HEADER_BYTES + record.length) {
+                    flush(out, buf);
+                    if (buf.capacity() < HEADER_BYTES + record.length) buf = ByteBuffer.allocate(HEADER_BYTES + record.length);
+                }
+                buf.putInt(record.length).putInt((int) crc.getValue()).put(record);
+                compacted.put(entry.getKey(), new Slot(false, pos, record.length));
+                pos += HEADER_BYTES + record.length;
+            }
+            if (buf.remaining() < HEADER_BYTES) flush(out, buf);
+            // Trailer: a zero length and the record count mark the generation complete
+            buf.putInt(0).putInt(compacted.size());
+            flush(out, buf);
+            out.force(true);
+            mapped = map(out, pos);
+        } catch (IOException e) {
+            Files.deleteIfExists(file.toPath());
+            throw e;
+        }
+
+        // The new generation is complete on disk; from here a crash just replays the log onto it
+        lock.writeLock().lock();
+        try {
+            if (log == null) throw new IOException("File store closed during compaction");
+            long tailSize = logSize - liveLogSize;
+            replaceLog(liveLogSize, tailSize);
+            // Saves made during the copy stay in the log, now at the start of it
+            for (Map.Entry<UUID, Slot> entry : index.entrySet()) {
+                Slot slot = entry.getValue();
+                if (slot.inLog() && slot.offset() >= liveLogSize) {
+                    compacted.put(entry.getKey(), new Slot(true, slot.offset() - liveLogSize, slot.length()));
+                }
+            }
+            File previous = dataFile(generation);
+            data = mapped;
+            dataSize = pos;
+            generation = next;
+            index = compacted;
+            logSize = tailSize;
+            // May fail while the old mapping is still open on some platforms; init() retries
+            if (previous.exists() && !previous.delete()) {
+                Messages.debug("STORAGE", "File store could not delete " + previous.getName() + " yet");
+            }
+            Messages.debug("STORAGE", "File store compacted " + live.size() + " players into generation " + next
+                    + " in " + (System.currentTimeMillis() - start) + "ms, " + tailSize + " log bytes carried over");
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Swap the log for one holding only its bytes from {@code from} on. The copy is forced to
+     * disk beside the log and moved over it atomically, so a crash leaves either the old log
+     * (replayed onto the new generation, same result) or the new one. Runs under the write lock.
+     */
+    private void replaceLog(long from, long length) throws IOException {
+        Path logPath = new File(directory, LOG_NAME).toPath();
+        Path copy = new File(directory, LOG_NAME + ".tmp").toPath();
+        try (FileChannel out = FileChannel.open(copy, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long copied = 0;
+            while (copied < length) {
+                long n = log.transferTo(from + copied, length - copied, out);
+                if (n <= 0) throw new IOException("File store log ends before its indexed size");
+                copied += n;
+            }
+            out.force(true);
+        }
+        // Closed first: some platforms refuse to replace a file that is still open
+        log.close();
+        try {
+            Files.move(copy, logPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            log = FileChannel.open(logPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            out.write(buf);
+        }
+        buf.clear();
+    }
+
+    /** The log is read onto the heap rather than mapped, so it can be truncated right after. */
+    private ByteBuffer readLog(long size) throws IOException {
+        if (size > Integer.MAX_VALUE) throw new IOException("File store log exceeds 2 GB");
+        ByteBuffer buf = ByteBuffer.allocate((int) size);
+        long pos = 0;
+        while (buf.hasRemaining()) {
+            int n = log.read(buf, pos);
+            if (n < 0) break;
+            pos += n;
+        }
+        buf.flip();
+        return buf;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) throw new IOException("File store file exceeds 2 GB; use sqlite or mysql");
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    private File dataFile(long gen) {
+        return new File(directory, "players." + gen + ".dat");
+    }
+
+    /** Fold the log into a fresh data file so the next start doesn't replay it. */
+    @Override
+    public void close() throws IOException {
+        // A running background compaction needs the write lock to finish, so wait outside it
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(CLOSE_COMPACTION_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (log == null) return;
+            // Still compacting: leave the log for the next start to replay
+            if (logSize > 0 && !compacting) {
+                try {
+                    compact();
+                } catch (IOException e) {
+                    Messages.debug("STORAGE", "File store compaction on close failed, log kept: " + e.getMessage());
+                }
+            }
+            log.close();
+            log = null;
+            data = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
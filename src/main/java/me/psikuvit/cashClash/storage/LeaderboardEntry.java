@@ -0,0 +1,7 @@
+package me.psikuvit.cashClash.storage;
+
+import java.util.UUID;
+
+/** One board line: 1-based rank, player and score. */
+public record LeaderboardEntry(int rank, UUID uuid, long score) {
+}
@@ -0,0 +1,44 @@
+package me.psikuvit.cashClash.storage;
+
+/** A ranked stat a leaderboard can be built from. */
+public enum LeaderboardType {
+    WINS("wins") {
+        @Override
+        public long score(PlayerData data) {
+            return data.getWins();
+        }
+    },
+    PLAY_TIME("playtime") {
+        @Override
+        public long score(PlayerData data) {
+            return data.getPlaytimeMillis();
+        }
+    },
+    COINS_EARNED("coins") {
+        @Override
+        public long score(PlayerData data) {
+            return data.getTotalCoinsEarned();
+        }
+    };
+
+    private final String configKey;
+
+    LeaderboardType(String configKey) {
+        this.configKey = configKey;
+    }
+
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    /** The stat this board ranks by, higher is better. */
+    public abstract long score(PlayerData data);
+
+    public static LeaderboardType fromString(String value) {
+        if (value == null) return null;
+        for (LeaderboardType type : values()) {
+            if (type.configKey.equalsIgnoreCase(value)) return type;
+        }
+        return null;
+    }
+}
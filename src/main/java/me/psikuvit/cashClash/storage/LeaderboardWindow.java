@@ -0,0 +1,58 @@
+package me.psikuvit.cashClash.storage;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/** Time span a board covers. Every window except {@link #ALL_TIME} is backed by rollups. */
+public enum LeaderboardWindow {
+    ALL_TIME("all"),
+    DAILY("daily"),
+    WEEKLY("weekly"),
+    SEASON("season");
+
+    private final String configKey;
+
+    LeaderboardWindow(String configKey) {
+        this.configKey = configKey;
+    }
+
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    public boolean isRollup() {
+        return this != ALL_TIME;
+    }
+
+    /**
+     * Id of the period of this window containing {@code day}: the epoch day for daily, the
+     * epoch day of the week's Monday for weekly and the 1-based season number for season.
+     */
+    public long period(LocalDate day, LocalDate seasonStart, int seasonDays) {
+        return switch (this) {
+            case ALL_TIME -> 0L;
+            case DAILY -> day.toEpochDay();
+            case WEEKLY -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toEpochDay();
+            case SEASON -> Math.floorDiv(day.toEpochDay() - seasonStart.toEpochDay(), seasonDays) + 1;
+        };
+    }
+
+    /** Human-readable name of one period, for headers. */
+    public String describe(long period) {
+        return switch (this) {
+            case ALL_TIME -> "All Time";
+            case DAILY -> LocalDate.ofEpochDay(period).toString();
+            case WEEKLY -> "Week of " + LocalDate.ofEpochDay(period);
+            case SEASON -> "Season " + period;
+        };
+    }
+
+    public static LeaderboardWindow fromString(String value) {
+        if (value == null) return null;
+        for (LeaderboardWindow window : values()) {
+            if (window.configKey.equalsIgnoreCase(value)) return window;
+        }
+        return null;
+    }
+}
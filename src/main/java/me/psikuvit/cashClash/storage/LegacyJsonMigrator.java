@@ -0,0 +1,153 @@
+package me.psikuvit.cashClash.storage;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import me.psikuvit.cashClash.util.Messages;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * One-shot migration from the original {@code players(uuid, json)} blob table to the normalized
+ * {@link PlayerSchema} tables.
+ * <p>
+ * Rows are streamed in uuid order with keyset pagination ({@code WHERE uuid > ? LIMIT n}), so at
+ * most one batch is decoded in memory at a time, and each batch is committed in its own
+ * transaction. Players that already have a {@code player_stats} row are skipped - either an
+ * earlier run copied them, or they played since and their normalized row is newer - so an
+ * interrupted migration simply resumes on the next start. Only once every row has been copied is the old table renamed to
+ * {@value #ARCHIVE_TABLE}, which is what marks the migration as done.
+ */
+public final class LegacyJsonMigrator {
+
+    public static final String LEGACY_TABLE = "players";
+    public static final String ARCHIVE_TABLE = "players_legacy_json";
+
+    private static final String SELECT_PAGE = "SELECT uuid, json FROM " + LEGACY_TABLE + " WHERE uuid > ? ORDER BY uuid LIMIT ?";
+    private static final String SELECT_ONE = "SELECT json FROM " + LEGACY_TABLE + " WHERE uuid = ?";
+    private static final String EXISTS_STATS = "SELECT 1 FROM player_stats WHERE uuid = ?";
+
+    private final SqlDialect dialect;
+    private final Gson gson = new Gson();
+    private final int batchSize;
+
+    public LegacyJsonMigrator(SqlDialect dialect, int batchSize) {
+        this.dialect = dialect;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /** Whether the legacy blob table still exists (migration not yet completed). */
+    public boolean isPending(Connection conn) throws SQLException {
+        return PlayerSchema.tableExists(conn, LEGACY_TABLE);
+    }
+
+    /**
+     * Copy every legacy row into the normalized tables and archive the legacy table.
+     * Returns the number of rows migrated (0 if there was nothing to do).
+     */
+    public int migrate(Connection conn) throws SQLException {
+        if (!isPending(conn)) return 0;
+
+        long start = System.currentTimeMillis();
+        int migrated = 0;
+        int skipped = 0;
+        int existing = 0;
+        String cursor = "";
+        List<PlayerData> decoded = new ArrayList<>(batchSize);
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+
+        try (PreparedStatement page = conn.prepareStatement(SELECT_PAGE);
+             PreparedStatement exists = conn.prepareStatement(EXISTS_STATS);
+             PreparedStatement stats = conn.prepareStatement(dialect.getUpsertStats())) {
+            while (true) {
+                page.setString(1, cursor);
+                page.setInt(2, batchSize);
+                int rows = 0;
+                try (ResultSet rs = page.executeQuery()) {
+                    while (rs.next()) {
+                        rows++;
+                        cursor = rs.getString(1);
+                        if (hasStatsRow(exists, cursor)) {
+                            existing++;
+                            continue;
+                        }
+                        PlayerData p = decode(cursor, rs.getString(2));
+                        if (p == null) {
+                            skipped++;
+                            continue;
+                        }
+                        PlayerSchema.bindStats(stats, p);
+                        stats.addBatch();
+                        p.setLayoutsDirty(true);
+                        decoded.add(p);
+                        migrated++;
+                    }
+                }
+                if (rows == 0) break;
+                stats.executeBatch();
+                PlayerSchema.writeLayouts(conn, dialect, decoded);
+                decoded.clear();
+                conn.commit();
+                Messages.debug("STORAGE", "Migrated " + migrated + " legacy player rows so far");
+                if (rows < batchSize) break;
+            }
+
+            try (Statement st = conn.createStatement()) {
+                st.executeUpdate("ALTER TABLE " + LEGACY_TABLE + " RENAME TO " + ARCHIVE_TABLE);
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+
+        Messages.debug("STORAGE", "Legacy JSON migration finished: " + migrated + " rows, " + existing
+                + " already present, " + skipped + " unreadable, " + (System.currentTimeMillis() - start) + "ms");
+        return migrated;
+    }
+
+    /**
+     * Read one player straight from the legacy table. Used as a fallback while a migration
+     * that failed part-way still has rows left to copy.
+     */
+    public Optional<PlayerData> loadLegacy(Connection conn, UUID uuid) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(SELECT_ONE)) {
+            ps.setString(1, uuid.toString());
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) return Optional.empty();
+                PlayerData p = decode(uuid.toString(), rs.getString(1));
+                if (p != null) p.setLayoutsDirty(true);
+                return Optional.ofNullable(p);
+            }
+        }
+    }
+
+    private static boolean hasStatsRow(PreparedStatement exists, String uuid) throws SQLException {
+        exists.setString(1, uuid);
+        try (ResultSet rs = exists.executeQuery()) {
+            return rs.next();
+        }
+    }
+
+    private PlayerData decode(String uuid, String json) {
+        try {
+            PlayerData p = gson.fromJson(json, PlayerData.class);
+            if (p == null) return null;
+            if (p.getUuid() == null) p.setUuid(UUID.fromString(uuid));
+            return p;
+        } catch (JsonSyntaxException | IllegalArgumentException e) {
+            Messages.debug("STORAGE", "Skipping unreadable legacy row " + uuid + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
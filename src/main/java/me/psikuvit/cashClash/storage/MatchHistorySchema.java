@@ -0,0 +1,192 @@
+package me.psikuvit.cashClash.storage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access for the append-only match history tables:
+ * <ul>
+ *     <li>{@code match_history} - one row per match.</li>
+ *     <li>{@code match_rounds} - one row per round (first blood, MVP).</li>
+ *     <li>{@code match_round_players} - one row per player per round.</li>
+ *     <li>{@code match_players} - one row per player per match, indexed on
+ *     {@code (uuid, ended_at, match_id)} so a player's newest matches are an index range scan.</li>
+ * </ul>
+ * Rows are only ever inserted. Inserts ignore rows that already exist, so re-sending a batch
+ * whose commit outcome was unknown is harmless.
+ */
+public final class MatchHistorySchema {
+
+    private static final List<String> SQLITE_SCHEMA = List.of(
+            "CREATE TABLE IF NOT EXISTS match_history (match_id TEXT PRIMARY KEY, arena INTEGER NOT NULL, "
+                    + "gamemode TEXT, started_at INTEGER NOT NULL, ended_at INTEGER NOT NULL, "
+                    + "winner_team INTEGER NOT NULL, red_rounds INTEGER NOT NULL, blue_rounds INTEGER NOT NULL)",
+            "CREATE TABLE IF NOT EXISTS match_rounds (match_id TEXT NOT NULL, round_no INTEGER NOT NULL, "
+                    + "first_blood TEXT, mvp TEXT, total_kills INTEGER NOT NULL, PRIMARY KEY (match_id, round_no))",
+            "CREATE TABLE IF NOT EXISTS match_round_players (match_id TEXT NOT NULL, round_no INTEGER NOT NULL, "
+                    + "uuid TEXT NOT NULL, kills INTEGER NOT NULL, deaths INTEGER NOT NULL, damage REAL NOT NULL, "
+                    + "PRIMARY KEY (match_id, round_no, uuid))",
+            "CREATE TABLE IF NOT EXISTS match_players (match_id TEXT NOT NULL, uuid TEXT NOT NULL, "
+                    + "team INTEGER NOT NULL, won INTEGER NOT NULL, kills INTEGER NOT NULL, deaths INTEGER NOT NULL, "
+                    + "damage REAL NOT NULL, first_bloods INTEGER NOT NULL, mvps INTEGER NOT NULL, "
+                    + "ended_at INTEGER NOT NULL, PRIMARY KEY (match_id, uuid))",
+            "CREATE INDEX IF NOT EXISTS idx_match_players_recent ON match_players (uuid, ended_at, match_id)"
+    );
+
+    private static final List<String> MYSQL_SCHEMA = List.of(
+            "CREATE TABLE IF NOT EXISTS match_history (match_id CHAR(36) PRIMARY KEY, arena INT NOT NULL, "
+                    + "gamemode VARCHAR(64), started_at BIGINT NOT NULL, ended_at BIGINT NOT NULL, "
+                    + "winner_team TINYINT NOT NULL, red_rounds INT NOT NULL, blue_rounds INT NOT NULL)",
+            "CREATE TABLE IF NOT EXISTS match_rounds (match_id CHAR(36) NOT NULL, round_no INT NOT NULL, "
+                    + "first_blood CHAR(36), mvp CHAR(36), total_kills INT NOT NULL, PRIMARY KEY (match_id, round_no))",
+            "CREATE TABLE IF NOT EXISTS match_round_players (match_id CHAR(36) NOT NULL, round_no INT NOT NULL, "
+                    + "uuid CHAR(36) NOT NULL, kills INT NOT NULL, deaths INT NOT NULL, damage DOUBLE NOT NULL, "
+                    + "PRIMARY KEY (match_id, round_no, uuid))",
+            "CREATE TABLE IF NOT EXISTS match_players (match_id CHAR(36) NOT NULL, uuid CHAR(36) NOT NULL, "
+                    + "team TINYINT NOT NULL, won BOOLEAN NOT NULL, kills INT NOT NULL, deaths INT NOT NULL, "
+                    + "damage DOUBLE NOT NULL, first_bloods INT NOT NULL, mvps INT NOT NULL, "
+                    + "ended_at BIGINT NOT NULL, PRIMARY KEY (match_id, uuid), "
+                    + "INDEX idx_match_players_recent (uuid, ended_at, match_id))"
+    );
+
+    private static final String SELECT_RECENT = "SELECT mp.match_id, mp.ended_at, mh.gamemode, mh.arena, mp.team, mp.won, "
+            + "mh.red_rounds, mh.blue_rounds, mp.kills, mp.deaths, mp.damage, mp.first_bloods, mp.mvps "
+            + "FROM match_players mp JOIN match_history mh ON mh.match_id = mp.match_id "
+            + "WHERE mp.uuid = ? AND (mp.ended_at < ? OR (mp.ended_at = ? AND mp.match_id < ?)) "
+            + "ORDER BY mp.ended_at DESC, mp.match_id DESC LIMIT ?";
+
+    private MatchHistorySchema() {
+        throw new AssertionError("Nope.");
+    }
+
+    public static void createTables(Connection conn, SqlDialect dialect) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            for (String ddl : dialect == SqlDialect.MYSQL ? MYSQL_SCHEMA : SQLITE_SCHEMA) {
+                st.executeUpdate(ddl);
+            }
+        }
+    }
+
+    public static void insert(Connection conn, SqlDialect dialect, Collection<MatchRecord> matches) throws SQLException {
+        try (StatementCache statements = new StatementCache(conn)) {
+            insert(statements, dialect, matches);
+        }
+    }
+
+    /**
+     * Insert every match with all its rounds and player lines in one transaction, one JDBC
+     * batch per table.
+     */
+    public static void insert(StatementCache statements, SqlDialect dialect, Collection<MatchRecord> matches) throws SQLException {
+        if (matches.isEmpty()) return;
+        String insert = dialect == SqlDialect.MYSQL ? "INSERT IGNORE INTO " : "INSERT OR IGNORE INTO ";
+        Connection conn = statements.getConnection();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            PreparedStatement history = statements.prepare(insert + "match_history (match_id, arena, gamemode, "
+                    + "started_at, ended_at, winner_team, red_rounds, blue_rounds) VALUES (?,?,?,?,?,?,?,?)");
+            PreparedStatement rounds = statements.prepare(insert + "match_rounds (match_id, round_no, first_blood, "
+                    + "mvp, total_kills) VALUES (?,?,?,?,?)");
+            PreparedStatement roundPlayers = statements.prepare(insert + "match_round_players (match_id, round_no, "
+                    + "uuid, kills, deaths, damage) VALUES (?,?,?,?,?,?)");
+            PreparedStatement players = statements.prepare(insert + "match_players (match_id, uuid, team, won, "
+                    + "kills, deaths, damage, first_bloods, mvps, ended_at) VALUES (?,?,?,?,?,?,?,?,?,?)");
+
+            for (MatchRecord match : matches) {
+                String id = match.matchId().toString();
+                history.setString(1, id);
+                history.setInt(2, match.arena());
+                history.setString(3, match.gamemode());
+                history.setLong(4, match.startedAt());
+                history.setLong(5, match.endedAt());
+                history.setInt(6, match.winnerTeam());
+                history.setInt(7, match.redRounds());
+                history.setInt(8, match.blueRounds());
+                history.addBatch();
+
+                for (MatchRecord.Round round : match.rounds()) {
+                    rounds.setString(1, id);
+                    rounds.setInt(2, round.round());
+                    rounds.setString(3, round.firstBlood() == null ? null : round.firstBlood().toString());
+                    rounds.setString(4, round.mvp() == null ? null : round.mvp().toString());
+                    rounds.setInt(5, round.totalKills());
+                    rounds.addBatch();
+
+                    for (MatchRecord.RoundLine line : round.lines()) {
+                        roundPlayers.setString(1, id);
+                        roundPlayers.setInt(2, round.round());
+                        roundPlayers.setString(3, line.player().toString());
+                        roundPlayers.setInt(4, line.kills());
+                        roundPlayers.setInt(5, line.deaths());
+                        roundPlayers.setDouble(6, line.damage());
+                        roundPlayers.addBatch();
+                    }
+                }
+
+                for (MatchRecord.PlayerLine line : match.players()) {
+                    players.setString(1, id);
+                    players.setString(2, line.player().toString());
+                    players.setInt(3, line.team());
+                    players.setBoolean(4, line.won());
+                    players.setInt(5, line.kills());
+                    players.setInt(6, line.deaths());
+                    players.setDouble(7, line.damage());
+                    players.setInt(8, line.firstBloods());
+                    players.setInt(9, line.mvps());
+                    players.setLong(10, match.endedAt());
+                    players.addBatch();
+                }
+            }
+            history.executeBatch();
+            rounds.executeBatch();
+            roundPlayers.executeBatch();
+            players.executeBatch();
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    public static List<MatchSummary> recentMatches(Connection conn, UUID player, MatchSummary.Cursor after, int limit) throws SQLException {
+        try (StatementCache statements = new StatementCache(conn)) {
+            return recentMatches(statements, player, after, limit);
+        }
+    }
+
+    /**
+     * Up to {@code limit} of a player's matches older than {@code after}, newest first. Reads
+     * exactly the rows returned.
+     */
+    public static List<MatchSummary> recentMatches(StatementCache statements, UUID player, MatchSummary.Cursor after,
+                                                   int limit) throws SQLException {
+        List<MatchSummary> matches = new ArrayList<>(limit);
+        PreparedStatement ps = statements.prepare(SELECT_RECENT);
+        ps.setString(1, player.toString());
+        ps.setLong(2, after.endedAt());
+        ps.setLong(3, after.endedAt());
+        ps.setString(4, after.matchId());
+        ps.setInt(5, limit);
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                int team = rs.getInt(5);
+                int red = rs.getInt(7);
+                int blue = rs.getInt(8);
+                matches.add(new MatchSummary(UUID.fromString(rs.getString(1)), rs.getLong(2), rs.getString(3),
+                        rs.getInt(4), team, rs.getBoolean(6), team == 1 ? red : blue, team == 1 ? blue : red,
+                        rs.getInt(9), rs.getInt(10), rs.getDouble(11), rs.getInt(12), rs.getInt(13)));
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,25 @@
+package me.psikuvit.cashClash.storage;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One finished match as written to the match history tables. Immutable: it is built on the
+ * main thread when a session ends and handed to the history writer thread as-is.
+ *
+ * @param winnerTeam 1 = red, 2 = blue
+ */
+public record MatchRecord(UUID matchId, int arena, String gamemode, long startedAt, long endedAt,
+                          int winnerTeam, int redRounds, int blueRounds,
+                          List<Round> rounds, List<PlayerLine> players) {
+
+    /** One round; {@code firstBlood} and {@code mvp} are null if nobody qualified. */
+    public record Round(int round, UUID firstBlood, UUID mvp, int totalKills, List<RoundLine> lines) {}
+
+    /** One player's results in one round. */
+    public record RoundLine(UUID player, int kills, int deaths, double damage) {}
+
+    /** One player's totals over the whole match. */
+    public record PlayerLine(UUID player, int team, boolean won, int kills, int deaths, double damage,
+                             int firstBloods, int mvps) {}
+}
@@ -0,0 +1,25 @@
+package me.psikuvit.cashClash.storage;
+
+import java.util.UUID;
+
+/**
+ * One row of a player's match history page: the match and how that player did in it.
+ */
+public record MatchSummary(UUID matchId, long endedAt, String gamemode, int arena, int team, boolean won,
+                           int teamRounds, int enemyRounds, int kills, int deaths, double damage,
+                           int firstBloods, int mvps) {
+
+    /**
+     * Keyset position in a player's history (newest first). Pages are read with
+     * {@code WHERE (ended_at, match_id) < cursor}, so a page costs the same however deep it is.
+     */
+    public record Cursor(long endedAt, String matchId) {
+
+        public static final Cursor FIRST = new Cursor(Long.MAX_VALUE, "");
+    }
+
+    /** Cursor for the page that follows this row. */
+    public Cursor cursor() {
+        return new Cursor(endedAt, matchId.toString());
+    }
+}
@@ -1,88 +1,162 @@
 package me.psikuvit.cashClash.storage;
 
-import com.google.gson.Gson;
 import me.psikuvit.cashClash.util.Messages;
 
 import java.io.IOException;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
- * Minimal MySQL provider. Assumes a database is specified in the JDBC URL or via schema in config.
+ * Minimal MySQL provider over the normalized {@link PlayerSchema} tables. Assumes a database is
+ * specified in the JDBC URL or via schema in config. Every call borrows its own connection from
+ * a {@link ConnectionPool}, so loads, saves and leaderboard queries run in parallel and a dropped
+ * connection is replaced instead of breaking storage until restart.
  */
 public class MySQLProvider implements DatabaseProvider {
 
+    private static final int MIGRATION_BATCH_SIZE = 500;
+
     private final String jdbcUrl;
     private final String user;
     private final String pass;
-    private Connection conn;
-    private final Gson gson;
+    private final ConnectionPool.Settings poolSettings;
+    private ConnectionPool pool;
+    private LegacyJsonMigrator legacy;
+    private volatile boolean legacyPending;
 
-    public MySQLProvider(String jdbcUrl, String user, String pass) {
+    public MySQLProvider(String jdbcUrl, String user, String pass, ConnectionPool.Settings poolSettings) {
         this.jdbcUrl = jdbcUrl;
         this.user = user;
         this.pass = pass;
-        this.gson = new Gson();
+        this.poolSettings = poolSettings;
     }
 
     @Override
     public void init() throws SQLException {
-        conn = DriverManager.getConnection(jdbcUrl, user, pass);
-        try (Statement st = conn.createStatement()) {
-            st.executeUpdate("CREATE TABLE IF NOT EXISTS players (uuid VARCHAR(36) PRIMARY KEY, json LONGTEXT)");
-        }
+        pool = new ConnectionPool(jdbcUrl, user, pass, poolSettings);
+        legacy = new LegacyJsonMigrator(SqlDialect.MYSQL, MIGRATION_BATCH_SIZE);
+        legacyPending = pool.query(conn -> {
+            PlayerSchema.createTables(conn, SqlDialect.MYSQL);
+            MatchHistorySchema.createTables(conn, SqlDialect.MYSQL);
+            RollupSchema.createTables(conn, SqlDialect.MYSQL);
+            try {
+                legacy.migrate(conn);
+            } catch (SQLException e) {
+                // Keep serving: loads fall back to the legacy table until a later start finishes the copy.
+                Messages.debug("STORAGE", "Legacy JSON migration incomplete, will resume next start: " + e.getMessage());
+            }
+            return legacy.isPending(conn);
+        });
     }
 
     @Override
     public Optional<PlayerData> loadPlayer(UUID uuid) throws SQLException {
-        try (PreparedStatement ps = conn.prepareStatement("SELECT json FROM players WHERE uuid = ?")) {
-            ps.setString(1, uuid.toString());
-            try (ResultSet rs = ps.executeQuery()) {
-                if (!rs.next()) return Optional.empty();
-                String json = rs.getString(1);
-                PlayerData p = gson.fromJson(json, PlayerData.class);
-                return Optional.ofNullable(p);
-            }
-        }
+        return pool.query(conn -> {
+            Optional<PlayerData> data = PlayerSchema.load(conn, uuid);
+            if (data.isEmpty() && legacyPending) return legacy.loadLegacy(conn, uuid);
+            return data;
+        });
     }
 
     @Override
     public void savePlayer(PlayerData player) throws SQLException {
-        String json = gson.toJson(player);
-        try (PreparedStatement ps = conn.prepareStatement("INSERT INTO players(uuid,json) VALUES(?,?) ON DUPLICATE KEY UPDATE json = VALUES(json)")) {
-            ps.setString(1, player.getUuid().toString());
-            ps.setString(2, json);
-            ps.executeUpdate();
-        }
+        pool.query(conn -> {
+            PlayerSchema.save(conn, SqlDialect.MYSQL, player);
+            return null;
+        });
+    }
+
+    @Override
+    public void savePlayers(Collection<PlayerData> players) throws SQLException {
+        pool.query(conn -> {
+            PlayerSchema.saveBatch(conn, SqlDialect.MYSQL, players);
+            return null;
+        });
     }
 
     @Override
     public List<PlayerData> loadAllPlayers() throws SQLException {
-        List<PlayerData> players = new ArrayList<>();
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery("SELECT json FROM players")) {
-            while (rs.next()) {
-                PlayerData p = gson.fromJson(rs.getString(1), PlayerData.class);
-                if (p != null && p.getUuid() != null) players.add(p);
-            }
-        }
-        return players;
+        return pool.query(PlayerSchema::loadAllStats);
+    }
+
+    @Override
+    public void scanPlayers(Consumer<PlayerData> consumer) throws SQLException {
+        // No retry: rows already handed to the consumer would be delivered twice.
+        pool.run(conn -> {
+            PlayerSchema.scanStats(conn, Integer.MIN_VALUE, consumer);
+            return null;
+        });
+    }
+
+    @Override
+    public void exportPlayers(Consumer<PlayerData> consumer) throws SQLException {
+        // No retry, as for scanPlayers.
+        pool.run(conn -> {
+            PlayerSchema.scanPlayers(conn, Integer.MIN_VALUE, consumer);
+            return null;
+        });
+    }
+
+    @Override
+    public List<PlayerData> topN(LeaderboardType type, int limit) throws SQLException {
+        return pool.query(conn -> PlayerSchema.topN(conn, type, limit));
+    }
+
+    @Override
+    public void saveMatches(Collection<MatchRecord> matches) throws SQLException {
+        pool.query(conn -> {
+            MatchHistorySchema.insert(conn, SqlDialect.MYSQL, matches);
+            return null;
+        });
+    }
+
+    @Override
+    public List<MatchSummary> recentMatches(UUID player, MatchSummary.Cursor after, int limit) throws SQLException {
+        return pool.query(conn -> MatchHistorySchema.recentMatches(conn, player, after, limit));
+    }
+
+    @Override
+    public void applyRollups(Collection<RollupDelta> deltas) throws SQLException {
+        // No retry: the batch may have committed before the connection dropped, and
+        // re-adding increments would count them twice.
+        pool.run(conn -> {
+            RollupSchema.apply(conn, SqlDialect.MYSQL, deltas);
+            return null;
+        });
+    }
+
+    @Override
+    public List<LeaderboardEntry> topRollup(LeaderboardWindow window, long period, LeaderboardType type, int limit)
+            throws SQLException {
+        return pool.query(conn -> RollupSchema.top(conn, window, period, type, limit));
+    }
+
+    @Override
+    public void resetRollups(UUID uuid, LeaderboardType type) throws SQLException {
+        // Setting to zero is idempotent, so retrying after a dropped connection is safe
+        pool.query(conn -> {
+            RollupSchema.reset(conn, uuid, type);
+            return null;
+        });
+    }
+
+    @Override
+    public int archiveRollups(LeaderboardWindow window, long currentPeriod) throws SQLException {
+        return pool.query(conn -> RollupSchema.archive(conn, SqlDialect.MYSQL, window, currentPeriod));
+    }
+
+    public ConnectionPool.Stats getPoolStats() {
+        return pool.getStats();
     }
 
     @Override
     public void close() throws IOException {
-        try {
-            if (conn != null && !conn.isClosed()) conn.close();
-        } catch (SQLException ex) {
-            Messages.debug("STORAGE", "Unable to close MySQL provider: " + ex.getMessage());
-        }
+        if (pool == null) return;
+        Messages.debug("STORAGE", "Closing MySQL pool: " + pool.getStats());
+        pool.close();
     }
 }
@@ -18,6 +18,11 @@ public class PlayerData {
     private transient long lastSeen;
     // Kit name -> (slot -> item identifier) for custom layouts
     private Map<String, Map<Integer, String>> kitLayouts;
+    // Set when kitLayouts changed since the last save, so stat-only saves skip the layout rows
+    private transient boolean layoutsDirty;
+    // Bumped by every stat mutation; equal to savedVersion when nothing changed since the last save
+    private transient long version;
+    private transient long savedVersion;
 
     // No-arg constructor for Gson
     public PlayerData() {}
@@ -35,6 +40,31 @@ public class PlayerData {
         this.kitLayouts = new HashMap<>();
     }
 
+    /**
+     * Detached copy for handing off to the persistence thread. Kit layouts are copied
+     * two levels deep so later edits on the main thread never race the serializer.
+     */
+    public PlayerData copy() {
+        PlayerData c = new PlayerData();
+        c.uuid = uuid;
+        c.wins = wins;
+        c.losses = losses;
+        c.deaths = deaths;
+        c.kills = kills;
+        c.totalCoinsInvested = totalCoinsInvested;
+        c.totalCoinsEarned = totalCoinsEarned;
+        c.playtimeMillis = playtimeMillis;
+        c.lastSeen = lastSeen;
+        c.layoutsDirty = layoutsDirty;
+        c.version = version;
+        c.savedVersion = savedVersion;
+        c.kitLayouts = new HashMap<>();
+        if (kitLayouts != null) {
+            kitLayouts.forEach((kit, layout) -> c.kitLayouts.put(kit, new HashMap<>(layout)));
+        }
+        return c;
+    }
+
     public UUID getUuid() {
         return uuid;
     }
@@ -49,10 +79,12 @@ public class PlayerData {
 
     public void setWins(int wins) {
         this.wins = wins;
+        version++;
     }
 
     public void incWins() {
         this.wins++;
+        version++;
     }
 
     public int getLosses() {
@@ -61,10 +93,12 @@ public class PlayerData {
 
     public void setLosses(int losses) {
         this.losses = losses;
+        version++;
     }
 
     public void incLosses() {
         this.losses++;
+        version++;
     }
 
     public int getDeaths() {
@@ -73,10 +107,12 @@ public class PlayerData {
 
     public void setDeaths(int deaths) {
         this.deaths = deaths;
+        version++;
     }
 
     public void incDeaths() {
         this.deaths++;
+        version++;
     }
 
     public int getKills() {
@@ -85,10 +121,12 @@ public class PlayerData {
 
     public void setKills(int kills) {
         this.kills = kills;
+        version++;
     }
 
     public void incKills() {
         this.kills++;
+        version++;
     }
 
     public long getTotalCoinsInvested() {
@@ -97,10 +135,12 @@ public class PlayerData {
 
     public void setTotalCoinsInvested(long totalCoinsInvested) {
         this.totalCoinsInvested = totalCoinsInvested;
+        version++;
     }
 
     public void addInvestedCoins(long amount) {
         this.totalCoinsInvested += amount;
+        version++;
     }
 
     public long getTotalCoinsEarned() {
@@ -109,10 +149,12 @@ public class PlayerData {
 
     public void setTotalCoinsEarned(long totalCoinsEarned) {
         this.totalCoinsEarned = totalCoinsEarned;
+        version++;
     }
 
     public void addEarnedCoins(long amount) {
         this.totalCoinsEarned += amount;
+        version++;
     }
 
     public long getPlaytimeMillis() {
@@ -121,10 +163,12 @@ public class PlayerData {
 
     public void setPlaytimeMillis(long playtimeMillis) {
         this.playtimeMillis = playtimeMillis;
+        version++;
     }
 
     public void addPlaytimeMillis(long amount) {
         this.playtimeMillis += amount;
+        version++;
     }
 
     public long getLastSeen() {
@@ -142,6 +186,7 @@ public class PlayerData {
 
     public void setKitLayouts(Map<String, Map<Integer, String>> kitLayouts) {
         this.kitLayouts = kitLayouts;
+        this.layoutsDirty = true;
     }
 
     public Map<Integer, String> getKitLayout(String kitName) {
@@ -150,9 +195,34 @@ public class PlayerData {
 
     public void setKitLayout(String kitName, Map<Integer, String> slotItemMap) {
         kitLayouts.put(kitName, slotItemMap);
+        layoutsDirty = true;
     }
 
     public boolean hasKitLayout(String kitName) {
         return kitLayouts != null && kitLayouts.containsKey(kitName);
     }
+
+    public boolean isLayoutsDirty() {
+        return layoutsDirty;
+    }
+
+    public void setLayoutsDirty(boolean layoutsDirty) {
+        this.layoutsDirty = layoutsDirty;
+    }
+
+    /**
+     * Whether anything persistent changed since the last {@link #markClean()}.
+     */
+    public boolean isDirty() {
+        return version != savedVersion || layoutsDirty;
+    }
+
+    /**
+     * Record that the current state has been handed to storage (freshly loaded or snapshotted
+     * for a save), so an unchanged player is skipped by the next checkpoint.
+     */
+    public void markClean() {
+        savedVersion = version;
+        layoutsDirty = false;
+    }
 }
@@ -0,0 +1,362 @@
+package me.psikuvit.cashClash.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hand-written binary encoding of {@link PlayerData}, used wherever a player (or part of one)
+ * is stored as a single value - e.g. the kit layout BLOB in {@code player_layouts}.
+ * <p>
+ * Layout: one format-version byte, then tagged sections ({@code tag, varint length, payload})
+ * ending with tag 0. Readers skip sections with tags they don't know and leave fields of
+ * missing sections at their defaults, so sections can be added (or a section's payload
+ * extended at its end) without breaking older or newer readers. Integers are varints, so the
+ * common small counters take a byte or two; strings are varint length plus UTF-8, with an
+ * ASCII fast path that writes chars directly. No reflection, and encoding allocates only the
+ * output array.
+ */
+public final class PlayerDataCodec {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int TAG_END = 0;
+    private static final int TAG_STATS = 1;
+    private static final int TAG_LAYOUTS = 2;
+
+    private PlayerDataCodec() {
+        throw new AssertionError("Nope.");
+    }
+
+    /** Encode stats and kit layouts. Session-only fields (last seen, dirty flags) are not stored. */
+    public static byte[] encode(PlayerData data) {
+        Writer w = new Writer(64 + layoutsSizeHint(data.getKitLayouts()));
+        w.writeByte(FORMAT_VERSION);
+        writeStatsSection(w, data);
+        writeLayoutsSection(w, data.getKitLayouts());
+        w.writeByte(TAG_END);
+        return w.toByteArray();
+    }
+
+    /**
+     * Encode the stats of {@code data} with the layouts section of {@code stored} (a value
+     * written by {@link #encode}) copied over byte for byte, so a player whose layouts didn't
+     * change is saved without decoding the stored ones.
+     *
+     * @throws IllegalArgumentException if {@code stored} is truncated or of a newer format version
+     */
+    public static byte[] encodeWithLayoutsOf(PlayerData data, byte[] stored) {
+        Reader r = new Reader(stored);
+        checkVersion(r.readByte());
+        int layoutsStart = 0;
+        int layoutsEnd = 0;
+        int tag;
+        while ((tag = r.readByte()) != TAG_END) {
+            int start = r.pos - 1;
+            int length = r.readVarInt();
+            r.require(length);
+            int end = r.pos + length;
+            if (tag == TAG_LAYOUTS) {
+                layoutsStart = start;
+                layoutsEnd = end;
+            }
+            r.pos = end;
+        }
+
+        Writer w = new Writer(64 + layoutsEnd - layoutsStart);
+        w.writeByte(FORMAT_VERSION);
+        writeStatsSection(w, data);
+        w.writeBytes(stored, layoutsStart, layoutsEnd - layoutsStart);
+        w.writeByte(TAG_END);
+        return w.toByteArray();
+    }
+
+    /**
+     * Decode a value written by {@link #encode}. The result is marked clean, like a row read
+     * from the database.
+     *
+     * @throws IllegalArgumentException if the data is truncated, has no stats section or was
+     *                                  written by a newer, incompatible format version
+     */
+    public static PlayerData decode(byte[] bytes) {
+        Reader r = new Reader(bytes);
+        checkVersion(r.readByte());
+        PlayerData data = null;
+        Map<String, Map<Integer, String>> layouts = null;
+        int tag;
+        while ((tag = r.readByte()) != TAG_END) {
+            int length = r.readVarInt();
+            int end = r.pos + length;
+            r.require(length);
+            switch (tag) {
+                case TAG_STATS -> {
+                    data = new PlayerData(new UUID(r.readLong(), r.readLong()));
+                    data.setWins((int) r.readVarLong());
+                    data.setLosses((int) r.readVarLong());
+                    data.setDeaths((int) r.readVarLong());
+                    data.setKills((int) r.readVarLong());
+                    data.setTotalCoinsInvested(r.readVarLong());
+                    data.setTotalCoinsEarned(r.readVarLong());
+                    data.setPlaytimeMillis(r.readVarLong());
+                }
+                case TAG_LAYOUTS -> layouts = readLayouts(r);
+                default -> { /* unknown section from a newer writer */ }
+            }
+            r.pos = end;
+        }
+        if (data == null) throw new IllegalArgumentException("Encoded player has no stats section");
+        if (layouts != null) data.setKitLayouts(layouts);
+        data.setLayoutsDirty(false);
+        data.markClean();
+        return data;
+    }
+
+    /** Encode only kit layouts, for storage next to the stats columns. */
+    public static byte[] encodeLayouts(Map<String, Map<Integer, String>> layouts) {
+        Writer w = new Writer(8 + layoutsSizeHint(layouts));
+        w.writeByte(FORMAT_VERSION);
+        writeLayoutsSection(w, layouts);
+        w.writeByte(TAG_END);
+        return w.toByteArray();
+    }
+
+    /** Decode a value written by {@link #encodeLayouts}; empty if it has no layouts section. */
+    public static Map<String, Map<Integer, String>> decodeLayouts(byte[] bytes) {
+        Reader r = new Reader(bytes);
+        checkVersion(r.readByte());
+        Map<String, Map<Integer, String>> layouts = new HashMap<>();
+        int tag;
+        while ((tag = r.readByte()) != TAG_END) {
+            int length = r.readVarInt();
+            int end = r.pos + length;
+            r.require(length);
+            if (tag == TAG_LAYOUTS) layouts = readLayouts(r);
+            r.pos = end;
+        }
+        return layouts;
+    }
+
+    private static void checkVersion(int version) {
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported player encoding version " + version);
+        }
+    }
+
+    private static void writeStatsSection(Writer w, PlayerData data) {
+        int start = w.beginSection(TAG_STATS);
+        UUID uuid = data.getUuid();
+        w.writeLong(uuid.getMostSignificantBits());
+        w.writeLong(uuid.getLeastSignificantBits());
+        w.writeVarLong(data.getWins());
+        w.writeVarLong(data.getLosses());
+        w.writeVarLong(data.getDeaths());
+        w.writeVarLong(data.getKills());
+        w.writeVarLong(data.getTotalCoinsInvested());
+        w.writeVarLong(data.getTotalCoinsEarned());
+        w.writeVarLong(data.getPlaytimeMillis());
+        w.endSection(start);
+    }
+
+    /**
+     * Slots are written as unsigned varints, which {@link Reader#readVarInt()} only reads back
+     * for non-negative values, so negative slots (no inventory has them) are left out like
+     * null entries rather than written unreadable.
+     */
+    private static void writeLayoutsSection(Writer w, Map<String, Map<Integer, String>> layouts) {
+        if (layouts == null || layouts.isEmpty()) return;
+        int start = w.beginSection(TAG_LAYOUTS);
+        int kits = 0;
+        for (Map<Integer, String> layout : layouts.values()) {
+            if (layout != null) kits++;
+        }
+        w.writeVarLong(kits);
+        for (Map.Entry<String, Map<Integer, String>> kit : layouts.entrySet()) {
+            Map<Integer, String> layout = kit.getValue();
+            if (layout == null) continue;
+            w.writeString(kit.getKey());
+            int slots = 0;
+            for (Map.Entry<Integer, String> slot : layout.entrySet()) {
+                if (isStorable(slot)) slots++;
+            }
+            w.writeVarLong(slots);
+            for (Map.Entry<Integer, String> slot : layout.entrySet()) {
+                if (!isStorable(slot)) continue;
+                w.writeVarLong(slot.getKey());
+                w.writeString(slot.getValue());
+            }
+        }
+        w.endSection(start);
+    }
+
+    private static boolean isStorable(Map.Entry<Integer, String> slot) {
+        return slot.getKey() != null && slot.getKey() >= 0 && slot.getValue() != null;
+    }
+
+    private static Map<String, Map<Integer, String>> readLayouts(Reader r) {
+        int kits = r.readVarInt();
+        Map<String, Map<Integer, String>> layouts = new HashMap<>(Math.max(4, kits * 2));
+        for (int k = 0; k < kits; k++) {
+            String kit = r.readString();
+            int slots = r.readVarInt();
+            Map<Integer, String> layout = new HashMap<>(Math.max(4, slots * 2));
+            for (int s = 0; s < slots; s++) {
+                layout.put(r.readVarInt(), r.readString());
+            }
+            layouts.put(kit, layout);
+        }
+        return layouts;
+    }
+
+    private static int layoutsSizeHint(Map<String, Map<Integer, String>> layouts) {
+        if (layouts == null) return 0;
+        int slots = 0;
+        for (Map<Integer, String> layout : layouts.values()) {
+            if (layout != null) slots += layout.size();
+        }
+        return layouts.size() * 16 + slots * 24;
+    }
+
+    /** Growable output buffer. */
+    private static final class Writer {
+        private byte[] buf;
+        private int pos;
+
+        Writer(int initialSize) {
+            buf = new byte[Math.max(16, initialSize)];
+        }
+
+        void writeByte(int b) {
+            ensure(1);
+            buf[pos++] = (byte) b;
+        }
+
+        void writeLong(long v) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buf[pos++] = (byte) (v >>> shift);
+            }
+        }
+
+        /** Unsigned LEB128; negative values (never expected for stats) take ten bytes. */
+        void writeVarLong(long v) {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[pos++] = (byte) v;
+        }
+
+        void writeBytes(byte[] bytes, int offset, int length) {
+            ensure(length);
+            System.arraycopy(bytes, offset, buf, pos, length);
+            pos += length;
+        }
+
+        void writeString(String s) {
+            int len = s.length();
+            boolean ascii = true;
+            for (int i = 0; i < len; i++) {
+                if (s.charAt(i) >= 0x80) {
+                    ascii = false;
+                    break;
+                }
+            }
+            if (ascii) {
+                writeVarLong(len);
+                ensure(len);
+                for (int i = 0; i < len; i++) {
+                    buf[pos++] = (byte) s.charAt(i);
+                }
+                return;
+            }
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, buf, pos, utf8.length);
+            pos += utf8.length;
+        }
+
+        /**
+         * Write the tag and reserve a fixed five-byte length, so the section can be written in
+         * place and patched by {@link #endSection} without a second buffer.
+         */
+        int beginSection(int tag) {
+            writeByte(tag);
+            ensure(5);
+            pos += 5;
+            return pos;
+        }
+
+        void endSection(int start) {
+            int length = pos - start;
+            int p = start - 5;
+            for (int i = 0; i < 4; i++) {
+                buf[p++] = (byte) ((length & 0x7F) | 0x80);
+                length >>>= 7;
+            }
+            buf[p] = (byte) length;
+        }
+
+        private void ensure(int n) {
+            if (pos + n > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + n));
+        }
+
+        byte[] toByteArray() {
+            return pos == buf.length ? buf : Arrays.copyOf(buf, pos);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buf;
+        private int pos;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        void require(int n) {
+            if (n < 0 || pos + n > buf.length) throw new IllegalArgumentException("Encoded player is truncated");
+        }
+
+        int readByte() {
+            require(1);
+            return buf[pos++] & 0xFF;
+        }
+
+        long readLong() {
+            require(8);
+            long v = 0;
+            for (int i = 0; i < 8; i++) {
+                v = (v << 8) | (buf[pos++] & 0xFF);
+            }
+            return v;
+        }
+
+        long readVarLong() {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+            }
+            throw new IllegalArgumentException("Malformed varint in encoded player");
+        }
+
+        int readVarInt() {
+            long v = readVarLong();
+            if (v < 0 || v > Integer.MAX_VALUE) throw new IllegalArgumentException("Varint out of range in encoded player");
+            return (int) v;
+        }
+
+        String readString() {
+            int len = readVarInt();
+            require(len);
+            String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+            return s;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package me.psikuvit.cashClash.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streaming bulk export and import of every stored player, for backups and for moving data
+ * between SQLite and MySQL.
+ * <p>
+ * The file is GZIP-compressed: a magic number and format version, then one record per player
+ * ({@code int length} + {@link PlayerDataCodec#encode} bytes), then a zero length and the total
+ * record count so a truncated file is detected. Export streams rows straight from the
+ * provider's cursor into the file and import saves fixed-size batches while reading, so both
+ * hold at most one batch of players in memory whatever the table size.
+ */
+public final class PlayerDataTransfer {
+
+    private static final int MAGIC = 0x43435844; // "CCXD"
+    private static final int FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** Upper bound on one encoded player, so a corrupt length can't trigger a huge allocation. */
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+    private static final long PROGRESS_INTERVAL_MS = 2000L;
+
+    private PlayerDataTransfer() {
+        throw new AssertionError("Nope.");
+    }
+
+    /** Receives periodic progress from a running transfer, on the transfer's thread. */
+    @FunctionalInterface
+    public interface Progress {
+        void report(long rows, long elapsedMillis);
+    }
+
+    /** Outcome of a finished transfer; {@code bytes} is the compressed file size. */
+    public record Result(long rows, long skipped, long bytes, long elapsedMillis) {
+
+        public long rowsPerSecond() {
+            return elapsedMillis <= 0 ? rows : rows * 1000L / elapsedMillis;
+        }
+    }
+
+    /**
+     * Write every player of {@code provider} to {@code file}. The data goes to a temporary file
+     * that replaces {@code file} only once the export completed, so a failed run never leaves
+     * a half-written export behind under the real name.
+     */
+    public static Result export(DatabaseProvider provider, File file, Progress progress) throws IOException, SQLException {
+        File tmp = new File(file.getPath() + ".tmp");
+        long start = System.currentTimeMillis();
+        Counter counter = new Counter(start, progress);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(tmp.toPath()), BUFFER_SIZE), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            try {
+                provider.exportPlayers(player -> {
+                    byte[] record = PlayerDataCodec.encode(player);
+                    try {
+                        out.writeInt(record.length);
+                        out.write(record);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    counter.increment();
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.writeInt(0);
+            out.writeLong(counter.rows);
+        } catch (IOException | SQLException | RuntimeException e) {
+            Files.deleteIfExists(tmp.toPath());
+            throw e;
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return new Result(counter.rows, 0, file.length(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Read {@code file} and save its players to {@code provider} in batches of
+     * {@code batchSize}, overwriting stored rows with the same UUID. Players matching
+     * {@code skip} (e.g. online players whose cached data would be saved over the import) are
+     * left untouched and counted as skipped. {@code saved} is handed each batch once it is
+     * stored.
+     *
+     * @throws IOException if the file is not an export, is from a newer format or is truncated;
+     *                     batches saved before the error stay saved
+     */
+    public static Result importFile(DatabaseProvider provider, File file, int batchSize, Predicate<UUID> skip,
+                                    Consumer<List<PlayerData>> saved, Progress progress) throws IOException, SQLException {
+        long start = System.currentTimeMillis();
+        Counter counter = new Counter(start, progress);
+        long skipped = 0;
+        List<PlayerData> batch = new ArrayList<>(batchSize);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file.toPath()), BUFFER_SIZE), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC) throw new IOException(file.getName() + " is not a CashClash player export");
+            int version = in.readUnsignedByte();
+            if (version > FORMAT_VERSION) {
+                throw new IOException(file.getName() + " uses export format " + version + ", newer than " + FORMAT_VERSION);
+            }
+
+            int length;
+            while ((length = in.readInt()) != 0) {
+                if (length < 0 || length > MAX_RECORD_BYTES) throw new IOException("Corrupt record length " + length);
+                byte[] record = new byte[length];
+                in.readFully(record);
+                PlayerData player;
+                try {
+                    player = PlayerDataCodec.decode(record);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Corrupt record " + (counter.rows + skipped + 1) + ": " + e.getMessage(), e);
+                }
+                if (skip.test(player.getUuid())) {
+                    skipped++;
+                    continue;
+                }
+                // Rewrite layouts too, so a player exported without any also clears them on the target.
+                player.setLayoutsDirty(true);
+                batch.add(player);
+                if (batch.size() >= batchSize) {
+                    provider.savePlayers(batch);
+                    saved.accept(batch);
+                    batch.clear();
+                }
+                counter.increment();
+            }
+            long expected = in.readLong();
+            if (expected != counter.rows + skipped) {
+                throw new IOException("Export holds " + (counter.rows + skipped) + " players but declares " + expected);
+            }
+        } catch (EOFException e) {
+            throw new IOException(file.getName() + " is truncated", e);
+        }
+        provider.savePlayers(batch);
+        saved.accept(batch);
+        return new Result(counter.rows, skipped, file.length(), System.currentTimeMillis() - start);
+    }
+
+    /** Row count plus throttled progress reporting. */
+    private static final class Counter {
+        private final long start;
+        private final Progress progress;
+        private long rows;
+        private long lastReport;
+
+        private Counter(long start, Progress progress) {
+            this.start = start;
+            this.progress = progress;
+            this.lastReport = start;
+        }
+
+        private void increment() {
+            rows++;
+            if ((rows & 1023) != 0) return;
+            long now = System.currentTimeMillis();
+            if (now - lastReport < PROGRESS_INTERVAL_MS) return;
+            lastReport = now;
+            progress.report(rows, now - start);
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package me.psikuvit.cashClash.storage;
+
+import me.psikuvit.cashClash.util.Messages;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Shared JDBC access for the normalized player tables:
+ * <ul>
+ *     <li>{@code player_stats} - one row per player, one typed column per counter, indexed on
+ *     the columns the leaderboards rank by.</li>
+ *     <li>{@code player_layouts} - one row per player holding all their kit layouts as a
+ *     {@link PlayerDataCodec} blob, so a load or layout save touches a single row.</li>
+ * </ul>
+ * Saving a player writes the numeric stats row; kit layouts are only rewritten when
+ * {@link PlayerData#isLayoutsDirty()} is set, so a stat update never re-encodes layouts.
+ * Callers own the connection and must not share it across threads mid-call. Each operation
+ * also has a {@link StatementCache} overload for connections that live long enough to reuse
+ * their prepared statements; the {@code Connection} overloads prepare and close per call.
+ */
+public final class PlayerSchema {
+
+    /** Column order used by every stats SELECT and by {@link SqlDialect#getUpsertStats()}. */
+    public static final String STATS_COLUMNS =
+            "uuid, wins, losses, kills, deaths, coins_invested, coins_earned, playtime_millis";
+
+    private static final String SELECT_STATS = "SELECT " + STATS_COLUMNS + " FROM player_stats WHERE uuid = ?";
+    private static final String SELECT_ALL_STATS = "SELECT " + STATS_COLUMNS + " FROM player_stats";
+    private static final String SELECT_ALL_PLAYERS = "SELECT s.uuid, s.wins, s.losses, s.kills, s.deaths, "
+            + "s.coins_invested, s.coins_earned, s.playtime_millis, l.data "
+            + "FROM player_stats s LEFT JOIN player_layouts l ON l.uuid = s.uuid";
+    private static final String SELECT_LAYOUTS = "SELECT data FROM player_layouts WHERE uuid = ?";
+    private static final String DELETE_LAYOUTS = "DELETE FROM player_layouts WHERE uuid = ?";
+    /** Per-slot layout table used before layouts were stored as one blob per player. */
+    private static final String SLOT_LAYOUT_TABLE = "player_kit_layouts";
+    private static final int LAYOUT_MIGRATION_BATCH = 500;
+
+    private PlayerSchema() {
+        throw new AssertionError("Nope.");
+    }
+
+    /** Create missing tables and fold a leftover per-slot layout table into the blob table. */
+    public static void createTables(Connection conn, SqlDialect dialect) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            for (String ddl : dialect.getSchema()) {
+                st.executeUpdate(ddl);
+            }
+        }
+        if (tableExists(conn, SLOT_LAYOUT_TABLE)) migrateSlotLayouts(conn, dialect);
+    }
+
+    /**
+     * Copy {@code player_kit_layouts} (one row per slot) into {@code player_layouts} (one blob
+     * per player), then drop it. Rows are read in uuid order so only one player is grouped in
+     * memory at a time; re-running after an interruption just rewrites the same blobs.
+     */
+    private static void migrateSlotLayouts(Connection conn, SqlDialect dialect) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        int players = 0;
+        try (Statement st = conn.createStatement();
+             PreparedStatement upsert = conn.prepareStatement(dialect.getUpsertLayouts())) {
+            String current = null;
+            Map<String, Map<Integer, String>> layouts = new HashMap<>();
+            try (ResultSet rs = st.executeQuery("SELECT uuid, kit, slot, item FROM " + SLOT_LAYOUT_TABLE + " ORDER BY uuid")) {
+                while (rs.next()) {
+                    String uuid = rs.getString(1);
+                    if (!uuid.equals(current)) {
+                        if (current != null) {
+                            bindLayouts(upsert, current, layouts);
+                            upsert.addBatch();
+                            if (players % LAYOUT_MIGRATION_BATCH == 0) upsert.executeBatch();
+                        }
+                        current = uuid;
+                        layouts = new HashMap<>();
+                        players++;
+                    }
+                    layouts.computeIfAbsent(rs.getString(2), k -> new HashMap<>()).put(rs.getInt(3), rs.getString(4));
+                }
+            }
+            if (current != null) {
+                bindLayouts(upsert, current, layouts);
+                upsert.addBatch();
+            }
+            upsert.executeBatch();
+            conn.commit();
+            st.executeUpdate("DROP TABLE " + SLOT_LAYOUT_TABLE);
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+        Messages.debug("STORAGE", "Moved kit layouts of " + players + " players to encoded blobs");
+    }
+
+    static boolean tableExists(Connection conn, String table) throws SQLException {
+        DatabaseMetaData meta = conn.getMetaData();
+        try (ResultSet rs = meta.getTables(conn.getCatalog(), null, table, new String[]{"TABLE"})) {
+            while (rs.next()) {
+                if (table.equalsIgnoreCase(rs.getString("TABLE_NAME"))) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Load one player's stats and kit layouts. Empty if the player has no stats row.
+     */
+    public static Optional<PlayerData> load(Connection conn, UUID uuid) throws SQLException {
+        try (StatementCache statements = new StatementCache(conn)) {
+            return load(statements, uuid);
+        }
+    }
+
+    /** {@link #load(Connection, UUID)} on a connection's long-lived statements. */
+    public static Optional<PlayerData> load(StatementCache statements, UUID uuid) throws SQLException {
+        PlayerData data;
+        PreparedStatement ps = statements.prepare(SELECT_STATS);
+        ps.setString(1, uuid.toString());
+        try (ResultSet rs = ps.executeQuery()) {
+            if (!rs.next()) return Optional.empty();
+            data = readStats(rs);
+        }
+        data.setKitLayouts(loadLayouts(statements, uuid));
+        data.markClean();
+        return Optional.of(data);
+    }
+
+    /**
+     * Load every stats row. Kit layouts are deliberately not loaded - the only consumer is the
+     * leaderboard, and the returned objects carry no layout changes, so saving one back never
+     * touches {@code player_layouts}.
+     */
+    public static List<PlayerData> loadAllStats(Connection conn) throws SQLException {
+        List<PlayerData> players = new ArrayList<>();
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery(SELECT_ALL_STATS)) {
+            while (rs.next()) {
+                players.add(readStats(rs));
+            }
+        }
+        return players;
+    }
+
+    /**
+     * Stream every stats row to {@code consumer}. The fetch size asks the driver for a cursor
+     * instead of buffering the whole table (MySQL Connector/J streams only with
+     * {@code Integer.MIN_VALUE} unless {@code useCursorFetch} is set on the URL).
+     */
+    public static void scanStats(Connection conn, int fetchSize, Consumer<PlayerData> consumer) throws SQLException {
+        try (Statement st = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            st.setFetchSize(fetchSize);
+            try (ResultSet rs = st.executeQuery(SELECT_ALL_STATS)) {
+                while (rs.next()) {
+                    consumer.accept(readStats(rs));
+                }
+            }
+        }
+    }
+
+    /**
+     * Stream every player, stats and kit layouts, to {@code consumer} as one joined cursor.
+     * Meant for bulk export: each row is handed over and dropped before the next is read, so
+     * memory stays flat however large the table is. An unreadable layout blob is logged and
+     * exported as empty rather than failing the whole scan.
+     */
+    public static void scanPlayers(Connection conn, int fetchSize, Consumer<PlayerData> consumer) throws SQLException {
+        try (Statement st = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            st.setFetchSize(fetchSize);
+            try (ResultSet rs = st.executeQuery(SELECT_ALL_PLAYERS)) {
+                while (rs.next()) {
+                    PlayerData player = readStats(rs);
+                    byte[] layouts = rs.getBytes(9);
+                    if (layouts != null) {
+                        try {
+                            player.setKitLayouts(PlayerDataCodec.decodeLayouts(layouts));
+                        } catch (IllegalArgumentException e) {
+                            Messages.debug("STORAGE", "Unreadable kit layouts for " + player.getUuid() + ": " + e.getMessage());
+                        }
+                        player.markClean();
+                    }
+                    consumer.accept(player);
+                }
+            }
+        }
+    }
+
+    /**
+     * The {@code limit} best rows for a board, via ORDER BY/LIMIT on the board's indexed column.
+     */
+    public static List<PlayerData> topN(Connection conn, LeaderboardType type, int limit) throws SQLException {
+        try (StatementCache statements = new StatementCache(conn)) {
+            return topN(statements, type, limit);
+        }
+    }
+
+    public static List<PlayerData> topN(StatementCache statements, LeaderboardType type, int limit) throws SQLException {
+        List<PlayerData> players = new ArrayList<>(limit);
+        PreparedStatement ps = statements.prepare(
+                "SELECT " + STATS_COLUMNS + " FROM player_stats ORDER BY " + rankColumn(type) + " DESC LIMIT ?");
+        ps.setInt(1, limit);
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                players.add(readStats(rs));
+            }
+        }
+        return players;
+    }
+
+    /** Indexed {@code player_stats} column backing a board. */
+    public static String rankColumn(LeaderboardType type) {
+        return switch (type) {
+            case WINS -> "wins";
+            case PLAY_TIME -> "playtime_millis";
+            case COINS_EARNED -> "coins_earned";
+        };
+    }
+
+    /**
+     * Upsert the stats row and, if the layouts changed, rewrite the player's layout blob.
+     * Runs in one transaction so a layout rewrite is never half-applied.
+     */
+    public static void save(Connection conn, SqlDialect dialect, PlayerData player) throws SQLException {
+        saveBatch(conn, dialect, List.of(player));
+    }
+
+    /**
+     * Write many players in one transaction: all stats rows go through a single batched upsert,
+     * and layout rows are rewritten only for players whose layouts changed.
+     */
+    public static void saveBatch(Connection conn, SqlDialect dialect, Collection<PlayerData> players) throws SQLException {
+        try (StatementCache statements = new StatementCache(conn)) {
+            saveBatch(statements, dialect, players);
+        }
+    }
+
+    /** {@link #saveBatch(Connection, SqlDialect, Collection)} on a connection's long-lived statements. */
+    public static void saveBatch(StatementCache statements, SqlDialect dialect, Collection<PlayerData> players) throws SQLException {
+        if (players.isEmpty()) return;
+        Connection conn = statements.getConnection();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            PreparedStatement ps = statements.prepare(dialect.getUpsertStats());
+            for (PlayerData player : players) {
+                bindStats(ps, player);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            writeLayouts(statements, dialect, players);
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Bind the eight stats parameters in {@link #STATS_COLUMNS} order. Used directly by batch
+     * writers that add many rows to one statement.
+     */
+    public static void bindStats(PreparedStatement ps, PlayerData p) throws SQLException {
+        ps.setString(1, p.getUuid().toString());
+        ps.setInt(2, p.getWins());
+        ps.setInt(3, p.getLosses());
+        ps.setInt(4, p.getKills());
+        ps.setInt(5, p.getDeaths());
+        ps.setLong(6, p.getTotalCoinsInvested());
+        ps.setLong(7, p.getTotalCoinsEarned());
+        ps.setLong(8, p.getPlaytimeMillis());
+    }
+
+    /**
+     * Write the encoded layouts of every player in {@code players} whose layouts changed,
+     * without committing. A player with no layouts left has their row deleted.
+     */
+    public static void writeLayouts(Connection conn, SqlDialect dialect, Collection<PlayerData> players) throws SQLException {
+        try (StatementCache statements = new StatementCache(conn)) {
+            writeLayouts(statements, dialect, players);
+        }
+    }
+
+    private static void writeLayouts(StatementCache statements, SqlDialect dialect, Collection<PlayerData> players) throws SQLException {
+        PreparedStatement upsert = null;
+        PreparedStatement delete = null;
+        for (PlayerData player : players) {
+            if (!player.isLayoutsDirty()) continue;
+            Map<String, Map<Integer, String>> layouts = player.getKitLayouts();
+            if (layouts == null || layouts.isEmpty()) {
+                if (delete == null) delete = statements.prepare(DELETE_LAYOUTS);
+                delete.setString(1, player.getUuid().toString());
+                delete.addBatch();
+            } else {
+                if (upsert == null) upsert = statements.prepare(dialect.getUpsertLayouts());
+                bindLayouts(upsert, player.getUuid().toString(), layouts);
+                upsert.addBatch();
+            }
+        }
+        if (upsert != null) upsert.executeBatch();
+        if (delete != null) delete.executeBatch();
+    }
+
+    private static void bindLayouts(PreparedStatement ps, String uuid, Map<String, Map<Integer, String>> layouts) throws SQLException {
+        ps.setString(1, uuid);
+        ps.setBytes(2, PlayerDataCodec.encodeLayouts(layouts));
+    }
+
+    static PlayerData readStats(ResultSet rs) throws SQLException {
+        PlayerData p = new PlayerData(UUID.fromString(rs.getString(1)));
+        p.setWins(rs.getInt(2));
+        p.setLosses(rs.getInt(3));
+        p.setKills(rs.getInt(4));
+        p.setDeaths(rs.getInt(5));
+        p.setTotalCoinsInvested(rs.getLong(6));
+        p.setTotalCoinsEarned(rs.getLong(7));
+        p.setPlaytimeMillis(rs.getLong(8));
+        p.markClean();
+        return p;
+    }
+
+    private static Map<String, Map<Integer, String>> loadLayouts(StatementCache statements, UUID uuid) throws SQLException {
+        PreparedStatement ps = statements.prepare(SELECT_LAYOUTS);
+        ps.setString(1, uuid.toString());
+        try (ResultSet rs = ps.executeQuery()) {
+            if (!rs.next()) return new HashMap<>();
+            try {
+                return PlayerDataCodec.decodeLayouts(rs.getBytes(1));
+            } catch (IllegalArgumentException e) {
+                Messages.debug("STORAGE", "Unreadable kit layouts for " + uuid + ": " + e.getMessage());
+                return new HashMap<>();
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package me.psikuvit.cashClash.storage;
+
+import java.util.UUID;
+
+/**
+ * Increments to add to one player's row of one leaderboard window period, e.g. "+1 win,
+ * +350 coins in the week starting 2026-10-12".
+ */
+public record RollupDelta(LeaderboardWindow window, long period, UUID uuid, long wins, long playtimeMillis,
+                          long coinsEarned) {}
@@ -0,0 +1,178 @@
+package me.psikuvit.cashClash.storage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access for the time-windowed leaderboard rollups. {@code leaderboard_rollups} holds one
+ * row per (window, period, player) with that player's wins, playtime and coins earned inside
+ * the period; rows are only ever incremented by {@link RollupDelta}s, never rebuilt from raw
+ * history. Each board column is indexed behind {@code (time_window, period)}, so a windowed
+ * top-N is an index range scan of {@code limit} rows however many periods are stored.
+ * <p>
+ * Periods that are over are moved to {@code leaderboard_rollups_archive} by
+ * {@link #archive}, which keeps the live table the size of the current periods.
+ */
+public final class RollupSchema {
+
+    private static final String COLUMNS = "time_window, period, uuid, wins, playtime_millis, coins_earned";
+
+    private static final List<String> SQLITE_SCHEMA = List.of(
+            "CREATE TABLE IF NOT EXISTS leaderboard_rollups (time_window TEXT NOT NULL, period INTEGER NOT NULL, "
+                    + "uuid TEXT NOT NULL, wins INTEGER NOT NULL DEFAULT 0, playtime_millis INTEGER NOT NULL DEFAULT 0, "
+                    + "coins_earned INTEGER NOT NULL DEFAULT 0, PRIMARY KEY (time_window, period, uuid))",
+            "CREATE INDEX IF NOT EXISTS idx_rollups_wins ON leaderboard_rollups (time_window, period, wins)",
+            "CREATE INDEX IF NOT EXISTS idx_rollups_playtime ON leaderboard_rollups (time_window, period, playtime_millis)",
+            "CREATE INDEX IF NOT EXISTS idx_rollups_coins_earned ON leaderboard_rollups (time_window, period, coins_earned)",
+            "CREATE TABLE IF NOT EXISTS leaderboard_rollups_archive (time_window TEXT NOT NULL, period INTEGER NOT NULL, "
+                    + "uuid TEXT NOT NULL, wins INTEGER NOT NULL, playtime_millis INTEGER NOT NULL, "
+                    + "coins_earned INTEGER NOT NULL, PRIMARY KEY (time_window, period, uuid))"
+    );
+
+    private static final List<String> MYSQL_SCHEMA = List.of(
+            "CREATE TABLE IF NOT EXISTS leaderboard_rollups (time_window VARCHAR(16) NOT NULL, period BIGINT NOT NULL, "
+                    + "uuid CHAR(36) NOT NULL, wins INT NOT NULL DEFAULT 0, playtime_millis BIGINT NOT NULL DEFAULT 0, "
+                    + "coins_earned BIGINT NOT NULL DEFAULT 0, PRIMARY KEY (time_window, period, uuid), "
+                    + "INDEX idx_rollups_wins (time_window, period, wins), "
+                    + "INDEX idx_rollups_playtime (time_window, period, playtime_millis), "
+                    + "INDEX idx_rollups_coins_earned (time_window, period, coins_earned))",
+            "CREATE TABLE IF NOT EXISTS leaderboard_rollups_archive (time_window VARCHAR(16) NOT NULL, "
+                    + "period BIGINT NOT NULL, uuid CHAR(36) NOT NULL, wins INT NOT NULL, "
+                    + "playtime_millis BIGINT NOT NULL, coins_earned BIGINT NOT NULL, "
+                    + "PRIMARY KEY (time_window, period, uuid))"
+    );
+
+    private static final String SQLITE_APPLY = "INSERT INTO leaderboard_rollups (" + COLUMNS + ") VALUES (?,?,?,?,?,?) "
+            + "ON CONFLICT(time_window, period, uuid) DO UPDATE SET wins=wins+excluded.wins, "
+            + "playtime_millis=playtime_millis+excluded.playtime_millis, coins_earned=coins_earned+excluded.coins_earned";
+
+    private static final String MYSQL_APPLY = "INSERT INTO leaderboard_rollups (" + COLUMNS + ") VALUES (?,?,?,?,?,?) "
+            + "ON DUPLICATE KEY UPDATE wins=wins+VALUES(wins), "
+            + "playtime_millis=playtime_millis+VALUES(playtime_millis), coins_earned=coins_earned+VALUES(coins_earned)";
+
+    // Archiving adds into existing archive rows, so a delta that reached an already archived
+    // period (a flush retried across a period boundary) is merged rather than rejected.
+    private static final String SQLITE_ARCHIVE = "INSERT INTO leaderboard_rollups_archive (" + COLUMNS + ") "
+            + "SELECT " + COLUMNS + " FROM leaderboard_rollups WHERE time_window = ? AND period < ? "
+            + "ON CONFLICT(time_window, period, uuid) DO UPDATE SET wins=wins+excluded.wins, "
+            + "playtime_millis=playtime_millis+excluded.playtime_millis, coins_earned=coins_earned+excluded.coins_earned";
+
+    private static final String MYSQL_ARCHIVE = "INSERT INTO leaderboard_rollups_archive (" + COLUMNS + ") "
+            + "SELECT " + COLUMNS + " FROM leaderboard_rollups r WHERE r.time_window = ? AND r.period < ? "
+            + "ON DUPLICATE KEY UPDATE wins=leaderboard_rollups_archive.wins+r.wins, "
+            + "playtime_millis=leaderboard_rollups_archive.playtime_millis+r.playtime_millis, "
+            + "coins_earned=leaderboard_rollups_archive.coins_earned+r.coins_earned";
+
+    private RollupSchema() {
+        throw new AssertionError("Nope.");
+    }
+
+    public static void createTables(Connection conn, SqlDialect dialect) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            for (String ddl : dialect == SqlDialect.MYSQL ? MYSQL_SCHEMA : SQLITE_SCHEMA) {
+                st.executeUpdate(ddl);
+            }
+        }
+    }
+
+    public static void apply(Connection conn, SqlDialect dialect, Collection<RollupDelta> deltas) throws SQLException {
+        try (StatementCache statements = new StatementCache(conn)) {
+            apply(statements, dialect, deltas);
+        }
+    }
+
+    /** Add every delta to its row in one batched transaction, creating rows as needed. */
+    public static void apply(StatementCache statements, SqlDialect dialect, Collection<RollupDelta> deltas) throws SQLException {
+        if (deltas.isEmpty()) return;
+        Connection conn = statements.getConnection();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            PreparedStatement ps = statements.prepare(dialect == SqlDialect.MYSQL ? MYSQL_APPLY : SQLITE_APPLY);
+            for (RollupDelta delta : deltas) {
+                ps.setString(1, delta.window().getConfigKey());
+                ps.setLong(2, delta.period());
+                ps.setString(3, delta.uuid().toString());
+                ps.setLong(4, delta.wins());
+                ps.setLong(5, delta.playtimeMillis());
+                ps.setLong(6, delta.coinsEarned());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    public static List<LeaderboardEntry> top(Connection conn, LeaderboardWindow window, long period, LeaderboardType type,
+                                            int limit) throws SQLException {
+        try (StatementCache statements = new StatementCache(conn)) {
+            return top(statements, window, period, type, limit);
+        }
+    }
+
+    /** The {@code limit} best players of one board in one period; players scoring 0 are left out. */
+    public static List<LeaderboardEntry> top(StatementCache statements, LeaderboardWindow window, long period,
+                                            LeaderboardType type, int limit) throws SQLException {
+        String column = PlayerSchema.rankColumn(type);
+        PreparedStatement ps = statements.prepare("SELECT uuid, " + column + " FROM leaderboard_rollups "
+                + "WHERE time_window = ? AND period = ? AND " + column + " > 0 ORDER BY " + column + " DESC LIMIT ?");
+        ps.setString(1, window.getConfigKey());
+        ps.setLong(2, period);
+        ps.setInt(3, limit);
+        List<LeaderboardEntry> entries = new ArrayList<>(limit);
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                entries.add(new LeaderboardEntry(entries.size() + 1, UUID.fromString(rs.getString(1)), rs.getLong(2)));
+            }
+        }
+        return entries;
+    }
+
+    /** Zero one board column of {@code uuid} in every live period. */
+    public static void reset(Connection conn, UUID uuid, LeaderboardType type) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("UPDATE leaderboard_rollups SET "
+                + PlayerSchema.rankColumn(type) + " = 0 WHERE uuid = ?")) {
+            ps.setString(1, uuid.toString());
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Move every period of {@code window} before {@code currentPeriod} to the archive table in
+     * one transaction. Returns the number of rows moved.
+     */
+    public static int archive(Connection conn, SqlDialect dialect, LeaderboardWindow window, long currentPeriod)
+            throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (PreparedStatement copy = conn.prepareStatement(dialect == SqlDialect.MYSQL ? MYSQL_ARCHIVE : SQLITE_ARCHIVE);
+             PreparedStatement delete = conn.prepareStatement(
+                     "DELETE FROM leaderboard_rollups WHERE time_window = ? AND period < ?")) {
+            copy.setString(1, window.getConfigKey());
+            copy.setLong(2, currentPeriod);
+            copy.executeUpdate();
+            delete.setString(1, window.getConfigKey());
+            delete.setLong(2, currentPeriod);
+            int moved = delete.executeUpdate();
+            conn.commit();
+            return moved;
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package me.psikuvit.cashClash.storage;
 
-import com.google.gson.Gson;
 import me.psikuvit.cashClash.util.Messages;
 
 import java.io.File;
@@ -8,27 +7,71 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.sql.Connection;
 import java.sql.DriverManager;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
- * SQLite implementation using a simple json blob for complex fields.
+ * SQLite implementation over the normalized {@link PlayerSchema} tables.
+ * <p>
+ * Runs the database in WAL mode with two connections: every write is funneled through one
+ * writer thread that owns the read-write connection, while loads, scans and leaderboard
+ * queries share a separate read-only connection. In WAL mode readers see the last committed
+ * state and never wait for a write in progress. Both connections keep their prepared
+ * statements in a {@link StatementCache}, so hot queries are parsed once per server run.
  */
 public class SQLiteProvider implements DatabaseProvider {
 
+    private static final int MIGRATION_BATCH_SIZE = 500;
+    private static final int SCAN_FETCH_SIZE = 1000;
+    private static final long WRITER_SHUTDOWN_TIMEOUT_MS = 10_000L;
+    /** SQLITE_OPEN_READONLY, passed as the driver's {@code open_mode} property. */
+    private static final String OPEN_READ_ONLY = "1";
+
+    /**
+     * Connection tuning. {@code synchronous=NORMAL} is safe with WAL (a power loss can drop the
+     * last commits but never corrupts the file); the cache size is per connection.
+     */
+    public record Settings(String journalMode, String synchronous, int cacheSizeKb, int mmapSizeMb, int busyTimeoutMs) {
+
+        public static final Settings DEFAULT = new Settings("WAL", "NORMAL", 16_384, 64, 5000);
+    }
+
+    @FunctionalInterface
+    private interface SqlTask<T> {
+        T call() throws SQLException;
+    }
+
     private final File dbFile;
-    private Connection conn;
-    private final Gson gson;
+    private final Settings settings;
+    private ExecutorService writer;
+    private Connection writeConn;
+    private StatementCache writeStatements;
+    private final Object readLock = new Object();
+    private Connection readConn;
+    private StatementCache readStatements;
+    private LegacyJsonMigrator legacy;
+    private volatile boolean legacyPending;
 
     public SQLiteProvider(File dbFile) {
+        this(dbFile, Settings.DEFAULT);
+    }
+
+    public SQLiteProvider(File dbFile, Settings settings) {
         this.dbFile = dbFile;
-        this.gson = new Gson();
+        this.settings = settings;
     }
 
     @Override
@@ -42,53 +85,210 @@ public class SQLiteProvider implements DatabaseProvider {
             throw new SQLException("Unable to create SQLite file", e);
         }
 
-        String url = "jdbc:sqlite:" + dbFile.getAbsolutePath();
-        conn = DriverManager.getConnection(url);
+        writeConn = open(false);
+        String journalMode = pragma(writeConn, "journal_mode", settings.journalMode());
+        pragma(writeConn, "synchronous", settings.synchronous());
+        tune(writeConn);
 
-        try (Statement st = conn.createStatement()) {
-            st.executeUpdate("CREATE TABLE IF NOT EXISTS players (uuid TEXT PRIMARY KEY, json TEXT)");
+        PlayerSchema.createTables(writeConn, SqlDialect.SQLITE);
+        MatchHistorySchema.createTables(writeConn, SqlDialect.SQLITE);
+        RollupSchema.createTables(writeConn, SqlDialect.SQLITE);
+        legacy = new LegacyJsonMigrator(SqlDialect.SQLITE, MIGRATION_BATCH_SIZE);
+        try {
+            legacy.migrate(writeConn);
+        } catch (SQLException e) {
+            // Keep serving: loads fall back to the legacy table until a later start finishes the copy.
+            Messages.debug("STORAGE", "Legacy JSON migration incomplete, will resume next start: " + e.getMessage());
         }
+        legacyPending = legacy.isPending(writeConn);
+        writeStatements = new StatementCache(writeConn);
+
+        readConn = open(true);
+        tune(readConn);
+        readStatements = new StatementCache(readConn);
+
+        writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "CashClash-SQLiteWriter");
+            t.setDaemon(true);
+            return t;
+        });
+        Messages.debug("STORAGE", "SQLite opened with journal_mode=" + journalMode + ", synchronous="
+                + settings.synchronous() + ", cache=" + settings.cacheSizeKb() + "KB");
     }
 
     @Override
     public Optional<PlayerData> loadPlayer(UUID uuid) throws SQLException {
-        try (PreparedStatement ps = conn.prepareStatement("SELECT json FROM players WHERE uuid = ?")) {
-            ps.setString(1, uuid.toString());
-            try (ResultSet rs = ps.executeQuery()) {
-                if (!rs.next()) return Optional.empty();
-                String json = rs.getString(1);
-                PlayerData p = gson.fromJson(json, PlayerData.class);
-                return Optional.ofNullable(p);
-            }
+        synchronized (readLock) {
+            Optional<PlayerData> data = PlayerSchema.load(readStatements, uuid);
+            if (data.isEmpty() && legacyPending) return legacy.loadLegacy(readConn, uuid);
+            return data;
         }
     }
 
     @Override
     public void savePlayer(PlayerData player) throws SQLException {
-        String json = gson.toJson(player);
-        try (PreparedStatement ps = conn.prepareStatement("INSERT INTO players(uuid,json) VALUES(?,?) ON CONFLICT(uuid) DO UPDATE SET json=excluded.json")) {
-            ps.setString(1, player.getUuid().toString());
-            ps.setString(2, json);
-            ps.executeUpdate();
-        }
+        savePlayers(List.of(player));
+    }
+
+    @Override
+    public void savePlayers(Collection<PlayerData> players) throws SQLException {
+        write(() -> {
+            PlayerSchema.saveBatch(writeStatements, SqlDialect.SQLITE, players);
+            return null;
+        });
     }
 
     @Override
     public List<PlayerData> loadAllPlayers() throws SQLException {
-        List<PlayerData> players = new ArrayList<>();
-        try (Statement st = conn.createStatement();
-             ResultSet rs = st.executeQuery("SELECT json FROM players")) {
-            while (rs.next()) {
-                PlayerData p = gson.fromJson(rs.getString(1), PlayerData.class);
-                if (p != null && p.getUuid() != null) players.add(p);
+        synchronized (readLock) {
+            return PlayerSchema.loadAllStats(readConn);
+        }
+    }
+
+    @Override
+    public void scanPlayers(Consumer<PlayerData> consumer) throws SQLException {
+        synchronized (readLock) {
+            PlayerSchema.scanStats(readConn, SCAN_FETCH_SIZE, consumer);
+        }
+    }
+
+    /**
+     * Exports run on their own read-only connection instead of the shared one: WAL lets the
+     * long scan read a consistent snapshot without holding {@code readLock} against player
+     * loads for its whole duration.
+     */
+    @Override
+    public void exportPlayers(Consumer<PlayerData> consumer) throws SQLException {
+        try (Connection conn = open(true)) {
+            tune(conn);
+            PlayerSchema.scanPlayers(conn, SCAN_FETCH_SIZE, consumer);
+        }
+    }
+
+    @Override
+    public List<PlayerData> topN(LeaderboardType type, int limit) throws SQLException {
+        synchronized (readLock) {
+            return PlayerSchema.topN(readStatements, type, limit);
+        }
+    }
+
+    @Override
+    public void saveMatches(Collection<MatchRecord> matches) throws SQLException {
+        write(() -> {
+            MatchHistorySchema.insert(writeStatements, SqlDialect.SQLITE, matches);
+            return null;
+        });
+    }
+
+    @Override
+    public List<MatchSummary> recentMatches(UUID player, MatchSummary.Cursor after, int limit) throws SQLException {
+        synchronized (readLock) {
+            return MatchHistorySchema.recentMatches(readStatements, player, after, limit);
+        }
+    }
+
+    @Override
+    public void applyRollups(Collection<RollupDelta> deltas) throws SQLException {
+        write(() -> {
+            RollupSchema.apply(writeStatements, SqlDialect.SQLITE, deltas);
+            return null;
+        });
+    }
+
+    @Override
+    public List<LeaderboardEntry> topRollup(LeaderboardWindow window, long period, LeaderboardType type, int limit)
+            throws SQLException {
+        synchronized (readLock) {
+            return RollupSchema.top(readStatements, window, period, type, limit);
+        }
+    }
+
+    @Override
+    public void resetRollups(UUID uuid, LeaderboardType type) throws SQLException {
+        write(() -> {
+            RollupSchema.reset(writeConn, uuid, type);
+            return null;
+        });
+    }
+
+    @Override
+    public int archiveRollups(LeaderboardWindow window, long currentPeriod) throws SQLException {
+        return write(() -> RollupSchema.archive(writeConn, SqlDialect.SQLITE, window, currentPeriod));
+    }
+
+    /** Run {@code task} on the writer thread and wait for it. */
+    private <T> T write(SqlTask<T> task) throws SQLException {
+        Future<T> future;
+        try {
+            future = writer.submit(task::call);
+        } catch (RejectedExecutionException e) {
+            throw new SQLException("SQLite writer is shut down", e);
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sql) throw sql;
+            throw new SQLException("SQLite write failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted waiting for the SQLite writer", e);
+        }
+    }
+
+    private Connection open(boolean readOnly) throws SQLException {
+        Properties props = new Properties();
+        if (readOnly) props.setProperty("open_mode", OPEN_READ_ONLY);
+        return DriverManager.getConnection("jdbc:sqlite:" + dbFile.getAbsolutePath(), props);
+    }
+
+    /** Per-connection settings; journal mode and synchronous are set on the writer only. */
+    private void tune(Connection conn) throws SQLException {
+        pragma(conn, "cache_size", String.valueOf(-Math.max(0, settings.cacheSizeKb())));
+        pragma(conn, "mmap_size", String.valueOf(Math.max(0, settings.mmapSizeMb()) * 1024L * 1024L));
+        pragma(conn, "busy_timeout", String.valueOf(Math.max(0, settings.busyTimeoutMs())));
+        pragma(conn, "temp_store", "MEMORY");
+    }
+
+    /** Set a pragma and return the value SQLite reports back (journal_mode may refuse WAL). */
+    private static String pragma(Connection conn, String name, String value) throws SQLException {
+        if (!value.matches("-?[A-Za-z0-9]+")) throw new SQLException("Invalid value for PRAGMA " + name + ": " + value);
+        try (Statement st = conn.createStatement()) {
+            if (st.execute("PRAGMA " + name + "=" + value)) {
+                try (ResultSet rs = st.getResultSet()) {
+                    if (rs.next()) return rs.getString(1);
+                }
             }
         }
-        return players;
+        return value;
     }
 
     @Override
     public void close() throws IOException {
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                if (!writer.awaitTermination(WRITER_SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    Messages.debug("STORAGE", "SQLite writer did not finish within " + WRITER_SHUTDOWN_TIMEOUT_MS + "ms");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (readLock) {
+            closeQuietly(readStatements, readConn);
+        }
+        try {
+            // Fold the WAL back into the main file so the next start opens a compact database.
+            if (writeConn != null && !writeConn.isClosed()) pragma(writeConn, "wal_checkpoint", "TRUNCATE");
+        } catch (SQLException ex) {
+            Messages.debug("STORAGE", "WAL checkpoint on close failed: " + ex.getMessage());
+        }
+        closeQuietly(writeStatements, writeConn);
+    }
+
+    private static void closeQuietly(StatementCache statements, Connection conn) {
         try {
+            if (statements != null) statements.close();
             if (conn != null && !conn.isClosed()) conn.close();
         } catch (SQLException ex) {
             Messages.debug("STORAGE", "Unable to close SQLite provider: " + ex.getMessage());
@@ -0,0 +1,77 @@
+package me.psikuvit.cashClash.storage;
+
+import java.util.List;
+
+/**
+ * The SQL that differs between the supported JDBC backends: column types, how indexes are
+ * declared and upsert syntax. Everything else in {@link PlayerSchema} is plain ANSI SQL.
+ */
+public enum SqlDialect {
+
+    SQLITE(
+            List.of(
+                    "CREATE TABLE IF NOT EXISTS player_stats (uuid TEXT PRIMARY KEY, "
+                            + "wins INTEGER NOT NULL DEFAULT 0, losses INTEGER NOT NULL DEFAULT 0, "
+                            + "kills INTEGER NOT NULL DEFAULT 0, deaths INTEGER NOT NULL DEFAULT 0, "
+                            + "coins_invested INTEGER NOT NULL DEFAULT 0, coins_earned INTEGER NOT NULL DEFAULT 0, "
+                            + "playtime_millis INTEGER NOT NULL DEFAULT 0)",
+                    "CREATE INDEX IF NOT EXISTS idx_player_stats_wins ON player_stats (wins)",
+                    "CREATE INDEX IF NOT EXISTS idx_player_stats_coins_earned ON player_stats (coins_earned)",
+                    "CREATE INDEX IF NOT EXISTS idx_player_stats_playtime ON player_stats (playtime_millis)",
+                    "CREATE TABLE IF NOT EXISTS player_layouts (uuid TEXT PRIMARY KEY, data BLOB NOT NULL)"
+            ),
+            "INSERT INTO player_stats (uuid, wins, losses, kills, deaths, coins_invested, coins_earned, playtime_millis) "
+                    + "VALUES (?,?,?,?,?,?,?,?) ON CONFLICT(uuid) DO UPDATE SET wins=excluded.wins, "
+                    + "losses=excluded.losses, kills=excluded.kills, deaths=excluded.deaths, "
+                    + "coins_invested=excluded.coins_invested, coins_earned=excluded.coins_earned, "
+                    + "playtime_millis=excluded.playtime_millis",
+            "INSERT INTO player_layouts (uuid, data) VALUES (?,?) "
+                    + "ON CONFLICT(uuid) DO UPDATE SET data=excluded.data"
+    ),
+
+    MYSQL(
+            List.of(
+                    "CREATE TABLE IF NOT EXISTS player_stats (uuid CHAR(36) PRIMARY KEY, "
+                            + "wins INT NOT NULL DEFAULT 0, losses INT NOT NULL DEFAULT 0, "
+                            + "kills INT NOT NULL DEFAULT 0, deaths INT NOT NULL DEFAULT 0, "
+                            + "coins_invested BIGINT NOT NULL DEFAULT 0, coins_earned BIGINT NOT NULL DEFAULT 0, "
+                            + "playtime_millis BIGINT NOT NULL DEFAULT 0, "
+                            + "INDEX idx_player_stats_wins (wins), "
+                            + "INDEX idx_player_stats_coins_earned (coins_earned), "
+                            + "INDEX idx_player_stats_playtime (playtime_millis))",
+                    "CREATE TABLE IF NOT EXISTS player_layouts (uuid CHAR(36) PRIMARY KEY, data BLOB NOT NULL)"
+            ),
+            "INSERT INTO player_stats (uuid, wins, losses, kills, deaths, coins_invested, coins_earned, playtime_millis) "
+                    + "VALUES (?,?,?,?,?,?,?,?) ON DUPLICATE KEY UPDATE wins=VALUES(wins), "
+                    + "losses=VALUES(losses), kills=VALUES(kills), deaths=VALUES(deaths), "
+                    + "coins_invested=VALUES(coins_invested), coins_earned=VALUES(coins_earned), "
+                    + "playtime_millis=VALUES(playtime_millis)",
+            "INSERT INTO player_layouts (uuid, data) VALUES (?,?) "
+                    + "ON DUPLICATE KEY UPDATE data=VALUES(data)"
+    );
+
+    private final List<String> schema;
+    private final String upsertStats;
+    private final String upsertLayouts;
+
+    SqlDialect(List<String> schema, String upsertStats, String upsertLayouts) {
+        this.schema = schema;
+        this.upsertStats = upsertStats;
+        this.upsertLayouts = upsertLayouts;
+    }
+
+    /** DDL statements creating the normalized tables and their indexes; all idempotent. */
+    public List<String> getSchema() {
+        return schema;
+    }
+
+    /** Upsert of one {@code player_stats} row, parameters in {@link PlayerSchema#STATS_COLUMNS} order. */
+    public String getUpsertStats() {
+        return upsertStats;
+    }
+
+    /** Upsert of a player's encoded kit layouts: uuid, {@link PlayerDataCodec#encodeLayouts} blob. */
+    public String getUpsertLayouts() {
+        return upsertLayouts;
+    }
+}
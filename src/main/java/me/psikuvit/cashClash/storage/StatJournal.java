@@ -0,0 +1,447 @@
+package me.psikuvit.cashClash.storage;
+
+import me.psikuvit.cashClash.util.Messages;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, crash-safe journal of stat changes made between database checkpoints.
+ * <p>
+ * {@link #append} only copies a fixed-size record into an in-memory buffer; a committer thread
+ * writes the buffer to the current segment file and fsyncs it every {@code commitIntervalMs}
+ * (group commit), so a kill costs no I/O on the main thread and a crash loses at most one
+ * commit interval. Each record carries the stat's delta and its value after the change, and
+ * stats only grow between resets, so replaying a journal is idempotent: {@link #recover()}
+ * keeps the latest value per stat and the caller applies it with {@code max(stored, journaled)}
+ * - a segment that was already partly saved can be replayed again without double counting.
+ * A record with a negative delta is a reset: from there on the journaled value is exact and
+ * replaces the stored one (see {@link Recovered}).
+ * <p>
+ * Segments are named {@code stats-<seq>.journal}. {@link #rotate()} seals the current segment;
+ * once {@link #markRetirable(long)} has been called for it and the {@code flushed} check
+ * reports that the write-behind queue has no unsaved snapshots, the committer deletes it in
+ * the background. Any segment found on open means the previous run did not shut down cleanly.
+ */
+public class StatJournal implements AutoCloseable {
+
+    /** A journaled stat, with how to read and overwrite it on {@link PlayerData}. */
+    public enum Stat {
+        WINS {
+            @Override public long get(PlayerData d) { return d.getWins(); }
+            @Override public void set(PlayerData d, long value) { d.setWins((int) value); }
+        },
+        LOSSES {
+            @Override public long get(PlayerData d) { return d.getLosses(); }
+            @Override public void set(PlayerData d, long value) { d.setLosses((int) value); }
+        },
+        DEATHS {
+            @Override public long get(PlayerData d) { return d.getDeaths(); }
+            @Override public void set(PlayerData d, long value) { d.setDeaths((int) value); }
+        },
+        KILLS {
+            @Override public long get(PlayerData d) { return d.getKills(); }
+            @Override public void set(PlayerData d, long value) { d.setKills((int) value); }
+        },
+        COINS_INVESTED {
+            @Override public long get(PlayerData d) { return d.getTotalCoinsInvested(); }
+            @Override public void set(PlayerData d, long value) { d.setTotalCoinsInvested(value); }
+        },
+        COINS_EARNED {
+            @Override public long get(PlayerData d) { return d.getTotalCoinsEarned(); }
+            @Override public void set(PlayerData d, long value) { d.setTotalCoinsEarned(value); }
+        },
+        PLAYTIME {
+            @Override public long get(PlayerData d) { return d.getPlaytimeMillis(); }
+            @Override public void set(PlayerData d, long value) { d.setPlaytimeMillis(value); }
+        };
+
+        private static final Stat[] VALUES = values();
+
+        public abstract long get(PlayerData d);
+
+        public abstract void set(PlayerData d, long value);
+
+        /**
+         * Raise {@code d}'s stat to {@code value} if it is lower. Returns true if it changed.
+         */
+        public boolean applyMax(PlayerData d, long value) {
+            if (value <= get(d)) return false;
+            set(d, value);
+            return true;
+        }
+    }
+
+    /** uuid (16) + stat (1) + delta (8) + value (8) + crc32 (4). */
+    static final int RECORD_SIZE = 37;
+    private static final int BUFFER_RECORDS = 2048;
+    private static final String PREFIX = "stats-";
+    private static final String SUFFIX = ".journal";
+
+    private final File dir;
+    private final long commitIntervalMs;
+    private final BooleanSupplier flushed;
+
+    /** Guards {@link #active}; appenders only ever hold this one. */
+    private final Object bufferLock = new Object();
+    /** Guards the channel and {@link #spare}; taken before {@link #bufferLock}. */
+    private final Object channelLock = new Object();
+    private ByteBuffer active = ByteBuffer.allocateDirect(RECORD_SIZE * BUFFER_RECORDS);
+    private ByteBuffer spare = ByteBuffer.allocateDirect(RECORD_SIZE * BUFFER_RECORDS);
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel channel;
+    private volatile long currentSeq;
+    private long recoveredThrough;
+    private volatile long retirableThrough = -1;
+    private long retiredThrough = -1;
+    private volatile boolean closed;
+    private Thread committer;
+
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong overflows = new AtomicLong();
+    private final AtomicLong retired = new AtomicLong();
+
+    /**
+     * @param flushed true when every snapshot handed to the write-behind queue so far has been
+     *                written, i.e. segments marked retirable are covered by the database
+     */
+    public StatJournal(File dir, long commitIntervalMs, BooleanSupplier flushed) {
+        this.dir = dir;
+        this.commitIntervalMs = Math.max(1L, commitIntervalMs);
+        this.flushed = flushed;
+    }
+
+    /**
+     * Read every segment left by the previous run and return what was journaled per player.
+     * Must be called before {@link #open()}. A torn or corrupt record ends its segment - it can
+     * only be the tail a crash cut short.
+     */
+    public Map<UUID, Recovered> recover() throws IOException {
+        Map<UUID, Recovered> latest = new HashMap<>();
+        List<Long> seqs = listSegments();
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        int records = 0;
+        for (long seq : seqs) {
+            try (FileChannel in = FileChannel.open(segment(seq).toPath(), StandardOpenOption.READ)) {
+                record.clear();
+                while (readFully(in, record)) {
+                    record.flip();
+                    if (!validCrc(record)) {
+                        Messages.debug("STORAGE", "Journal segment " + seq + " ends in a torn record, stopping there");
+                        break;
+                    }
+                    UUID uuid = new UUID(record.getLong(0), record.getLong(8));
+                    int stat = record.get(16);
+                    if (stat >= 0 && stat < Stat.VALUES.length) {
+                        latest.computeIfAbsent(uuid, u -> new Recovered()).add(stat, record.getLong(17), record.getLong(25));
+                        records++;
+                    }
+                    record.clear();
+                }
+            }
+        }
+        if (!seqs.isEmpty()) {
+            recoveredThrough = seqs.get(seqs.size() - 1);
+            Messages.debug("STORAGE", "Recovered " + records + " journal records for " + latest.size()
+                    + " players from " + seqs.size() + " segments");
+        }
+        return latest;
+    }
+
+    /** Sequence of the newest segment seen by {@link #recover()}, or 0 if there was none. */
+    public long getRecoveredThrough() {
+        return recoveredThrough;
+    }
+
+    /** Open a fresh segment and start the committer thread. */
+    public void open() throws IOException {
+        Files.createDirectories(dir.toPath());
+        synchronized (channelLock) {
+            currentSeq = lastSegment() + 1;
+            channel = openSegment(currentSeq);
+        }
+        committer = new Thread(this::runCommitter, "CashClash-Journal");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    /**
+     * Record that {@code stat} of {@code uuid} changed by {@code delta} to {@code value}; a
+     * negative delta records a reset. Never blocks on I/O unless a whole buffer fills within
+     * one commit interval.
+     */
+    public void append(UUID uuid, Stat stat, long delta, long value) {
+        if (closed || uuid == null || delta == 0) return;
+        while (true) {
+            synchronized (bufferLock) {
+                if (active.remaining() >= RECORD_SIZE) {
+                    int start = active.position();
+                    active.putLong(uuid.getMostSignificantBits())
+                            .putLong(uuid.getLeastSignificantBits())
+                            .put((byte) stat.ordinal())
+                            .putLong(delta)
+                            .putLong(value);
+                    crc.reset();
+                    crc.update(active.duplicate().position(start).limit(start + RECORD_SIZE - 4));
+                    active.putInt((int) crc.getValue());
+                    appended.incrementAndGet();
+                    return;
+                }
+            }
+            overflows.incrementAndGet();
+            commit();
+        }
+    }
+
+    /**
+     * Seal the current segment and continue in a new one. Returns the sealed segment's
+     * sequence; pass it to {@link #markRetirable(long)} once its changes are queued for saving.
+     */
+    public long rotate() {
+        synchronized (channelLock) {
+            if (closed) return -1;
+            commit();
+            long sealed = currentSeq;
+            try {
+                FileChannel next = openSegment(sealed + 1);
+                channel.close();
+                channel = next;
+                currentSeq = sealed + 1;
+            } catch (IOException e) {
+                Messages.debug("STORAGE", "Journal rotation failed, staying on segment " + sealed + ": " + e.getMessage());
+                return -1;
+            }
+            return sealed;
+        }
+    }
+
+    /**
+     * Allow segments up to and including {@code seq} to be deleted once the write-behind
+     * queue has flushed. Call only after every change they hold has been handed to the queue.
+     */
+    public void markRetirable(long seq) {
+        if (seq > retirableThrough) retirableThrough = seq;
+    }
+
+    /**
+     * Write buffered records to the current segment and fsync. Runs on the committer thread,
+     * or on an appender whose buffer filled up.
+     */
+    private void commit() {
+        synchronized (channelLock) {
+            if (channel == null) return;
+            synchronized (bufferLock) {
+                if (active.position() == 0) return;
+                ByteBuffer full = active;
+                active = spare;
+                spare = full;
+            }
+            spare.flip();
+            try {
+                while (spare.hasRemaining()) {
+                    channel.write(spare);
+                }
+                channel.force(false);
+                commits.incrementAndGet();
+            } catch (IOException e) {
+                Messages.debug("STORAGE", "Journal commit failed: " + e.getMessage());
+            } finally {
+                spare.clear();
+            }
+        }
+    }
+
+    private void runCommitter() {
+        while (!closed) {
+            try {
+                Thread.sleep(commitIntervalMs);
+            } catch (InterruptedException e) {
+                break;
+            }
+            commit();
+            retireFlushed();
+        }
+    }
+
+    /**
+     * Delete the segments marked retirable now rather than on the committer's next pass.
+     * Returns false, deleting nothing, while the write-behind queue has unsaved snapshots.
+     */
+    public boolean retireNow() {
+        return retireFlushed();
+    }
+
+    /** Delete retirable segments once the database holds everything they recorded. */
+    private synchronized boolean retireFlushed() {
+        long through = retirableThrough;
+        if (through <= retiredThrough) return true;
+        if (!flushed.getAsBoolean()) return false;
+        for (long seq : listSegments()) {
+            if (seq > through || seq == currentSeq) continue;
+            if (segment(seq).delete()) retired.incrementAndGet();
+        }
+        retiredThrough = through;
+        return true;
+    }
+
+    /**
+     * Stop the committer and flush what is buffered. With {@code discard} (every change is
+     * known to be in the database) all segments are deleted, which marks the shutdown as
+     * clean; otherwise they are kept for replay on the next start.
+     */
+    public void close(boolean discard) {
+        if (committer != null) {
+            committer.interrupt();
+            try {
+                committer.join(1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (channelLock) {
+            commit();
+            closed = true;
+            try {
+                if (channel != null) channel.close();
+            } catch (IOException e) {
+                Messages.debug("STORAGE", "Failed to close journal: " + e.getMessage());
+            }
+            channel = null;
+        }
+        if (discard) {
+            for (long seq : listSegments()) {
+                segment(seq).delete();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        close(false);
+    }
+
+    public Stats getStats() {
+        return new Stats(currentSeq, appended.get(), commits.get(), overflows.get(), retired.get());
+    }
+
+    /**
+     * Counters since open. {@code overflows} counts appends that had to commit inline
+     * because the buffer filled between two group commits.
+     */
+    public record Stats(long segment, long appended, long commits, long overflows, long retired) {
+
+        @Override
+        public String toString() {
+            return "segment=" + segment + " appended=" + appended + " commits=" + commits
+                    + " overflows=" + overflows + " retired=" + retired;
+        }
+    }
+
+    /**
+     * The journaled stats of one player. A stat reset since the previous checkpoint is set to
+     * its journaled value even if the stored one is higher; any other stat is only raised.
+     */
+    public static final class Recovered {
+
+        private final long[] values = new long[Stat.VALUES.length];
+        private int resets;
+
+        Recovered() {
+            Arrays.fill(values, -1L);
+        }
+
+        private void add(int stat, long delta, long value) {
+            if (delta < 0) {
+                values[stat] = value;
+                resets |= 1 << stat;
+            } else {
+                values[stat] = Math.max(values[stat], value);
+            }
+        }
+
+        /** Latest journaled value of {@code stat}, or -1 if it has no record. */
+        public long value(Stat stat) {
+            return values[stat.ordinal()];
+        }
+
+        public boolean isReset(Stat stat) {
+            return (resets & 1 << stat.ordinal()) != 0;
+        }
+
+        /** Apply the journaled values to {@code d}. Returns true if anything changed. */
+        public boolean applyTo(PlayerData d) {
+            boolean changed = false;
+            for (Stat stat : Stat.VALUES) {
+                long value = values[stat.ordinal()];
+                if (value < 0) continue;
+                if (isReset(stat)) {
+                    if (stat.get(d) == value) continue;
+                    stat.set(d, value);
+                    changed = true;
+                } else if (stat.applyMax(d, value)) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+    }
+
+    private boolean validCrc(ByteBuffer record) {
+        CRC32 check = new CRC32();
+        check.update(record.duplicate().position(0).limit(RECORD_SIZE - 4));
+        return (int) check.getValue() == record.getInt(RECORD_SIZE - 4);
+    }
+
+    private static boolean readFully(FileChannel in, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) {
+            if (in.read(buf) < 0) return false;
+        }
+        return true;
+    }
+
+    private FileChannel openSegment(long seq) throws IOException {
+        return FileChannel.open(segment(seq).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private File segment(long seq) {
+        return new File(dir, PREFIX + String.format("%012d", seq) + SUFFIX);
+    }
+
+    private long lastSegment() {
+        List<Long> seqs = listSegments();
+        return seqs.isEmpty() ? 0L : seqs.get(seqs.size() - 1);
+    }
+
+    /** Sequences of the segment files on disk, oldest first. */
+    private List<Long> listSegments() {
+        List<Long> seqs = new ArrayList<>();
+        File[] files = dir.listFiles((d, name) -> name.startsWith(PREFIX) && name.endsWith(SUFFIX));
+        if (files == null) return seqs;
+        for (File file : files) {
+            String name = file.getName();
+            try {
+                seqs.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())));
+            } catch (NumberFormatException ignored) {
+                // Not one of ours.
+            }
+        }
+        seqs.sort(null);
+        return seqs;
+    }
+}
@@ -0,0 +1,58 @@
+package me.psikuvit.cashClash.storage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Prepared statements kept open for the life of one connection, keyed by SQL text, so a
+ * long-lived connection parses each query once. Not thread-safe: a cache belongs to whichever
+ * thread (or lock holder) owns its connection. Statements handed out must not be closed by
+ * the caller - {@link #close()} closes them all.
+ */
+public final class StatementCache implements AutoCloseable {
+
+    private final Connection conn;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+    public StatementCache(Connection conn) {
+        this.conn = conn;
+    }
+
+    public Connection getConnection() {
+        return conn;
+    }
+
+    /** The cached statement for {@code sql}, prepared on first use, with its parameters cleared. */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement ps = statements.get(sql);
+        if (ps == null || ps.isClosed()) {
+            ps = conn.prepareStatement(sql);
+            statements.put(sql, ps);
+        } else {
+            ps.clearParameters();
+            ps.clearBatch();
+        }
+        return ps;
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        SQLException first = null;
+        for (PreparedStatement ps : statements.values()) {
+            try {
+                ps.close();
+            } catch (SQLException e) {
+                if (first == null) first = e;
+            }
+        }
+        statements.clear();
+        if (first != null) throw first;
+    }
+}
@@ -0,0 +1,374 @@
+package me.psikuvit.cashClash.storage;
+
+import me.psikuvit.cashClash.util.Messages;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind persistence in front of a {@link DatabaseProvider}. Callers hand over a detached
+ * {@link PlayerData} snapshot and return immediately; a dedicated writer thread performs the
+ * actual {@code savePlayer} calls.
+ * <p>
+ * Repeated saves for the same UUID coalesce: only the newest snapshot is kept in {@code pending}
+ * and the UUID is queued once, so a burst of saves for one player costs a single write. A
+ * snapshot stays in {@code pending} until its write has succeeded, so a load that consults
+ * {@link #getPending} never falls through to a row older than the last save. The queue
+ * is bounded, but {@link #enqueue(PlayerData)} never waits on it: when it is full the snapshot
+ * is only kept in {@code pending} (counted as a backpressure stall) and the writer queues the
+ * UUID itself once there is room.
+ * <p>
+ * The writer drains up to {@code batchSize} queued players at a time and hands them to
+ * {@link DatabaseProvider#savePlayers} as one batch, so a checkpoint or an end-of-match burst
+ * costs one transaction instead of one per player. A failed batch is retried one row at a time,
+ * so a row the database keeps rejecting can't hold back the rest. Such a row is parked after
+ * {@value #MAX_ROW_ATTEMPTS} attempts: it no longer blocks {@link #isFlushed()}, loads still see
+ * it, and it is written again when a newer snapshot replaces it or on {@link #drainAndStop}.
+ */
+public class WriteBehindQueue {
+
+    private static final long RETRY_DELAY_MS = 1000L;
+    private static final int MAX_ROW_ATTEMPTS = 5;
+
+    private final DatabaseProvider provider;
+    private final int batchSize;
+    private final BlockingQueue<UUID> queue;
+    private final Map<UUID, PlayerData> pending = new ConcurrentHashMap<>();
+    // Rows the database kept rejecting, no longer retried by the writer
+    private final Map<UUID, PlayerData> parked = new ConcurrentHashMap<>();
+    // Writer thread only: failed attempts per row since its last successful write
+    private final Map<UUID, Integer> attempts = new HashMap<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+    // Set when a pending UUID could not be queued; the writer queues it later
+    private volatile boolean orphaned;
+    // UUIDs of the batch the writer is saving right now
+    private volatile Set<UUID> inFlight = Set.of();
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong stalls = new AtomicLong();
+    private final AtomicLong parkedRows = new AtomicLong();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+
+    public WriteBehindQueue(DatabaseProvider provider, int capacity, int batchSize) {
+        this.provider = provider;
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, capacity));
+        this.writer = new Thread(this::runWriter, "CashClash-WriteBehind");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queue a snapshot for persistence. The snapshot must not be mutated afterwards -
+     * pass {@link PlayerData#copy()}. Never blocks while the writer is running.
+     */
+    public void enqueue(PlayerData snapshot) {
+        UUID uuid = snapshot.getUuid();
+        if (uuid == null) return;
+        enqueued.incrementAndGet();
+
+        if (!running) {
+            // Writer already stopped (late quit during shutdown) - persist inline.
+            save(List.of(snapshot));
+            return;
+        }
+
+        if (coalesce(uuid, snapshot)) {
+            coalesced.incrementAndGet();
+            return;
+        }
+
+        if (!queue.offer(uuid)) {
+            // Already in pending, so loads see it; the writer queues it once there is room
+            stalls.incrementAndGet();
+            orphaned = true;
+            return;
+        }
+        maxDepth.accumulateAndGet(queue.size(), Math::max);
+    }
+
+    /**
+     * Snapshot still waiting to be written, if any. Loads must consult this first so a player
+     * who rejoins before their quit-save lands does not read a stale row.
+     */
+    public Optional<PlayerData> getPending(UUID uuid) {
+        PlayerData snapshot = pending.get(uuid);
+        if (snapshot == null) snapshot = parked.get(uuid);
+        return snapshot == null ? Optional.empty() : Optional.of(snapshot.copy());
+    }
+
+    /**
+     * True when every snapshot enqueued so far has been written or parked - nothing is pending,
+     * including a batch the writer is still saving. Used to decide when journal segments are
+     * covered by the database.
+     */
+    public boolean isFlushed() {
+        return pending.isEmpty();
+    }
+
+    private void runWriter() {
+        List<UUID> ids = new ArrayList<>(batchSize);
+        List<PlayerData> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (orphaned) {
+                orphaned = false;
+                requeueOrphans();
+            }
+            UUID first;
+            try {
+                first = queue.poll(250, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (first == null) continue;
+
+            ids.add(first);
+            queue.drainTo(ids, batchSize - 1);
+            for (UUID uuid : ids) {
+                PlayerData snapshot = pending.get(uuid);
+                if (snapshot != null) batch.add(snapshot);
+            }
+            ids.clear();
+            if (batch.isEmpty()) continue;
+
+            // Published before running is re-read, so drainAndStop either sees it or we stop here
+            Set<UUID> batchIds = new HashSet<>();
+            for (PlayerData snapshot : batch) batchIds.add(snapshot.getUuid());
+            inFlight = batchIds;
+            if (!running) {
+                inFlight = Set.of();
+                break;
+            }
+            boolean progressed = save(batch) == null;
+            if (progressed) {
+                for (PlayerData snapshot : batch) release(snapshot);
+            } else {
+                progressed = retryRows(batch);
+            }
+            inFlight = Set.of();
+            batch.clear();
+
+            // Nothing went through - back off so a dead connection doesn't spin the thread
+            if (!progressed) {
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Retry a failed batch one row at a time. When every row fails the same way as the batch
+     * - a multi-row batch, or a connection error - it is treated as an outage and the rows are
+     * queued again as they are. Otherwise each failing row counts an attempt and is parked
+     * after {@value #MAX_ROW_ATTEMPTS}. Returns true if any row was written.
+     */
+    private boolean retryRows(List<PlayerData> batch) {
+        List<PlayerData> failedRows = new ArrayList<>();
+        boolean connectionLost = false;
+        for (PlayerData snapshot : batch) {
+            // Stopping - leave the rest to drainAndStop
+            if (!running) {
+                failedRows.add(snapshot);
+                continue;
+            }
+            SQLException error = save(List.of(snapshot));
+            if (error == null) {
+                release(snapshot);
+            } else {
+                failedRows.add(snapshot);
+                connectionLost |= isConnectionError(error);
+            }
+        }
+
+        boolean anyWritten = failedRows.size() < batch.size();
+        boolean outage = !running || connectionLost || (!anyWritten && batch.size() > 1);
+        for (PlayerData snapshot : failedRows) {
+            UUID uuid = snapshot.getUuid();
+            if (!outage && attempts.merge(uuid, 1, Integer::sum) >= MAX_ROW_ATTEMPTS) {
+                park(snapshot);
+            } else {
+                requeue(uuid);
+            }
+        }
+        return anyWritten;
+    }
+
+    /** Drop a written snapshot from pending; a newer one that arrived during the write is queued. */
+    private void release(PlayerData snapshot) {
+        UUID uuid = snapshot.getUuid();
+        attempts.remove(uuid);
+        if (!pending.remove(uuid, snapshot)) requeue(uuid);
+    }
+
+    private void park(PlayerData snapshot) {
+        UUID uuid = snapshot.getUuid();
+        attempts.remove(uuid);
+        if (!pending.remove(uuid, snapshot)) {
+            // Replaced by a newer snapshot in the meantime - that one gets its own attempts
+            requeue(uuid);
+            return;
+        }
+        parked.put(uuid, snapshot);
+        parkedRows.incrementAndGet();
+        Messages.debug("STORAGE", "Parked the save of " + uuid + " after " + MAX_ROW_ATTEMPTS + " failed attempts");
+    }
+
+    private void requeue(UUID uuid) {
+        if (!queue.offer(uuid)) orphaned = true;
+    }
+
+    /**
+     * UUIDs whose snapshot is pending but that found the queue full - on enqueue or when
+     * re-queued by the writer - are not queued, and further saves for them coalesce without
+     * queueing. Put those back while there is room; the rest wait for the next pass.
+     */
+    private void requeueOrphans() {
+        if (pending.isEmpty() || pending.size() <= queue.size()) return;
+        for (UUID uuid : pending.keySet()) {
+            if (!queue.contains(uuid) && !queue.offer(uuid)) {
+                orphaned = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Store {@code snapshot} as the pending write for {@code uuid}, replacing an older one.
+     * A pending layout change is carried over so coalescing never drops it. Returns true if a
+     * snapshot was already pending (the UUID is queued, or being written and re-queued after).
+     */
+    private boolean coalesce(UUID uuid, PlayerData snapshot) {
+        PlayerData superseded = parked.remove(uuid);
+        if (superseded != null && superseded.isLayoutsDirty()) snapshot.setLayoutsDirty(true);
+        boolean[] existed = {false};
+        pending.merge(uuid, snapshot, (current, incoming) -> {
+            existed[0] = true;
+            if (current.isLayoutsDirty()) incoming.setLayoutsDirty(true);
+            return incoming;
+        });
+        return existed[0];
+    }
+
+    /** Save {@code batch}, returning the failure or null once it landed. */
+    private SQLException save(List<PlayerData> batch) {
+        try {
+            provider.savePlayers(batch);
+            written.addAndGet(batch.size());
+            batches.incrementAndGet();
+            return null;
+        } catch (SQLException e) {
+            failed.addAndGet(batch.size());
+            Messages.debug("STORAGE", "Write-behind batch of " + batch.size() + " failed: " + e.getMessage());
+            return e;
+        }
+    }
+
+    /** SQLState class 08 is "connection exception" in both ANSI SQL and MySQL. */
+    private static boolean isConnectionError(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && state.startsWith("08");
+    }
+
+    /**
+     * Stops the writer thread and writes everything still pending, parked rows included, on the
+     * calling thread. Every snapshot gets one final attempt, so nothing queued before this call
+     * is lost unless the database itself rejects it. A writer still inside a save after the
+     * timeout - and a second one after interrupting it - keeps its batch: those UUIDs are skipped
+     * rather than written concurrently, since the older in-flight write could land last.
+     * Returns true if every snapshot was written.
+     */
+    public boolean drainAndStop(long timeoutMillis) {
+        running = false;
+        try {
+            writer.join(timeoutMillis);
+            if (writer.isAlive()) {
+                writer.interrupt();
+                writer.join(timeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        queue.clear();
+        Set<UUID> busy = writer.isAlive() ? inFlight : Set.of();
+        boolean ok = busy.isEmpty();
+        if (!ok) Messages.debug("STORAGE", "Writer still saving " + busy.size() + " players at shutdown, skipping them");
+
+        parked.forEach(pending::putIfAbsent);
+        parked.clear();
+        List<PlayerData> batch = new ArrayList<>(batchSize);
+        for (UUID uuid : pending.keySet()) {
+            PlayerData snapshot = pending.get(uuid);
+            if (snapshot == null || busy.contains(uuid)) continue;
+            batch.add(snapshot);
+            if (batch.size() >= batchSize) {
+                ok &= writeAndRelease(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) ok &= writeAndRelease(batch);
+        return ok;
+    }
+
+    /**
+     * Write {@code batch} and, once it landed, drop each snapshot from pending unless replaced.
+     * A failed batch is retried row by row so one bad row doesn't cost the others their write.
+     */
+    private boolean writeAndRelease(List<PlayerData> batch) {
+        if (save(batch) == null) {
+            for (PlayerData snapshot : batch) pending.remove(snapshot.getUuid(), snapshot);
+            return true;
+        }
+        boolean ok = true;
+        for (PlayerData snapshot : batch) {
+            if (save(List.of(snapshot)) == null) {
+                pending.remove(snapshot.getUuid(), snapshot);
+            } else {
+                ok = false;
+            }
+        }
+        return ok;
+    }
+
+    public Stats getStats() {
+        return new Stats(queue.size(), maxDepth.get(), enqueued.get(), coalesced.get(),
+                written.get(), batches.get(), failed.get(), stalls.get(), parkedRows.get(), parked.size());
+    }
+
+    /**
+     * Point-in-time counters. {@code stalls} counts enqueue calls that found the queue full and
+     * left their UUID for the writer to queue; {@code parkedRows} counts rows parked after
+     * repeated failures, {@code parked} how many are parked right now.
+     */
+    public record Stats(int depth, int maxDepth, long enqueued, long coalesced,
+                        long written, long batches, long failed, long stalls, long parkedRows, int parked) {
+
+        @Override
+        public String toString() {
+            return "depth=" + depth + " max=" + maxDepth + " enqueued=" + enqueued
+                    + " coalesced=" + coalesced + " written=" + written + " batches=" + batches
+                    + " failed=" + failed + " stalls=" + stalls + " parked=" + parked + "/" + parkedRows;
+        }
+    }
+}
@@ -1,45 +1,57 @@
 package me.psikuvit.cashClash.util;
 
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
  * Comprehensive action-bar management system with timer support.
  *
  * Features:
- * - Per-player timer tasks that auto-create and auto-stop
+ * - One shared ticker for every player instead of a task per timer or display
+ * - Message updates only when the visible text actually changes
  * - Message updates only when countdown seconds actually change
  * - Persistent displays with priority-based queuing
  * - Custom message formatters for flexible timer displays
+ * <p>
+ * Each player has one slot holding at most one countdown timer and one persistent display.
+ * Every 2 ticks the ticker walks the slots: a timer is sent when its seconds change, a
+ * persistent display every 15 ticks so the client doesn't fade it out. Starting and stopping
+ * only swap the slot's entries, so they never block and can be called from any thread; on the
+ * main thread the slot is re-rendered at once. The ticker stops while no slot is in use.
  */
 public class ActionBarQueue {
 
     private static final ActionBarQueue INSTANCE = new ActionBarQueue();
 
+    private static final long TICK_PERIOD = 2L;
+    private static final long REFRESH_TICKS = 15L;
+
     public static ActionBarQueue get() {
         return INSTANCE;
     }
 
-    private final Map<UUID, PersistentDisplay> persistentDisplays = new HashMap<>();
-    private final Map<UUID, BukkitTask> refreshTasks = new HashMap<>();
+    private final Map<UUID, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicBoolean ticking = new AtomicBoolean();
+    private volatile BukkitTask tickTask;
 
-    // Timer-specific tracking
-    private final Map<UUID, TimerDisplay> timerDisplays = new HashMap<>();
-    private final Map<UUID, BukkitTask> timerTasks = new HashMap<>();
-    private final Map<UUID, Long> lastDisplayedSeconds = new HashMap<>();
-    private final Map<UUID, String> timerCompletionMessages = new HashMap<>(); // Track completion messages
+    // Main thread only
+    private long tick;
 
     private ActionBarQueue() {}
 
     /**
-     * Start a countdown timer display for a player.
-     * The timer automatically creates/manages its own task and updates the actionbar only when seconds change.
+     * Start a countdown timer display for a player, replacing any timer already running.
+     * The actionbar is only updated when the formatted seconds change.
      *
      * @param player              The player to display the timer to
      * @param durationMs          Timer duration in milliseconds
@@ -47,46 +59,24 @@ public class ActionBarQueue {
      * @param messageFormatter    Function taking remaining seconds (long) and returning formatted message (String)
      * @param completionMessage   Optional message to display when timer completes (null for no completion message)
      */
-    public synchronized void startCountdownTimer(Player player, long durationMs, int priority, Function<Long, String> messageFormatter, String completionMessage) {
+    public void startCountdownTimer(Player player, long durationMs, int priority, Function<Long, String> messageFormatter, String completionMessage) {
         if (player == null || !player.isOnline() || durationMs <= 0 || messageFormatter == null) return;
 
-        UUID playerUuid = player.getUniqueId();
-        long expiryMs = System.currentTimeMillis() + durationMs;
-        TimerDisplay existingDisplay = timerDisplays.get(playerUuid);
-        Long existingLastSeconds = lastDisplayedSeconds.get(playerUuid);
-        long remainingSeconds = calculateSecondsRemaining(durationMs);
-
-        if (existingDisplay == null || existingDisplay.priority() != priority) {
-            stopCountdownTimer(playerUuid);
-            existingLastSeconds = -1L;
-        }
-
-        TimerDisplay timerDisplay = new TimerDisplay(expiryMs, priority, messageFormatter);
-        timerDisplays.put(playerUuid, timerDisplay);
-        lastDisplayedSeconds.put(playerUuid, existingLastSeconds == null ? -1L : existingLastSeconds);
-        if (completionMessage != null) {
-            timerCompletionMessages.put(playerUuid, completionMessage);
-        } else {
-            timerCompletionMessages.remove(playerUuid);
-        }
-
-        if (!timerTasks.containsKey(playerUuid)) {
-            startTimerTask(playerUuid);
-        } else if (existingLastSeconds == null || existingLastSeconds != remainingSeconds) {
-            updateTimerDisplay(playerUuid);
-        }
+        TimerDisplay timer = new TimerDisplay(System.currentTimeMillis() + durationMs, priority, messageFormatter, completionMessage);
+        Slot slot = update(player.getUniqueId(), s -> s.timer.set(timer));
+        renderNow(player.getUniqueId(), slot);
     }
 
     /**
-     * Start a countdown timer display for a player.
-     * The timer automatically creates/manages its own task and updates the actionbar only when seconds change.
+     * Start a countdown timer display for a player, replacing any timer already running.
+     * The actionbar is only updated when the formatted seconds change.
      *
      * @param player              The player to display the timer to
      * @param durationMs          Timer duration in milliseconds
      * @param priority            Display priority (lower = higher)
      * @param messageFormatter    Function taking remaining seconds (long) and returning formatted message (String)
      */
-    public synchronized void startCountdownTimer(Player player, long durationMs, int priority, Function<Long, String> messageFormatter) {
+    public void startCountdownTimer(Player player, long durationMs, int priority, Function<Long, String> messageFormatter) {
         startCountdownTimer(player, durationMs, priority, messageFormatter, null);
     }
 
@@ -107,181 +97,225 @@ public class ActionBarQueue {
     /**
      * Stop a countdown timer for a player
      */
-    public synchronized void stopCountdownTimer(Player player) {
+    public void stopCountdownTimer(Player player) {
         if (player != null) {
             stopCountdownTimer(player.getUniqueId());
         }
     }
 
-    public synchronized void stopCountdownTimer(UUID playerUuid) {
+    public void stopCountdownTimer(UUID playerUuid) {
         if (playerUuid == null) return;
 
-        boolean hadTimer = timerDisplays.remove(playerUuid) != null;
-        lastDisplayedSeconds.remove(playerUuid);
-        timerCompletionMessages.remove(playerUuid);
-
-        BukkitTask task = timerTasks.remove(playerUuid);
-        if (task != null) {
-            task.cancel();
-        }
-
-        Player player = Bukkit.getPlayer(playerUuid);
-        if (hadTimer && player != null && player.isOnline()) {
-            player.sendActionBar(Messages.parse(""));
+        Slot slot = slots.get(playerUuid);
+        if (slot != null && slot.timer.getAndSet(null) != null) {
+            renderNow(playerUuid, slot);
         }
     }
 
     /**
-     * Internal: Start the timer task for a specific player
+     * Show a message for {@code durationMs}, kept on screen by refreshing it. Starting the same
+     * message at the same priority again extends it instead of replacing it.
      */
-    private void startTimerTask(UUID playerUuid) {
-        BukkitTask task = SchedulerUtils.runTaskTimer(() -> {
-            synchronized (this) {
-                updateTimerDisplay(playerUuid);
+    public void startDisplay(UUID playerUuid, String message, int priority, long durationMs) {
+        if (playerUuid == null || message == null || durationMs <= 0) return;
+
+        long expiryMs = System.currentTimeMillis() + durationMs;
+        Slot slot = update(playerUuid, s -> s.persistent.updateAndGet(previous -> {
+            if (previous != null && previous.message().equals(message) && previous.priority() == priority) {
+                return new PersistentDisplay(message, priority, Math.max(previous.expiryMs(), expiryMs));
             }
-        }, 0, 2); // Check every 2 ticks (100ms) for smooth transitions
+            return new PersistentDisplay(message, priority, expiryMs);
+        }));
+        renderNow(playerUuid, slot);
+    }
 
-        if (task != null) {
-            timerTasks.put(playerUuid, task);
+    public void startDisplay(Player player, String message, int priority, long durationMs) {
+        if (player != null && player.isOnline()) {
+            startDisplay(player.getUniqueId(), message, priority, durationMs);
         }
     }
 
     /**
-     * Internal: Update timer display for a player - only sends message if seconds have changed
+     * Stop a persistent action-bar display for a player.
      */
-    private void updateTimerDisplay(UUID playerUuid) {
-        Player player = Bukkit.getPlayer(playerUuid);
-        if (player == null || !player.isOnline()) {
-            stopCountdownTimer(playerUuid);
-            return;
+    public void stopDisplay(UUID playerUuid) {
+        if (playerUuid == null) return;
+
+        Slot slot = slots.get(playerUuid);
+        if (slot != null && slot.persistent.getAndSet(null) != null) {
+            renderNow(playerUuid, slot);
         }
+    }
 
-        TimerDisplay timerDisplay = timerDisplays.get(playerUuid);
-        if (timerDisplay == null) {
-            return;
+    public void stopDisplay(Player player) {
+        if (player != null) {
+            stopDisplay(player.getUniqueId());
         }
+    }
 
-        long now = System.currentTimeMillis();
-        long remainingMs = Math.max(0, timerDisplay.expiryMs() - now);
-        long secondsRemaining = calculateSecondsRemaining(remainingMs);
-
-        // Timer expired - show completion message if provided
-        if (remainingMs == 0) {
-            String completionMessage = timerCompletionMessages.get(playerUuid);
-            if (completionMessage != null) {
-                player.sendActionBar(Messages.parse(completionMessage));
+    /**
+     * Apply {@code change} to the player's slot, creating it if needed. Runs under the map's lock
+     * so an idle slot can't be dropped between its lookup and the change.
+     */
+    private Slot update(UUID playerUuid, Consumer<Slot> change) {
+        Slot slot = slots.compute(playerUuid, (uuid, existing) -> {
+            Slot s = existing != null ? existing : new Slot();
+            change.accept(s);
+            return s;
+        });
+        startTicker();
+        return slot;
+    }
+
+    private void startTicker() {
+        if (!ticking.get() && ticking.compareAndSet(false, true)) {
+            tickTask = SchedulerUtils.runTaskTimer("action-bar.tick", this::tick, TICK_PERIOD, TICK_PERIOD);
+            if (tickTask == null) {
+                ticking.set(false);
             }
-            stopCountdownTimer(playerUuid);
-            return;
         }
+    }
 
-        // Only update if seconds have changed
-        Long lastSeconds = lastDisplayedSeconds.get(playerUuid);
-        if (lastSeconds != null && lastSeconds == secondsRemaining) {
-            return;
+    /** Changes made on the main thread show up immediately; others on the next tick. */
+    private void renderNow(UUID playerUuid, Slot slot) {
+        if (Bukkit.isPrimaryThread()) {
+            render(playerUuid, slot, System.currentTimeMillis());
         }
-
-        lastDisplayedSeconds.put(playerUuid, secondsRemaining);
-
-        // Generate message using formatter and send
-        String message = timerDisplay.messageFormatter().apply(secondsRemaining);
-        player.sendActionBar(Messages.parse(message));
     }
 
-
-    public synchronized void startDisplay(UUID playerUuid, String message, int priority, long durationMs) {
-        if (playerUuid == null || message == null || durationMs <= 0) return;
-
-        long expiryMs = System.currentTimeMillis() + durationMs;
-        PersistentDisplay previous = persistentDisplays.get(playerUuid);
-        if (previous != null && previous.message().equals(message) && previous.priority() == priority) {
-            expiryMs = Math.max(previous.expiryMs(), expiryMs);
-        } else {
-            cancelRefreshTask(playerUuid);
+    private void tick() {
+        tick += TICK_PERIOD;
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, Slot> entry : slots.entrySet()) {
+            render(entry.getKey(), entry.getValue(), now);
+        }
+        if (slots.isEmpty()) {
+            stopTicker();
+            // A slot created while stopping would otherwise wait for the next start
+            if (!slots.isEmpty()) startTicker();
         }
-
-        PersistentDisplay display = new PersistentDisplay(message, priority, expiryMs);
-        persistentDisplays.put(playerUuid, display);
-
-        sendPersistentMessage(playerUuid, display);
     }
 
-    public void startDisplay(Player player, String message, int priority, long durationMs) {
-        if (player != null && player.isOnline()) {
-            startDisplay(player.getUniqueId(), message, priority, durationMs);
+    private void stopTicker() {
+        BukkitTask task = tickTask;
+        tickTask = null;
+        if (task != null) {
+            task.cancel();
         }
+        ticking.set(false);
     }
 
     /**
-     * Stop a persistent action-bar display for a player.
+     * Stop the ticker and forget every display; called when the plugin disables.
      */
-    public synchronized void stopDisplay(UUID playerUuid) {
-        if (playerUuid == null) return;
-        boolean hadDisplay = persistentDisplays.remove(playerUuid) != null;
-        boolean hadTask = refreshTasks.containsKey(playerUuid);
-        cancelRefreshTask(playerUuid);
+    public void shutdown() {
+        stopTicker();
+        slots.clear();
+    }
+
+    /**
+     * Bring one player's action bar in line with their slot. The timer and the persistent
+     * display are sent independently, each on its own schedule, and stopping either one blanks
+     * the bar. A slot with nothing left to show is dropped.
+     */
+    private void render(UUID playerUuid, Slot slot, long now) {
         Player player = Bukkit.getPlayer(playerUuid);
-        if ((hadDisplay || hadTask) && player != null && player.isOnline()) {
-            player.sendActionBar(Messages.parse(""));
+        if (player == null || !player.isOnline()) {
+            slots.remove(playerUuid, slot);
+            return;
         }
-    }
 
-    public void stopDisplay(Player player) {
-        if (player != null) {
-            stopDisplay(player.getUniqueId());
+        renderTimer(player, slot, now);
+        renderDisplay(player, slot, now);
+
+        if (slot.isIdle()) {
+            slots.computeIfPresent(playerUuid, (uuid, s) -> s == slot && s.isIdle() ? null : s);
         }
     }
 
-    /**
-     * Send a persistent message directly to the player. Expires when display duration ends.
-     */
-    private void sendPersistentMessage(UUID playerUuid, PersistentDisplay display) {
-        Player p = Bukkit.getPlayer(playerUuid);
-        if (p == null || !p.isOnline()) {
-            persistentDisplays.remove(playerUuid);
-            cancelRefreshTask(playerUuid);
-            return;
+    private void renderTimer(Player player, Slot slot, long now) {
+        TimerDisplay timer = slot.timer.get();
+        if (timer != slot.timerShown) {
+            TimerDisplay previous = slot.timerShown;
+            slot.timerShown = timer;
+            // A restart at the same priority keeps counting from the seconds already shown
+            if (previous == null || timer == null || previous.priority() != timer.priority()) {
+                slot.timerSeconds = -1L;
+            }
+            if (timer == null) {
+                player.sendActionBar(Component.empty());
+                return;
+            }
         }
+        if (timer == null) return;
 
-        long now = System.currentTimeMillis();
-        if (now >= display.expiryMs()) {
-            persistentDisplays.remove(playerUuid);
-            cancelRefreshTask(playerUuid);
+        // Timer expired - show completion message if provided, then clear the bar
+        if (now >= timer.expiryMs()) {
+            if (!slot.timer.compareAndSet(timer, null)) return;
+            if (timer.completionMessage() != null) {
+                player.sendActionBar(Messages.parse(timer.completionMessage()));
+            }
+            player.sendActionBar(Component.empty());
+            slot.timerShown = null;
+            slot.timerSeconds = -1L;
             return;
         }
 
-        p.sendActionBar(Messages.parse(display.message()));
+        // Only update if seconds have changed
+        long seconds = calculateSecondsRemaining(timer.expiryMs() - now);
+        if (seconds != slot.timerSeconds) {
+            slot.timerSeconds = seconds;
+            player.sendActionBar(Messages.parse(timer.messageFormatter().apply(seconds)));
+        }
+    }
 
-        if (refreshTasks.containsKey(playerUuid)) {
+    private void renderDisplay(Player player, Slot slot, long now) {
+        PersistentDisplay display = slot.persistent.get();
+        // An expired display fades out like the vanilla action bar does
+        if (display != null && now >= display.expiryMs() && slot.persistent.compareAndSet(display, null)) {
+            slot.displayShown = null;
             return;
         }
 
-        BukkitTask task = SchedulerUtils.runTaskLater(() -> {
-            synchronized (this) {
-                refreshTasks.remove(playerUuid);
-                PersistentDisplay current = persistentDisplays.get(playerUuid);
-                if (current == display) {
-                    sendPersistentMessage(playerUuid, current);
-                }
+        if (display != slot.displayShown) {
+            boolean stopped = display == null;
+            slot.displayShown = display;
+            if (stopped) {
+                player.sendActionBar(Component.empty());
+                return;
             }
-        }, 15L);
-        if (task != null) {
-            refreshTasks.put(playerUuid, task);
+        } else if (display == null || tick - slot.displayShownAt < REFRESH_TICKS) {
+            return;
         }
+        player.sendActionBar(Messages.parse(display.message()));
+        slot.displayShownAt = tick;
     }
 
-    private synchronized void cancelRefreshTask(UUID playerUuid) {
-        BukkitTask task = refreshTasks.remove(playerUuid);
-        if (task != null) {
-            task.cancel();
-        }
+    private static long calculateSecondsRemaining(long remainingMs) {
+        return remainingMs / 1000 + (remainingMs % 1000 > 0 ? 1 : 0);
     }
 
-    private long calculateSecondsRemaining(long remainingMs) {
-        return remainingMs / 1000 + (remainingMs % 1000 > 0 ? 1 : 0);
+    /**
+     * One player's row in the display table. The entries are swapped from any thread; the
+     * render state below them is only touched by the main thread.
+     */
+    private static final class Slot {
+
+        final AtomicReference<TimerDisplay> timer = new AtomicReference<>();
+        final AtomicReference<PersistentDisplay> persistent = new AtomicReference<>();
+
+        // What was last sent for each entry
+        TimerDisplay timerShown;
+        long timerSeconds = -1L;
+        PersistentDisplay displayShown;
+        long displayShownAt;
+
+        boolean isIdle() {
+            return timer.get() == null && persistent.get() == null && timerShown == null && displayShown == null;
+        }
     }
 
     private record PersistentDisplay(String message, int priority, long expiryMs) {}
 
-    private record TimerDisplay(long expiryMs, int priority, Function<Long, String> messageFormatter) {}
+    private record TimerDisplay(long expiryMs, int priority, Function<Long, String> messageFormatter, String completionMessage) {}
 }
@@ -2,26 +2,54 @@ package me.psikuvit.cashClash.util;
 
 import me.psikuvit.cashClash.manager.Shutdownable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * Centralized API for managing all cooldowns across the plugin.
- * Supports player-based cooldowns with named abilities, and optional callbacks.
- * Thread-safe implementation using ConcurrentHashMap.
+ * Supports player-based cooldowns with named abilities, and time-since-event timestamps.
+ * <p>
+ * Ability keys are interned to dense int IDs ({@link Keys}) and each player gets one
+ * {@code long[]} of cooldown deadlines and one of timestamps indexed by them, so the hot
+ * {@link Keys} overloads cost one map lookup and an array read - no boxing, no string hashing.
+ * Times are kept on a monotonic millisecond clock, so wall-clock adjustments don't stretch or
+ * skip cooldowns. Meant for the main thread, where every caller runs.
  */
 public class CooldownManager implements Shutdownable {
 
-    // Maps: playerUUID -> (abilityKey -> cooldownEndTimeMillis)
-    private final Map<UUID, Map<String, Long>> playerCooldowns;
+    // Monotonic clock origin. now() starts far above 0, so a 0 slot means "not set" and
+    // timestamps from before startup can still be stored
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final long ORIGIN_MS = 1L << 40;
 
-    // Maps: playerUUID -> (abilityKey -> lastActionTimeMillis) for tracking time since events
-    private final Map<UUID, Map<String, Long>> playerTimestamps;
+    // playerUUID -> slot arrays indexed by key ID
+    private final Map<UUID, Slots> players;
 
-    public CooldownManager() {
-        this.playerCooldowns = new ConcurrentHashMap<>();
-        this.playerTimestamps = new ConcurrentHashMap<>();
+    // Players no cooldowns or timestamps are recorded for, e.g. out of the round in combat
+    private final Predicate<UUID> skipRecording;
+
+    /**
+     * @param skipRecording players for whom set calls are ignored - the game's check for
+     *                      players who are out of the current round
+     */
+    public CooldownManager(Predicate<UUID> skipRecording) {
+        this.players = new ConcurrentHashMap<>();
+        this.skipRecording = skipRecording;
+    }
+
+    /** Current time on the monotonic clock, in milliseconds. */
+    private static long now() {
+        return ORIGIN_MS + (System.nanoTime() - ORIGIN_NANOS) / 1_000_000L;
+    }
+
+    private Slots slots(UUID playerId) {
+        Slots slots = players.get(playerId);
+        return slots != null ? slots : players.computeIfAbsent(playerId, k -> new Slots());
     }
 
     // ==================== COOLDOWN METHODS ====================
@@ -29,95 +57,76 @@ public class CooldownManager implements Shutdownable {
      * Set a cooldown for a player's ability in seconds.
      *
      * @param playerId      The player's UUID
-     * @param ability       The unique ability key
+     * @param ability       The ability's key ID from {@link Keys}
      * @param durationSeconds Duration of the cooldown in seconds
      */
+    public void setCooldownSeconds(UUID playerId, int ability, long durationSeconds) {
+        if (playerId == null || ability < 0) return;
+        if (skipRecording.test(playerId)) return;
+
+        slots(playerId).setCooldown(ability, now() + durationSeconds * 1000L);
+    }
+
     public void setCooldownSeconds(UUID playerId, String ability, long durationSeconds) {
-        if (playerId == null || ability == null) return;
-        if (isPlayerDead(playerId)) return;
-        
-        playerCooldowns.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>())
-                .put(ability, System.currentTimeMillis() + durationSeconds * 1000L);
-    }
-
-    private boolean isPlayerDead(UUID playerId) {
-        try {
-            Class<?> gmClass = Class.forName("me.psikuvit.cashClash.manager.game.GameManager");
-            Object gmInstance = gmClass.getMethod("getInstance").invoke(null);
-            Object session = gmClass.getMethod("getPlayerSession", UUID.class).invoke(gmInstance, playerId);
-            if (session == null) return false;
-
-            Object state = session.getClass().getMethod("getState").invoke(session);
-            if (!state.toString().equals("COMBAT")) return false;
-
-            Object roundData = session.getClass().getMethod("getCurrentRoundData").invoke(session);
-            if (roundData == null) return false;
-
-            return !(boolean) roundData.getClass().getMethod("isAlive", UUID.class).invoke(roundData, playerId);
-        } catch (Exception e) {
-            // Reflection is used here to reach into the game package without a compile-time
-            // dependency; a silent false-return would hide a real break (e.g. a renamed method)
-            // behind "this cooldown just never got skipped for dead players" with no trail.
-            Messages.debug("COOLDOWN", "isPlayerDead reflection failed: " + e);
-            return false;
-        }
+        if (ability == null) return;
+        setCooldownSeconds(playerId, Keys.intern(ability), durationSeconds);
     }
 
     /**
      * Check if a player's ability is currently on cooldown.
      *
      * @param playerId The player's UUID
-     * @param ability  The ability key
+     * @param ability  The ability's key ID
      * @return true if on cooldown, false otherwise
      */
-    public boolean isOnCooldown(UUID playerId, String ability) {
-        if (playerId == null || ability == null) return false;
-
-        Map<String, Long> abilities = playerCooldowns.get(playerId);
-        if (abilities == null) return false;
-
-        Long cooldownEnd = abilities.get(ability);
-        if (cooldownEnd == null) return false;
+    public boolean isOnCooldown(UUID playerId, int ability) {
+        return getRemainingCooldownMs(playerId, ability) > 0;
+    }
 
-        if (System.currentTimeMillis() >= cooldownEnd) {
-            // Cooldown expired, clean it up
-            abilities.remove(ability);
-            return false;
-        }
-        return true;
+    public boolean isOnCooldown(UUID playerId, String ability) {
+        return ability != null && isOnCooldown(playerId, Keys.intern(ability));
     }
 
     /**
      * Get the remaining cooldown time in milliseconds.
      *
      * @param playerId The player's UUID
-     * @param ability  The ability key
+     * @param ability  The ability's key ID
      * @return Remaining time in milliseconds, or 0 if not on cooldown
      */
-    public long getRemainingCooldownMs(UUID playerId, String ability) {
-        if (playerId == null || ability == null) return 0;
+    public long getRemainingCooldownMs(UUID playerId, int ability) {
+        if (playerId == null) return 0;
 
-        Map<String, Long> abilities = playerCooldowns.get(playerId);
-        if (abilities == null) return 0;
+        Slots slots = players.get(playerId);
+        if (slots == null) return 0;
 
-        Long cooldownEnd = abilities.get(ability);
-        if (cooldownEnd == null) return 0;
+        long cooldownEnd = slots.cooldown(ability);
+        if (cooldownEnd == 0) return 0;
 
-        long remaining = cooldownEnd - System.currentTimeMillis();
+        long remaining = cooldownEnd - now();
         if (remaining <= 0) {
-            abilities.remove(ability);
+            // Cooldown expired, clean it up
+            slots.setCooldown(ability, 0);
             return 0;
         }
         return remaining;
     }
 
+    public long getRemainingCooldownMs(UUID playerId, String ability) {
+        return ability == null ? 0 : getRemainingCooldownMs(playerId, Keys.intern(ability));
+    }
+
     /**
      * Get the remaining cooldown time in seconds.
      *
      * @param playerId The player's UUID
-     * @param ability  The ability key
+     * @param ability  The ability's key ID
      * @return Remaining time in seconds, or 0 if not on cooldown
      */
+    public long getRemainingCooldownSeconds(UUID playerId, int ability) {
+        return getRemainingCooldownMs(playerId, ability) / 1000L;
+    }
+
     public long getRemainingCooldownSeconds(UUID playerId, String ability) {
         return getRemainingCooldownMs(playerId, ability) / 1000L;
     }
@@ -126,17 +135,21 @@ public class CooldownManager implements Shutdownable {
      * Clear a specific cooldown for a player.
      *
      * @param playerId The player's UUID
-     * @param ability  The ability key
+     * @param ability  The ability's key ID
      */
-    public void clearCooldown(UUID playerId, String ability) {
-        if (playerId == null || ability == null) return;
+    public void clearCooldown(UUID playerId, int ability) {
+        if (playerId == null) return;
 
-        Map<String, Long> abilities = playerCooldowns.get(playerId);
-        if (abilities != null) {
-            abilities.remove(ability);
+        Slots slots = players.get(playerId);
+        if (slots != null) {
+            slots.setCooldown(ability, 0);
         }
     }
 
+    public void clearCooldown(UUID playerId, String ability) {
+        if (ability != null) clearCooldown(playerId, Keys.intern(ability));
+    }
+
     /**
      * Clear all cooldowns for a player.
      *
@@ -144,7 +157,11 @@ public class CooldownManager implements Shutdownable {
      */
     public void clearAllCooldowns(UUID playerId) {
         if (playerId == null) return;
-        playerCooldowns.remove(playerId);
+
+        Slots slots = players.get(playerId);
+        if (slots != null) {
+            Arrays.fill(slots.cooldowns, 0);
+        }
     }
     // ==================== TIMESTAMP METHODS ====================
 
@@ -152,90 +169,120 @@ public class CooldownManager implements Shutdownable {
      * Record the current time as a timestamp for an event.
      *
      * @param playerId The player's UUID
-     * @param key      The timestamp key (e.g., "LAST_DAMAGE", "SPAWN_TIME")
+     * @param key      The timestamp key ID (e.g. {@link Keys#LAST_DAMAGE})
      */
+    public void setTimestamp(UUID playerId, int key) {
+        if (playerId == null || key < 0) return;
+        if (skipRecording.test(playerId)) return;
+
+        slots(playerId).setTimestamp(key, now());
+    }
+
     public void setTimestamp(UUID playerId, String key) {
-        if (isPlayerDead(playerId)) return;
-        setTimestamp(playerId, key, System.currentTimeMillis());
+        if (key != null) setTimestamp(playerId, Keys.intern(key));
     }
 
     /**
      * Record a specific timestamp.
      *
      * @param playerId  The player's UUID
-     * @param key       The timestamp key
-     * @param timestamp The timestamp value in milliseconds
+     * @param key       The timestamp key ID
+     * @param timestamp The timestamp value in epoch milliseconds
      */
+    public void setTimestamp(UUID playerId, int key, long timestamp) {
+        if (playerId == null || key < 0) return;
+        if (skipRecording.test(playerId)) return;
+
+        // Stored on the monotonic clock, at the same distance in the past
+        long monotonic = Math.max(1, now() - (System.currentTimeMillis() - timestamp));
+        slots(playerId).setTimestamp(key, monotonic);
+    }
+
     public void setTimestamp(UUID playerId, String key, long timestamp) {
-        if (playerId == null || key == null) return;
-        if (isPlayerDead(playerId)) return;
-        playerTimestamps.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>())
-                .put(key, timestamp);
+        if (key != null) setTimestamp(playerId, Keys.intern(key), timestamp);
     }
 
     /**
      * Get a recorded timestamp.
      *
      * @param playerId The player's UUID
-     * @param key      The timestamp key
-     * @return The timestamp, or 0 if not set
+     * @param key      The timestamp key ID
+     * @return The timestamp in epoch milliseconds, or 0 if not set
      */
-    public long getTimestamp(UUID playerId, String key) {
-        if (playerId == null || key == null) return 0;
-
-        Map<String, Long> timestamps = playerTimestamps.get(playerId);
-        if (timestamps == null) return 0;
+    public long getTimestamp(UUID playerId, int key) {
+        long since = getTimeSince(playerId, key);
+        return since < 0 ? 0 : System.currentTimeMillis() - since;
+    }
 
-        return timestamps.getOrDefault(key, 0L);
+    public long getTimestamp(UUID playerId, String key) {
+        return key == null ? 0 : getTimestamp(playerId, Keys.intern(key));
     }
 
     /**
      * Get the time elapsed since a timestamp was set.
      *
      * @param playerId The player's UUID
-     * @param key      The timestamp key
+     * @param key      The timestamp key ID
      * @return Time elapsed in milliseconds, or -1 if no timestamp exists
      */
-    public long getTimeSince(UUID playerId, String key) {
-        long timestamp = getTimestamp(playerId, key);
+    public long getTimeSince(UUID playerId, int key) {
+        if (playerId == null) return -1;
+
+        Slots slots = players.get(playerId);
+        long timestamp = slots == null ? 0 : slots.timestamp(key);
         if (timestamp == 0) return -1;
-        return System.currentTimeMillis() - timestamp;
+        return now() - timestamp;
+    }
+
+    public long getTimeSince(UUID playerId, String key) {
+        return key == null ? -1 : getTimeSince(playerId, Keys.intern(key));
     }
 
     /**
      * Get the time elapsed since a timestamp in seconds.
      *
      * @param playerId The player's UUID
-     * @param key      The timestamp key
+     * @param key      The timestamp key ID
      * @return Time elapsed in seconds, or -1 if no timestamp exists
      */
-    public long getTimeSinceSeconds(UUID playerId, String key) {
+    public long getTimeSinceSeconds(UUID playerId, int key) {
         long ms = getTimeSince(playerId, key);
         return ms < 0 ? -1 : ms / 1000L;
     }
 
+    public long getTimeSinceSeconds(UUID playerId, String key) {
+        return key == null ? -1 : getTimeSinceSeconds(playerId, Keys.intern(key));
+    }
+
     /**
      * Check if enough time has passed since a timestamp.
      *
      * @param playerId The player's UUID
-     * @param key      The timestamp key
+     * @param key      The timestamp key ID
      * @param durationMs Required duration in milliseconds
      * @return true if the required time has passed (or no timestamp exists)
      */
+    public boolean hasTimePassed(UUID playerId, int key, long durationMs) {
+        long since = getTimeSince(playerId, key);
+        return since < 0 || since >= durationMs;
+    }
+
     public boolean hasTimePassed(UUID playerId, String key, long durationMs) {
-        long timestamp = getTimestamp(playerId, key);
-        if (timestamp == 0) return true;
-        return System.currentTimeMillis() - timestamp >= durationMs;
+        return key == null || hasTimePassed(playerId, Keys.intern(key), durationMs);
     }
 
     /**
      * Check if enough time has passed since a timestamp (in seconds).
      *
      * @param playerId      The player's UUID
-     * @param key           The timestamp key
+     * @param key           The timestamp key ID
      * @param durationSeconds Required duration in seconds
      * @return true if the required time has passed
      */
+    public boolean hasTimePassedSeconds(UUID playerId, int key, long durationSeconds) {
+        return hasTimePassed(playerId, key, durationSeconds * 1000L);
+    }
+
     public boolean hasTimePassedSeconds(UUID playerId, String key, long durationSeconds) {
         return hasTimePassed(playerId, key, durationSeconds * 1000L);
     }
@@ -244,17 +291,21 @@ public class CooldownManager implements Shutdownable {
      * Clear a specific timestamp for a player.
      *
      * @param playerId The player's UUID
-     * @param key      The timestamp key
+     * @param key      The timestamp key ID
      */
-    public void clearTimestamp(UUID playerId, String key) {
-        if (playerId == null || key == null) return;
+    public void clearTimestamp(UUID playerId, int key) {
+        if (playerId == null) return;
 
-        Map<String, Long> timestamps = playerTimestamps.get(playerId);
-        if (timestamps != null) {
-            timestamps.remove(key);
+        Slots slots = players.get(playerId);
+        if (slots != null) {
+            slots.setTimestamp(key, 0);
         }
     }
 
+    public void clearTimestamp(UUID playerId, String key) {
+        if (key != null) clearTimestamp(playerId, Keys.intern(key));
+    }
+
     /**
      * Clear all timestamps for a player.
      *
@@ -262,7 +313,11 @@ public class CooldownManager implements Shutdownable {
      */
     public void clearAllTimestamps(UUID playerId) {
         if (playerId == null) return;
-        playerTimestamps.remove(playerId);
+
+        Slots slots = players.get(playerId);
+        if (slots != null) {
+            Arrays.fill(slots.timestamps, 0);
+        }
     }
 
     // ==================== UTILITY METHODS ====================
@@ -273,8 +328,8 @@ public class CooldownManager implements Shutdownable {
      * @param playerId The player's UUID
      */
     public void clearPlayer(UUID playerId) {
-        clearAllCooldowns(playerId);
-        clearAllTimestamps(playerId);
+        if (playerId == null) return;
+        players.remove(playerId);
     }
 
     /**
@@ -294,69 +349,141 @@ public class CooldownManager implements Shutdownable {
      */
     @Override
     public void shutdown() {
-        playerCooldowns.clear();
-        playerTimestamps.clear();
+        players.clear();
+    }
+
+    /**
+     * One player's cooldown deadlines and timestamps on the monotonic clock, indexed by key
+     * ID; 0 means unset. Sized for every key known when created, grown if one is interned later.
+     */
+    private static final class Slots {
+
+        private long[] cooldowns = new long[Keys.count()];
+        private long[] timestamps = new long[Keys.count()];
+
+        long cooldown(int id) {
+            return id >= 0 && id < cooldowns.length ? cooldowns[id] : 0;
+        }
+
+        long timestamp(int id) {
+            return id >= 0 && id < timestamps.length ? timestamps[id] : 0;
+        }
+
+        void setCooldown(int id, long value) {
+            if (id < 0) return;
+            if (id >= cooldowns.length) {
+                if (value == 0) return;
+                cooldowns = Arrays.copyOf(cooldowns, Math.max(id + 1, Keys.count()));
+            }
+            cooldowns[id] = value;
+        }
+
+        void setTimestamp(int id, long value) {
+            if (id < 0) return;
+            if (id >= timestamps.length) {
+                if (value == 0) return;
+                timestamps = Arrays.copyOf(timestamps, Math.max(id + 1, Keys.count()));
+            }
+            timestamps[id] = value;
+        }
     }
 
     // ==================== COMMON ABILITY KEYS ====================
 
     /**
-     * Pre-defined cooldown keys for consistency across the plugin.
+     * Pre-defined cooldown keys for consistency across the plugin. Each key is interned to a
+     * dense int ID that indexes the per-player slot arrays; string keys passed to the
+     * {@code String} overloads share the same table.
      */
     public static final class Keys {
+
+        // Declared before the constants below so it exists while they intern themselves
+        private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+        private static final List<String> NAMES = new ArrayList<>();
+
         // Custom Armor
-        public static final String BUNNY_SHOES = "BUNNY_SHOES";
-        public static final String GUARDIAN_VEST = "GUARDIAN_VEST";
-        public static final String FLAMEBRINGER_ON_FIRE = "FLAMEBRINGER_ON_FIRE";
-        public static final String FLAMEBRINGER_LAVA_COOLDOWN = "FLAMEBRINGER_LAVA_COOLDOWN";
-        public static final String DEATHMAULER_SOUL_BURST = "DEATHMAULER_SOUL_BURST";
-        public static final String DRAGON_DASH = "DRAGON_DASH";
+        public static final int BUNNY_SHOES = intern("BUNNY_SHOES");
+        public static final int GUARDIAN_VEST = intern("GUARDIAN_VEST");
+        public static final int FLAMEBRINGER_ON_FIRE = intern("FLAMEBRINGER_ON_FIRE");
+        public static final int FLAMEBRINGER_LAVA_COOLDOWN = intern("FLAMEBRINGER_LAVA_COOLDOWN");
+        public static final int DEATHMAULER_SOUL_BURST = intern("DEATHMAULER_SOUL_BURST");
+        public static final int DRAGON_DASH = intern("DRAGON_DASH");
 
         // Custom Items
-        public static final String MEDIC_POUCH = "MEDIC_POUCH";
-        public static final String INVIS_CLOAK = "INVIS_CLOAK";
-        public static final String CONSUMABLE = "CONSUMABLE";
-        public static final String ICE_FAN_BURST = "ICE_FAN_BURST";
-        public static final String SOUL_KATANA_PHANTOM_SLICE = "SOUL_KATANA_PHANTOM_SLICE";
-        public static final String CASH_BLASTER_TOGGLE = "CASH_BLASTER_TOGGLE";
-        public static final String CASH_BLASTER_VORTEX = "CASH_BLASTER_VORTEX";
+        public static final int MEDIC_POUCH = intern("MEDIC_POUCH");
+        public static final int INVIS_CLOAK = intern("INVIS_CLOAK");
+        public static final int CONSUMABLE = intern("CONSUMABLE");
+        public static final int ICE_FAN_BURST = intern("ICE_FAN_BURST");
+        public static final int SOUL_KATANA_PHANTOM_SLICE = intern("SOUL_KATANA_PHANTOM_SLICE");
+        public static final int CASH_BLASTER_TOGGLE = intern("CASH_BLASTER_TOGGLE");
+        public static final int CASH_BLASTER_VORTEX = intern("CASH_BLASTER_VORTEX");
+        public static final int WIND_CHARGE_PROTECTION = intern("WIND_CHARGE_PROTECTION");
 
         // Runes
-        public static final String RUNE_TOGGLE = "rune_toggle";
-        public static final String RUNE_LINK = "rune_link";
+        public static final int RUNE_TOGGLE = intern("rune_toggle");
+        public static final int RUNE_LINK = intern("rune_link");
 
         // Mythic Items
-        public static final String CARLS_BATTLEAXE_SLASH = "CARLS_BATTLEAXE_SLASH";
-        public static final String CARLS_BATTLEAXE_CRIT = "CARLS_BATTLEAXE_CRIT";
-        public static final String CARLS_BATTLEAXE_THROW = "CARLS_BATTLEAXE_THROW";
-        public static final String WIND_BOW_BOOST = "WIND_BOW_BOOST";
-        public static final String WIND_BOW_RELOAD = "WIND_BOW_RELOAD";
-        public static final String BOBBY_DOG = "BOBBY_DOG";
-        public static final String ELECTRIC_EEL_LIGHTNING = "ELECTRIC_EEL_LIGHTNING";
-        public static final String ELECTRIC_EEL_CHAIN = "ELECTRIC_EEL_CHAIN";
-        public static final String GOBLIN_SPEAR_THROW = "GOBLIN_SPEAR_THROW";
-        public static final String GOBLIN_SPEAR_RELOAD = "GOBLIN_SPEAR_RELOAD";
-        public static final String GOBLIN_SPEAR_CHARGE = "GOBLIN_SPEAR_CHARGE";
-        public static final String SANDSTORMER_RELOAD = "SANDSTORMER_RELOAD";
-        public static final String BLOODWRENCH_MODE_TOGGLE = "BLOODWRENCH_MODE_TOGGLE";
-        public static final String BLOODWRENCH_RAPID_RELOAD = "BLOODWRENCH_RAPID_RELOAD";
-        public static final String BLOODWRENCH_SUPERCHARGE_COOLDOWN = "BLOODWRENCH_SUPERCHARGE_COOLDOWN";
-        public static final String WARDEN_SHOCKWAVE = "WARDEN_SHOCKWAVE";
-        public static final String WARDEN_BOXING = "WARDEN_BOXING";
-        public static final String WARDEN_RISING_FURY = "WARDEN_RISING_FURY";
-        public static final String BLAZEBITE_RELOAD = "BLAZEBITE_RELOAD";
-        public static final String ALCHEMIST_BLINK_SWAP = "ALCHEMIST_BLINK_SWAP";
-        public static final String ALCHEMIST_TAUNT = "ALCHEMIST_TAUNT";
-        public static final String ALCHEMIST_TIDY_UP = "ALCHEMIST_TIDY_UP";
+        public static final int CARLS_BATTLEAXE_SLASH = intern("CARLS_BATTLEAXE_SLASH");
+        public static final int CARLS_BATTLEAXE_CRIT = intern("CARLS_BATTLEAXE_CRIT");
+        public static final int CARLS_BATTLEAXE_THROW = intern("CARLS_BATTLEAXE_THROW");
+        public static final int WIND_BOW_BOOST = intern("WIND_BOW_BOOST");
+        public static final int WIND_BOW_RELOAD = intern("WIND_BOW_RELOAD");
+        public static final int BOBBY_DOG = intern("BOBBY_DOG");
+        public static final int ELECTRIC_EEL_LIGHTNING = intern("ELECTRIC_EEL_LIGHTNING");
+        public static final int ELECTRIC_EEL_CHAIN = intern("ELECTRIC_EEL_CHAIN");
+        public static final int GOBLIN_SPEAR_THROW = intern("GOBLIN_SPEAR_THROW");
+        public static final int GOBLIN_SPEAR_RELOAD = intern("GOBLIN_SPEAR_RELOAD");
+        public static final int GOBLIN_SPEAR_CHARGE = intern("GOBLIN_SPEAR_CHARGE");
+        public static final int SANDSTORMER_RELOAD = intern("SANDSTORMER_RELOAD");
+        public static final int BLOODWRENCH_MODE_TOGGLE = intern("BLOODWRENCH_MODE_TOGGLE");
+        public static final int BLOODWRENCH_RAPID_RELOAD = intern("BLOODWRENCH_RAPID_RELOAD");
+        public static final int BLOODWRENCH_SUPERCHARGE_COOLDOWN = intern("BLOODWRENCH_SUPERCHARGE_COOLDOWN");
+        public static final int WARDEN_SHOCKWAVE = intern("WARDEN_SHOCKWAVE");
+        public static final int WARDEN_BOXING = intern("WARDEN_BOXING");
+        public static final int WARDEN_RISING_FURY = intern("WARDEN_RISING_FURY");
+        public static final int BLAZEBITE_RELOAD = intern("BLAZEBITE_RELOAD");
+        public static final int ALCHEMIST_BLINK_SWAP = intern("ALCHEMIST_BLINK_SWAP");
+        public static final int ALCHEMIST_TAUNT = intern("ALCHEMIST_TAUNT");
+        public static final int ALCHEMIST_TIDY_UP = intern("ALCHEMIST_TIDY_UP");
 
         // Timestamps
-        public static final String LAST_DAMAGE = "LAST_DAMAGE";
-        public static final String LAST_DAMAGE_DEALT = "LAST_DAMAGE_DEALT";
-        public static final String SPAWN_TIME = "SPAWN_TIME";
-        public static final String CLOSE_CALL_HEAL = "CLOSE_CALL_HEAL";
-        public static final String DEATHMAULER_DAMAGE = "DEATHMAULER_DAMAGE";
-        public static final String SANDSTORMER_CHARGE = "SANDSTORMER_CHARGE";
-        public static final String LAST_MOVE = "LAST_MOVE";
+        public static final int LAST_DAMAGE = intern("LAST_DAMAGE");
+        public static final int LAST_DAMAGE_DEALT = intern("LAST_DAMAGE_DEALT");
+        public static final int SPAWN_TIME = intern("SPAWN_TIME");
+        public static final int CLOSE_CALL_HEAL = intern("CLOSE_CALL_HEAL");
+        public static final int DEATHMAULER_DAMAGE = intern("DEATHMAULER_DAMAGE");
+        public static final int SANDSTORMER_CHARGE = intern("SANDSTORMER_CHARGE");
+        public static final int LAST_MOVE = intern("LAST_MOVE");
+
+        /**
+         * The ID of {@code name}, assigning the next free one on first use. Keys built at
+         * runtime should come from a bounded set (e.g. one per enchant), as IDs are never freed.
+         */
+        public static int intern(String name) {
+            Integer id = IDS.get(name);
+            if (id != null) return id;
+            synchronized (NAMES) {
+                id = IDS.get(name);
+                if (id == null) {
+                    id = NAMES.size();
+                    NAMES.add(name);
+                    IDS.put(name, id);
+                }
+                return id;
+            }
+        }
+
+        public static String name(int id) {
+            synchronized (NAMES) {
+                return id >= 0 && id < NAMES.size() ? NAMES.get(id) : "#" + id;
+            }
+        }
+
+        /** Number of keys interned so far. */
+        public static int count() {
+            return IDS.size();
+        }
 
         private Keys() {
             throw new AssertionError("Nope.");
@@ -1,7 +1,10 @@
 package me.psikuvit.cashClash.util;
 
 import me.psikuvit.cashClash.CashClashPlugin;
+import me.psikuvit.cashClash.game.tick.TickEngine;
+import me.psikuvit.cashClash.game.tick.TickProfiler;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.IllegalPluginAccessException;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
@@ -15,6 +18,14 @@ public class SchedulerUtils {
         throw new AssertionError("Nope.");
     }
 
+    /**
+     * The tick engine for repeating effects owned by {@code owner} - their session's, so
+     * whatever is still running when the game ends is cancelled with it.
+     */
+    public static TickEngine tickEngine(Player owner) {
+        return CashClashPlugin.getInstance().getGameManager().getTickEngine(owner);
+    }
+
     public static BukkitTask runTask(Runnable runnable) {
         if (!CashClashPlugin.getInstance().isEnabled()) return null;
         try {
@@ -55,6 +66,14 @@ public class SchedulerUtils {
         }
     }
 
+    /**
+     * {@link #runTaskTimer(Runnable, long, long)} for a global loop not tied to a game session,
+     * timed by the {@link TickProfiler} under {@code name} while profiling is on.
+     */
+    public static BukkitTask runTaskTimer(String name, Runnable runnable, long delay, long period) {
+        return runTaskTimer(TickProfiler.get().wrap(name, runnable), delay, period);
+    }
+
     /**
      * Runs a repeating task. Unlike {@link #runTaskTimer(Runnable, long, long)}, the runnable
      * is a {@link BukkitRunnable}, so it can cancel itself from inside its own {@code run()}
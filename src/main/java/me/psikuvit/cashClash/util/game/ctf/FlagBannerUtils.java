@@ -1,9 +1,10 @@
 package me.psikuvit.cashClash.util.game.ctf;
 
+import me.psikuvit.cashClash.game.tick.TickEngine;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.gamemode.impl.FlagState;
 import me.psikuvit.cashClash.util.LocationUtils;
 import me.psikuvit.cashClash.util.Messages;
-import me.psikuvit.cashClash.util.SchedulerUtils;
 import me.psikuvit.cashClash.util.effects.ParticleUtils;
 import me.psikuvit.cashClash.util.enums.TeamColor;
 import org.bukkit.Color;
@@ -11,7 +12,6 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.BlockDisplay;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -122,13 +122,14 @@ public class FlagBannerUtils {
      * Move a banner to follow a player (attach to player's head)
      * Uses direct teleport approach for instant rotation with player
      *
+     * @param engine The session's tick engine to run on
      * @param banner The banner to move
      * @param player The player to follow
      * @param onTaskComplete Callback when task completes
-     * @return The BukkitTask for banner carrying
+     * @return The task for banner carrying
      */
-    public static BukkitTask createCarryingTask(BlockDisplay banner, Player player, Runnable onTaskComplete) {
-        return SchedulerUtils.runTaskTimer(() -> {
+    public static TickTask createCarryingTask(TickEngine engine, BlockDisplay banner, Player player, Runnable onTaskComplete) {
+        return engine.schedule("ctf.banner-carry", () -> {
             if (!player.isOnline() || banner.isDead() || player.isDead()) {
                 if (onTaskComplete != null) {
                     onTaskComplete.run();
@@ -153,7 +154,7 @@ public class FlagBannerUtils {
       * @param location The location to move the banner to
       * @param carryingTask The carrying task to cancel
       */
-     public static void stopCarryingBanner(BlockDisplay banner, Location location, BukkitTask carryingTask) {
+     public static void stopCarryingBanner(BlockDisplay banner, Location location, TickTask carryingTask) {
          if (carryingTask != null) {
              carryingTask.cancel();
          }
@@ -223,7 +224,7 @@ public class FlagBannerUtils {
       * @param flagStates The current flag states
       * @param taskCanceller Function to cancel a task
       */
-     public static void removeAllBannersFromPlayers(Map<TeamColor, FlagState> flagStates, java.util.function.Consumer<BukkitTask> taskCanceller) {
+     public static void removeAllBannersFromPlayers(Map<TeamColor, FlagState> flagStates, java.util.function.Consumer<TickTask> taskCanceller) {
          for (FlagState flag : flagStates.values()) {
              if (flag != null && flag.bannerDisplay() != null && !flag.bannerDisplay().isDead()) {
                  // Stop carrying task if active
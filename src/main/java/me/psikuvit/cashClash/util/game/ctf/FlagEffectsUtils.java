@@ -1,14 +1,14 @@
 package me.psikuvit.cashClash.util.game.ctf;
 
+import me.psikuvit.cashClash.game.tick.TickEngine;
+import me.psikuvit.cashClash.game.tick.TickTask;
 import me.psikuvit.cashClash.gamemode.impl.FlagState;
 import me.psikuvit.cashClash.player.CashClashPlayer;
-import me.psikuvit.cashClash.util.SchedulerUtils;
 import me.psikuvit.cashClash.util.enums.TeamColor;
 import me.psikuvit.cashClash.util.items.ItemUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.Map;
 import java.util.UUID;
@@ -32,11 +32,12 @@ public class FlagEffectsUtils {
     /**
      * Start a task that applies glow effect to flag carriers every 5 seconds
      *
+     * @param engine The session's tick engine to run on
      * @param flagStatesSupplier Supplier for current flag states
-     * @return The BukkitTask managing the glow effect
+     * @return The task managing the glow effect
      */
-    public static BukkitTask startCarrierGlowEffectTask(Supplier<Map<TeamColor, FlagState>> flagStatesSupplier) {
-        return SchedulerUtils.runTaskTimer(() -> applyGlowToActiveCarriers(flagStatesSupplier.get()), 0, GLOW_INTERVAL_TICKS);
+    public static TickTask startCarrierGlowEffectTask(TickEngine engine, Supplier<Map<TeamColor, FlagState>> flagStatesSupplier) {
+        return engine.schedule("ctf.carrier-glow", () -> applyGlowToActiveCarriers(flagStatesSupplier.get()), 0, GLOW_INTERVAL_TICKS);
     }
 
     /**
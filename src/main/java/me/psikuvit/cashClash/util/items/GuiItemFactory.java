@@ -14,6 +14,7 @@ import me.psikuvit.cashClash.util.Messages;
 import me.psikuvit.cashClash.util.enums.InvestmentType;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.SkullMeta;
@@ -563,4 +564,25 @@ public final class GuiItemFactory {
         skull.setItemMeta(meta);
         return skull;
     }
+
+    /**
+     * Creates a player head item for a player who may be offline.
+     *
+     * @param target The target player
+     * @param displayName The display name for the head
+     * @param lore The lore lines for the head
+     * @return The player head ItemStack
+     */
+    public ItemStack createPlayerHead(OfflinePlayer target, String displayName, List<String> lore) {
+        if (target instanceof Player online) return createPlayerHead(online, displayName, lore);
+        ItemStack skull = new ItemStack(Material.PLAYER_HEAD);
+        SkullMeta meta = (SkullMeta) skull.getItemMeta();
+
+        meta.setOwningPlayer(target);
+        meta.displayName(Messages.parse(displayName));
+        meta.lore(lore.stream().map(Messages::parse).toList());
+
+        skull.setItemMeta(meta);
+        return skull;
+    }
 }
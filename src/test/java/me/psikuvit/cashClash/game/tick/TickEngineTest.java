@@ -0,0 +1,169 @@
+package me.psikuvit.cashClash.game.tick;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Drives the engine by hand instead of through a Bukkit timer. */
+class TickEngineTest {
+
+    private final TickEngine engine = new TickEngine("test", advance -> null);
+    private long tick;
+
+    @Test
+    void oneShotTasksFireOnTheirTickOnEveryLevel() {
+        // Level 0, each level boundary and either side of it, and the top level
+        long[] delays = {1, 2, 63, 64, 65, 100, 4095, 4096, 4097, 10_000, 262_143, 262_144, 262_145, 300_000};
+        List<long[]> fired = new ArrayList<>();
+        for (long delay : delays) {
+            engine.runLater("delay-" + delay, () -> fired.add(new long[]{delay, tick}), delay);
+        }
+        assertEquals(delays.length, engine.size());
+
+        advanceTo(300_000);
+
+        assertEquals(delays.length, fired.size());
+        for (long[] run : fired) {
+            assertEquals(run[0], run[1], "task delayed " + run[0] + " ticks");
+        }
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void delayBelowOneMeansNextTick() {
+        List<Long> fired = new ArrayList<>();
+        engine.runLater("now", () -> fired.add(tick), 0);
+
+        advanceTo(1);
+
+        assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void repeatingTaskKeepsItsPeriodAcrossCascades() {
+        List<Long> fired = new ArrayList<>();
+        engine.schedule("repeat", () -> fired.add(tick), 10, 1000);
+
+        advanceTo(5010);
+
+        assertEquals(List.of(10L, 1010L, 2010L, 3010L, 4010L, 5010L), fired);
+        assertEquals(1, engine.size());
+    }
+
+    @Test
+    void cancelledTaskNeverRuns() {
+        int[] runs = new int[2];
+        TickTask near = engine.runLater("near", () -> runs[0]++, 5);
+        TickTask far = engine.runLater("far", () -> runs[1]++, 5000);
+
+        advanceTo(4096);
+        // far has cascaded from level 2 to level 1 by now
+        near.cancel();
+        far.cancel();
+        far.cancel();
+        advanceTo(6000);
+
+        assertEquals(1, runs[0]);
+        assertEquals(0, runs[1]);
+        assertTrue(far.isCancelled());
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void taskCanCancelItselfWhileRunning() {
+        List<Long> fired = new ArrayList<>();
+        TickTask task = new TickTask() {
+            @Override
+            public void run() {
+                fired.add(tick);
+                if (fired.size() == 3) cancel();
+            }
+        };
+        engine.schedule("self-cancel", task, 1, 2);
+
+        advanceTo(20);
+
+        assertEquals(List.of(1L, 3L, 5L), fired);
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void taskCanCancelAnotherDueOnTheSameTick() {
+        int[] runs = new int[1];
+        TickTask victim = engine.runLater("victim", () -> runs[0]++, 7);
+        engine.runLater("killer", victim::cancel, 7);
+
+        advanceTo(10);
+
+        // Slot order is not specified: the victim ran before the killer or not at all
+        assertTrue(runs[0] <= 1);
+        assertTrue(victim.isCancelled());
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void taskScheduledFromARunFiresLater() {
+        List<Long> fired = new ArrayList<>();
+        engine.runLater("outer", () -> engine.runLater("inner", () -> fired.add(tick), 100), 50);
+
+        advanceTo(200);
+
+        assertEquals(List.of(150L), fired);
+    }
+
+    @Test
+    void cancelBeforeSchedulingKeepsTaskFromRunning() {
+        int[] runs = new int[1];
+        TickTask task = new TickTask() {
+            @Override
+            public void run() {
+                runs[0]++;
+            }
+        };
+        task.cancel();
+        engine.schedule("cancelled", task, 1, 1);
+
+        advanceTo(5);
+
+        assertEquals(0, runs[0]);
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void shutdownCancelsEverythingAndLateTasks() {
+        TickTask near = engine.runLater("near", () -> {}, 3);
+        TickTask far = engine.schedule("far", () -> {}, 100_000, 5);
+        advanceTo(1);
+
+        engine.shutdown();
+        TickTask late = engine.runLater("late", () -> {}, 1);
+
+        assertTrue(engine.isShutdown());
+        assertTrue(near.isCancelled());
+        assertTrue(far.isCancelled());
+        assertTrue(late.isCancelled());
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void oneShotIsCancelledAfterRunning() {
+        TickTask task = engine.runLater("once", () -> {}, 2);
+
+        advanceTo(1);
+        assertFalse(task.isCancelled());
+        advanceTo(2);
+        assertTrue(task.isCancelled());
+    }
+
+    private void advanceTo(long target) {
+        while (tick < target) {
+            tick++;
+            engine.advance();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package me.psikuvit.cashClash.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A crash is simulated by abandoning a provider without closing it - close() would compact -
+ * and opening a new one on the same directory.
+ */
+class FileProviderTest {
+
+    private static final FileProvider.Settings NO_COMPACTION = new FileProvider.Settings(false, Long.MAX_VALUE);
+
+    @TempDir
+    File dir;
+
+    private final List<FileProvider> open = new ArrayList<>();
+
+    @AfterEach
+    void closeAll() throws IOException {
+        for (FileProvider provider : open) {
+            provider.close();
+        }
+    }
+
+    @Test
+    void reopenReplaysTheLog() throws SQLException {
+        FileProvider provider = open(NO_COMPACTION);
+        PlayerData a = player(3);
+        PlayerData b = player(7);
+        provider.savePlayers(List.of(a, b));
+        a.setWins(4);
+        provider.savePlayer(a);
+
+        FileProvider reopened = open(NO_COMPACTION);
+
+        assertEquals(4, load(reopened, a.getUuid()).getWins());
+        assertEquals(7, load(reopened, b.getUuid()).getWins());
+        assertEquals(2, reopened.loadAllPlayers().size());
+    }
+
+    @Test
+    void tornAppendIsDroppedOnOpen() throws SQLException, IOException {
+        FileProvider provider = open(NO_COMPACTION);
+        PlayerData kept = player(1);
+        provider.savePlayer(kept);
+        PlayerData torn = player(2);
+        provider.savePlayer(torn);
+
+        File log = new File(dir, "players.log");
+        long before = log.length();
+        truncate(log, 5);
+
+        FileProvider reopened = open(NO_COMPACTION);
+
+        assertEquals(1, load(reopened, kept.getUuid()).getWins());
+        assertFalse(reopened.loadPlayer(torn.getUuid()).isPresent());
+        assertTrue(log.length() < before - 5, "torn record should be cut off the log");
+
+        // Appends after recovery go after the last valid record
+        reopened.savePlayer(torn);
+        assertEquals(2, load(open(NO_COMPACTION), torn.getUuid()).getWins());
+    }
+
+    @Test
+    void closeCompactsAndReopenReadsTheDataFile() throws SQLException, IOException {
+        FileProvider provider = new FileProvider(dir, NO_COMPACTION);
+        provider.init();
+        List<PlayerData> players = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            players.add(player(i));
+        }
+        provider.savePlayers(players);
+        provider.close();
+
+        assertEquals(0, new File(dir, "players.log").length());
+
+        FileProvider reopened = open(NO_COMPACTION);
+        for (PlayerData player : players) {
+            assertEquals(player.getWins(), load(reopened, player.getUuid()).getWins());
+        }
+    }
+
+    @Test
+    void recoversAppendsMadeAfterBackgroundCompaction() throws Exception {
+        FileProvider provider = open(new FileProvider.Settings(false, 1));
+        List<PlayerData> players = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            players.add(player(i));
+        }
+        provider.savePlayers(players);
+        awaitCompaction();
+
+        PlayerData updated = players.get(0);
+        updated.setWins(100);
+        provider.savePlayer(updated);
+        PlayerData torn = player(5);
+        provider.savePlayer(torn);
+        truncate(new File(dir, "players.log"), 3);
+
+        FileProvider reopened = open(NO_COMPACTION);
+
+        assertEquals(100, load(reopened, updated.getUuid()).getWins());
+        for (int i = 1; i < players.size(); i++) {
+            assertEquals(i, load(reopened, players.get(i).getUuid()).getWins());
+        }
+        assertFalse(reopened.loadPlayer(torn.getUuid()).isPresent());
+    }
+
+    @Test
+    void ignoresIncompleteDataFile() throws SQLException, IOException {
+        FileProvider provider = new FileProvider(dir, NO_COMPACTION);
+        provider.init();
+        PlayerData player = player(9);
+        provider.savePlayer(player);
+        provider.close();
+
+        // A compaction that died before writing its trailer
+        File[] data = dir.listFiles((d, name) -> name.endsWith(".dat"));
+        assertEquals(1, data == null ? 0 : data.length);
+        File next = new File(dir, "players.999.dat");
+        try (RandomAccessFile file = new RandomAccessFile(next, "rw")) {
+            file.write(new byte[]{0, 0, 0, 20, 1, 2, 3, 4});
+        }
+
+        FileProvider reopened = open(NO_COMPACTION);
+
+        assertEquals(9, load(reopened, player.getUuid()).getWins());
+        assertFalse(next.exists());
+    }
+
+    @Test
+    void callsAfterCloseFail() throws SQLException, IOException {
+        FileProvider provider = new FileProvider(dir, NO_COMPACTION);
+        provider.init();
+        provider.close();
+
+        assertThrows(SQLException.class, () -> provider.savePlayer(player(1)));
+        assertThrows(SQLException.class, () -> provider.loadPlayer(UUID.randomUUID()));
+    }
+
+    private FileProvider open(FileProvider.Settings settings) throws SQLException {
+        FileProvider provider = new FileProvider(dir, settings);
+        provider.init();
+        open.add(provider);
+        return provider;
+    }
+
+    /** Background compaction is done once a data file exists and the log has been swapped out. */
+    private void awaitCompaction() throws InterruptedException {
+        File log = new File(dir, "players.log");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            File[] data = dir.listFiles((d, name) -> name.endsWith(".dat"));
+            if (data != null && data.length > 0 && log.length() == 0) return;
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Background compaction did not finish");
+    }
+
+    private static PlayerData load(FileProvider provider, UUID uuid) throws SQLException {
+        Optional<PlayerData> player = provider.loadPlayer(uuid);
+        assertTrue(player.isPresent(), "player " + uuid + " should be stored");
+        return player.get();
+    }
+
+    private static PlayerData player(int wins) {
+        PlayerData player = new PlayerData(UUID.randomUUID());
+        player.setWins(wins);
+        player.setKills(wins * 2);
+        player.setKitLayout("default", Map.of(0, "STONE_SWORD"));
+        return player;
+    }
+
+    private static void truncate(File file, int bytes) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - bytes);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package me.psikuvit.cashClash.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerDataCodecTest {
+
+    @Test
+    void roundTripKeepsStatsAndLayouts() {
+        PlayerData data = player();
+
+        PlayerData decoded = PlayerDataCodec.decode(PlayerDataCodec.encode(data));
+
+        assertStats(data, decoded);
+        assertEquals(data.getKitLayouts(), decoded.getKitLayouts());
+        assertFalse(decoded.isDirty());
+        assertFalse(decoded.isLayoutsDirty());
+    }
+
+    @Test
+    void roundTripWithoutLayouts() {
+        PlayerData data = new PlayerData(UUID.randomUUID());
+        data.setWins(1);
+
+        PlayerData decoded = PlayerDataCodec.decode(PlayerDataCodec.encode(data));
+
+        assertStats(data, decoded);
+        assertTrue(decoded.getKitLayouts().isEmpty());
+    }
+
+    @Test
+    void skipsSectionsItDoesNotKnow() {
+        PlayerData data = player();
+        byte[] encoded = PlayerDataCodec.encode(data);
+
+        // Version byte, then a section with an unknown tag, then the original sections
+        byte[] unknown = {42, 3, 7, 7, 7};
+        byte[] extended = new byte[encoded.length + unknown.length];
+        extended[0] = encoded[0];
+        System.arraycopy(unknown, 0, extended, 1, unknown.length);
+        System.arraycopy(encoded, 1, extended, 1 + unknown.length, encoded.length - 1);
+
+        PlayerData decoded = PlayerDataCodec.decode(extended);
+
+        assertStats(data, decoded);
+        assertEquals(data.getKitLayouts(), decoded.getKitLayouts());
+    }
+
+    @Test
+    void rejectsNewerFormatVersion() {
+        byte[] encoded = PlayerDataCodec.encode(player());
+        encoded[0] = (byte) (PlayerDataCodec.FORMAT_VERSION + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> PlayerDataCodec.decode(encoded));
+        assertThrows(IllegalArgumentException.class, () -> PlayerDataCodec.decodeLayouts(encoded));
+    }
+
+    @Test
+    void rejectsTruncatedData() {
+        byte[] encoded = PlayerDataCodec.encode(player());
+        byte[] truncated = new byte[encoded.length / 2];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+
+        assertThrows(IllegalArgumentException.class, () -> PlayerDataCodec.decode(truncated));
+    }
+
+    @Test
+    void leavesNegativeSlotsOut() {
+        PlayerData data = new PlayerData(UUID.randomUUID());
+        Map<Integer, String> layout = new HashMap<>();
+        layout.put(-1, "SHIELD");
+        layout.put(0, "IRON_SWORD");
+        data.setKitLayout("knight", layout);
+
+        PlayerData decoded = PlayerDataCodec.decode(PlayerDataCodec.encode(data));
+
+        assertEquals(Map.of("knight", Map.of(0, "IRON_SWORD")), decoded.getKitLayouts());
+    }
+
+    @Test
+    void encodeWithLayoutsOfKeepsStoredLayouts() {
+        PlayerData stored = player();
+        PlayerData updated = new PlayerData(stored.getUuid());
+        updated.setWins(99);
+
+        PlayerData decoded = PlayerDataCodec.decode(
+                PlayerDataCodec.encodeWithLayoutsOf(updated, PlayerDataCodec.encode(stored)));
+
+        assertEquals(99, decoded.getWins());
+        assertEquals(stored.getKitLayouts(), decoded.getKitLayouts());
+    }
+
+    @Test
+    void layoutsRoundTrip() {
+        Map<String, Map<Integer, String>> layouts = player().getKitLayouts();
+
+        assertEquals(layouts, PlayerDataCodec.decodeLayouts(PlayerDataCodec.encodeLayouts(layouts)));
+    }
+
+    private static PlayerData player() {
+        PlayerData data = new PlayerData(UUID.randomUUID());
+        data.setWins(12);
+        data.setLosses(3);
+        data.setDeaths(250);
+        data.setKills(4_000);
+        data.setTotalCoinsInvested(5_000_000_000L);
+        data.setTotalCoinsEarned(Long.MAX_VALUE);
+        data.setPlaytimeMillis(86_400_000L);
+
+        Map<Integer, String> warrior = new HashMap<>();
+        warrior.put(0, "DIAMOND_SWORD");
+        warrior.put(8, "GOLDEN_APPLE");
+        warrior.put(40, "SHIELD");
+        Map<Integer, String> archer = new HashMap<>();
+        archer.put(1, "BOW");
+        archer.put(35, "Pfeil \u00e4\u00f6\u00fc \u2694");
+        data.setKitLayout("warrior", warrior);
+        data.setKitLayout("archer", archer);
+        return data;
+    }
+
+    private static void assertStats(PlayerData expected, PlayerData actual) {
+        assertEquals(expected.getUuid(), actual.getUuid());
+        assertEquals(expected.getWins(), actual.getWins());
+        assertEquals(expected.getLosses(), actual.getLosses());
+        assertEquals(expected.getDeaths(), actual.getDeaths());
+        assertEquals(expected.getKills(), actual.getKills());
+        assertEquals(expected.getTotalCoinsInvested(), actual.getTotalCoinsInvested());
+        assertEquals(expected.getTotalCoinsEarned(), actual.getTotalCoinsEarned());
+        assertEquals(expected.getPlaytimeMillis(), actual.getPlaytimeMillis());
+    }
+}
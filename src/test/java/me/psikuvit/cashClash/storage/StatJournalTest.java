@@ -0,0 +1,159 @@
+package me.psikuvit.cashClash.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatJournalTest {
+
+    @TempDir
+    File dir;
+
+    @Test
+    void recoversLatestValuePerStat() throws IOException {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        StatJournal journal = open();
+        journal.append(a, StatJournal.Stat.WINS, 1, 5);
+        journal.append(a, StatJournal.Stat.WINS, 1, 6);
+        journal.append(a, StatJournal.Stat.KILLS, 3, 40);
+        journal.append(b, StatJournal.Stat.PLAYTIME, 1000, 61_000);
+        journal.close(false);
+
+        Map<UUID, StatJournal.Recovered> recovered = new StatJournal(dir, 1, () -> true).recover();
+
+        assertEquals(2, recovered.size());
+        assertEquals(6, recovered.get(a).value(StatJournal.Stat.WINS));
+        assertEquals(40, recovered.get(a).value(StatJournal.Stat.KILLS));
+        assertEquals(-1, recovered.get(a).value(StatJournal.Stat.DEATHS));
+        assertEquals(61_000, recovered.get(b).value(StatJournal.Stat.PLAYTIME));
+    }
+
+    @Test
+    void replayStopsAtTornTail() throws IOException {
+        UUID uuid = UUID.randomUUID();
+        StatJournal journal = open();
+        journal.append(uuid, StatJournal.Stat.WINS, 1, 1);
+        journal.append(uuid, StatJournal.Stat.WINS, 1, 2);
+        journal.append(uuid, StatJournal.Stat.WINS, 1, 3);
+        journal.close(false);
+
+        // A crash in the middle of the last write leaves only part of its record
+        File segment = onlySegment();
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            assertEquals(3L * StatJournal.RECORD_SIZE, file.length());
+            file.setLength(file.length() - StatJournal.RECORD_SIZE / 2);
+        }
+
+        Map<UUID, StatJournal.Recovered> recovered = new StatJournal(dir, 1, () -> true).recover();
+
+        assertEquals(2, recovered.get(uuid).value(StatJournal.Stat.WINS));
+    }
+
+    @Test
+    void replayStopsAtCorruptRecord() throws IOException {
+        UUID uuid = UUID.randomUUID();
+        StatJournal journal = open();
+        journal.append(uuid, StatJournal.Stat.KILLS, 1, 1);
+        journal.append(uuid, StatJournal.Stat.KILLS, 1, 2);
+        journal.close(false);
+
+        try (RandomAccessFile file = new RandomAccessFile(onlySegment(), "rw")) {
+            // Flip a bit in the value of the second record so its checksum no longer matches
+            long pos = StatJournal.RECORD_SIZE + 30;
+            file.seek(pos);
+            int b = file.read();
+            file.seek(pos);
+            file.write(b ^ 1);
+        }
+
+        Map<UUID, StatJournal.Recovered> recovered = new StatJournal(dir, 1, () -> true).recover();
+
+        assertEquals(1, recovered.get(uuid).value(StatJournal.Stat.KILLS));
+    }
+
+    @Test
+    void replayRaisesStoredValuesButNeverLowersThem() throws IOException {
+        UUID uuid = UUID.randomUUID();
+        StatJournal journal = open();
+        journal.append(uuid, StatJournal.Stat.WINS, 1, 10);
+        journal.append(uuid, StatJournal.Stat.DEATHS, 1, 3);
+        journal.close(false);
+
+        StatJournal.Recovered recovered = new StatJournal(dir, 1, () -> true).recover().get(uuid);
+        PlayerData stored = new PlayerData(uuid);
+        stored.setWins(8);
+        stored.setDeaths(5);
+
+        assertTrue(recovered.applyTo(stored));
+        assertEquals(10, stored.getWins());
+        assertEquals(5, stored.getDeaths());
+        assertFalse(recovered.applyTo(stored));
+    }
+
+    @Test
+    void resetReplacesStoredValue() throws IOException {
+        UUID uuid = UUID.randomUUID();
+        StatJournal journal = open();
+        journal.append(uuid, StatJournal.Stat.WINS, 1, 20);
+        journal.append(uuid, StatJournal.Stat.WINS, -20, 0);
+        journal.append(uuid, StatJournal.Stat.WINS, 1, 1);
+        journal.close(false);
+
+        StatJournal.Recovered recovered = new StatJournal(dir, 1, () -> true).recover().get(uuid);
+        PlayerData stored = new PlayerData(uuid);
+        stored.setWins(20);
+
+        assertTrue(recovered.isReset(StatJournal.Stat.WINS));
+        assertTrue(recovered.applyTo(stored));
+        assertEquals(1, stored.getWins());
+    }
+
+    @Test
+    void cleanCloseLeavesNothingToReplay() throws IOException {
+        StatJournal journal = open();
+        journal.append(UUID.randomUUID(), StatJournal.Stat.WINS, 1, 1);
+        journal.close(true);
+
+        assertTrue(new StatJournal(dir, 1, () -> true).recover().isEmpty());
+    }
+
+    @Test
+    void retiresSealedSegmentsOnceFlushed() throws IOException {
+        boolean[] flushed = {false};
+        StatJournal journal = new StatJournal(dir, 1, () -> flushed[0]);
+        journal.recover();
+        journal.open();
+        journal.append(UUID.randomUUID(), StatJournal.Stat.WINS, 1, 1);
+        journal.markRetirable(journal.rotate());
+
+        assertFalse(journal.retireNow());
+        flushed[0] = true;
+        assertTrue(journal.retireNow());
+        journal.close(false);
+
+        assertTrue(new StatJournal(dir, 1, () -> true).recover().isEmpty());
+    }
+
+    private StatJournal open() throws IOException {
+        StatJournal journal = new StatJournal(dir, 1, () -> false);
+        journal.recover();
+        journal.open();
+        return journal;
+    }
+
+    private File onlySegment() {
+        File[] segments = dir.listFiles((d, name) -> name.endsWith(".journal"));
+        assertEquals(1, segments == null ? 0 : segments.length);
+        return segments[0];
+    }
+}
@@ -0,0 +1,28 @@
+package me.psikuvit.cashClash.util;
+
+/**
+ * Test stand-in for the plugin's {@code Messages}, which reads its config from the running
+ * plugin during class init. Test classes come first on the classpath, so storage and tick
+ * classes under test call these debug overloads instead. Debug lines go to stderr when
+ * {@code -Dtest.debug=true}.
+ */
+public final class Messages {
+
+    private static final boolean DEBUG = Boolean.getBoolean("test.debug");
+
+    private Messages() {
+        throw new AssertionError("Nope.");
+    }
+
+    public static boolean isDebugEnabled() {
+        return DEBUG;
+    }
+
+    public static void debug(String category, String message) {
+        if (DEBUG) System.err.println("[DEBUG:" + category + "] " + message);
+    }
+
+    public static void debug(String message) {
+        if (DEBUG) System.err.println("[DEBUG] " + message);
+    }
+}